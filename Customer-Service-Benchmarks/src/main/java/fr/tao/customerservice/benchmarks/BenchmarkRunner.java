@@ -0,0 +1,38 @@
+package fr.tao.customerservice.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point running the JMH benchmarks and writing their results in JSON, 
+ * so that the results of two releases can be compared.
+ * 
+ * Usage: {@code mvn compile exec:exec [-Djmh.include=<regexp>] [-Djmh.result=<file>]}
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+public class BenchmarkRunner {
+	
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args The regular expression of the benchmarks to run (optional, all by default), 
+     * and the file of the JSON results (optional, 'jmh-result.json' by default).
+     * @throws RunnerException if the benchmarks cannot be run.
+     */
+    public static void main(String[] args) throws RunnerException {
+	var include = args.length > 0 ? args[0] : ".*";
+	var result = args.length > 1 ? args[1] : "jmh-result.json";
+	var options = new OptionsBuilder()
+		.include(include)
+		.resultFormat(ResultFormatType.JSON)
+		.result(result)
+		.build();
+	new Runner(options).run();
+    }
+
+}
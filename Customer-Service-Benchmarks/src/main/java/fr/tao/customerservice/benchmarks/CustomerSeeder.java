@@ -0,0 +1,69 @@
+package fr.tao.customerservice.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import fr.tao.customerservice.util.SearchUtil;
+
+/**
+ * Inserts large numbers of customers with random names for the search benchmarks.
+ * The customers are inserted with JDBC batches, without going through the service,
+ * so the search indexes must be rebuilt afterwards.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+final class CustomerSeeder {
+
+    private static final String INSERT_CUSTOMER = "insert into customer (id, name, email, name_key, version) values (?, ?, ?, ?, 0)";
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    /**
+     * The first ID of the inserted customers, above the IDs allocated by the sample data.
+     */
+    private static final long FIRST_ID = 1_000_000L;
+
+    /**
+     * Inserts customers named with 6 to 10 random letters, capitalized.
+     *
+     * @param jdbcTemplate The JdbcTemplate of the service.
+     * @param rows         The number of customers to insert.
+     * @param samples      The number of names to return.
+     * @return Names of inserted customers, spread over the inserted ones.
+     */
+    static List<String> insertCustomers(JdbcTemplate jdbcTemplate, int rows, int samples) {
+	var random = new Random(42);
+	var names = new ArrayList<String>(samples);
+	var batch = new ArrayList<Object[]>(INSERT_BATCH_SIZE);
+	for (int i = 0; i < rows; i++) {
+	    var name = randomName(random);
+	    batch.add(new Object[] { FIRST_ID + i, name, name.toLowerCase() + "@gmail.com", SearchUtil.normalize(name) });
+	    if (i % Math.max(1, rows / samples) == 0 && names.size() < samples) {
+		names.add(name);
+	    }
+	    if (batch.size() == INSERT_BATCH_SIZE) {
+		jdbcTemplate.batchUpdate(INSERT_CUSTOMER, batch);
+		batch.clear();
+	    }
+	}
+	jdbcTemplate.batchUpdate(INSERT_CUSTOMER, batch);
+	return names;
+    }
+
+    private static String randomName(Random random) {
+	var length = 6 + random.nextInt(5);
+	var name = new StringBuilder(length).append((char) ('A' + random.nextInt(26)));
+	for (int i = 1; i < length; i++) {
+	    name.append((char) ('a' + random.nextInt(26)));
+	}
+	return name.toString();
+    }
+
+    private CustomerSeeder() {
+    }
+
+}
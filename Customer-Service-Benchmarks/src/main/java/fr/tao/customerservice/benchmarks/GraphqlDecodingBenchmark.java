@@ -0,0 +1,101 @@
+package fr.tao.customerservice.benchmarks;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import fr.tao.customerservice.dto.CustomerDto;
+import reactor.core.publisher.Flux;
+
+/**
+ * Benchmarks of the decoding of the GraphQL response of all the customers by the 
+ * WebClient of Customer-Service-Client, with the Jackson codec of the WebClient:
+ * 
+ * - mapThenGson: the former decoding, into a map of the 'data', whose customers are 
+ *   written with toString() and parsed again by a new Gson instance on each call.
+ * - typed: the decoding of the 'data' once, directly into the customers.
+ * 
+ * Run with the GC profiler ('gc.alloc.rate.norm') to compare the bytes allocated per call.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphqlDecodingBenchmark {
+	
+    @Param({ "1", "1000" })
+    private int size;
+	
+    private final Jackson2JsonDecoder decoder = new Jackson2JsonDecoder();
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    private byte[] payload;
+	
+    /**
+     * The GraphQL response of all the customers, as decoded by the client.
+     */
+    public record CustomerResponse(Data data) {
+    }
+	
+    /**
+     * The 'data' of the GraphQL response of all the customers.
+     */
+    public record Data(List<CustomerDto> allCustomer) {
+    }
+	
+    @Setup
+    public void setUp() throws IOException {
+	var customers = LongStream.rangeClosed(1, size)
+		.mapToObj(id -> new CustomerDto(id, "customer" + id, "customer" + id + "@gmail.com"))
+		.toList();
+	payload = new ObjectMapper().writeValueAsBytes(new CustomerResponse(new Data(customers)));
+    }
+	
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<CustomerDto> mapThenGson() {
+	var response = (Map<String, Object>) decode(ResolvableType.forClass(Map.class));
+	var allCustomer = ((Map<String, Object>) response.get("data")).get("allCustomer");
+	return new Gson().fromJson(allCustomer.toString(), new TypeToken<List<CustomerDto>>() {}.getType());
+    }
+	
+    @Benchmark
+    public List<CustomerDto> typed() {
+	var response = (CustomerResponse) decode(ResolvableType.forClass(CustomerResponse.class));
+	return response.data().allCustomer();
+    }
+	
+    /**
+     * Decodes the payload as the WebClient does, from a data buffer.
+     */
+    private Object decode(ResolvableType type) {
+	return decoder.decodeToMono(Flux.just(bufferFactory.wrap(payload)), type, null, null).block();
+    }
+
+}
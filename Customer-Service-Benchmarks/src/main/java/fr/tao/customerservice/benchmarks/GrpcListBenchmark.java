@@ -0,0 +1,95 @@
+package fr.tao.customerservice.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import fr.tao.customerservice.CustomerServiceApplication;
+import fr.tao.customerservice.grpc.generated.CustomerList;
+import fr.tao.customerservice.grpc.generated.CustomerResponse;
+import fr.tao.customerservice.mapper.CustomerMapper;
+import fr.tao.customerservice.service.CustomerService;
+
+/**
+ * Benchmarks of the building of the CustomerList of the gRPC getAllCustomers call,
+ * from the database to the Proto message:
+ * <ul>
+ *   <li>entityDtoProto: the former path, loading the entities, converting them to a list
+ *   of DTOs, then to a list of Protos added to the list builder,</li>
+ *   <li>projectionProto: reading DTO projections, converted with a reused builder and added
+ *   to the list builder as they are read.</li>
+ * </ul>
+ * The allocations are reported by the GC profiler ({@code -prof gc}, gc.alloc.rate.norm
+ * in bytes per call).
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class GrpcListBenchmark {
+
+    @Param({ "10000" })
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private CustomerService customerService;
+    private CustomerMapper customerMapper;
+
+    @Setup
+    public void setUp() {
+	context = new SpringApplicationBuilder(CustomerServiceApplication.class)
+		.run(
+			"--server.port=0",
+			"--grpc.server.port=-1",
+			"--logging.level.root=warn",
+			"--logging.level.fr.tao.customerservice=warn");
+	customerService = context.getBean(CustomerService.class);
+	customerMapper = context.getBean(CustomerMapper.class);
+	CustomerSeeder.insertCustomers(context.getBean(JdbcTemplate.class), rows, 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+	context.close();
+    }
+
+    @Benchmark
+    public CustomerList entityDtoProto() throws Exception {
+	var customerProtos = customerService.getAllCustomer().stream()
+		.map(customerMapper::toCustomerProto)
+		.toList();
+	return CustomerList.newBuilder()
+		.addAllCustomers(customerProtos)
+		.build();
+    }
+
+    @Benchmark
+    public CustomerList projectionProto() {
+	var customerList = CustomerList.newBuilder();
+	var customerProto = CustomerResponse.newBuilder();
+	customerService.forEachCustomer(customer ->
+		customerList.addCustomers(customerMapper.toCustomerProto(customer, customerProto)));
+	return customerList.build();
+    }
+
+}
@@ -0,0 +1,76 @@
+package fr.tao.customerservice.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.entity.Customer;
+import fr.tao.customerservice.grpc.generated.CustomerResponse;
+import fr.tao.customerservice.mapper.CustomerMapper;
+
+/**
+ * Benchmarks of the CustomerMapper conversions used by every protocol adapter.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+	
+    /**
+     * The number of customers of the list conversions.
+     */
+    @Param({"10", "1000"})
+    private int size;
+	
+    private final CustomerMapper customerMapper = Mappers.getMapper(CustomerMapper.class);
+	
+    private Customer customer;
+    private CustomerDto customerDto;
+    private List<Customer> customers;
+	
+    @Setup
+    public void setUp() {
+	customer = new Customer(1L, "momo", "momo@gmail.com");
+	customerDto = new CustomerDto(1L, "momo", "momo@gmail.com");
+	customers = LongStream.rangeClosed(1, size)
+		.mapToObj(id -> new Customer(id, "customer", "customer" + id + "@gmail.com"))
+		.toList();
+    }
+	
+    @Benchmark
+    public CustomerDto toDto() {
+	return customerMapper.toDto(customer);
+    }
+	
+    @Benchmark
+    public CustomerResponse toCustomerProto() {
+	return customerMapper.toCustomerProto(customerDto);
+    }
+	
+    @Benchmark
+    public List<CustomerDto> toCustomerDtoList() {
+	return customerMapper.toCustomerDtoList(customers);
+    }
+
+}
@@ -0,0 +1,103 @@
+package fr.tao.customerservice.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import fr.tao.customerservice.CustomerServiceApplication;
+import fr.tao.customerservice.entity.Customer;
+import fr.tao.customerservice.search.CustomerNameSearch;
+import fr.tao.customerservice.search.CustomerNameTrigramIndexer;
+import fr.tao.customerservice.util.MessageUtil;
+
+/**
+ * Benchmarks of the name search strategies on a large table of customers:
+ * <ul>
+ *   <li>like: the former {@code UPPER(name) LIKE UPPER('%x%')} query, scanning every name,</li>
+ *   <li>prefix: range scan of the index of the normalized names,</li>
+ *   <li>trigram: lookup of the trigram index of the normalized names.</li>
+ * </ul>
+ * Each strategy is run with a keyword starting a name and with a keyword inside a name:
+ * the prefix strategy only matches the former.
+ *
+ * The customers are inserted with JDBC batches, then the trigram index is rebuilt when
+ * the trigram strategy is benchmarked. The warmup is long, so that the JPA query path
+ * is compiled before the measurement.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 6, time = 10)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class NameSearchBenchmark {
+
+    private static final int KEYWORDS = 64;
+    private static final int KEYWORD_LENGTH = 4;
+
+    @Param({ MessageUtil.SEARCH_STRATEGY_LIKE, MessageUtil.SEARCH_STRATEGY_PREFIX, MessageUtil.SEARCH_STRATEGY_TRIGRAM })
+    private String strategy;
+
+    @Param({ "1000000" })
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private CustomerNameSearch customerNameSearch;
+    private final List<String> prefixKeywords = new ArrayList<>();
+    private final List<String> infixKeywords = new ArrayList<>();
+    private int next;
+
+    @Setup
+    public void setUp() {
+	context = new SpringApplicationBuilder(CustomerServiceApplication.class)
+		.run(
+			"--server.port=0",
+			"--grpc.server.port=-1",
+			"--" + MessageUtil.SEARCH_STRATEGY_PROPERTY + "=" + strategy,
+			"--logging.level.root=warn",
+			"--logging.level.fr.tao.customerservice=warn");
+	customerNameSearch = context.getBean(CustomerNameSearch.class);
+
+	for (var name : CustomerSeeder.insertCustomers(context.getBean(JdbcTemplate.class), rows, KEYWORDS)) {
+	    prefixKeywords.add(name.substring(0, KEYWORD_LENGTH));
+	    infixKeywords.add(name.substring(1, 1 + KEYWORD_LENGTH));
+	}
+	context.getBeanProvider(CustomerNameTrigramIndexer.class).ifAvailable(CustomerNameTrigramIndexer::rebuild);
+    }
+
+    @TearDown
+    public void tearDown() {
+	context.close();
+    }
+
+    @Benchmark
+    public List<Customer> searchPrefix() {
+	return customerNameSearch.findByName(prefixKeywords.get(next++ % prefixKeywords.size()));
+    }
+
+    @Benchmark
+    public List<Customer> searchInfix() {
+	return customerNameSearch.findByName(infixKeywords.get(next++ % infixKeywords.size()));
+    }
+
+}
@@ -0,0 +1,113 @@
+package fr.tao.customerservice.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.grpc.generated.CustomerList;
+import fr.tao.customerservice.grpc.generated.CustomerResponse;
+
+/**
+ * Benchmarks of the encodings of a list of customers negotiated by the REST endpoint 
+ * (JSON, CBOR, Smile and Protobuf), sent as is or gzip compressed: the encoding and 
+ * decoding times are measured.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadEncodingBenchmark {
+	
+    @Param({ "json", "cbor", "smile", "protobuf" })
+    private String format;
+	
+    @Param({ "identity", "gzip" })
+    private String compression;
+	
+    @Param({ "10000" })
+    private int size;
+	
+    private List<CustomerDto> customers;
+    private ObjectMapper objectMapper;
+    private ObjectReader listReader;
+    private byte[] payload;
+	
+    @Setup
+    public void setUp() throws IOException {
+	customers = LongStream.rangeClosed(1, size)
+		.mapToObj(id -> new CustomerDto(id, "customer" + id, "customer" + id + "@gmail.com"))
+		.toList();
+	objectMapper = switch (format) {
+	    case "cbor" -> new ObjectMapper(new CBORFactory());
+	    case "smile" -> new ObjectMapper(new SmileFactory());
+	    default -> new ObjectMapper();
+	};
+	listReader = objectMapper.readerForListOf(CustomerDto.class);
+	payload = encode();
+    }
+	
+    @Benchmark
+    public byte[] encode() throws IOException {
+	var bytes = new ByteArrayOutputStream();
+	try (var out = "gzip".equals(compression) ? new GZIPOutputStream(bytes) : bytes) {
+	    if ("protobuf".equals(format)) {
+		var customerList = CustomerList.newBuilder();
+		var customerProto = CustomerResponse.newBuilder();
+		for (var customer : customers) {
+		    customerList.addCustomers(customerProto.clear()
+			    .setId(customer.getId())
+			    .setName(customer.getName())
+			    .setEmail(customer.getEmail())
+			    .build());
+		}
+		customerList.build().writeTo(out);
+	    } else {
+		objectMapper.writeValue(out, customers);
+	    }
+	}
+	return bytes.toByteArray();
+    }
+	
+    @Benchmark
+    public int decode() throws IOException {
+	try (InputStream in = "gzip".equals(compression) 
+		? new GZIPInputStream(new ByteArrayInputStream(payload)) : new ByteArrayInputStream(payload)) {
+	    if ("protobuf".equals(format)) {
+		return CustomerList.parseFrom(in).getCustomersCount();
+	    }
+	    List<CustomerDto> decoded = listReader.readValue(in);
+	    return decoded.size();
+	}
+    }
+
+}
@@ -0,0 +1,188 @@
+package fr.tao.customerservice.benchmarks;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import javax.xml.namespace.QName;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+
+import org.apache.cxf.Bus;
+import org.apache.cxf.jaxws.EndpointImpl;
+import org.apache.cxf.jaxws.ServiceImpl;
+import org.apache.cxf.staxutils.StaxUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.graphql.ExecutionGraphQlResponse;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.support.DefaultExecutionGraphQlRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.w3c.dom.Document;
+
+import fr.tao.customerservice.CustomerServiceApplication;
+import fr.tao.customerservice.api.soap.CustomerSoapService;
+import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.grpc.generated.CustomerId;
+import fr.tao.customerservice.grpc.generated.CustomerList;
+import fr.tao.customerservice.grpc.generated.CustomerResponse;
+import fr.tao.customerservice.grpc.generated.CustomerServiceGrpc;
+import fr.tao.customerservice.grpc.generated.Empty;
+import fr.tao.customerservice.service.CustomerService;
+import io.grpc.ManagedChannel;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import jakarta.xml.ws.Dispatch;
+import jakarta.xml.ws.Service;
+import jakarta.xml.ws.soap.SOAPBinding;
+
+/**
+ * End-to-end benchmarks of the service layer and of the four protocol adapters, 
+ * all called in-process so that only the cost of the protocol stacks is measured:
+ * <ul>
+ *   <li>REST: MockMvc through the DispatcherServlet and the JSON message converters,</li>
+ *   <li>SOAP: CXF local transport, with the SOAP envelopes (de)serialized,</li>
+ *   <li>gRPC: in-process channel, with the protobuf messages (de)serialized,</li>
+ *   <li>GraphQL: ExecutionGraphQlService, from the document parsing to the result map.</li>
+ * </ul>
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProtocolBenchmark {
+	
+    private static final String GRPC_IN_PROCESS_NAME = "customer-service-benchmark";
+    private static final String SOAP_LOCAL_ADDRESS = "local://CustomerWS";
+    private static final String SOAP_NAMESPACE = "http://soap.api.customerservice.tao.fr/";
+    private static final String SOAP_CUSTOMER_BY_ID = "<ns:customerById xmlns:ns=\"" + SOAP_NAMESPACE + "\"><id>1</id></ns:customerById>";
+    private static final String SOAP_ALL_CUSTOMER = "<ns:getAllCustomer xmlns:ns=\"" + SOAP_NAMESPACE + "\"/>";
+    private static final String GQL_CUSTOMER_BY_ID = "{ customerById(id: 1) { id name email } }";
+    private static final String GQL_ALL_CUSTOMER = "{ allCustomer { id name email } }";
+	
+    /**
+     * The number of customers added to the sample data, read by the 'all customers' benchmarks.
+     */
+    private static final int CUSTOMERS = 100;
+	
+    private ConfigurableApplicationContext context;
+    private CustomerService customerService;
+    private MockMvc mockMvc;
+    private ExecutionGraphQlService graphQlService;
+    private EndpointImpl soapEndpoint;
+    private Dispatch<Source> soapDispatch;
+    private ManagedChannel channel;
+    private CustomerServiceGrpc.CustomerServiceBlockingStub blockingStub;
+	
+    @Setup
+    public void setUp() {
+	context = new SpringApplicationBuilder(CustomerServiceApplication.class)
+		.run(
+			"--server.port=0",
+			"--grpc.server.port=-1",
+			"--grpc.server.in-process-name=" + GRPC_IN_PROCESS_NAME,
+			"--logging.level.root=warn",
+			"--logging.level.fr.tao.customerservice=warn");
+	customerService = context.getBean(CustomerService.class);
+	customerService.saveCustomers(IntStream.range(0, CUSTOMERS)
+		.mapToObj(i -> new CustomerDto(null, "customer", "customer" + i + "@gmail.com"))
+		.toList());
+		
+	mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+	graphQlService = context.getBean(ExecutionGraphQlService.class);
+		
+	var bus = context.getBean(Bus.class);
+	soapEndpoint = new EndpointImpl(bus, context.getBean(CustomerSoapService.class));
+	soapEndpoint.publish(SOAP_LOCAL_ADDRESS);
+	var serviceName = new QName(SOAP_NAMESPACE, "CustomerWS");
+	var portName = new QName(SOAP_NAMESPACE, "CustomerSoapServicePort");
+	var service = new ServiceImpl(bus, null, serviceName, null);
+	service.addPort(portName, SOAPBinding.SOAP11HTTP_BINDING, SOAP_LOCAL_ADDRESS);
+	soapDispatch = service.createDispatch(portName, Source.class, Service.Mode.PAYLOAD);
+		
+	channel = InProcessChannelBuilder.forName(GRPC_IN_PROCESS_NAME).build();
+	blockingStub = CustomerServiceGrpc.newBlockingStub(channel);
+    }
+	
+    @TearDown
+    public void tearDown() throws InterruptedException {
+	channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+	soapEndpoint.stop();
+	context.close();
+    }
+	
+    // ================ Customer by ID ================
+    @Benchmark
+    public CustomerDto serviceCustomerById() {
+	return customerService.getCustomerById(1L);
+    }
+	
+    @Benchmark
+    public String restCustomerById() throws Exception {
+	return mockMvc.perform(MockMvcRequestBuilders.get("/api/customers/{id}", 1L))
+		.andReturn().getResponse().getContentAsString();
+    }
+	
+    @Benchmark
+    public Document soapCustomerById() throws Exception {
+	return StaxUtils.read(soapDispatch.invoke(new StreamSource(new StringReader(SOAP_CUSTOMER_BY_ID))));
+    }
+	
+    @Benchmark
+    public CustomerResponse grpcCustomerById() {
+	return blockingStub.getCustomerById(CustomerId.newBuilder().setId(1L).build());
+    }
+	
+    @Benchmark
+    public ExecutionGraphQlResponse graphqlCustomerById() {
+	return graphQlService.execute(new DefaultExecutionGraphQlRequest(GQL_CUSTOMER_BY_ID, null, null, null, "1", null)).block();
+    }
+	
+    // ================ All customers ================
+    @Benchmark
+    public List<CustomerDto> serviceAllCustomers() throws Exception {
+	return customerService.getAllCustomer();
+    }
+	
+    @Benchmark
+    public String restAllCustomers() throws Exception {
+	return mockMvc.perform(MockMvcRequestBuilders.get("/api/customers"))
+		.andReturn().getResponse().getContentAsString();
+    }
+	
+    @Benchmark
+    public Document soapAllCustomers() throws Exception {
+	return StaxUtils.read(soapDispatch.invoke(new StreamSource(new StringReader(SOAP_ALL_CUSTOMER))));
+    }
+	
+    @Benchmark
+    public CustomerList grpcAllCustomers() {
+	return blockingStub.getAllCustomers(Empty.getDefaultInstance());
+    }
+	
+    @Benchmark
+    public ExecutionGraphQlResponse graphqlAllCustomers() {
+	return graphQlService.execute(new DefaultExecutionGraphQlRequest(GQL_ALL_CUSTOMER, null, null, null, "1", null)).block();
+    }
+
+}
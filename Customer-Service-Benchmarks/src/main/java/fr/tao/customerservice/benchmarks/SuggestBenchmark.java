@@ -0,0 +1,94 @@
+package fr.tao.customerservice.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import fr.tao.customerservice.CustomerServiceApplication;
+import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.search.CustomerSuggestIndex;
+import fr.tao.customerservice.service.CustomerService;
+
+/**
+ * Benchmarks of the customer suggestions served by the in-memory index, on a large
+ * number of customers, for the queries typed by an autocomplete:
+ * <ul>
+ *   <li>a short prefix (2 characters), matching many customers to rank,</li>
+ *   <li>a substring inside the names (4 characters), looked up by trigram.</li>
+ * </ul>
+ * The calls go through the CustomerService, to be compared with the name search
+ * of NameSearchBenchmark.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class SuggestBenchmark {
+
+    private static final int QUERIES = 64;
+    private static final int LIMIT = 10;
+
+    @Param({ "1000000" })
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private CustomerService customerService;
+    private final List<String> prefixQueries = new ArrayList<>();
+    private final List<String> infixQueries = new ArrayList<>();
+    private int next;
+
+    @Setup
+    public void setUp() {
+	context = new SpringApplicationBuilder(CustomerServiceApplication.class)
+		.run(
+			"--server.port=0",
+			"--grpc.server.port=-1",
+			"--logging.level.root=warn",
+			"--logging.level.fr.tao.customerservice=warn");
+	customerService = context.getBean(CustomerService.class);
+
+	for (var name : CustomerSeeder.insertCustomers(context.getBean(JdbcTemplate.class), rows, QUERIES)) {
+	    prefixQueries.add(name.substring(0, 2));
+	    infixQueries.add(name.substring(1, 5));
+	}
+	context.getBean(CustomerSuggestIndex.class).load();
+    }
+
+    @TearDown
+    public void tearDown() {
+	context.close();
+    }
+
+    @Benchmark
+    public List<CustomerDto> suggestPrefix() {
+	return customerService.suggestCustomers(prefixQueries.get(next++ % prefixQueries.size()), LIMIT);
+    }
+
+    @Benchmark
+    public List<CustomerDto> suggestInfix() {
+	return customerService.suggestCustomers(infixQueries.get(next++ % infixQueries.size()), LIMIT);
+    }
+
+}
@@ -0,0 +1,67 @@
+package fr.tao.customerservice.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.tao.customerservice.entity.Customer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+/**
+ * Benchmarks of the Bean Validation of a customer, as done by the service layer 
+ * before saving it, for a valid customer and for a customer violating every constraint.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+	
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+	
+    private final Customer validCustomer = new Customer(1L, "momo", "momo@gmail.com");
+    private final Customer invalidCustomer = new Customer(2L, "m0", "not-an-email-address-at-all-too-long");
+	
+    @Setup
+    public void setUp() {
+	validatorFactory = Validation.buildDefaultValidatorFactory();
+	validator = validatorFactory.getValidator();
+    }
+	
+    @TearDown
+    public void tearDown() {
+	validatorFactory.close();
+    }
+	
+    @Benchmark
+    public Set<ConstraintViolation<Customer>> validateValidCustomer() {
+	return validator.validate(validCustomer);
+    }
+	
+    @Benchmark
+    public Set<ConstraintViolation<Customer>> validateInvalidCustomer() {
+	return validator.validate(invalidCustomer);
+    }
+
+}
@@ -0,0 +1,150 @@
+package fr.tao.customerservice.benchmarks;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+import fr.tao.customerservice.CustomerServiceApplication;
+import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.grpc.generated.CustomerList;
+import fr.tao.customerservice.grpc.generated.CustomerServiceGrpc;
+import fr.tao.customerservice.grpc.generated.Empty;
+import fr.tao.customerservice.service.CustomerService;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+
+/**
+ * Throughput of the server under a burst of concurrent clients, with the requests
+ * run on the Tomcat and gRPC platform thread pools, then on virtual threads
+ * ({@code customer.virtual-threads.enabled}).
+ *
+ * Unlike the protocol benchmarks, the calls go through the network stack of the
+ * server: each invocation sends {@value #CLIENTS} concurrent requests over HTTP
+ * or over a gRPC channel, and waits for all the responses. The 'all customers'
+ * operation is used so that each request reads the database through the Hikari pool.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@OperationsPerInvocation(VirtualThreadBenchmark.CLIENTS)
+public class VirtualThreadBenchmark {
+
+    /**
+     * The number of concurrent requests of each invocation.
+     */
+    static final int CLIENTS = 1024;
+
+    /**
+     * The number of customers added to the sample data.
+     */
+    private static final int CUSTOMERS = 100;
+
+    @Param({ "false", "true" })
+    private boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest allCustomersRequest;
+    private ManagedChannel channel;
+    private CustomerServiceGrpc.CustomerServiceFutureStub futureStub;
+    private int grpcPort;
+
+    @Setup
+    public void setUp() throws IOException {
+	grpcPort = freePort();
+	context = new SpringApplicationBuilder(CustomerServiceApplication.class)
+		.run(
+			"--server.port=0",
+			"--grpc.server.port=" + grpcPort,
+			"--customer.virtual-threads.enabled=" + virtualThreads,
+			"--logging.level.root=warn",
+			"--logging.level.fr.tao.customerservice=warn");
+	context.getBean(CustomerService.class).saveCustomers(IntStream.range(0, CUSTOMERS)
+		.mapToObj(i -> new CustomerDto(null, "customer", "customer" + i + "@gmail.com"))
+		.toList());
+
+	var httpPort = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+	httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+	allCustomersRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + httpPort + "/api/customers")).build();
+
+	channel = ManagedChannelBuilder.forAddress("localhost", grpcPort).usePlaintext().build();
+	futureStub = CustomerServiceGrpc.newFutureStub(channel);
+    }
+
+    /**
+     * Finds a free port for the gRPC server, whose starter cannot pick a random port
+     * ({@code grpc.server.port=0}) with Spring 6.
+     */
+    private static int freePort() throws IOException {
+	try (var socket = new ServerSocket(0)) {
+	    return socket.getLocalPort();
+	}
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+	channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+	context.close();
+    }
+
+    @Benchmark
+    public int restAllCustomers() {
+	var responses = new ArrayList<CompletableFuture<HttpResponse<byte[]>>>(CLIENTS);
+	for (int i = 0; i < CLIENTS; i++) {
+	    responses.add(httpClient.sendAsync(allCustomersRequest, HttpResponse.BodyHandlers.ofByteArray()));
+	}
+	var bytes = 0;
+	for (var response : responses) {
+	    bytes += response.join().body().length;
+	}
+	return bytes;
+    }
+
+    @Benchmark
+    public int grpcAllCustomers() throws Exception {
+	var responses = new ArrayList<ListenableFuture<CustomerList>>(CLIENTS);
+	for (int i = 0; i < CLIENTS; i++) {
+	    responses.add(futureStub.getAllCustomers(Empty.getDefaultInstance()));
+	}
+	var customers = 0;
+	for (var customerList : Futures.allAsList(responses).get()) {
+	    customers += customerList.getCustomersCount();
+	}
+	return customers;
+    }
+
+}
@@ -1,5 +1,16 @@
 package fr.tao.customerserviceclient;
 
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
@@ -7,16 +18,29 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.graphql.client.HttpGraphQlClient;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import feign.Client;
+import feign.Request;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
 import fr.tao.customerserviceclient.common.RemoteApiProperties;
+import fr.tao.customerserviceclient.loadtest.WireBytesCounter;
+import fr.tao.customerserviceclient.loadtest.WireBytesExchangeFilter;
+import fr.tao.customerserviceclient.loadtest.WireBytesFeignClient;
+import fr.tao.customerserviceclient.loadtest.WireBytesInterceptor;
 import fr.tao.customerserviceclient.service.grpc.GrpcCustomerServiceClient;
 import fr.tao.customerserviceclient.soap.generated.CustomerSoapService;
 import fr.tao.customerserviceclient.soap.generated.CustomerWS;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.client.HttpClient;
 
 /** 
  * This class is the main entry point for the Customer Service Client application.
@@ -40,6 +64,12 @@ public class CustomerServiceClientApplication {
     @NonNull 
     private final RemoteApiProperties remoteApiProperties;
 	
+    /**
+     * Counter of the bytes exchanged with the remote API, reported by the load test.
+     */
+    @NonNull 
+    private final WireBytesCounter wireBytesCounter;
+	
     /**
      * Main method to start the Spring Boot application.
      *
@@ -51,18 +81,79 @@ public class CustomerServiceClientApplication {
     }
 	
     /**
-     * Creates and configures a RestTemplate bean for making REST API calls.
+     * Creates the pool of the HTTP connections to the remote API, shared by RestTemplate and Feign.
+     * 
+     * The connections are kept alive between the calls, so a call does not pay for a new 
+     * TCP connection, and the pool is sized for the concurrent callers of the load test, 
+     * as the default of 5 connections per host would make them queue for a connection.
+     * 
+     * @return A PoolingHttpClientConnectionManager instance.
+     */
+    @Bean
+    PoolingHttpClientConnectionManager httpConnectionManager() {
+	return PoolingHttpClientConnectionManagerBuilder.create()
+		.setMaxConnTotal(remoteApiProperties.getPoolMaxTotal())
+		.setMaxConnPerRoute(remoteApiProperties.getPoolMaxPerRoute())
+		.setDefaultConnectionConfig(ConnectionConfig.custom()
+			.setConnectTimeout(Timeout.ofMilliseconds(remoteApiProperties.getConnectTimeout()))
+			.setSocketTimeout(Timeout.ofMilliseconds(remoteApiProperties.getTimeout()))
+			.setValidateAfterInactivity(TimeValue.ofMilliseconds(remoteApiProperties.getPoolValidateAfterInactivity()))
+			.build())
+		.build();
+    }
+	
+    /**
+     * Exports the metrics of the HTTP connection pool (httpcomponents.httpclient.pool.*).
+     * 
+     * @param httpConnectionManager The pool of the HTTP connections.
+     * @return A MeterBinder instance.
+     */
+    @Bean
+    MeterBinder httpConnectionPoolMetrics(PoolingHttpClientConnectionManager httpConnectionManager) {
+	return new PoolingHttpClientConnectionManagerMetricsBinder(httpConnectionManager, "customer-api");
+    }
+	
+    /**
+     * Creates the HTTP client of RestTemplate and Feign, on the pool of connections, 
+     * accepting gzip compressed responses.
      * 
+     * An idle connection is kept alive for the time given by the 'Keep-Alive' header of the 
+     * server, or for {@code api.pool.keep_alive} when the server does not send it, and closed 
+     * in the background once expired.
+     * 
+     * @param httpConnectionManager The pool of the HTTP connections.
+     * @return A CloseableHttpClient instance.
+     */
+    @Bean
+    CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpConnectionManager) {
+	return HttpClients.custom()
+		.setConnectionManager(httpConnectionManager)
+		.setDefaultRequestConfig(RequestConfig.custom()
+			.setResponseTimeout(Timeout.ofMilliseconds(remoteApiProperties.getTimeout()))
+			.setConnectionKeepAlive(TimeValue.ofMilliseconds(remoteApiProperties.getPoolKeepAlive()))
+			.build())
+		.setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+		.evictExpiredConnections()
+		.build();
+    }
+	
+    /**
+     * Creates and configures a RestTemplate bean for making REST API calls, 
+     * on the pooled HTTP client.
+     * 
+     * @param httpClient The HTTP client.
      * @return A RestTemplate instance.
      */
     @Bean
-    RestTemplate restTemplate() {
-	return new RestTemplate();
+    RestTemplate restTemplate(CloseableHttpClient httpClient) {
+	var restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+	restTemplate.getInterceptors().add(new WireBytesInterceptor(wireBytesCounter));
+	return restTemplate;
     }
 	
 	/**
 	 * Creates and configures a WebClient bean for making web-based API calls 
-	 * with default JSON content type.
+	 * with default JSON content type, accepting gzip compressed responses.
 	 * 
 	 * @return A WebClient instance.
 	 */
@@ -70,7 +161,9 @@ public class CustomerServiceClientApplication {
     WebClient webClient() {
         return WebClient.builder()
         		.baseUrl(remoteApiProperties.getBaseUrl())
+				.clientConnector(new ReactorClientHttpConnector(HttpClient.create().compress(true)))
 				.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE) 
+				.filter(new WireBytesExchangeFilter(wireBytesCounter))
 				.build();
     }
 	
@@ -83,9 +176,34 @@ public class CustomerServiceClientApplication {
 	HttpGraphQlClient httpGraphQlClient() {
 		return HttpGraphQlClient.builder()
 				.url(remoteApiProperties.getRemoteApiUrl(remoteApiProperties.getUriGraphql()))
+				.webClient(builder -> builder.filter(new WireBytesExchangeFilter(wireBytesCounter)))
 				.build();
 	}
 	
+	/**
+	 * Creates the HTTP client used by the OpenFeign clients, on the pooled HTTP client, 
+	 * counting the bytes exchanged.
+	 * 
+	 * @param httpClient The HTTP client.
+	 * @return A Feign Client instance.
+	 */
+	@Bean
+	Client feignClient(CloseableHttpClient httpClient) {
+		return new WireBytesFeignClient(new ApacheHttp5Client(httpClient), wireBytesCounter);
+	}
+	
+	/**
+	 * Creates the options of the OpenFeign requests, with the timeouts of the remote API, 
+	 * as Feign sets them on each request in place of those of the HTTP client.
+	 * 
+	 * @return The Request.Options.
+	 */
+	@Bean
+	Request.Options feignRequestOptions() {
+		return new Request.Options(remoteApiProperties.getConnectTimeout(), TimeUnit.MILLISECONDS, 
+				remoteApiProperties.getTimeout(), TimeUnit.MILLISECONDS, true);
+	}
+	
 	/**
 	 * Creates a bean for the Customer SOAP service using the provided properties.
 	 * 
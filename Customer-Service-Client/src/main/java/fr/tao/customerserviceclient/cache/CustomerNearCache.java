@@ -0,0 +1,241 @@
+package fr.tao.customerserviceclient.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import fr.tao.customerserviceclient.model.Customer;
+import fr.tao.customerserviceclient.util.MessageUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineStatsCounter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Near caches of the customers read from the remote API, in front of each client.
+ *
+ * Each client and operation has its own NearCache (e.g. 'resttemplate.customerById'), built 
+ * once with the call of the client loading its entries, in which:
+ *
+ * - An entry older than {@code nearcache.refresh_seconds} is still served, while it is
+ *   reloaded in the background (stale-while-revalidate); when the reload fails, the stale
+ *   entry is kept until its time to live.
+ * - An entry older than its time to live ({@code nearcache.customer_ttl_seconds} for a
+ *   customer, {@code nearcache.customers_ttl_seconds} for the list), counting from its last 
+ *   load or reload, is loaded again.
+ * - The concurrent misses of the same entry wait for a single call to the remote API.
+ *
+ * The blocking clients are called on virtual threads, and the metrics of each cache are
+ * exported as 'cache.*', tagged with the name of the cache.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+@Slf4j
+public class CustomerNearCache {
+
+    private final NearCacheProperties nearCacheProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * The source of the time of the entries.
+     */
+    private final Ticker ticker;
+
+    /**
+     * The executor of the loads and reloads of the blocking clients.
+     */
+    private final Executor executor;
+
+    /**
+     * Creates the near caches, loading the blocking clients on virtual threads.
+     *
+     * @param nearCacheProperties The properties of the near caches.
+     * @param meterRegistry The registry of the metrics of the caches.
+     */
+    @Autowired
+    public CustomerNearCache(NearCacheProperties nearCacheProperties, MeterRegistry meterRegistry) {
+	this(nearCacheProperties, meterRegistry, Ticker.systemTicker(), Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Creates the near caches, on the given time source and executor.
+     */
+    CustomerNearCache(NearCacheProperties nearCacheProperties, MeterRegistry meterRegistry, Ticker ticker, Executor executor) {
+	this.nearCacheProperties = nearCacheProperties;
+	this.meterRegistry = meterRegistry;
+	this.ticker = ticker;
+	this.executor = executor;
+    }
+
+    /**
+     * Builds the near cache of the customers by ID of a blocking client.
+     *
+     * @param client The name of the client.
+     * @param loader The call of the client retrieving a customer by their ID.
+     * @return The near cache, whose values are null when the client returned none.
+     */
+    public NearCache<Long, Customer> customerById(String client, CustomerLoader loader) {
+	return build(cacheName(client, MessageUtil.CUSTOMER_BY_ID_SERVICE_NAME), nearCacheProperties.getCustomerTtlSeconds(),
+		(id, loadExecutor) -> callAsync(() -> loader.load(id), loadExecutor), true);
+    }
+
+    /**
+     * Builds the near cache of all the customers of a blocking client, 
+     * whose single entry is keyed by the name of the operation.
+     *
+     * @param client The name of the client.
+     * @param loader The call of the client retrieving all the customers.
+     * @return The near cache.
+     */
+    public NearCache<String, List<Customer>> allCustomers(String client, Callable<List<Customer>> loader) {
+	return build(cacheName(client, MessageUtil.ALL_CUSTOMER_SERVICE_NAME), nearCacheProperties.getCustomersTtlSeconds(),
+		(operation, loadExecutor) -> callAsync(loader, loadExecutor), true);
+    }
+
+    /**
+     * Builds the near cache of the customers by ID of a reactive client.
+     *
+     * @param client The name of the client.
+     * @param loader The call of the client retrieving a customer by their ID.
+     * @return The near cache.
+     */
+    public NearCache<Long, Customer> customerByIdMono(String client, Function<Long, Mono<Customer>> loader) {
+	return build(cacheName(client, MessageUtil.CUSTOMER_BY_ID_SERVICE_NAME), nearCacheProperties.getCustomerTtlSeconds(),
+		(id, loadExecutor) -> loader.apply(id).toFuture(), false);
+    }
+
+    /**
+     * Builds the near cache of all the customers of a reactive client, 
+     * whose single entry is keyed by the name of the operation.
+     *
+     * @param client The name of the client.
+     * @param loader The call of the client retrieving all the customers.
+     * @return The near cache.
+     */
+    public NearCache<String, List<Customer>> allCustomersMono(String client, Supplier<Mono<List<Customer>>> loader) {
+	return build(cacheName(client, MessageUtil.ALL_CUSTOMER_SERVICE_NAME), nearCacheProperties.getCustomersTtlSeconds(),
+		(operation, loadExecutor) -> loader.get().toFuture(), false);
+    }
+
+    /**
+     * Stops the loads in progress when the application stops.
+     */
+    @PreDestroy
+    public void close() {
+	if (executor instanceof ExecutorService executorService) {
+	    executorService.shutdownNow();
+	}
+    }
+
+    /**
+     * Builds a near cache, whose entries are refreshed in the background once older than the refresh
+     * time, and expire once older than the time to live, counting from their last load or reload.
+     * When the near cache is disabled, the blocking clients are called on the calling thread.
+     */
+    private <K, V> NearCache<K, V> build(String name, long ttlSeconds, AsyncCacheLoader<K, V> loader, boolean blocking) {
+	if (!nearCacheProperties.isEnabled()) {
+	    return new NearCache<>(null, loader, blocking ? Runnable::run : executor);
+	}
+	log.info("CustomerNearCache - Creating the near cache: {}", name);
+	var timeToLive = Duration.ofSeconds(ttlSeconds);
+	var statsCounter = new CaffeineStatsCounter(meterRegistry, name);
+	AsyncLoadingCache<K, V> cache = Caffeine.newBuilder()
+		.maximumSize(nearCacheProperties.getMaximumSize())
+		.expireAfter(new WritingExpiry<K, V>((key, value) -> timeToLive))
+		.refreshAfterWrite(Duration.ofSeconds(nearCacheProperties.getRefreshSeconds()))
+		.ticker(ticker)
+		.executor(executor)
+		.recordStats(() -> statsCounter)
+		.buildAsync(loader);
+	statsCounter.registerSizeMetric(cache.synchronous());
+	return new NearCache<>(cache, loader, executor);
+    }
+
+    /**
+     * Builds the name of the cache of a client and an operation.
+     */
+    private static String cacheName(String client, String operation) {
+	return client + "." + operation;
+    }
+
+    /**
+     * Calls a blocking client on the executor.
+     */
+    private static <V> CompletableFuture<V> callAsync(Callable<V> call, Executor executor) {
+	return CompletableFuture.supplyAsync(() -> {
+	    try {
+		return call.call();
+	    } catch (RuntimeException e) {
+		throw e;
+	    } catch (Exception e) {
+		throw new CompletionException(e);
+	    }
+	}, executor);
+    }
+
+    /**
+     * The expiry of the entries once older than their time to live, counting from their 
+     * creation or their last update (a load or a reload), whatever their reads.
+     */
+    private static final class WritingExpiry<K, V> implements Expiry<K, V> {
+
+	private final BiFunction<K, V, Duration> timeToLive;
+
+	private WritingExpiry(BiFunction<K, V, Duration> timeToLive) {
+	    this.timeToLive = timeToLive;
+	}
+
+	@Override
+	public long expireAfterCreate(K key, V value, long currentTime) {
+	    return timeToLive.apply(key, value).toNanos();
+	}
+
+	@Override
+	public long expireAfterUpdate(K key, V value, long currentTime, long currentDuration) {
+	    return timeToLive.apply(key, value).toNanos();
+	}
+
+	@Override
+	public long expireAfterRead(K key, V value, long currentTime, long currentDuration) {
+	    return currentDuration;
+	}
+    }
+
+    /**
+     * The call of a blocking client retrieving a customer by their ID.
+     */
+    @FunctionalInterface
+    public interface CustomerLoader {
+
+	/**
+	 * Retrieves a customer by their ID.
+	 *
+	 * @param id The ID of the customer.
+	 * @return The customer, or null if not found.
+	 * @throws Exception if the client fails to retrieve the customer.
+	 */
+	Customer load(Long id) throws Exception;
+    }
+
+}
@@ -0,0 +1,95 @@
+package fr.tao.customerserviceclient.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * A near cache of a client and an operation, built by the CustomerNearCache with the call
+ * of the client loading its entries.
+ *
+ * When the near cache is disabled, each get calls the client.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+public class NearCache<K, V> {
+
+    /**
+     * The cache of the entries, null if the near cache is disabled.
+     */
+    private final AsyncLoadingCache<K, V> cache;
+
+    /**
+     * The call of the client, used when the near cache is disabled.
+     */
+    private final AsyncCacheLoader<K, V> loader;
+
+    /**
+     * The executor of the calls of the client, used when the near cache is disabled.
+     */
+    private final Executor executor;
+
+    NearCache(AsyncLoadingCache<K, V> cache, AsyncCacheLoader<K, V> loader, Executor executor) {
+	this.cache = cache;
+	this.loader = loader;
+	this.executor = executor;
+    }
+
+    /**
+     * Gets an entry, loaded by the client if missing.
+     *
+     * @param key The key of the entry.
+     * @return A future of the value, completed with the exception of the client if it fails.
+     */
+    @SuppressWarnings("unchecked")
+    public CompletableFuture<V> get(K key) {
+	if (cache != null) {
+	    return cache.get(key);
+	}
+	try {
+	    return (CompletableFuture<V>) loader.asyncLoad(key, executor);
+	} catch (Exception e) {
+	    return CompletableFuture.failedFuture(e);
+	}
+    }
+
+    /**
+     * Gets an entry, waiting for it, and rethrowing the exception of the client, if any,
+     * as it was thrown.
+     *
+     * @param key The key of the entry.
+     * @return The value, or null if the client returned none.
+     * @throws Exception if the client fails to load the entry.
+     */
+    public V join(K key) throws Exception {
+	try {
+	    return get(key).join();
+	} catch (CompletionException e) {
+	    if (e.getCause() instanceof Exception cause) {
+		throw cause;
+	    }
+	    throw e;
+	}
+    }
+
+    /**
+     * Gets an entry lazily, on subscription.
+     *
+     * @param key The key of the entry.
+     * @return A Mono of the value.
+     */
+    public Mono<V> mono(K key) {
+	return Mono.fromFuture(() -> get(key));
+    }
+
+}
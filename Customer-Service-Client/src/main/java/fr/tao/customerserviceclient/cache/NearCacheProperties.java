@@ -0,0 +1,37 @@
+package fr.tao.customerserviceclient.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import lombok.Getter;
+
+/**
+ * Configuration class for the near cache properties.
+ * This class manages the freshness and the size of the customers cached by the client.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Getter
+@Configuration
+@PropertySource("classpath:near_cache.properties")
+public class NearCacheProperties {
+	
+    @Value("${nearcache.enabled}")
+    private boolean enabled; // Whether the calls are served from the near cache.
+	
+    @Value("${nearcache.refresh_seconds}")
+    private long refreshSeconds; // Age after which an entry is served stale while it is reloaded.
+	
+    @Value("${nearcache.customer_ttl_seconds}")
+    private long customerTtlSeconds; // Age after which a cached customer is no longer served.
+	
+    @Value("${nearcache.customers_ttl_seconds}")
+    private long customersTtlSeconds; // Age after which a cached list of customers is no longer served.
+	
+    @Value("${nearcache.maximum_size}")
+    private long maximumSize; // Maximum number of entries of each cache.
+
+}
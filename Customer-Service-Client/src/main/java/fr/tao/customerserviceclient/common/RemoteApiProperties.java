@@ -28,6 +28,24 @@ public class RemoteApiProperties {
     @Value("${api.uri_customerById}")
     private String uriCustomerById; // URI for accessing a specific customer.
 	
+    @Value("${api.connect_timeout}")
+    private long connectTimeout; // Timeout to connect to the remote API, in milliseconds.
+	
+    @Value("${api.timeout}")
+    private long timeout; // Timeout to wait for a response of the remote API, in milliseconds.
+	
+    @Value("${api.pool.max_total}")
+    private int poolMaxTotal; // Maximum number of pooled connections.
+	
+    @Value("${api.pool.max_per_route}")
+    private int poolMaxPerRoute; // Maximum number of pooled connections to the same host.
+	
+    @Value("${api.pool.keep_alive}")
+    private long poolKeepAlive; // Time an idle connection is kept alive when the server does not say, in milliseconds.
+	
+    @Value("${api.pool.validate_after_inactivity}")
+    private long poolValidateAfterInactivity; // Idle time after which a connection is checked before reuse, in milliseconds.
+	
     @Value("${graphql.uri}")
     private String uriGraphql; // URI for GraphQL endpoint.
 	
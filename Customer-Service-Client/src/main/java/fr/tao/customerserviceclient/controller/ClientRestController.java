@@ -3,11 +3,14 @@ package fr.tao.customerserviceclient.controller;
 import java.util.List;
 
 import org.springframework.graphql.client.HttpGraphQlClient;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import fr.tao.customerserviceclient.cache.CustomerNearCache;
+import fr.tao.customerserviceclient.cache.NearCache;
 import fr.tao.customerserviceclient.model.Customer;
 import fr.tao.customerserviceclient.service.graphql.CustomerGraphQLClient;
 import fr.tao.customerserviceclient.service.grpc.GrpcCustomerServiceClient;
@@ -15,15 +18,16 @@ import fr.tao.customerserviceclient.service.rest.CustomerFeignClient;
 import fr.tao.customerserviceclient.service.rest.CustomerRestTemplateClient;
 import fr.tao.customerserviceclient.service.rest.CustomerWebClient;
 import fr.tao.customerserviceclient.service.soap.CustomerSoapClient;
+import fr.tao.customerserviceclient.util.MessageUtil;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * This class represents a RESTful API controller for managing customer data through various client implementations.
  * 
- * It provides endpoints for retrieving customer information using different client technologies.
+ * It provides endpoints for retrieving customer information using different client technologies, 
+ * served from the near cache of each client.
  *
  * @author T. Aoufi
  * @version 1.0
@@ -31,16 +35,52 @@ import reactor.core.publisher.Mono;
  */
 @RestController
 @RequestMapping(produces = "application/json", value = "/customer-client")
-@RequiredArgsConstructor
 public class ClientRestController {
 	
-    @NonNull private final CustomerRestTemplateClient customerRestTemplateClient;
-    @NonNull private final CustomerWebClient customerWebClient;
-    @NonNull private final CustomerFeignClient customerFeignClient;
-    @NonNull private final HttpGraphQlClient httpGraphQlClient;
-    @NonNull private final CustomerGraphQLClient customerGraphQLClient;
-    @NonNull private final CustomerSoapClient customerSoapClient;
-    @NonNull private final GrpcCustomerServiceClient grpcCustomerServiceClient;
+    private final HttpGraphQlClient httpGraphQlClient;
+    private final GrpcCustomerServiceClient grpcCustomerServiceClient;
+	
+    // The near caches of each client, built with the call of the client loading their entries
+    private final NearCache<String, List<Customer>> restTemplateAllCustomers;
+    private final NearCache<Long, Customer> restTemplateCustomerById;
+    private final NearCache<String, List<Customer>> webClientAllCustomers;
+    private final NearCache<Long, Customer> webClientCustomerById;
+    private final NearCache<String, List<Customer>> feignAllCustomers;
+    private final NearCache<Long, Customer> feignCustomerById;
+    private final NearCache<String, List<Customer>> graphQlHttpAllCustomers;
+    private final NearCache<Long, Customer> graphQlHttpCustomerById;
+    private final NearCache<String, List<Customer>> graphQlWebClientAllCustomers;
+    private final NearCache<Long, Customer> graphQlWebClientCustomerById;
+    private final NearCache<String, List<Customer>> soapAllCustomers;
+    private final NearCache<Long, Customer> soapCustomerById;
+    private final NearCache<String, List<Customer>> grpcAllCustomers;
+    private final NearCache<Long, Customer> grpcCustomerById;
+	
+    /**
+     * Creates the controller, and the near caches of the clients.
+     */
+    public ClientRestController(@NonNull CustomerRestTemplateClient customerRestTemplateClient, 
+	    @NonNull CustomerWebClient customerWebClient, @NonNull CustomerFeignClient customerFeignClient, 
+	    @NonNull HttpGraphQlClient httpGraphQlClient, @NonNull CustomerGraphQLClient customerGraphQLClient, 
+	    @NonNull CustomerSoapClient customerSoapClient, @NonNull GrpcCustomerServiceClient grpcCustomerServiceClient, 
+	    @NonNull CustomerNearCache customerNearCache) {
+	this.httpGraphQlClient = httpGraphQlClient;
+	this.grpcCustomerServiceClient = grpcCustomerServiceClient;
+	restTemplateAllCustomers = customerNearCache.allCustomers(MessageUtil.RESTTEMPLATE_CLIENT, customerRestTemplateClient::getAllCustomers);
+	restTemplateCustomerById = customerNearCache.customerById(MessageUtil.RESTTEMPLATE_CLIENT, customerRestTemplateClient::getCustomerById);
+	webClientAllCustomers = customerNearCache.allCustomersMono(MessageUtil.WEBCLIENT_CLIENT, () -> customerWebClient.getAllCustomers().collectList());
+	webClientCustomerById = customerNearCache.customerByIdMono(MessageUtil.WEBCLIENT_CLIENT, customerWebClient::getCustomerById);
+	feignAllCustomers = customerNearCache.allCustomers(MessageUtil.FEIGN_CLIENT, customerFeignClient::getAllCustomers);
+	feignCustomerById = customerNearCache.customerById(MessageUtil.FEIGN_CLIENT, customerFeignClient::getCustomerById);
+	graphQlHttpAllCustomers = customerNearCache.allCustomersMono(MessageUtil.GRAPHQL_HTTP_CLIENT, customerGraphQLClient::getAllCustomersGQLHttpGQl);
+	graphQlHttpCustomerById = customerNearCache.customerByIdMono(MessageUtil.GRAPHQL_HTTP_CLIENT, customerGraphQLClient::getCustomerByIdGQLHttpGQl);
+	graphQlWebClientAllCustomers = customerNearCache.allCustomersMono(MessageUtil.GRAPHQL_WEBCLIENT_CLIENT, customerGraphQLClient::getAllCustomersGQLWebClient);
+	graphQlWebClientCustomerById = customerNearCache.customerByIdMono(MessageUtil.GRAPHQL_WEBCLIENT_CLIENT, customerGraphQLClient::getCustomerByIdGQLWebClient);
+	soapAllCustomers = customerNearCache.allCustomers(MessageUtil.SOAP_CLIENT, customerSoapClient::getAllCustomers);
+	soapCustomerById = customerNearCache.customerById(MessageUtil.SOAP_CLIENT, customerSoapClient::getCustomerById);
+	grpcAllCustomers = customerNearCache.allCustomers(MessageUtil.GRPC_CLIENT, grpcCustomerServiceClient::getAllCustomers);
+	grpcCustomerById = customerNearCache.customerById(MessageUtil.GRPC_CLIENT, grpcCustomerServiceClient::getCustomerById);
+    }
 
 
     // =================== REST Client by RestTemplate 
@@ -49,10 +89,11 @@ public class ClientRestController {
      * Retrieve all customers using RESTful client implemented with RestTemplate.
      * 
      * @return A list of Customer objects.
+     * @throws Exception if an error occurs during the retrieval.
      */
     @GetMapping("${rest.template.uri_customers}")
-    public List<Customer> getAllCustomersUsingRestTemplate() {				
-	return customerRestTemplateClient.getAllCustomers();		
+    public List<Customer> getAllCustomersUsingRestTemplate() throws Exception {				
+	return restTemplateAllCustomers.join(MessageUtil.ALL_CUSTOMER_SERVICE_NAME);		
     } 
 	
     /**
@@ -60,10 +101,11 @@ public class ClientRestController {
      * 
      * @param id The ID of the customer to retrieve.
      * @return The Customer object with the specified ID.
+     * @throws Exception if an error occurs during the retrieval.
      */
     @GetMapping("${rest.template.uri_customerById}")
-    public Customer customerByIdUsingRestTemplate(@PathVariable Long id) {
-	return customerRestTemplateClient.getCustomerById(id);
+    public Customer customerByIdUsingRestTemplate(@PathVariable Long id) throws Exception {
+	return restTemplateCustomerById.join(id);
     }
 
     // =================== REST Client by WebClient
@@ -75,7 +117,8 @@ public class ClientRestController {
      */
     @GetMapping("${rest.webclient.uri_customers}")
     public Flux<Customer> getAllCustomersUsingWebClient() {
-	return customerWebClient.getAllCustomers();
+	return webClientAllCustomers.mono(MessageUtil.ALL_CUSTOMER_SERVICE_NAME)
+		.flatMapMany(Flux::fromIterable);
     }
 	
     /**
@@ -86,7 +129,7 @@ public class ClientRestController {
      */
     @GetMapping("${rest.webclient.uri_customerById}")
     public Mono<Customer> customerByIdUsingWebClient(@PathVariable Long id) {
-        return customerWebClient.getCustomerById(id);
+        return webClientCustomerById.mono(id);
     }
 	
     // =================== REST Client by OpenFeign 
@@ -95,10 +138,11 @@ public class ClientRestController {
      * Retrieves all customers using the REST client implemented with OpenFeign.
      *
      * @return A list of customers.
+     * @throws Exception if an error occurs during the retrieval.
      */
     @GetMapping("${rest.feign.uri_customers}")
-    public List<Customer> getAllCustomersUsingFeign() {
-	return customerFeignClient.getAllCustomers();
+    public List<Customer> getAllCustomersUsingFeign() throws Exception {
+	return feignAllCustomers.join(MessageUtil.ALL_CUSTOMER_SERVICE_NAME);
     }
 	
     /**
@@ -106,10 +150,11 @@ public class ClientRestController {
      *
      * @param id The ID of the customer to retrieve.
      * @return The customer with the specified ID.
+     * @throws Exception if an error occurs during the retrieval.
      */
     @GetMapping("${rest.feign.uri_customerById}")
-    Customer getCustomerByIdUsingFeign(@PathVariable Long id) {
-	return customerFeignClient.getCustomerById(id);
+    Customer getCustomerByIdUsingFeign(@PathVariable Long id) throws Exception {
+	return feignCustomerById.join(id);
     }
 	
     // =================== GraphQl Client By HttpGraphQlClient 
@@ -121,7 +166,7 @@ public class ClientRestController {
      */
     @GetMapping("${graphql.uri1_customers}")
     public Mono<List<Customer>> getAllCustomersGQLHttpGQl() {
- 	return customerGraphQLClient.getAllCustomersGQLHttpGQl();
+ 	return graphQlHttpAllCustomers.mono(MessageUtil.ALL_CUSTOMER_SERVICE_NAME);
     }
 	
     /**
@@ -132,7 +177,7 @@ public class ClientRestController {
      */
     @GetMapping("${graphql.uri1_customerById}")
     public Mono<Customer> getCustomerByIdGQLHttpGQl(@PathVariable Long id) {
- 	return customerGraphQLClient.getCustomerByIdGQLHttpGQl(id);
+ 	return graphQlHttpCustomerById.mono(id);
     }
 	
     // =================== GraphQl Client By WebClient
@@ -140,24 +185,22 @@ public class ClientRestController {
     /**
      * Retrieves all customers using the GraphQL client implemented with WebClient.
      *
-     * @return A list of customers.
-     * @throws Exception if an error occurs during the retrieval.
+     * @return A Mono containing a list of customers.
      */
     @GetMapping("${graphql.uri2_customers}")
-    public List<Customer> getAllCustomersGQLWebClient() throws Exception {
-	return  customerGraphQLClient.getAllCustomersGQLWebClient();
+    public Mono<List<Customer>> getAllCustomersGQLWebClient() {
+	return graphQlWebClientAllCustomers.mono(MessageUtil.ALL_CUSTOMER_SERVICE_NAME);
     }
 	
     /**
      * Retrieves a customer by their ID using the GraphQL client implemented with WebClient.
      *
      * @param id The ID of the customer to retrieve.
-     * @return The customer with the specified ID.
-     * @throws Exception if an error occurs during the retrieval.
+     * @return A Mono containing the customer with the specified ID.
      */
     @GetMapping("${graphql.uri2_customerById}")
-    public Customer getCustomerByIdGQLWebClient(@PathVariable Long id) throws Exception {
-	return customerGraphQLClient.getCustomerByIdGQLWebClient(id);
+    public Mono<Customer> getCustomerByIdGQLWebClient(@PathVariable Long id) {
+	return graphQlWebClientCustomerById.mono(id);
     }	
 	
     // =================== SOAP Client By jaxws and cxf-codegen-plugin
@@ -170,7 +213,7 @@ public class ClientRestController {
      */
     @GetMapping("${soap.uri_customers}")
     public List<Customer> getAllCustomersSOAP() throws Exception {
-	return customerSoapClient.getAllCustomers();		
+	return soapAllCustomers.join(MessageUtil.ALL_CUSTOMER_SERVICE_NAME);		
     }
 	
     /**
@@ -178,10 +221,11 @@ public class ClientRestController {
      *
      * @param id The ID of the customer to retrieve.
      * @return The customer with the specified ID.
+     * @throws Exception if an error occurs during the retrieval.
      */
     @GetMapping("${soap.uri_customerById}")
-    public Customer getCustomerByIdSOAP(@PathVariable Long id) {
-	return customerSoapClient.getCustomerById(id);		
+    public Customer getCustomerByIdSOAP(@PathVariable Long id) throws Exception {
+	return soapCustomerById.join(id);		
     }
 	
     // ===================  GRPC Client By protoc-jar-maven-plugin 
@@ -190,10 +234,11 @@ public class ClientRestController {
      * Retrieve all customers using GRPC client implemented with protoc-jar-maven-plugin.
      * 
      * @return A list of Customer objects.
+     * @throws Exception if an error occurs during the retrieval.
      */
     @GetMapping("${grpc.uri_customers}")
-    public List<Customer> getAllCustomersGRPC() {
-	return grpcCustomerServiceClient.getAllCustomers();
+    public List<Customer> getAllCustomersGRPC() throws Exception {
+	return grpcAllCustomers.join(MessageUtil.ALL_CUSTOMER_SERVICE_NAME);
     }
 	
     /**
@@ -201,10 +246,21 @@ public class ClientRestController {
      * 
      * @param id The ID of the customer to retrieve.
      * @return The Customer object with the specified ID.
+     * @throws Exception if an error occurs during the retrieval.
      */
     @GetMapping("${grpc.uri_customerById}")
-    public Customer getCustomerByIdGRPC(@PathVariable Long id) {
-	return grpcCustomerServiceClient.getCustomerById(id);		
+    public Customer getCustomerByIdGRPC(@PathVariable Long id) throws Exception {
+	return grpcCustomerById.join(id);		
+    }
+	
+    /**
+     * Stream all customers using the GRPC server-streaming call, as newline-delimited JSON.
+     * 
+     * @return A Flux of Customer objects.
+     */
+    @GetMapping(value = "${grpc.uri_customers_stream}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Customer> streamAllCustomersGRPC() {
+	return grpcCustomerServiceClient.streamCustomers(MessageUtil.GRPC_STREAM_CHUNK_SIZE);
     }
 
 }
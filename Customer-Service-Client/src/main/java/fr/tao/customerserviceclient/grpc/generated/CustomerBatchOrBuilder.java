@@ -0,0 +1,50 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: CustomerService.proto
+
+package fr.tao.customerserviceclient.grpc.generated;
+
+public interface CustomerBatchOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CustomerBatch)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  java.util.List<fr.tao.customerserviceclient.grpc.generated.CustomerResponse> 
+      getCustomersList();
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  fr.tao.customerserviceclient.grpc.generated.CustomerResponse getCustomers(int index);
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  int getCustomersCount();
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  java.util.List<? extends fr.tao.customerserviceclient.grpc.generated.CustomerResponseOrBuilder> 
+      getCustomersOrBuilderList();
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  fr.tao.customerserviceclient.grpc.generated.CustomerResponseOrBuilder getCustomersOrBuilder(
+      int index);
+
+  /**
+   * <code>repeated int64 missing_ids = 2;</code>
+   * @return A list containing the missingIds.
+   */
+  java.util.List<java.lang.Long> getMissingIdsList();
+  /**
+   * <code>repeated int64 missing_ids = 2;</code>
+   * @return The count of missingIds.
+   */
+  int getMissingIdsCount();
+  /**
+   * <code>repeated int64 missing_ids = 2;</code>
+   * @param index The index of the element to return.
+   * @return The missingIds at the given index.
+   */
+  long getMissingIds(int index);
+}
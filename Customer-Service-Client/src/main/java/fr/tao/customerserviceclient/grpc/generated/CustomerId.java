@@ -146,8 +146,7 @@ private static final long serialVersionUID = 0L;
     return true;
   }
 
-  @SuppressWarnings("unchecked")
-@java.lang.Override
+  @java.lang.Override
   public int hashCode() {
     if (memoizedHashCode != 0) {
       return memoizedHashCode;
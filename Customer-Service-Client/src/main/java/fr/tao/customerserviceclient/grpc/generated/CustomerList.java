@@ -180,8 +180,7 @@ private static final long serialVersionUID = 0L;
     return true;
   }
 
-  @SuppressWarnings("unchecked")
-@java.lang.Override
+  @java.lang.Override
   public int hashCode() {
     if (memoizedHashCode != 0) {
       return memoizedHashCode;
@@ -358,6 +357,7 @@ private static final long serialVersionUID = 0L;
     @java.lang.Override
     public fr.tao.customerserviceclient.grpc.generated.CustomerList buildPartial() {
       fr.tao.customerserviceclient.grpc.generated.CustomerList result = new fr.tao.customerserviceclient.grpc.generated.CustomerList(this);
+      int from_bitField0_ = bitField0_;
       if (customersBuilder_ == null) {
         if (((bitField0_ & 0x00000001) != 0)) {
           customers_ = java.util.Collections.unmodifiableList(customers_);
@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: CustomerService.proto
+
+package fr.tao.customerserviceclient.grpc.generated;
+
+public interface StreamCustomersRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:StreamCustomersRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 chunk_size = 1;</code>
+   * @return The chunkSize.
+   */
+  int getChunkSize();
+}
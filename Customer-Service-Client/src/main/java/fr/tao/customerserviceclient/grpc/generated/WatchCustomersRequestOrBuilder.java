@@ -0,0 +1,19 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: CustomerService.proto
+
+package fr.tao.customerserviceclient.grpc.generated;
+
+public interface WatchCustomersRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:WatchCustomersRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * The sequence of the last change received, to resume the watch, 0 to watch the changes to come
+   * </pre>
+   *
+   * <code>int64 after_sequence = 1;</code>
+   * @return The afterSequence.
+   */
+  long getAfterSequence();
+}
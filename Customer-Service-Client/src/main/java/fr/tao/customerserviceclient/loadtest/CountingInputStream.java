@@ -0,0 +1,41 @@
+package fr.tao.customerserviceclient.loadtest;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream recording the bytes read from it as received bytes.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+class CountingInputStream extends FilterInputStream {
+	
+    private final WireBytesCounter wireBytesCounter;
+	
+    CountingInputStream(InputStream in, WireBytesCounter wireBytesCounter) {
+	super(in);
+	this.wireBytesCounter = wireBytesCounter;
+    }
+	
+    @Override
+    public int read() throws IOException {
+	int b = super.read();
+	if (b >= 0) {
+	    wireBytesCounter.addReceived(1);
+	}
+	return b;
+    }
+	
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+	int n = super.read(buffer, offset, length);
+	if (n > 0) {
+	    wireBytesCounter.addReceived(n);
+	}
+	return n;
+    }
+
+}
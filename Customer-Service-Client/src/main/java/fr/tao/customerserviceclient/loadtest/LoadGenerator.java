@@ -0,0 +1,146 @@
+package fr.tao.customerserviceclient.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generates load on a scenario with a fixed number of concurrent callers, and records 
+ * the latency of each call in an HDR histogram.
+ * 
+ * With a target rate, each caller follows its own schedule of intended start times, 
+ * and a latency is measured from the intended start time rather than from the actual 
+ * one: a call delayed by a slow previous call is thus accounted as waiting, which 
+ * avoids the coordinated omission of the slow periods. Without a target rate, the 
+ * callers loop as fast as possible and the service time of each call is recorded.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Slf4j
+public class LoadGenerator {
+	
+    /**
+     * The highest latency recorded, in microseconds, the slower calls being recorded with it.
+     */
+    static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.MINUTES.toMicros(1);
+	
+    private static final int SIGNIFICANT_DIGITS = 3;
+	
+    private final int concurrency;
+    private final long intervalNanos;
+    private final WireBytesCounter wireBytesCounter;
+	
+    /**
+     * Creates a load generator.
+     *
+     * @param concurrency      The number of concurrent callers.
+     * @param rate             The target number of calls per second over all callers, 
+     *                         or 0 to call as fast as possible.
+     * @param wireBytesCounter The counter of the bytes exchanged by the instrumented clients.
+     */
+    public LoadGenerator(int concurrency, int rate, WireBytesCounter wireBytesCounter) {
+	this.concurrency = Math.max(1, concurrency);
+	this.intervalNanos = rate > 0 ? TimeUnit.SECONDS.toNanos(this.concurrency) / rate : 0;
+	this.wireBytesCounter = wireBytesCounter;
+    }
+	
+    /**
+     * Runs a scenario for a warmup period, whose measures are discarded, 
+     * then for the measured period.
+     *
+     * @param scenario The scenario to run.
+     * @param warmup   The duration of the warmup.
+     * @param duration The duration of the measurement.
+     * @return The measurements of the scenario.
+     * @throws InterruptedException if the current thread is interrupted.
+     */
+    public LoadResult run(LoadScenario scenario, Duration warmup, Duration duration) throws InterruptedException {
+	if (!warmup.isZero()) {
+	    log.info("LoadGenerator - Warming up {} for {}", scenario.name(), warmup);
+	    drive(scenario, warmup);
+	}
+	log.info("LoadGenerator - Loading {} for {} with {} callers", scenario.name(), duration, concurrency);
+	wireBytesCounter.reset();
+	var result = drive(scenario, duration);
+	return new LoadResult(scenario.name(), result.histogram(), result.errors(), result.elapsedNanos(), 
+		wireBytesCounter.getSent(), wireBytesCounter.getReceived());
+    }
+	
+    /**
+     * Calls a scenario from all the callers during the given duration.
+     */
+    private LoadResult drive(LoadScenario scenario, Duration duration) throws InterruptedException {
+	var executor = Executors.newFixedThreadPool(concurrency);
+	var errorLogged = new AtomicBoolean();
+	var start = System.nanoTime();
+	var end = start + duration.toNanos();
+	try {
+	    var callers = new ArrayList<Future<LoadResult>>(concurrency);
+	    for (int i = 0; i < concurrency; i++) {
+		// Spread the schedules of the callers over one interval
+		var firstStart = start + intervalNanos * i / concurrency;
+		callers.add(executor.submit(() -> call(scenario, firstStart, end, errorLogged)));
+	    }
+	    var histogram = new Histogram(HIGHEST_TRACKABLE_LATENCY, SIGNIFICANT_DIGITS);
+	    var errors = 0L;
+	    for (var caller : callers) {
+		var result = caller.get();
+		histogram.add(result.histogram());
+		errors += result.errors();
+	    }
+	    return new LoadResult(scenario.name(), histogram, errors, System.nanoTime() - start, 0, 0);
+	} catch (ExecutionException e) {
+	    throw new IllegalStateException("Load generation failed for " + scenario.name(), e.getCause());
+	} finally {
+	    executor.shutdownNow();
+	}
+    }
+	
+    /**
+     * Calls a scenario repeatedly from one caller until the end time.
+     */
+    private LoadResult call(LoadScenario scenario, long firstStart, long end, AtomicBoolean errorLogged) {
+	var histogram = new Histogram(HIGHEST_TRACKABLE_LATENCY, SIGNIFICANT_DIGITS);
+	var errors = 0L;
+	var intendedStart = firstStart;
+	while (!Thread.currentThread().isInterrupted()) {
+	    var now = System.nanoTime();
+	    if (intervalNanos > 0) {
+		if (intendedStart >= end) {
+		    break;
+		}
+		if (intendedStart > now) {
+		    LockSupport.parkNanos(intendedStart - now);
+		}
+	    } else if (now >= end) {
+		break;
+	    } else {
+		intendedStart = now;
+	    }
+	    try {
+		scenario.call().call();
+		var latency = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+		histogram.recordValue(Math.min(latency, HIGHEST_TRACKABLE_LATENCY));
+	    } catch (Exception e) {
+		errors++;
+		if (errorLogged.compareAndSet(false, true)) {
+		    log.warn("LoadGenerator - Call failed for {}", scenario.name(), e);
+		}
+	    }
+	    intendedStart += intervalNanos;
+	}
+	return new LoadResult(scenario.name(), histogram, errors, 0, 0, 0);
+    }
+
+}
@@ -0,0 +1,45 @@
+package fr.tao.customerserviceclient.loadtest;
+
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * The measurements of a load scenario.
+ * 
+ * @param name          The name of the scenario.
+ * @param histogram     The latencies of the successful calls, in microseconds.
+ * @param errors        The number of failed calls.
+ * @param elapsedNanos  The duration of the measurement.
+ * @param sentBytes     The payload bytes sent during the measurement.
+ * @param receivedBytes The payload bytes received during the measurement.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+public record LoadResult(String name, Histogram histogram, long errors, long elapsedNanos, 
+	long sentBytes, long receivedBytes) {
+	
+    /**
+     * @return The number of successful calls per second.
+     */
+    public double throughput() {
+	return histogram.getTotalCount() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+	
+    /**
+     * @return The average payload bytes sent per successful call.
+     */
+    public long sentBytesPerCall() {
+	return histogram.getTotalCount() == 0 ? 0 : sentBytes / histogram.getTotalCount();
+    }
+	
+    /**
+     * @return The average payload bytes received per successful call.
+     */
+    public long receivedBytesPerCall() {
+	return histogram.getTotalCount() == 0 ? 0 : receivedBytes / histogram.getTotalCount();
+    }
+
+}
@@ -0,0 +1,17 @@
+package fr.tao.customerserviceclient.loadtest;
+
+import java.util.concurrent.Callable;
+
+/**
+ * A named call to the remote API, made repeatedly by the load generator.
+ * 
+ * @param name The name of the client making the call.
+ * @param call The call, blocking until the response has been read.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+public record LoadScenario(String name, Callable<?> call) {
+
+}
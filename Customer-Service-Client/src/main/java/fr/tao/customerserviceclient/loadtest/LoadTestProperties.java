@@ -0,0 +1,54 @@
+package fr.tao.customerserviceclient.loadtest;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import lombok.Getter;
+
+/**
+ * Configuration class for the load test properties.
+ * This class manages the load generated against each client of the remote API.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Getter
+@Configuration
+@PropertySource("classpath:load_test.properties")
+public class LoadTestProperties {
+	
+    @Value("${loadtest.enabled}")
+    private boolean enabled; // Whether the application runs the load test on startup.
+	
+    @Value("${loadtest.clients}")
+    private List<String> clients; // Clients to load, one after the other.
+	
+    @Value("${loadtest.operation}")
+    private String operation; // Operation called: 'customerById' or 'allCustomers'.
+	
+    @Value("${loadtest.customer_id}")
+    private Long customerId; // ID of the customer read by the 'customerById' operation.
+	
+    @Value("${loadtest.concurrency}")
+    private int concurrency; // Number of concurrent callers.
+	
+    @Value("${loadtest.rate}")
+    private int rate; // Target requests per second over all callers, 0 for as fast as possible.
+	
+    @Value("${loadtest.warmup_seconds}")
+    private int warmupSeconds; // Duration of the unrecorded warmup of each client.
+	
+    @Value("${loadtest.duration_seconds}")
+    private int durationSeconds; // Duration of the recorded run of each client.
+	
+    @Value("${loadtest.report_dir}")
+    private String reportDir; // Directory of the HDR histogram files.
+	
+    @Value("${loadtest.exit_on_completion}")
+    private boolean exitOnCompletion; // Whether the application stops once the load test is done.
+
+}
@@ -0,0 +1,181 @@
+package fr.tao.customerserviceclient.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.graphql.client.HttpGraphQlClient;
+import org.springframework.stereotype.Component;
+
+import fr.tao.customerserviceclient.service.graphql.CustomerGraphQLClient;
+import fr.tao.customerserviceclient.service.grpc.GrpcCustomerServiceClient;
+import fr.tao.customerserviceclient.service.rest.CustomerFeignClient;
+import fr.tao.customerserviceclient.service.rest.CustomerRestTemplateClient;
+import fr.tao.customerserviceclient.service.rest.CustomerWebClient;
+import fr.tao.customerserviceclient.service.soap.CustomerSoapClient;
+import fr.tao.customerserviceclient.soap.generated.CustomerSoapService;
+import jakarta.xml.ws.BindingProvider;
+import jakarta.xml.ws.handler.Handler;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs a load test of the remote API on startup, when enabled by the load test properties.
+ * 
+ * Each selected client is loaded in turn with the same operation, concurrency and rate, 
+ * so that the protocols are compared under the same load. The latency percentiles, the 
+ * throughput and the payload bytes per call are logged for each client, and the full 
+ * latency distribution is written to an HDR histogram file per client.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoadTestRunner implements ApplicationRunner {
+	
+    private static final String OPERATION_CUSTOMER_BY_ID = "customerById";
+    private static final String OPERATION_ALL_CUSTOMERS = "allCustomers";
+    private static final String REPORT_FORMAT = "%-18s %10s %8s %10s %10s %10s %10s %10s %12s %12s";
+    private static final double MICROS_PER_MILLI = 1000.0;
+	
+    @NonNull private final LoadTestProperties loadTestProperties;
+    @NonNull private final WireBytesCounter wireBytesCounter;
+    @NonNull private final CustomerRestTemplateClient customerRestTemplateClient;
+    @NonNull private final CustomerWebClient customerWebClient;
+    @NonNull private final CustomerFeignClient customerFeignClient;
+    @NonNull private final CustomerGraphQLClient customerGraphQLClient;
+    @NonNull private final CustomerSoapClient customerSoapClient;
+    @NonNull private final CustomerSoapService customerSoapService;
+    @NonNull private final GrpcCustomerServiceClient grpcCustomerServiceClient;
+    @NonNull private final ConfigurableApplicationContext applicationContext;
+	
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+	if (!loadTestProperties.isEnabled()) {
+	    return;
+	}
+	var scenarios = scenarios(loadTestProperties.getOperation(), loadTestProperties.getCustomerId());
+	var unknownClients = loadTestProperties.getClients().stream()
+		.filter(client -> !scenarios.containsKey(client))
+		.toList();
+	if (!unknownClients.isEmpty()) {
+	    throw new IllegalArgumentException("Unknown load test clients " + unknownClients 
+		    + ", expected some of " + scenarios.keySet());
+	}
+	installSoapHandler();
+		
+	var generator = new LoadGenerator(loadTestProperties.getConcurrency(), loadTestProperties.getRate(), 
+		wireBytesCounter);
+	var warmup = Duration.ofSeconds(loadTestProperties.getWarmupSeconds());
+	var duration = Duration.ofSeconds(loadTestProperties.getDurationSeconds());
+	var results = new ArrayList<LoadResult>();
+	for (var client : loadTestProperties.getClients()) {
+	    var result = generator.run(new LoadScenario(client, scenarios.get(client)), warmup, duration);
+	    writeHistogram(result);
+	    results.add(result);
+	}
+	report(results);
+		
+	if (loadTestProperties.isExitOnCompletion()) {
+	    System.exit(SpringApplication.exit(applicationContext, () -> 0));
+	}
+    }
+	
+    /**
+     * Builds the call of the operation for each client, by client name.
+     */
+    private Map<String, Callable<?>> scenarios(String operation, Long customerId) {
+	var scenarios = new LinkedHashMap<String, Callable<?>>();
+	switch (operation) {
+	    case OPERATION_CUSTOMER_BY_ID -> {
+		scenarios.put("resttemplate", () -> customerRestTemplateClient.getCustomerById(customerId));
+		scenarios.put("webclient", () -> customerWebClient.getCustomerById(customerId).block());
+		scenarios.put("feign", () -> customerFeignClient.getCustomerById(customerId));
+		scenarios.put("graphql-http", () -> customerGraphQLClient.getCustomerByIdGQLHttpGQl(customerId).block());
+		scenarios.put("graphql-webclient", () -> customerGraphQLClient.getCustomerByIdGQLWebClient(customerId).block());
+		scenarios.put("soap", () -> customerSoapClient.getCustomerById(customerId));
+		scenarios.put("grpc", () -> grpcCustomerServiceClient.getCustomerById(customerId));
+	    }
+	    case OPERATION_ALL_CUSTOMERS -> {
+		scenarios.put("resttemplate", customerRestTemplateClient::getAllCustomers);
+		scenarios.put("webclient", () -> customerWebClient.getAllCustomers().collectList().block());
+		scenarios.put("feign", customerFeignClient::getAllCustomers);
+		scenarios.put("graphql-http", () -> customerGraphQLClient.getAllCustomersGQLHttpGQl().block());
+		scenarios.put("graphql-webclient", () -> customerGraphQLClient.getAllCustomersGQLWebClient().block());
+		scenarios.put("soap", customerSoapClient::getAllCustomers);
+		scenarios.put("grpc", grpcCustomerServiceClient::getAllCustomers);
+	    }
+	    default -> throw new IllegalArgumentException("Unknown load test operation '" + operation 
+		    + "', expected '" + OPERATION_CUSTOMER_BY_ID + "' or '" + OPERATION_ALL_CUSTOMERS + "'");
+	}
+	return scenarios;
+    }
+	
+    /**
+     * Adds the wire bytes handler to the handler chain of the SOAP port.
+     */
+    @SuppressWarnings("rawtypes")
+    private void installSoapHandler() {
+	var binding = ((BindingProvider) customerSoapService).getBinding();
+	List<Handler> handlerChain = new ArrayList<>(binding.getHandlerChain());
+	handlerChain.add(new WireBytesSoapHandler(wireBytesCounter));
+	binding.setHandlerChain(handlerChain);
+    }
+	
+    /**
+     * Writes the latency distribution of a result, in milliseconds, to the report directory.
+     */
+    private void writeHistogram(LoadResult result) throws IOException {
+	var reportDir = Path.of(loadTestProperties.getReportDir());
+	Files.createDirectories(reportDir);
+	var file = reportDir.resolve(result.name() + "-" + loadTestProperties.getOperation() + ".hgrm");
+	try (var out = new PrintStream(Files.newOutputStream(file))) {
+	    result.histogram().outputPercentileDistribution(out, MICROS_PER_MILLI);
+	}
+	log.info("LoadTestRunner - Latency distribution of {} written to {}", result.name(), file);
+    }
+	
+    /**
+     * Logs a summary table of the results, one line per client.
+     */
+    private void report(List<LoadResult> results) {
+	var report = new StringBuilder()
+		.append(String.format(REPORT_FORMAT, "client", "calls", "errors", "calls/s", "p50 ms", 
+			"p99 ms", "p99.9 ms", "max ms", "sent B/call", "recv B/call"));
+	for (var result : results) {
+	    var histogram = result.histogram();
+	    report.append(System.lineSeparator())
+		.append(String.format(REPORT_FORMAT, result.name(), histogram.getTotalCount(), result.errors(), 
+			String.format("%.1f", result.throughput()), 
+			millis(histogram.getValueAtPercentile(50)), 
+			millis(histogram.getValueAtPercentile(99)), 
+			millis(histogram.getValueAtPercentile(99.9)), 
+			millis(histogram.getMaxValue()), 
+			result.sentBytesPerCall(), result.receivedBytesPerCall()));
+	}
+	log.info("LoadTestRunner - Load test of '{}' with {} callers at {} calls/s:{}{}", 
+		loadTestProperties.getOperation(), loadTestProperties.getConcurrency(), 
+		loadTestProperties.getRate() > 0 ? loadTestProperties.getRate() : "max", 
+		System.lineSeparator(), report);
+    }
+	
+    private static String millis(long micros) {
+	return String.format("%.3f", micros / MICROS_PER_MILLI);
+    }
+
+}
@@ -0,0 +1,53 @@
+package fr.tao.customerserviceclient.loadtest;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientStreamTracer;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import net.devh.boot.grpc.client.interceptor.GrpcGlobalClientInterceptor;
+
+/**
+ * gRPC client interceptor counting the wire size of the messages sent and received 
+ * by every call, as reported by a stream tracer.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@GrpcGlobalClientInterceptor
+@RequiredArgsConstructor
+public class WireBytesClientInterceptor implements ClientInterceptor {
+	
+    @NonNull private final WireBytesCounter wireBytesCounter;
+	
+    private final ClientStreamTracer.Factory tracerFactory = new ClientStreamTracer.Factory() {
+	
+	@Override
+	public ClientStreamTracer newClientStreamTracer(ClientStreamTracer.StreamInfo info, Metadata headers) {
+	    return new ClientStreamTracer() {
+		
+		@Override
+		public void outboundWireSize(long bytes) {
+		    wireBytesCounter.addSent(bytes);
+		}
+		
+		@Override
+		public void inboundWireSize(long bytes) {
+		    wireBytesCounter.addReceived(bytes);
+		}
+	    };
+	}
+    };
+	
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, 
+	    CallOptions callOptions, Channel next) {
+	return next.newCall(method, callOptions.withStreamTracerFactory(tracerFactory));
+    }
+
+}
@@ -0,0 +1,58 @@
+package fr.tao.customerserviceclient.loadtest;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the payload bytes exchanged with the remote API by the instrumented clients: 
+ * HTTP bodies for REST and GraphQL, SOAP envelopes, and protobuf messages for gRPC.
+ * 
+ * The load test runs one client at a time, so a single counter, reset before each 
+ * measurement, is enough to attribute the bytes to a protocol.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+public class WireBytesCounter {
+	
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+	
+    /**
+     * Records bytes sent to the remote API.
+     *
+     * @param bytes The number of bytes sent.
+     */
+    public void addSent(long bytes) {
+	sent.add(bytes);
+    }
+	
+    /**
+     * Records bytes received from the remote API.
+     *
+     * @param bytes The number of bytes received.
+     */
+    public void addReceived(long bytes) {
+	received.add(bytes);
+    }
+	
+    public long getSent() {
+	return sent.sum();
+    }
+	
+    public long getReceived() {
+	return received.sum();
+    }
+	
+    /**
+     * Resets the counts to zero.
+     */
+    public void reset() {
+	sent.reset();
+	received.reset();
+    }
+
+}
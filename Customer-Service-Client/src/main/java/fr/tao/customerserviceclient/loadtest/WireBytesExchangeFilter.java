@@ -0,0 +1,46 @@
+package fr.tao.customerserviceclient.loadtest;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebClient filter counting the bytes of the request and response bodies.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@RequiredArgsConstructor
+public class WireBytesExchangeFilter implements ExchangeFilterFunction {
+	
+    @NonNull private final WireBytesCounter wireBytesCounter;
+	
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+	var countingRequest = ClientRequest.from(request)
+		.body((outputMessage, context) -> request.body().insert(new ClientHttpRequestDecorator(outputMessage) {
+		    
+		    @Override
+		    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+			return super.writeWith(Flux.from(body)
+				.doOnNext(buffer -> wireBytesCounter.addSent(buffer.readableByteCount())));
+		    }
+		}, context))
+		.build();
+	return next.exchange(countingRequest)
+		.map(response -> response.mutate()
+			.body(body -> body.doOnNext(buffer -> wireBytesCounter.addReceived(buffer.readableByteCount())))
+			.build());
+    }
+
+}
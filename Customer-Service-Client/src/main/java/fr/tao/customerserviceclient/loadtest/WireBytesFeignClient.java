@@ -0,0 +1,81 @@
+package fr.tao.customerserviceclient.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Feign client decorator counting the bytes of the request and response bodies.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@RequiredArgsConstructor
+public class WireBytesFeignClient implements Client {
+	
+    @NonNull private final Client delegate;
+    @NonNull private final WireBytesCounter wireBytesCounter;
+	
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+	if (request.body() != null) {
+	    wireBytesCounter.addSent(request.body().length);
+	}
+	var response = delegate.execute(request, options);
+	if (response.body() == null) {
+	    return response;
+	}
+	return response.toBuilder().body(new CountingBody(response.body())).build();
+    }
+	
+    /**
+     * Response body counting the bytes read from it.
+     */
+    private final class CountingBody implements Response.Body {
+	
+	private final Response.Body body;
+	private InputStream inputStream;
+	
+	private CountingBody(Response.Body body) {
+	    this.body = body;
+	}
+	
+	@Override
+	public Integer length() {
+	    return body.length();
+	}
+	
+	@Override
+	public boolean isRepeatable() {
+	    return false;
+	}
+	
+	@Override
+	public InputStream asInputStream() throws IOException {
+	    if (inputStream == null) {
+		inputStream = new CountingInputStream(body.asInputStream(), wireBytesCounter);
+	    }
+	    return inputStream;
+	}
+	
+	@Override
+	public Reader asReader(Charset charset) throws IOException {
+	    return new InputStreamReader(asInputStream(), charset);
+	}
+	
+	@Override
+	public void close() throws IOException {
+	    body.close();
+	}
+    }
+
+}
@@ -0,0 +1,81 @@
+package fr.tao.customerserviceclient.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * RestTemplate interceptor counting the bytes of the request and response bodies.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@RequiredArgsConstructor
+public class WireBytesInterceptor implements ClientHttpRequestInterceptor {
+	
+    @NonNull private final WireBytesCounter wireBytesCounter;
+	
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+	wireBytesCounter.addSent(body.length);
+	return new CountingResponse(execution.execute(request, body));
+    }
+	
+    /**
+     * Response whose body counts the bytes read from it.
+     */
+    private final class CountingResponse implements ClientHttpResponse {
+	
+	private final ClientHttpResponse response;
+	private InputStream body;
+	
+	private CountingResponse(ClientHttpResponse response) {
+	    this.response = response;
+	}
+	
+	@Override
+	public InputStream getBody() throws IOException {
+	    if (body == null) {
+		body = new CountingInputStream(response.getBody(), wireBytesCounter);
+	    }
+	    return body;
+	}
+	
+	@Override
+	public HttpHeaders getHeaders() {
+	    return response.getHeaders();
+	}
+	
+	@Override
+	public HttpStatusCode getStatusCode() throws IOException {
+	    return response.getStatusCode();
+	}
+	
+	@Override
+	@Deprecated
+	public int getRawStatusCode() throws IOException {
+	    return response.getStatusCode().value();
+	}
+	
+	@Override
+	public String getStatusText() throws IOException {
+	    return response.getStatusText();
+	}
+	
+	@Override
+	public void close() {
+	    response.close();
+	}
+    }
+
+}
@@ -0,0 +1,89 @@
+package fr.tao.customerserviceclient.loadtest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
+
+import javax.xml.namespace.QName;
+
+import jakarta.xml.soap.SOAPException;
+import jakarta.xml.ws.handler.MessageContext;
+import jakarta.xml.ws.handler.soap.SOAPHandler;
+import jakarta.xml.ws.handler.soap.SOAPMessageContext;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SOAP handler counting the size of the envelopes sent and received by the SOAP client.
+ * 
+ * Serializing an envelope to measure it has a cost of its own, so the handler is only 
+ * installed on the SOAP port while a load test runs.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@RequiredArgsConstructor
+public class WireBytesSoapHandler implements SOAPHandler<SOAPMessageContext> {
+	
+    @NonNull private final WireBytesCounter wireBytesCounter;
+	
+    @Override
+    public boolean handleMessage(SOAPMessageContext context) {
+	var size = envelopeSize(context);
+	if (Boolean.TRUE.equals(context.get(MessageContext.MESSAGE_OUTBOUND_PROPERTY))) {
+	    wireBytesCounter.addSent(size);
+	} else {
+	    wireBytesCounter.addReceived(size);
+	}
+	return true;
+    }
+	
+    @Override
+    public boolean handleFault(SOAPMessageContext context) {
+	wireBytesCounter.addReceived(envelopeSize(context));
+	return true;
+    }
+	
+    @Override
+    public void close(MessageContext context) {
+	// Nothing to release
+    }
+	
+    @Override
+    public Set<QName> getHeaders() {
+	return Set.of();
+    }
+	
+    /**
+     * Measures the serialized size of the message of a context.
+     */
+    private static long envelopeSize(SOAPMessageContext context) {
+	var out = new CountingOutputStream();
+	try {
+	    context.getMessage().writeTo(out);
+	} catch (SOAPException | IOException e) {
+	    return 0;
+	}
+	return out.count;
+    }
+	
+    /**
+     * Output stream discarding the bytes written to it, after counting them.
+     */
+    private static class CountingOutputStream extends OutputStream {
+	
+	private long count;
+	
+	@Override
+	public void write(int b) {
+	    count++;
+	}
+	
+	@Override
+	public void write(byte[] b, int off, int len) {
+	    count += len;
+	}
+    }
+
+}
@@ -1,9 +1,10 @@
 package fr.tao.customerserviceclient.model;
 
+import java.util.List;
+
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import lombok.AllArgsConstructor;
-import lombok.Data;
 import lombok.NoArgsConstructor;
 
 
@@ -16,7 +17,7 @@ import lombok.NoArgsConstructor;
  * @version 1.0
  * @since 21/10/2023 
  */
-@Data
+@lombok.Data
 @NoArgsConstructor
 @AllArgsConstructor
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -26,5 +27,10 @@ public class CustomerResponse {
 	 * Attribute to hold customer data
 	 */
 	private Data data;
+	
+	/**
+	 * Attribute to hold the errors of the request, if any
+	 */
+	private List<GraphqlError> errors;
 
 }
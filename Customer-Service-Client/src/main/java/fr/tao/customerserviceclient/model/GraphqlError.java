@@ -0,0 +1,25 @@
+package fr.tao.customerserviceclient.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * This class represents an error of a GraphQL response.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023 
+ */
+@Data @AllArgsConstructor @NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GraphqlError {
+	
+    /**
+     * The message of the error
+     */
+    private String message;
+
+}
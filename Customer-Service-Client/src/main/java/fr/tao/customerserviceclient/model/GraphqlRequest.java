@@ -1,22 +1,39 @@
 package fr.tao.customerserviceclient.model;
 
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
- * This class represents a GraphQL request with a query string.
+ * This class represents a GraphQL request with a query string, its variables and its extensions.
+ * 
+ * A null query is not sent, for the requests which only hold the hash of a persisted query.
  * 
  * @author T. Aoufi
  * @version 1.0
  * @since 21/10/2023 
  */
 @Data @AllArgsConstructor @NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class GraphqlRequest {
 	
     /**
      * The GraphQL query string
      */
     private String query;
+    
+    /**
+     * The values of the variables of the query, by name
+     */
+    private Map<String, Object> variables;
+    
+    /**
+     * The extensions of the request (e.g. 'persistedQuery'), by name
+     */
+    private Map<String, Object> extensions;
 
 }
@@ -1,19 +1,23 @@
 package fr.tao.customerserviceclient.service.graphql;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.graphql.client.HttpGraphQlClient;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
-
 import fr.tao.customerserviceclient.model.Customer;
+import fr.tao.customerserviceclient.model.CustomerResponse;
+import fr.tao.customerserviceclient.model.Data;
+import fr.tao.customerserviceclient.model.GraphqlError;
 import fr.tao.customerserviceclient.model.GraphqlRequest;
-import fr.tao.customerserviceclient.model.GraphqlResponse;
 import fr.tao.customerserviceclient.common.RemoteApiProperties;
 import fr.tao.customerserviceclient.util.MessageUtil;
 import lombok.NonNull;
@@ -54,6 +58,11 @@ public class CustomerGraphQLClient {
     @NonNull 
     private final WebClient webClient;
     
+    /**
+     * The SHA-256 hashes of the queries sent by the WebClient, by query.
+     */
+    private final Map<String, String> queryHashes = new ConcurrentHashMap<>();
+    
     
     /**
      * Retrieves a list of all customers using HTTP-based GraphQL.
@@ -77,7 +86,7 @@ public class CustomerGraphQLClient {
     public Mono<Customer> getCustomerByIdGQLHttpGQl(Long id) {
     	log.info("Fetching customer by ID {} using HTTP GraphQL client.", id);
 	return httpGraphQlClient
-		.document(MessageUtil.GET_CUSTOMER_BY_ID_QUERY.formatted(id))
+		.document(MessageUtil.GET_CUSTOMER_BY_ID_QUERY)
 		.variable("id", id)
 		.retrieve(MessageUtil.CUSTOMER_BY_ID_SERVICE_NAME)
 		.toEntity(Customer.class);
@@ -86,53 +95,94 @@ public class CustomerGraphQLClient {
     /**
      * Retrieves a list of all customers using WebClient-based GraphQL.
      *
-     * @return A list of Customer objects.
-     * @throws Exception if an error occurs during the GraphQL query execution.
+     * @return A Mono representing a list of Customer objects, empty when there is no data.
      */
-    public List<Customer> getAllCustomersGQLWebClient() throws Exception {
+    public Mono<List<Customer>> getAllCustomersGQLWebClient() {
 	log.info("Fetching all customers using WebClient.");
-	String query = MessageUtil.GET_ALL_CUSTOMER_QUERY;
-	var result = executeGraphQLQuery(query, MessageUtil.ALL_CUSTOMER_SERVICE_NAME);		
-	var typeToken = new TypeToken<List<Customer>>() {};
-		
-	return result != null
-	        ? new Gson().fromJson(result.toString(), typeToken.getType())
-	        : Collections.emptyList();
+	return executeGraphQLQuery(MessageUtil.GET_ALL_CUSTOMER_QUERY, Collections.emptyMap())
+		.mapNotNull(Data::getAllCustomer)
+		.defaultIfEmpty(Collections.emptyList());
     }
 	
     /**
      * Retrieves a customer by their ID using WebClient-based GraphQL.
      *
      * @param id The ID of the customer to retrieve.
-     * @return A Customer object.
-     * @throws Exception if an error occurs during the GraphQL query execution.
+     * @return A Mono representing a Customer object, empty when there is no data.
      */
-    public Customer getCustomerByIdGQLWebClient(Long id) throws Exception {
+    public Mono<Customer> getCustomerByIdGQLWebClient(Long id) {
 	log.info("Fetching customer by ID {} using WebClient.", id);
-	String query = MessageUtil.GET_CUSTOMER_BY_ID_QUERY.formatted(id);
-	var result = executeGraphQLQuery(query, MessageUtil.CUSTOMER_BY_ID_SERVICE_NAME);
-		
-	return Optional.ofNullable(result)
-	        .map(json -> new Gson().fromJson(json.toString(), Customer.class))
-	        .orElse(null);
+	return executeGraphQLQuery(MessageUtil.GET_CUSTOMER_BY_ID_QUERY, Map.of("id", id))
+		.mapNotNull(Data::getCustomerById);
     }
     
     /**
-     * Executes a GraphQL query using the WebClient.
+     * Executes a GraphQL query using the WebClient, as an automatic persisted query (APQ).
+     * 
+     * Only the SHA-256 hash of the query is sent, in the 'persistedQuery' extension: the server 
+     * executes the document it registered under this hash, without receiving nor parsing it again. 
+     * When the server does not know the hash ('PersistedQueryNotFound', e.g. on the first call or 
+     * after a restart), the request is sent again with the query, which the server registers.
+     * 
+     * The 'data' of the response is decoded once, by the Jackson codec of the WebClient, 
+     * directly into the customers, without blocking the calling thread. 
+     * 
+     * The query is a constant document whose arguments are passed as variables, so that 
+     * the server parses and validates it once, whatever the values of the arguments.
      *
      * @param query The GraphQL query to execute.
-     * @param dataPath The path to the data in the GraphQL response.
-     * @return The GraphQL response data.
+     * @param variables The values of the variables of the query, by name.
+     * @return A Mono of the GraphQL response data, empty when there is no data.
      */
-    private Object executeGraphQLQuery(String query, String dataPath) {
+    private Mono<Data> executeGraphQLQuery(String query, Map<String, Object> variables) {
     	log.info("Executing GraphQL query using WebClient.");
+    	Map<String, Object> extensions = Map.of(MessageUtil.PERSISTED_QUERY_EXTENSION, Map.of(
+    		"version", MessageUtil.PERSISTED_QUERY_VERSION, 
+    		"sha256Hash", queryHashes.computeIfAbsent(query, CustomerGraphQLClient::sha256Hex)));
+        return post(new GraphqlRequest(null, variables, extensions))
+            .flatMap(response -> {
+        	if (isPersistedQueryNotFound(response)) {
+        	    log.info("Registering the GraphQL query on the server.");
+        	    return post(new GraphqlRequest(query, variables, extensions));
+        	}
+        	return Mono.just(response);
+            })
+            .mapNotNull(CustomerResponse::getData);
+    }
+    
+    /**
+     * Posts a GraphQL request using the WebClient.
+     *
+     * @param request The GraphQL request.
+     * @return A Mono of the GraphQL response.
+     */
+    private Mono<CustomerResponse> post(GraphqlRequest request) {
         return webClient.post()
             .uri(remoteApiProperties.getUriGraphql()) 
-            .bodyValue(new GraphqlRequest(query))
+            .bodyValue(request)
             .retrieve()
-            .bodyToMono(GraphqlResponse.class)
-            .map(response -> response.getData().get(dataPath))
-            .block();
+            .bodyToMono(CustomerResponse.class);
+    }
+    
+    /**
+     * Checks whether the server answered that it does not know the hash of the persisted query.
+     */
+    private static boolean isPersistedQueryNotFound(CustomerResponse response) {
+	return response.getErrors() != null && response.getErrors().stream()
+		.map(GraphqlError::getMessage)
+		.anyMatch(MessageUtil.PERSISTED_QUERY_NOT_FOUND::equals);
+    }
+    
+    /**
+     * Computes the lower case hexadecimal SHA-256 hash of the UTF-8 bytes of a query.
+     */
+    private static String sha256Hex(String query) {
+	try {
+	    var digest = MessageDigest.getInstance(MessageUtil.PERSISTED_QUERY_HASH_ALGORITHM);
+	    return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+	} catch (NoSuchAlgorithmException e) {
+	    throw new IllegalStateException(e);
+	}
     }
 
 }
@@ -0,0 +1,69 @@
+package fr.tao.customerserviceclient.service.grpc;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.unit.DataSize;
+
+import com.google.protobuf.MessageLite;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.MethodDescriptor;
+import net.devh.boot.grpc.client.interceptor.GrpcGlobalClientInterceptor;
+
+/**
+ * gRPC client interceptor compressing the request messages with the compressor selected
+ * by the {@code customer-client.grpc.compression} property (gzip by default, identity to
+ * disable it).
+ *
+ * Only the messages of at least {@code customer-client.grpc.compression-min-message-size}
+ * bytes (2KB by default) are compressed, such as the batches of IDs: the requests of a
+ * single customer, including the ones streamed by an import, are sent as is.
+ *
+ * The response messages compressed by the server are decompressed whatever this
+ * property, as the client accepts the gzip encoding by default.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@GrpcGlobalClientInterceptor
+public class GrpcCompressionClientInterceptor implements ClientInterceptor {
+
+    private static final String IDENTITY = "identity";
+
+    private final String compression;
+
+    private final long minMessageSize;
+
+    /**
+     * Creates the interceptor.
+     *
+     * @param compression The name of the compressor of the request messages.
+     * @param minMessageSize The size from which the request messages are compressed.
+     */
+    public GrpcCompressionClientInterceptor(@Value("${customer-client.grpc.compression:gzip}") String compression,
+	    @Value("${customer-client.grpc.compression-min-message-size:2KB}") DataSize minMessageSize) {
+	this.compression = compression;
+	this.minMessageSize = minMessageSize.toBytes();
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+	    CallOptions callOptions, Channel next) {
+	if (IDENTITY.equals(compression)) {
+	    return next.newCall(method, callOptions);
+	}
+	return new ForwardingClientCall.SimpleForwardingClientCall<>(next.newCall(method, callOptions.withCompression(compression))) {
+	    @Override
+	    public void sendMessage(ReqT message) {
+		setMessageCompression(!(message instanceof MessageLite messageLite)
+			|| messageLite.getSerializedSize() >= minMessageSize);
+		super.sendMessage(message);
+	    }
+	};
+    }
+
+}
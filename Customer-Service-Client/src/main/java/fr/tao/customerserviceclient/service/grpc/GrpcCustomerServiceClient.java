@@ -7,10 +7,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import fr.tao.customerserviceclient.model.Customer;
 import lombok.extern.slf4j.Slf4j;
 import fr.tao.customerserviceclient.grpc.generated.CustomerId;
+import fr.tao.customerserviceclient.grpc.generated.CustomerResponse;
 import fr.tao.customerserviceclient.grpc.generated.CustomerServiceGrpc;
 import fr.tao.customerserviceclient.grpc.generated.Empty;
+import fr.tao.customerserviceclient.grpc.generated.StreamCustomersRequest;
 import fr.tao.customerserviceclient.mapper.CustomerMapper;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import net.devh.boot.grpc.client.inject.GrpcClient;
+import reactor.core.publisher.Flux;
 
 /**
  * This class represents a gRPC client for interacting with the CustomerService gRPC server.
@@ -30,6 +35,12 @@ public class GrpcCustomerServiceClient {
     @GrpcClient(value = "grpcCustomerClient")
     private CustomerServiceGrpc.CustomerServiceBlockingStub blockingStub;
 	
+    /**
+     * The gRPC asynchronous stub for customer service, used for streaming calls.
+     */
+    @GrpcClient(value = "grpcCustomerClient")
+    private CustomerServiceGrpc.CustomerServiceStub asyncStub;
+	
     /**
      * Mapper for converting between Customer DTOs and Customer objects.
      */
@@ -58,5 +69,47 @@ public class GrpcCustomerServiceClient {
 	var customerId = CustomerId.newBuilder().setId(id).build();
         return customerMapper.fromCustomerResponse(blockingStub.getCustomerById(customerId));
     }
+	
+    /**
+     * Streams all customers from the gRPC server.
+     * 
+     * The messages are only requested from the server when the subscriber asks for them, 
+     * so a slow subscriber slows the server down instead of buffering the whole table, 
+     * and cancelling the subscription cancels the gRPC call.
+     *
+     * @param chunkSize The number of customers read by the server per database query.
+     * @return A Flux of Customer objects.
+     */
+    public Flux<Customer> streamCustomers(int chunkSize) {
+	log.info("GrpcCustomerServiceClient - Streaming all customers, chunk size: {}", chunkSize);
+	var request = StreamCustomersRequest.newBuilder().setChunkSize(chunkSize).build();
+	return Flux.<CustomerResponse>create(sink -> asyncStub.streamCustomers(request, 
+		new ClientResponseObserver<StreamCustomersRequest, CustomerResponse>() {
+		    
+		    @Override
+		    public void beforeStart(ClientCallStreamObserver<StreamCustomersRequest> requestStream) {
+			requestStream.disableAutoRequestWithInitial(0);
+			sink.onRequest(n -> requestStream.request((int) Math.min(n, Integer.MAX_VALUE)));
+			sink.onCancel(() -> requestStream.cancel("Customer stream cancelled by the subscriber.", null));
+		    }
+		    
+		    @Override
+		    public void onNext(CustomerResponse customerResponse) {
+			sink.next(customerResponse);
+		    }
+		    
+		    @Override
+		    public void onError(Throwable t) {
+			log.error("GrpcCustomerServiceClient - Error while streaming customers.", t);
+			sink.error(t);
+		    }
+		    
+		    @Override
+		    public void onCompleted() {
+			sink.complete();
+		    }
+		}))
+		.map(customerMapper::fromCustomerResponse);
+    }
 
 }
@@ -1,5 +1,6 @@
 package fr.tao.customerserviceclient.service.rest;
 
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -39,6 +40,9 @@ public class CustomerWebClient {
     
     /**
      * Retrieves a Flux of all customers from the remote API.
+     * 
+     * The customers are requested as newline-delimited JSON, so each one is emitted as 
+     * soon as its line is received, rather than once the whole list has been read.
      *
      * @return A Flux of Customer objects representing all customers.
      */
@@ -46,6 +50,7 @@ public class CustomerWebClient {
 		log.info("CustomerWebClient - Fetching all customers from the remote API.");
 		return webClient.get()
 				.uri(remoteApiProperties.getUriCustomers())
+				.accept(MediaType.APPLICATION_NDJSON)
 				.retrieve()
 				.bodyToFlux(Customer.class);
 	}
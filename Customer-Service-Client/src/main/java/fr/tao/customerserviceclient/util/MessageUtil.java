@@ -21,8 +21,8 @@ public final class MessageUtil {
 			""";
 	
 	public static final String GET_CUSTOMER_BY_ID_QUERY = """
-			query {
-				customerById(id: %s) {
+			query customerById($id: Int) {
+				customerById(id: $id) {
 					id name email
 			    }
 			}
@@ -32,6 +32,24 @@ public final class MessageUtil {
 	public static final String ALL_CUSTOMER_SERVICE_NAME = "allCustomer";
 	public static final String CUSTOMER_BY_ID_SERVICE_NAME = "customerById";
 	
+	// Names of the clients, naming their near caches
+	public static final String RESTTEMPLATE_CLIENT = "resttemplate";
+	public static final String WEBCLIENT_CLIENT = "webclient";
+	public static final String FEIGN_CLIENT = "feign";
+	public static final String GRAPHQL_HTTP_CLIENT = "graphql-http";
+	public static final String GRAPHQL_WEBCLIENT_CLIENT = "graphql-webclient";
+	public static final String SOAP_CLIENT = "soap";
+	public static final String GRPC_CLIENT = "grpc";
+	
+	// Automatic persisted queries (APQ) of the GraphQL WebClient
+	public static final String PERSISTED_QUERY_EXTENSION = "persistedQuery";
+	public static final int PERSISTED_QUERY_VERSION = 1;
+	public static final String PERSISTED_QUERY_HASH_ALGORITHM = "SHA-256";
+	public static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+	
+	// Number of customers read by the server per query when streaming over gRPC
+	public static final int GRPC_STREAM_CHUNK_SIZE = 100;
+	
 	// Private constructor to prevent instantiation
     private MessageUtil() {
         throw new AssertionError("This class should not be instantiated.");
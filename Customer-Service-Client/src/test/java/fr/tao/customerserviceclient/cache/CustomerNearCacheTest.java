@@ -0,0 +1,195 @@
+package fr.tao.customerserviceclient.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import fr.tao.customerserviceclient.model.Customer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * This class provides JUnit tests for the 'CustomerNearCache', on a fake time source and
+ * fake clients whose calls are completed by the tests.
+ *
+ * It covers the single call made for concurrent misses, the stale entries served while
+ * they are reloaded, and the expiry of the entries after their time to live.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+class CustomerNearCacheTest {
+
+    private static final String CLIENT = "test";
+
+    private final Customer momo = new Customer(1L, "momo", "momo@gmail.com");
+
+    private final Customer moha = new Customer(1L, "moha", "moha@gmail.com");
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    /**
+     * The calls of the fake client, in progress until completed by the test.
+     */
+    private final List<CompletableFuture<Customer>> loads = new ArrayList<>();
+
+    private NearCacheProperties nearCacheProperties;
+
+    private CustomerNearCache customerNearCache;
+
+    @BeforeEach
+    void setUp() {
+	nearCacheProperties = mock(NearCacheProperties.class);
+	when(nearCacheProperties.isEnabled()).thenReturn(true);
+	when(nearCacheProperties.getRefreshSeconds()).thenReturn(5L);
+	when(nearCacheProperties.getCustomerTtlSeconds()).thenReturn(60L);
+	when(nearCacheProperties.getCustomersTtlSeconds()).thenReturn(30L);
+	when(nearCacheProperties.getMaximumSize()).thenReturn(100L);
+	customerNearCache = new CustomerNearCache(nearCacheProperties, new SimpleMeterRegistry(), nanos::get, Runnable::run);
+    }
+
+    /**
+     * Test case for concurrent misses of the same customer, expecting a single call of the
+     * client, whose customer is returned to all of them.
+     */
+    @Test
+    void concurrentMissesCoalesced() {
+	var cache = customerNearCache.customerByIdMono(CLIENT, this::load);
+
+	var first = cache.get(1L);
+	var second = cache.get(1L);
+
+	assertEquals(1, loads.size());
+	assertFalse(first.isDone());
+	loads.get(0).complete(momo);
+	assertEquals(momo, first.join());
+	assertEquals(momo, second.join());
+    }
+
+    /**
+     * Test case for a customer older than the refresh time, expecting the stale customer
+     * to be served at once while a single reload is in progress, then the reloaded one.
+     */
+    @Test
+    void staleEntryServedWhileReloaded() {
+	var cache = customerNearCache.customerByIdMono(CLIENT, this::load);
+	loadCompleted(cache, momo);
+
+	advanceSeconds(6);
+
+	assertEquals(momo, cache.get(1L).join());
+	assertEquals(momo, cache.get(1L).join());
+	assertEquals(2, loads.size());
+	loads.get(1).complete(moha);
+	assertEquals(moha, cache.get(1L).join());
+    }
+
+    /**
+     * Test case for a customer whose reload fails, expecting the stale customer
+     * to be served until its time to live.
+     */
+    @Test
+    void staleEntryKeptWhenReloadFails() {
+	var cache = customerNearCache.customerByIdMono(CLIENT, this::load);
+	loadCompleted(cache, momo);
+
+	advanceSeconds(6);
+	assertEquals(momo, cache.get(1L).join());
+	loads.get(1).completeExceptionally(new IllegalStateException("failed"));
+
+	assertEquals(momo, cache.get(1L).join());
+    }
+
+    /**
+     * Test case for a customer older than its time to live, expecting it to be loaded again
+     * instead of being served, and the list of customers to expire after its own time to live.
+     */
+    @Test
+    void expiredEntryLoadedAgain() {
+	var cache = customerNearCache.customerByIdMono(CLIENT, this::load);
+	loadCompleted(cache, momo);
+	var calls = new AtomicInteger();
+	var allCustomers = customerNearCache.allCustomersMono(CLIENT, () -> Mono.just(List.of(momo)).doOnNext(list -> calls.incrementAndGet()));
+	allCustomers.get(CLIENT).join();
+
+	advanceSeconds(31);
+	allCustomers.get(CLIENT).join();
+	assertEquals(2, calls.get());
+
+	advanceSeconds(30);
+	var expired = cache.get(1L);
+	assertFalse(expired.isDone());
+	assertEquals(2, loads.size());
+	loads.get(1).complete(moha);
+	assertEquals(moha, expired.join());
+    }
+
+    /**
+     * Test case for a customer reloaded before its time to live, expecting its time to live
+     * to count from the reload.
+     */
+    @Test
+    void timeToLiveCountsFromReload() {
+	var cache = customerNearCache.customerByIdMono(CLIENT, this::load);
+	loadCompleted(cache, momo);
+
+	advanceSeconds(50);
+	cache.get(1L).join();
+	loads.get(1).complete(moha);
+
+	advanceSeconds(50);
+	var reloaded = cache.get(1L);
+	assertTrue(reloaded.isDone());
+	assertEquals(moha, reloaded.join());
+    }
+
+    /**
+     * Test case for a disabled near cache, expecting the blocking client to be called
+     * on each get.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void disabledCallsClient() throws Exception {
+	when(nearCacheProperties.isEnabled()).thenReturn(false);
+	var calls = new AtomicInteger();
+	var cache = customerNearCache.customerById(CLIENT, id -> {
+	    calls.incrementAndGet();
+	    return momo;
+	});
+
+	assertEquals(momo, cache.join(1L));
+	assertEquals(momo, cache.join(1L));
+	assertEquals(2, calls.get());
+    }
+
+    private Mono<Customer> load(Long id) {
+	var load = new CompletableFuture<Customer>();
+	loads.add(load);
+	return Mono.fromFuture(load);
+    }
+
+    private void loadCompleted(NearCache<Long, Customer> cache, Customer customer) {
+	var loaded = cache.get(customer.getId());
+	loads.get(loads.size() - 1).complete(customer);
+	assertEquals(customer, loaded.join());
+    }
+
+    private void advanceSeconds(long seconds) {
+	nanos.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+}
@@ -0,0 +1,99 @@
+package fr.tao.customerserviceclient.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class provides JUnit tests for the 'LoadGenerator', on scenarios which do not call
+ * any remote API: the target rate, the accounting of the delayed calls as waiting, and the
+ * counts of the failed calls and of the bytes exchanged.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+class LoadGeneratorTest {
+
+    private final WireBytesCounter wireBytesCounter = new WireBytesCounter();
+
+    /**
+     * Test case for a scenario run at a target rate, expecting about as many calls as
+     * scheduled, and the bytes of the measured calls only.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void runAtTargetRate() throws Exception {
+	var loadGenerator = new LoadGenerator(2, 100, wireBytesCounter);
+	var scenario = new LoadScenario("rate", () -> {
+	    wireBytesCounter.addSent(10);
+	    wireBytesCounter.addReceived(100);
+	    return null;
+	});
+
+	var result = loadGenerator.run(scenario, Duration.ofMillis(100), Duration.ofMillis(500));
+
+	var calls = result.histogram().getTotalCount();
+	assertTrue(calls >= 40 && calls <= 50, "calls: " + calls);
+	assertEquals(0, result.errors());
+	assertEquals(10, result.sentBytesPerCall());
+	assertEquals(100, result.receivedBytesPerCall());
+    }
+
+    /**
+     * Test case for a scenario with a slow call at a target rate, expecting the calls delayed
+     * by the slow one to be recorded with the time they waited for it.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void runAccountsDelayedCalls() throws Exception {
+	var loadGenerator = new LoadGenerator(1, 100, wireBytesCounter);
+	var count = new AtomicInteger();
+	var scenario = new LoadScenario("slow", () -> {
+	    if (count.incrementAndGet() == 5) {
+		Thread.sleep(200);
+	    }
+	    return null;
+	});
+
+	var result = loadGenerator.run(scenario, Duration.ZERO, Duration.ofMillis(500));
+
+	// The calls scheduled every 10 ms during the slow call start up to 200 ms late
+	var histogram = result.histogram();
+	var delayedCalls = histogram.getCountBetweenValues(TimeUnit.MILLISECONDS.toMicros(100),
+		LoadGenerator.HIGHEST_TRACKABLE_LATENCY);
+	assertTrue(delayedCalls >= 10, "delayed calls: " + delayedCalls);
+    }
+
+    /**
+     * Test case for a scenario whose calls fail once in two, without a target rate,
+     * expecting the failed calls to be counted apart from the latencies.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void runCountsErrors() throws Exception {
+	var loadGenerator = new LoadGenerator(1, 0, wireBytesCounter);
+	var count = new AtomicInteger();
+	var scenario = new LoadScenario("errors", () -> {
+	    if (count.incrementAndGet() % 2 == 0) {
+		throw new IllegalStateException("failed");
+	    }
+	    return null;
+	});
+
+	var result = loadGenerator.run(scenario, Duration.ZERO, Duration.ofMillis(100));
+
+	assertTrue(result.errors() > 0);
+	assertEquals(count.get(), result.errors() + result.histogram().getTotalCount());
+	assertTrue(Math.abs(result.errors() - result.histogram().getTotalCount()) <= 1);
+    }
+
+}
@@ -0,0 +1,177 @@
+package fr.tao.customerserviceclient.service.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.graphql.client.HttpGraphQlClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import fr.tao.customerserviceclient.common.RemoteApiProperties;
+import fr.tao.customerserviceclient.model.Customer;
+import fr.tao.customerserviceclient.util.MessageUtil;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import reactor.test.StepVerifier;
+
+/**
+ * This class provides JUnit tests for the WebClient-based queries of the 'CustomerGraphQLClient',
+ * against a MockWebServer answering the GraphQL requests.
+ *
+ * It covers the decoding of the response data into the customers, the registration of the
+ * persisted queries, and the responses without data (empty data, GraphQL and HTTP errors).
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+class CustomerGraphQLClientTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockWebServer server;
+
+    private CustomerGraphQLClient customerGraphQLClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+	server = new MockWebServer();
+	server.start();
+	var remoteApiProperties = mock(RemoteApiProperties.class);
+	when(remoteApiProperties.getUriGraphql()).thenReturn("/graphql");
+	var webClient = WebClient.builder()
+		.baseUrl(server.url("/").toString())
+		.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+		.build();
+	customerGraphQLClient = new CustomerGraphQLClient(remoteApiProperties, HttpGraphQlClient.create(webClient), webClient);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+	server.shutdown();
+    }
+
+    /**
+     * Test case for fetching all customers, expecting the data of the response to be decoded
+     * into the customers, and only the hash of the query to be sent.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getAllCustomersGQLWebClientSuccess() throws Exception {
+	enqueueJson("""
+		{ "data": { "allCustomer": [
+		    { "id": 1, "name": "momo", "email": "momo@gmail.com" },
+		    { "id": 2, "name": "moha", "email": "moha@gmail.com" } ] } }""");
+
+	StepVerifier.create(customerGraphQLClient.getAllCustomersGQLWebClient())
+		.expectNext(List.of(new Customer(1L, "momo", "momo@gmail.com"), new Customer(2L, "moha", "moha@gmail.com")))
+		.verifyComplete();
+
+	var request = takeRequestBody();
+	assertFalse(request.has("query"));
+	assertEquals(64, request.at("/extensions/" + MessageUtil.PERSISTED_QUERY_EXTENSION + "/sha256Hash").asText().length());
+	assertEquals(1, server.getRequestCount());
+    }
+
+    /**
+     * Test case for fetching a customer by ID with a query unknown to the server, expecting
+     * the request to be sent again with the query and its variables, and the customer decoded.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getCustomerByIdGQLWebClientRegistersQuery() throws Exception {
+	enqueueJson("""
+		{ "errors": [ { "message": "PersistedQueryNotFound" } ] }""");
+	enqueueJson("""
+		{ "data": { "customerById": { "id": 3, "name": "zakia", "email": "zakia@gmail.com" } } }""");
+
+	StepVerifier.create(customerGraphQLClient.getCustomerByIdGQLWebClient(3L))
+		.expectNext(new Customer(3L, "zakia", "zakia@gmail.com"))
+		.verifyComplete();
+
+	var hashRequest = takeRequestBody();
+	assertFalse(hashRequest.has("query"));
+	assertEquals(3, hashRequest.at("/variables/id").asLong());
+	var queryRequest = takeRequestBody();
+	assertEquals(MessageUtil.GET_CUSTOMER_BY_ID_QUERY, queryRequest.get("query").asText());
+	assertEquals(3, queryRequest.at("/variables/id").asLong());
+	assertEquals(hashRequest.get("extensions"), queryRequest.get("extensions"));
+    }
+
+    /**
+     * Test case for fetching all customers when the response holds no data,
+     * expecting an empty list of customers.
+     */
+    @Test
+    void getAllCustomersGQLWebClientWithoutData() {
+	enqueueJson("""
+		{ "data": null }""");
+
+	StepVerifier.create(customerGraphQLClient.getAllCustomersGQLWebClient())
+		.expectNext(List.of())
+		.verifyComplete();
+    }
+
+    /**
+     * Test case for fetching a customer by ID when the server answers with a GraphQL error
+     * and no customer, expecting an empty result and the request not to be sent again.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getCustomerByIdGQLWebClientNotFound() throws Exception {
+	enqueueJson("""
+		{ "data": { "customerById": null },
+		  "errors": [ { "message": "Customer not found with ID: 99", "extensions": { "classification": "NOT_FOUND" } } ] }""");
+
+	StepVerifier.create(customerGraphQLClient.getCustomerByIdGQLWebClient(99L))
+		.verifyComplete();
+
+	assertNotNull(server.takeRequest(1, TimeUnit.SECONDS));
+	assertEquals(1, server.getRequestCount());
+    }
+
+    /**
+     * Test case for fetching all customers when the server fails,
+     * expecting the HTTP error to be propagated.
+     */
+    @Test
+    void getAllCustomersGQLWebClientServerError() {
+	server.enqueue(new MockResponse().setResponseCode(500));
+
+	StepVerifier.create(customerGraphQLClient.getAllCustomersGQLWebClient())
+		.expectError(WebClientResponseException.InternalServerError.class)
+		.verify(Duration.ofSeconds(5));
+    }
+
+    private void enqueueJson(String body) {
+	server.enqueue(new MockResponse()
+		.setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+		.setBody(body));
+    }
+
+    private JsonNode takeRequestBody() throws Exception {
+	var request = server.takeRequest(1, TimeUnit.SECONDS);
+	assertEquals("/graphql", request.getPath());
+	return objectMapper.readTree(request.getBody().readUtf8());
+    }
+
+}
@@ -2,16 +2,26 @@ package fr.tao.customerservice.api.graphql;
 
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+import org.dataloader.DataLoader;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SubscriptionMapping;
 import org.springframework.stereotype.Controller;
 
+import fr.tao.customerservice.dto.CustomerBatchDto;
+import fr.tao.customerservice.dto.CustomerChangeDto;
 import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.dto.CustomerImportResultDto;
+import fr.tao.customerservice.dto.CustomerPageDto;
+import fr.tao.customerservice.exception.CustomerNotFoundException;
 import fr.tao.customerservice.service.CustomerService;
+import fr.tao.customerservice.service.ReactiveCustomerService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 
 
 /**
@@ -31,15 +41,58 @@ public class CustomerGraphqlController {
      */
     @NonNull private final CustomerService customerService;
 	
+    /**
+     * A required constructor-based injection of the ReactiveCustomerService.
+     */
+    @NonNull private final ReactiveCustomerService reactiveCustomerService;
+	
     /**
      * Retrieves a list of all customers.
      * 
-     * @return A list of CustomerDto objects representing all customers.
-     * @throws Exception if there is an error during the operation.
+     * The customers are read through R2DBC, and the request thread is released while 
+     * they are read.
+     * 
+     * @return A Flux of CustomerDto objects representing all customers, ordered by ID.
+     */
+    @QueryMapping
+    public Flux<CustomerDto> allCustomer() {
+	return reactiveCustomerService.streamCustomers(null);
+    }
+	
+    /**
+     * Subscribes to the committed changes of the customers, over WebSocket.
+     * 
+     * @param afterSequence The sequence of the last change received, to resume the subscription, 
+     * null to receive the changes to come.
+     * @return A Flux of CustomerChangeDto objects, in sequence order.
+     */
+    @SubscriptionMapping
+    public Flux<CustomerChangeDto> customerChanged(@Argument Long afterSequence) {
+	return reactiveCustomerService.watchCustomers(afterSequence);
+    }
+	
+    /**
+     * Retrieves the customers matching a list of IDs, with a single query.
+     * 
+     * @param ids The IDs of the customers to retrieve.
+     * @return A CustomerBatchDto object holding the customers found, in the order of the requested IDs, 
+     * and the missing IDs.
+     */
+    @QueryMapping
+    public CustomerBatchDto customersByIds(@Argument List<Long> ids) {
+	return customerService.getCustomersByIds(ids);
+    }
+	
+    /**
+     * Retrieves a page of customers, ordered by ID, using a keyset pagination.
+     * 
+     * @param cursor The opaque cursor returned with the previous page, null for the first page.
+     * @param size The page size, capped to the maximum page size.
+     * @return A CustomerPageDto object holding the customers and the cursor of the next page.
      */
     @QueryMapping
-    public List<CustomerDto> allCustomer() throws Exception {
-	return customerService.getAllCustomer();
+    public CustomerPageDto customersPage(@Argument String cursor, @Argument Integer size) {
+	return customerService.getCustomersPage(cursor, size);
     }
 	
     /**
@@ -54,16 +107,37 @@ public class CustomerGraphqlController {
 	return customerService.getCustomersByNameContains(name);
     }
 	
+    /**
+     * Suggests customers by name or email, for autocompletion.
+     * 
+     * @param query The query, matched as a prefix, or as a substring when it has 3 characters or more.
+     * @param limit The maximum number of suggestions, capped to the maximum number of suggestions.
+     * @return A list of CustomerDto objects representing the suggested customers, best matches first.
+     */
+    @QueryMapping
+    public List<CustomerDto> suggestCustomers(@Argument String query, @Argument Integer limit) {
+	return customerService.suggestCustomers(query, limit);
+    }
+	
     /**
      * Retrieves a customer by their ID.
      * 
-     * @param id The ID of the customer to retrieve.
-     * @return A CustomerDto object representing the customer with the specified ID.
-     * @throws Exception if there is an error during the operation.
+     * The lookup goes through the customer data loader of the request, so all the 
+     * customerById fields of a document are resolved with a single batch query.
+     * 
+     * @param id     The ID of the customer to retrieve.
+     * @param loader The data loader of customers by ID of the current request.
+     * @return A future of the CustomerDto object representing the customer with the specified ID, 
+     * completed with a CustomerNotFoundException if no customer has this ID.
      */
     @QueryMapping
-    public CustomerDto customerById(@Argument Long id) throws Exception {
-	return customerService.getCustomerById(id);
+    public CompletableFuture<CustomerDto> customerById(@Argument Long id, DataLoader<Long, CustomerDto> loader) {
+	return loader.load(id).thenApply(customer -> {
+	    if (customer == null) {
+		throw new CustomerNotFoundException(id);
+	    }
+	    return customer;
+	});
     }
 	
     /**
@@ -77,4 +151,16 @@ public class CustomerGraphqlController {
     public CustomerDto saveCustomer(@Argument CustomerDto customer) throws Exception {
 	return customerService.saveCustomer(customer);
     }
+	
+    /**
+     * Imports new customers in bulk.
+     * 
+     * @param customers The list of CustomerDto objects to be imported.
+     * @return A list of CustomerImportResultDto objects holding the result of the import 
+     * of each customer, in the order of the given list.
+     */
+    @MutationMapping
+    public List<CustomerImportResultDto> saveCustomers(@Argument List<CustomerDto> customers) {
+	return customerService.saveCustomers(customers);
+    }
 }
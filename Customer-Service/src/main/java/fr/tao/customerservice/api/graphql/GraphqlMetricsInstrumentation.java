@@ -0,0 +1,88 @@
+package fr.tao.customerservice.api.graphql;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+
+import fr.tao.customerservice.metrics.ApiMetrics;
+import fr.tao.customerservice.util.MessageUtil;
+import graphql.ExecutionResult;
+import graphql.execution.instrumentation.InstrumentationContext;
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimpleInstrumentationContext;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationCreateStateParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecuteOperationParameters;
+import graphql.execution.instrumentation.parameters.InstrumentationExecutionParameters;
+import graphql.language.Field;
+import io.micrometer.core.instrument.Timer;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * GraphQL instrumentation timing each execution, from the parsing of the document 
+ * to the result. The operation is the first root field of the document, e.g. 
+ * 'customerById', and the outcome follows the errors of the result: internal 
+ * errors are server errors, and the other errors (not found, bad request, invalid 
+ * document) are client errors.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+@RequiredArgsConstructor
+public class GraphqlMetricsInstrumentation extends SimplePerformantInstrumentation {
+	
+    @NonNull private final ApiMetrics apiMetrics;
+	
+    /**
+     * The timing of an execution.
+     */
+    private static class MetricsState implements InstrumentationState {
+	
+	private final Timer.Sample sample;
+	private String operation = MessageUtil.UNKNOWN_OPERATION;
+	
+	private MetricsState(Timer.Sample sample) {
+	    this.sample = sample;
+	}
+    }
+	
+    @Override
+    public InstrumentationState createState(InstrumentationCreateStateParameters parameters) {
+	return new MetricsState(apiMetrics.start());
+    }
+	
+    @Override
+    public InstrumentationContext<ExecutionResult> beginExecuteOperation(InstrumentationExecuteOperationParameters parameters, 
+	    InstrumentationState state) {
+	if (state instanceof MetricsState metricsState) {
+	    parameters.getExecutionContext().getOperationDefinition().getSelectionSet()
+		    .getSelectionsOfType(Field.class).stream()
+		    .findFirst()
+		    .ifPresent(field -> metricsState.operation = field.getName());
+	}
+	return SimpleInstrumentationContext.noOp();
+    }
+	
+    @Override
+    public CompletableFuture<ExecutionResult> instrumentExecutionResult(ExecutionResult executionResult, 
+	    InstrumentationExecutionParameters parameters, InstrumentationState state) {
+	if (state instanceof MetricsState metricsState) {
+	    apiMetrics.recordRequest(metricsState.sample, ApiMetrics.Protocol.GRAPHQL, metricsState.operation, 
+		    outcomeOf(executionResult));
+	}
+	return CompletableFuture.completedFuture(executionResult);
+    }
+	
+    private static ApiMetrics.Outcome outcomeOf(ExecutionResult executionResult) {
+	if (executionResult.getErrors().isEmpty()) {
+	    return ApiMetrics.Outcome.SUCCESS;
+	}
+	return executionResult.getErrors().stream().anyMatch(error -> error.getErrorType() == ErrorType.INTERNAL_ERROR) 
+		? ApiMetrics.Outcome.SERVER_ERROR : ApiMetrics.Outcome.CLIENT_ERROR;
+    }
+
+}
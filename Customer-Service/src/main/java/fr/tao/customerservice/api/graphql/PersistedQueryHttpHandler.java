@@ -0,0 +1,94 @@
+package fr.tao.customerservice.api.graphql;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.server.webmvc.GraphQlHttpHandler;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import fr.tao.customerservice.util.MessageUtil;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import jakarta.servlet.ServletException;
+
+/**
+ * GraphQL HTTP handler accepting the requests which only hold the hash of a persisted query.
+ * 
+ * Spring GraphQL rejects a request without a 'query', so the body of a request holding the 
+ * 'persistedQuery' extension without a document (or with a null one) is given the persisted 
+ * query marker of graphql-java, which then resolves the document by its hash. The request 
+ * is then handled by the GraphQlHttpHandler of Spring GraphQL, as all the other ones.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+public class PersistedQueryHttpHandler extends GraphQlHttpHandler {
+	
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REF = new TypeReference<>() {};
+	
+    private final ObjectMapper objectMapper;
+	
+    /**
+     * Creates the handler.
+     *
+     * @param graphQlHandler The common handler of the GraphQL requests.
+     * @param objectMapper The mapper reading and rewriting the body of the requests.
+     */
+    public PersistedQueryHttpHandler(WebGraphQlHandler graphQlHandler, ObjectMapper objectMapper) {
+	super(graphQlHandler);
+	this.objectMapper = objectMapper;
+    }
+	
+    /**
+     * Gives the persisted query marker to a request holding only the hash of a persisted query, 
+     * then handles the request as Spring GraphQL does. The body is read once here, so the 
+     * request is rebuilt with it, unchanged unless the marker was added.
+     */
+    @Override
+    public ServerResponse handleRequest(ServerRequest serverRequest) throws ServletException {
+	var body = readBody(serverRequest);
+	return super.handleRequest(ServerRequest.from(serverRequest).body(withPersistedQueryMarker(body)).build());
+    }
+	
+    /**
+     * Adds the persisted query marker to a body holding the 'persistedQuery' extension without 
+     * a document, or returns the body as is, including when it is not a JSON object, for 
+     * Spring GraphQL to reject it.
+     */
+    private byte[] withPersistedQueryMarker(byte[] body) {
+	Map<String, Object> request;
+	try {
+	    request = objectMapper.readValue(body, MAP_TYPE_REF);
+	} catch (IOException ex) {
+	    return body;
+	}
+	if (request == null || request.get(MessageUtil.GRAPHQL_QUERY_KEY) != null 
+		|| !(request.get(MessageUtil.GRAPHQL_EXTENSIONS_KEY) instanceof Map<?, ?> extensions) 
+		|| !extensions.containsKey(MessageUtil.PERSISTED_QUERY_EXTENSION)) {
+	    return body;
+	}
+	request = new HashMap<>(request);
+	request.put(MessageUtil.GRAPHQL_QUERY_KEY, PersistedQuerySupport.PERSISTED_QUERY_MARKER);
+	try {
+	    return objectMapper.writeValueAsBytes(request);
+	} catch (IOException ex) {
+	    return body;
+	}
+    }
+	
+    private static byte[] readBody(ServerRequest request) throws ServletException {
+	try {
+	    return request.body(byte[].class);
+	} catch (IOException ex) {
+	    throw new ServerWebInputException("I/O error while reading request body", null, ex);
+	}
+    }
+
+}
@@ -0,0 +1,151 @@
+package fr.tao.customerservice.api.graphql;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import fr.tao.customerservice.util.MessageUtil;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryCacheMiss;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Store of the persisted GraphQL queries, which a client runs by sending the SHA-256 hash 
+ * of the document in the 'persistedQuery' extension, instead of the document itself.
+ * 
+ * The persisted documents are read on startup from {@code customer.graphql.persisted-queries}, 
+ * and indexed by the hexadecimal SHA-256 hash of their content. Each document is parsed and 
+ * validated once, on its first execution, then reused by the following ones.
+ * 
+ * The store also implements the automatic persisted queries (APQ): a hash which is not persisted 
+ * is answered with a 'PersistedQueryNotFound' error, the client then sends the hash again with the 
+ * document, which is registered under its hash once the hash is checked against the document 
+ * ('PersistedQueryIdInvalid' otherwise), and once the document is parsed and validated. The next 
+ * requests only send the hash. At most {@code customer.graphql.apq-cache-size} documents are 
+ * registered, the least used ones being evicted: the clients of an evicted document register it again.
+ * 
+ * The documents are looked up asynchronously, the synchronous lookup of graphql-java being deprecated: 
+ * the errors of the persisted queries complete the returned future rather than being thrown.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+@Slf4j
+public class PersistedQueryStore implements PersistedQueryCache {
+	
+    /**
+     * The persisted documents, by hash.
+     */
+    private final Map<String, String> queries = new HashMap<>();
+	
+    /**
+     * The parsed and validated persisted documents, by hash.
+     */
+    private final AsyncCache<Object, PreparsedDocumentEntry> documents = Caffeine.newBuilder().buildAsync();
+	
+    /**
+     * The parsed and validated documents registered by the clients, by hash.
+     */
+    private final AsyncCache<Object, PreparsedDocumentEntry> registeredDocuments;
+	
+    /**
+     * Creates the store of the persisted queries.
+     *
+     * @param resources The files of the persisted documents.
+     * @param maximumRegistered The maximum number of documents registered by the clients.
+     * @throws IOException if a document cannot be read.
+     */
+    public PersistedQueryStore(
+	    @Value("${customer.graphql.persisted-queries:classpath*:graphql/persisted/*.graphql}") Resource[] resources, 
+	    @Value("${customer.graphql.apq-cache-size:1000}") long maximumRegistered) 
+	    throws IOException {
+	this.registeredDocuments = Caffeine.newBuilder().maximumSize(maximumRegistered).buildAsync();
+	for (var resource : resources) {
+	    var query = resource.getContentAsString(StandardCharsets.UTF_8);
+	    var hash = sha256Hex(query);
+	    queries.put(hash, query);
+	    log.info(" #### Persisted GraphQL query {}: {} #### ", resource.getFilename(), hash);
+	}
+    }
+	
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getPersistedQueryDocumentAsync(Object persistedQueryId, 
+	    ExecutionInput executionInput, PersistedQueryCacheMiss onCacheMiss) {
+	try {
+	    var query = queries.get(persistedQueryId);
+	    if (query != null) {
+		return documents.get(persistedQueryId, id -> onCacheMiss.apply(query));
+	    }
+	    var registered = registeredDocuments.getIfPresent(persistedQueryId);
+	    if (registered != null) {
+		return registered;
+	    }
+	    if (PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(executionInput.getQuery())) {
+		// The request only holds the hash, the client sends it again with the document
+		return CompletableFuture.failedFuture(new PersistedQueryNotFound(persistedQueryId));
+	    }
+	    // Checks the hash against the document, then parses and validates the document
+	    var entry = onCacheMiss.apply(executionInput.getQuery());
+	    if (!entry.hasErrors()) {
+		registeredDocuments.put(persistedQueryId, CompletableFuture.completedFuture(entry));
+		log.debug(" #### Registered GraphQL query: {} #### ", persistedQueryId);
+	    }
+	    return CompletableFuture.completedFuture(entry);
+	} catch (RuntimeException e) {
+	    return CompletableFuture.failedFuture(e);
+	}
+    }
+	
+    /**
+     * Still abstract in graphql-java, but no longer called: the documents are looked up by 
+     * {@link #getPersistedQueryDocumentAsync(Object, ExecutionInput, PersistedQueryCacheMiss)}.
+     */
+    @Override
+    @Deprecated
+    public PreparsedDocumentEntry getPersistedQueryDocument(Object persistedQueryId, ExecutionInput executionInput, 
+	    PersistedQueryCacheMiss onCacheMiss) {
+	try {
+	    return getPersistedQueryDocumentAsync(persistedQueryId, executionInput, onCacheMiss).join();
+	} catch (CompletionException e) {
+	    if (e.getCause() instanceof RuntimeException cause) {
+		throw cause;
+	    }
+	    throw e;
+	}
+    }
+	
+    /**
+     * Computes the hexadecimal SHA-256 hash of a document, which identifies it as a persisted query.
+     *
+     * @param query The document.
+     * @return The lower case hexadecimal SHA-256 hash of the UTF-8 bytes of the document.
+     */
+    public static String sha256Hex(String query) {
+	try {
+	    var digest = MessageDigest.getInstance(MessageUtil.PERSISTED_QUERY_HASH_ALGORITHM);
+	    return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+	} catch (NoSuchAlgorithmException e) {
+	    throw new IllegalStateException(e);
+	}
+    }
+
+}
@@ -0,0 +1,126 @@
+package fr.tao.customerservice.api.graphql;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import fr.tao.customerservice.util.MessageUtil;
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.ApolloPersistedQuerySupport;
+import graphql.execution.preparsed.persisted.PersistedQueryCache;
+import graphql.execution.preparsed.persisted.PersistedQueryError;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+
+/**
+ * Cache of the parsed and validated GraphQL documents, so that a document sent again, 
+ * with other variables, is executed without being parsed and validated again.
+ * 
+ * The documents are cached by their text, up to {@code customer.graphql.document-cache-size} 
+ * documents: the values must therefore be passed as variables rather than written in the 
+ * documents, or each value would make a new document. The requests holding the 'persistedQuery' 
+ * extension are resolved by hash, from the {@link PersistedQueryStore}, through its asynchronous 
+ * lookup: the synchronous one of graphql-java is deprecated.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+public class PreparsedDocumentCache implements PreparsedDocumentProvider {
+	
+    private final Cache<String, PreparsedDocumentEntry> documents;
+    private final AsyncPersistedQuerySupport persistedQuerySupport;
+	
+    /**
+     * Creates the cache of the documents.
+     *
+     * @param maximumSize The maximum number of documents cached.
+     * @param persistedQueryStore The store of the persisted queries.
+     */
+    public PreparsedDocumentCache(@Value("${customer.graphql.document-cache-size:1000}") long maximumSize, 
+	    PersistedQueryStore persistedQueryStore) {
+	this.documents = Caffeine.newBuilder().maximumSize(maximumSize).build();
+	this.persistedQuerySupport = new AsyncPersistedQuerySupport(persistedQueryStore);
+    }
+	
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput, 
+	    Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+	if (executionInput.getExtensions().containsKey(MessageUtil.PERSISTED_QUERY_EXTENSION)) {
+	    return persistedQuerySupport.getDocumentAsync(executionInput, parseAndValidateFunction);
+	}
+	return CompletableFuture.completedFuture(
+		documents.get(executionInput.getQuery(), query -> parseAndValidateFunction.apply(executionInput)));
+    }
+	
+    /**
+     * Still abstract in graphql-java, but no longer called by it: the documents are 
+     * provided by {@link #getDocumentAsync(ExecutionInput, Function)}.
+     */
+    @Override
+    @Deprecated
+    public PreparsedDocumentEntry getDocument(ExecutionInput executionInput, 
+	    Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+	return getDocumentAsync(executionInput, parseAndValidateFunction).join();
+    }
+	
+    /**
+     * The Apollo persisted queries support, resolving the documents through the asynchronous 
+     * lookup of the persisted query cache, where the support of graphql-java uses the 
+     * deprecated synchronous one.
+     */
+    private static final class AsyncPersistedQuerySupport extends ApolloPersistedQuerySupport {
+	
+	private final PersistedQueryCache persistedQueryCache;
+	
+	private AsyncPersistedQuerySupport(PersistedQueryCache persistedQueryCache) {
+	    super(persistedQueryCache);
+	    this.persistedQueryCache = persistedQueryCache;
+	}
+	
+	@Override
+	public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput, 
+		Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+	    var persistedQueryId = getPersistedQueryId(executionInput);
+	    if (persistedQueryId.isEmpty()) {
+		return CompletableFuture.completedFuture(parseAndValidateFunction.apply(executionInput));
+	    }
+	    var id = persistedQueryId.get();
+	    try {
+		return persistedQueryCache.getPersistedQueryDocumentAsync(id, executionInput, query -> {
+		    if (query == null || query.isBlank()) {
+			throw new PersistedQueryNotFound(id);
+		    }
+		    if (persistedQueryIdIsInvalid(id, query)) {
+			throw new PersistedQueryIdInvalid(id);
+		    }
+		    return parseAndValidateFunction.apply(executionInput.transform(builder -> builder.query(query)));
+		}).exceptionally(this::missingError);
+	    } catch (PersistedQueryError e) {
+		return CompletableFuture.completedFuture(mkMissingError(e));
+	    }
+	}
+	
+	/**
+	 * Answers a persisted query which is not found, or whose hash does not match its 
+	 * document, with the error of the persisted query, as graphql-java does.
+	 */
+	private PreparsedDocumentEntry missingError(Throwable e) {
+	    var cause = e instanceof CompletionException ? e.getCause() : e;
+	    if (cause instanceof PersistedQueryError error) {
+		return mkMissingError(error);
+	    }
+	    throw e instanceof CompletionException completionException ? completionException : new CompletionException(cause);
+	}
+    }
+
+}
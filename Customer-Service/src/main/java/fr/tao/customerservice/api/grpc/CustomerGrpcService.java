@@ -1,27 +1,56 @@
 package fr.tao.customerservice.api.grpc;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Subscription;
+
+import fr.tao.customerservice.dto.CustomerChangeDto;
 import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.dto.CustomerImportResultDto;
 import fr.tao.customerservice.exception.CustomerNotFoundException;
+import fr.tao.customerservice.exception.InvalidRequestException;
+import fr.tao.customerservice.grpc.generated.CustomerBatch;
+import fr.tao.customerservice.grpc.generated.CustomerChange;
 import fr.tao.customerservice.grpc.generated.CustomerId;
+import fr.tao.customerservice.grpc.generated.CustomerIds;
+import fr.tao.customerservice.grpc.generated.CustomerImportResult;
+import fr.tao.customerservice.grpc.generated.CustomerImportSummary;
 import fr.tao.customerservice.grpc.generated.CustomerList;
+import fr.tao.customerservice.grpc.generated.CustomerPage;
+import fr.tao.customerservice.grpc.generated.CustomerPageRequest;
 import fr.tao.customerservice.grpc.generated.CustomerRequest;
 import fr.tao.customerservice.grpc.generated.CustomerResponse;
 import fr.tao.customerservice.grpc.generated.CustomerServiceGrpc;
 import fr.tao.customerservice.grpc.generated.Empty;
+import fr.tao.customerservice.grpc.generated.StreamCustomersRequest;
+import fr.tao.customerservice.grpc.generated.WatchCustomersRequest;
 import fr.tao.customerservice.mapper.CustomerMapper;
 import fr.tao.customerservice.service.CustomerService;
+import fr.tao.customerservice.service.ReactiveCustomerService;
+import fr.tao.customerservice.util.MessageUtil;
 import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.devh.boot.grpc.server.service.GrpcService;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BaseSubscriber;
 
 /**
  * gRPC service implementation for managing customer operations.
  * This class provides gRPC endpoints for retrieving, creating, and interacting with customers.
  * It communicates with the CustomerService and utilizes a CustomerMapper for data transformation.
  * 
+ * The unary calls, and the imports and reads of the streaming calls, are handed to the 
+ * GrpcCallExecutor, so the blocking database accesses run on a bounded thread pool, and 
+ * are shed when it is saturated.
+ * 
  * @author T. Aoufi
  * @version 1.0
  * @since 21/10/2023
@@ -35,41 +64,86 @@ public class CustomerGrpcService extends CustomerServiceGrpc.CustomerServiceImpl
      * The service responsible for managing customer data.
      */
     @NonNull private final CustomerService customerService;
+    /**
+     * The reactive service watching the changes of the customers.
+     */
+    @NonNull private final ReactiveCustomerService reactiveCustomerService;
     /**
      * A mapper for converting between customer DTOs and Protos.
      */
     @NonNull private final CustomerMapper customerMapper;
+    /**
+     * The bounded executor running the blocking work of the unary calls.
+     */
+    @NonNull private final GrpcCallExecutor grpcCallExecutor;
 	
     /**
      * Retrieves all customers and sends the response to the client.
+     * 
+     * The customers are read as DTO projections, without loading the entities, and each 
+     * one is converted with a reused builder and added to the response as it is read, 
+     * without an intermediate list of DTOs or of Protos.
      *
      * @param request          Empty request from the client.
      * @param responseObserver StreamObserver for sending the response.
      */
     @Override
     public void getAllCustomers(Empty request, StreamObserver<CustomerList> responseObserver) {
-	try {
-	    log.info("Handling getAllCustomers via gRPC request.");
-	    var customers = customerService.getAllCustomer();
+	grpcCallExecutor.execute("getAllCustomers", responseObserver, () -> {
+	    try {
+		log.info("Handling getAllCustomers via gRPC request.");
+		// Converting the customers to Protos as they are read, into a single list builder
+		var customerList = CustomerList.newBuilder();
+		var customerProto = CustomerResponse.newBuilder();
+		customerService.forEachCustomer(customer -> 
+			customerList.addCustomers(customerMapper.toCustomerProto(customer, customerProto)));
+		var response = customerList.build();
 			
-	    // Converting customers to Protos
-	    var customerProtos = customers.stream()
-	            .map(customerMapper::toCustomerProto)
-	            .toList();
+		// Sending response to client
+		responseObserver.onNext(response);
+		responseObserver.onCompleted();
+	        
+		log.info("getAllCustomers - gRPC request: Successfully retrieved all customers.");
+	    } catch (Exception e) {
+		log.error("getAllCustomers - gRPC request: Error while retrieving all customers.", e);
+		responseObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).asRuntimeException());      
+	    }         
+	});
+    }
+	
+    /**
+     * Retrieves a page of customers, ordered by ID, using a keyset pagination 
+     * and sends the response to the client.
+     *
+     * @param request          CustomerPageRequest specifying the cursor and the page size (both optional).
+     * @param responseObserver StreamObserver for sending the response.
+     */
+    @Override
+    public void getCustomersPage(CustomerPageRequest request, StreamObserver<CustomerPage> responseObserver) {
+	grpcCallExecutor.execute("getCustomersPage", responseObserver, () -> {
+	    try {
+		log.info("Handling getCustomersPage via gRPC request - cursor: {}, size: {}", request.getCursor(), request.getSize());
+		var page = customerService.getCustomersPage(request.getCursor(), request.getSize());
 			
-	    var response = CustomerList.newBuilder()
-	            .addAllCustomers(customerProtos)
-	            .build();
+		var response = CustomerPage.newBuilder()
+			.addAllCustomers(page.getCustomers().stream()
+				.map(customerMapper::toCustomerProto)
+				.toList())
+			.setNextCursor(page.getNextCursor() != null ? page.getNextCursor() : "")
+			.setHasNext(page.isHasNext())
+			.build();
 			
-	    // Sending response to client
-	    responseObserver.onNext(response);
-            responseObserver.onCompleted();
-	        
-	    log.info("getAllCustomers - gRPC request: Successfully retrieved all customers.");
-	} catch (Exception e) {
-            log.error("getAllCustomers - gRPC request: Error while retrieving all customers.", e);
-            responseObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).asRuntimeException());      
-	}         
+		responseObserver.onNext(response);
+		responseObserver.onCompleted();
+		log.info("getCustomersPage - gRPC request: Successfully retrieved {} customers.", response.getCustomersCount());
+	    } catch (InvalidRequestException e) {
+		log.warn("getCustomersPage - gRPC request: Invalid request: {}", e.getMessage());
+		responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+	    } catch (Exception e) {
+		log.error("getCustomersPage - gRPC request: Error while retrieving customers page.", e);
+		responseObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).asRuntimeException());
+	    }
+	});
     }
 	
     /**
@@ -80,16 +154,52 @@ public class CustomerGrpcService extends CustomerServiceGrpc.CustomerServiceImpl
      */
     @Override
     public void getCustomerById(CustomerId request, StreamObserver<CustomerResponse> responseObserver) {
-	try {
-            log.info("Handling getCustomerById, via gRPC request, for ID: {}", request.getId());
-            var customerDto = customerService.getCustomerById(Long.valueOf(request.getId()));
-            responseObserver.onNext(customerMapper.toCustomerProto(customerDto));
-            responseObserver.onCompleted();
-            log.info("getCustomerById - gRPC request: Successfully retrieved customer for ID: {}", request.getId());
-        } catch (CustomerNotFoundException e) {
-            log.error("getCustomerById - gRPC request: Customer with ID {} not found.", request.getId());
-            responseObserver.onError(Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException());
-        }
+	grpcCallExecutor.execute("getCustomerById", responseObserver, () -> {
+	    try {
+		log.info("Handling getCustomerById, via gRPC request, for ID: {}", request.getId());
+		var customerDto = customerService.getCustomerById(Long.valueOf(request.getId()));
+		responseObserver.onNext(customerMapper.toCustomerProto(customerDto));
+		responseObserver.onCompleted();
+		log.info("getCustomerById - gRPC request: Successfully retrieved customer for ID: {}", request.getId());
+	    } catch (CustomerNotFoundException e) {
+		log.error("getCustomerById - gRPC request: Customer with ID {} not found.", request.getId());
+		responseObserver.onError(Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException());
+	    }
+	});
+    }
+	
+    /**
+     * Retrieves the customers matching a list of IDs, with a single query, 
+     * and sends the response to the client.
+     *
+     * @param request          CustomerIds request specifying the customer IDs.
+     * @param responseObserver StreamObserver for sending the response.
+     */
+    @Override
+    public void getCustomersByIds(CustomerIds request, StreamObserver<CustomerBatch> responseObserver) {
+	grpcCallExecutor.execute("getCustomersByIds", responseObserver, () -> {
+	    try {
+		log.info("Handling getCustomersByIds via gRPC request, for IDs: {}", request.getIdsList());
+		var batch = customerService.getCustomersByIds(request.getIdsList());
+			
+		var response = CustomerBatch.newBuilder()
+			.addAllCustomers(batch.getCustomers().stream()
+				.map(customerMapper::toCustomerProto)
+				.toList())
+			.addAllMissingIds(batch.getMissingIds())
+			.build();
+			
+		responseObserver.onNext(response);
+		responseObserver.onCompleted();
+		log.info("getCustomersByIds - gRPC request: Successfully retrieved {} customers.", response.getCustomersCount());
+	    } catch (InvalidRequestException e) {
+		log.warn("getCustomersByIds - gRPC request: Invalid request: {}", e.getMessage());
+		responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+	    } catch (Exception e) {
+		log.error("getCustomersByIds - gRPC request: Error while retrieving customers by IDs.", e);
+		responseObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).asRuntimeException());
+	    }
+	});
     }
 	
     /**
@@ -100,16 +210,331 @@ public class CustomerGrpcService extends CustomerServiceGrpc.CustomerServiceImpl
      */
     @Override
     public void createCustomer(CustomerRequest request, StreamObserver<CustomerResponse> responseObserver) {
-	try {
-	    log.info("Handling createCustomer via gRPC request.");
-            CustomerDto customerDto = customerService.saveCustomer(customerMapper.fromCustomerRequest(request));
-            responseObserver.onNext(customerMapper.toCustomerProto(customerDto));
-            responseObserver.onCompleted();
-            log.info("createCustomer - gRPC request: Successfully created a new customer.");
-        } catch (Exception e) {
-            log.error("createCustomer - gRPC request: Error while creating a new customer.", e);
-            responseObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).asRuntimeException());
-        }
+	grpcCallExecutor.execute("createCustomer", responseObserver, () -> {
+	    try {
+		log.info("Handling createCustomer via gRPC request.");
+		CustomerDto customerDto = customerService.saveCustomer(customerMapper.fromCustomerRequest(request));
+		responseObserver.onNext(customerMapper.toCustomerProto(customerDto));
+		responseObserver.onCompleted();
+		log.info("createCustomer - gRPC request: Successfully created a new customer.");
+	    } catch (Exception e) {
+		log.error("createCustomer - gRPC request: Error while creating a new customer.", e);
+		responseObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).asRuntimeException());
+	    }
+	});
+    }
+	
+    /**
+     * Imports the customers streamed by the client, and sends a summary of the import 
+     * once the client has completed its stream.
+     * 
+     * The received customers are imported chunk by chunk, so the memory used by a call 
+     * does not depend on the number of customers, and the summary only details the 
+     * failed customers (up to a maximum) to keep the response message small.
+     * 
+     * The customers are requested from the client one chunk at a time (manual flow control): 
+     * the next chunk is only requested once the previous one is imported.
+     *
+     * @param responseObserver StreamObserver for sending the summary of the import.
+     * @return StreamObserver receiving the customers to import.
+     */
+    @Override
+    public StreamObserver<CustomerRequest> importCustomers(StreamObserver<CustomerImportSummary> responseObserver) {
+	log.info("Handling importCustomers via gRPC request.");
+	var serverObserver = (ServerCallStreamObserver<CustomerImportSummary>) responseObserver;
+	serverObserver.setOnCancelHandler(() -> log.debug("importCustomers - gRPC request: Cancelled by the client."));
+	serverObserver.disableAutoRequest();
+	serverObserver.request(MessageUtil.GRPC_IMPORT_CHUNK_SIZE);
+	return new CustomerImportCollector(serverObserver);
+    }
+	
+    /**
+     * Streams all customers to the client, one CustomerResponse message per customer.
+     * 
+     * Customers are read chunk by chunk (keyset on the customer ID) and a new chunk is 
+     * only fetched when the client is ready to receive more messages, so the memory used 
+     * by a call does not depend on the number of customers.
+     *
+     * @param request          StreamCustomersRequest specifying the chunk size (optional).
+     * @param responseObserver StreamObserver for sending the customers.
+     */
+    @Override
+    public void streamCustomers(StreamCustomersRequest request, StreamObserver<CustomerResponse> responseObserver) {
+	log.info("Handling streamCustomers via gRPC request, chunk size: {}", request.getChunkSize());
+	var serverObserver = (ServerCallStreamObserver<CustomerResponse>) responseObserver;
+	var drainer = new CustomerStreamDrainer(serverObserver, chunkSizeOf(request));
+	serverObserver.setOnCancelHandler(() -> log.warn("streamCustomers - gRPC request: Cancelled by the client."));
+	serverObserver.setOnReadyHandler(drainer::drainIfIdle);
+    }
+	
+    /**
+     * Streams the committed changes of the customers to the client, one CustomerChange 
+     * message per change, until the client cancels the call.
+     * 
+     * The next change is only requested from the feed when the client is ready to receive 
+     * it. A client resuming after a change which is no longer retained receives OUT_OF_RANGE, 
+     * and a client lagging behind by more changes than retained receives RESOURCE_EXHAUSTED.
+     *
+     * @param request          WatchCustomersRequest specifying the sequence to resume after (optional).
+     * @param responseObserver StreamObserver for sending the changes.
+     */
+    @Override
+    public void watchCustomers(WatchCustomersRequest request, StreamObserver<CustomerChange> responseObserver) {
+	log.info("Handling watchCustomers via gRPC request, after sequence: {}", request.getAfterSequence());
+	var serverObserver = (ServerCallStreamObserver<CustomerChange>) responseObserver;
+	var forwarder = new CustomerChangeForwarder(serverObserver);
+	serverObserver.setOnCancelHandler(() -> {
+	    forwarder.dispose();
+	    log.info("watchCustomers - gRPC request: Cancelled by the client.");
+	});
+	serverObserver.setOnReadyHandler(forwarder::requestIfReady);
+	var afterSequence = request.getAfterSequence() > 0 ? request.getAfterSequence() : null;
+	reactiveCustomerService.watchCustomers(afterSequence).subscribe(forwarder);
+    }
+	
+    /**
+     * Resolves the chunk size to use for a streaming request, 
+     * falling back to the default one and capping it to the maximum allowed.
+     *
+     * @param request The streaming request.
+     * @return The chunk size to use.
+     */
+    private int chunkSizeOf(StreamCustomersRequest request) {
+	if (request.getChunkSize() <= 0) {
+	    return MessageUtil.GRPC_STREAM_DEFAULT_CHUNK_SIZE;
+	}
+	return Math.min(request.getChunkSize(), MessageUtil.GRPC_STREAM_MAX_CHUNK_SIZE);
+    }
+	
+    /**
+     * Sends customers to a streaming call as long as the transport is ready.
+     * 
+     * Each time the call becomes ready again, a drain is handed to the GrpcCallExecutor, 
+     * unless one is already running: the drains are serialized by the draining flag, 
+     * which also publishes the state below from one drain to the next.
+     */
+    private final class CustomerStreamDrainer {
+	
+	private final ServerCallStreamObserver<CustomerResponse> observer;
+	private final int chunkSize;
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private Iterator<CustomerDto> chunk = Collections.emptyIterator();
+	private long lastId;
+	private long sent;
+	private boolean done;
+	
+	private CustomerStreamDrainer(ServerCallStreamObserver<CustomerResponse> observer, int chunkSize) {
+	    this.observer = observer;
+	    this.chunkSize = chunkSize;
+	}
+	
+	private void drainIfIdle() {
+	    if (draining.compareAndSet(false, true)
+		    && !grpcCallExecutor.resume("streamCustomers", observer, this::drain)) {
+		done = true;
+	    }
+	}
+	
+	private void drain() {
+	    try {
+		drainWhileReady();
+	    } finally {
+		draining.set(false);
+	    }
+	    // The call may have become ready again after the last check of the loop
+	    if (!done && observer.isReady()) {
+		drainIfIdle();
+	    }
+	}
+	
+	private void drainWhileReady() {
+	    try {
+		while (!done && observer.isReady()) {
+		    if (observer.isCancelled()) {
+			done = true;
+			return;
+		    }
+		    if (!chunk.hasNext()) {
+			var customers = customerService.getCustomersAfterId(lastId, chunkSize);
+			if (customers.isEmpty()) {
+			    done = true;
+			    observer.onCompleted();
+			    log.info("streamCustomers - gRPC request: Successfully streamed {} customers.", sent);
+			    return;
+			}
+			chunk = customers.iterator();
+		    }
+		    var customer = chunk.next();
+		    lastId = customer.getId();
+		    observer.onNext(customerMapper.toCustomerProto(customer));
+		    sent++;
+		}
+	    } catch (Exception e) {
+		done = true;
+		log.error("streamCustomers - gRPC request: Error while streaming customers.", e);
+		observer.onError(Status.INTERNAL.withDescription(e.getMessage()).asRuntimeException());
+	    }
+	}
+    }
+	
+    /**
+     * Forwards the changes of the customers to a watching call, one at a time, 
+     * requesting the next change only when the transport is ready.
+     * 
+     * The changes are delivered on the threads committing them, and the readiness on 
+     * the gRPC threads, so the outstanding request is tracked atomically; Reactor 
+     * serializes the signals, so the observer is never called concurrently.
+     */
+    private final class CustomerChangeForwarder extends BaseSubscriber<CustomerChangeDto> {
+	
+	private final ServerCallStreamObserver<CustomerChange> observer;
+	private final AtomicBoolean requested = new AtomicBoolean();
+	
+	private CustomerChangeForwarder(ServerCallStreamObserver<CustomerChange> observer) {
+	    this.observer = observer;
+	}
+	
+	private void requestIfReady() {
+	    if (upstream() != null && !isDisposed() && observer.isReady() && requested.compareAndSet(false, true)) {
+		request(1);
+	    }
+	}
+	
+	@Override
+	protected void hookOnSubscribe(Subscription subscription) {
+	    requestIfReady();
+	}
+	
+	@Override
+	protected void hookOnNext(CustomerChangeDto change) {
+	    requested.set(false);
+	    observer.onNext(customerMapper.toCustomerChangeProto(change));
+	    requestIfReady();
+	}
+	
+	@Override
+	protected void hookOnComplete() {
+	    observer.onCompleted();
+	}
+	
+	@Override
+	protected void hookOnError(Throwable e) {
+	    if (e instanceof InvalidRequestException) {
+		observer.onError(Status.OUT_OF_RANGE.withDescription(e.getMessage()).asRuntimeException());
+	    } else if (Exceptions.isOverflow(e)) {
+		log.warn("watchCustomers - gRPC request: The client is lagging behind, the watch is ended.");
+		observer.onError(Status.RESOURCE_EXHAUSTED.withDescription(MessageUtil.CHANGE_WATCHER_TOO_SLOW).asRuntimeException());
+	    } else {
+		log.error("watchCustomers - gRPC request: Error while watching the customer changes.", e);
+		observer.onError(Status.INTERNAL.withDescription(e.getMessage()).asRuntimeException());
+	    }
+	}
+    }
+	
+    /**
+     * Collects the customers of an import call and imports them chunk by chunk.
+     * 
+     * The automatic requests of the call are disabled, and the next chunk of messages is 
+     * only requested once a chunk has been imported, which slows down a client sending 
+     * faster than the import through the HTTP/2 flow control.
+     * 
+     * The chunks are imported by the GrpcCallExecutor, one at a time, while the messages 
+     * are delivered on the gRPC threads, so the state below is guarded by the collector. 
+     * A client completing its stream during an import is answered once it is done.
+     */
+    private final class CustomerImportCollector implements StreamObserver<CustomerRequest> {
+	
+	private final ServerCallStreamObserver<CustomerImportSummary> observer;
+	private final CustomerImportSummary.Builder summary = CustomerImportSummary.newBuilder();
+	private List<CustomerDto> chunk = new ArrayList<>();
+	private int received;
+	private boolean importing;
+	private boolean completed;
+	private boolean failed;
+	
+	private CustomerImportCollector(ServerCallStreamObserver<CustomerImportSummary> observer) {
+	    this.observer = observer;
+	}
+	
+	@Override
+	public synchronized void onNext(CustomerRequest request) {
+	    if (failed) {
+		return;
+	    }
+	    chunk.add(customerMapper.fromCustomerRequest(request));
+	    if (chunk.size() == MessageUtil.GRPC_IMPORT_CHUNK_SIZE) {
+		importChunk();
+	    }
+	}
+	
+	@Override
+	public synchronized void onError(Throwable t) {
+	    failed = true;
+	    log.warn("importCustomers - gRPC request: Cancelled by the client after {} customers.", received, t);
+	}
+	
+	@Override
+	public synchronized void onCompleted() {
+	    if (failed) {
+		return;
+	    }
+	    completed = true;
+	    if (!importing) {
+		importChunk();
+	    }
+	}
+	
+	private void importChunk() {
+	    var customers = chunk;
+	    chunk = new ArrayList<>();
+	    importing = true;
+	    if (!grpcCallExecutor.resume("importCustomers", observer, () -> importChunk(customers))) {
+		failed = true;
+	    }
+	}
+	
+	private void importChunk(List<CustomerDto> customers) {
+	    List<CustomerImportResultDto> results;
+	    try {
+		results = customerService.saveCustomers(customers);
+	    } catch (Exception e) {
+		synchronized (this) {
+		    failed = true;
+		}
+		log.error("importCustomers - gRPC request: Error while importing customers.", e);
+		observer.onError(Status.INTERNAL.withDescription(e.getMessage()).asRuntimeException());
+		return;
+	    }
+	    synchronized (this) {
+		importing = false;
+		for (var result : results) {
+		    if (result.isSuccess()) {
+			summary.setImportedCount(summary.getImportedCount() + 1);
+			continue;
+		    }
+		    summary.setFailedCount(summary.getFailedCount() + 1);
+		    if (summary.getFailuresCount() < MessageUtil.GRPC_IMPORT_MAX_REPORTED_FAILURES) {
+			summary.addFailures(CustomerImportResult.newBuilder()
+				.setIndex(received + result.getIndex())
+				.setError(result.getError()));
+		    }
+		}
+		received += customers.size();
+		if (failed) {
+		    return;
+		}
+		if (!completed) {
+		    observer.request(MessageUtil.GRPC_IMPORT_CHUNK_SIZE);
+		} else if (!chunk.isEmpty()) {
+		    importChunk();
+		} else {
+		    observer.onNext(summary.build());
+		    observer.onCompleted();
+		    log.info("importCustomers - gRPC request: Imported {} customers - failed: {}.", 
+			    summary.getImportedCount(), summary.getFailedCount());
+		}
+	    }
+	}
     }
 	
 }
@@ -0,0 +1,135 @@
+package fr.tao.customerservice.api.grpc;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import fr.tao.customerservice.util.MessageUtil;
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the blocking work of the gRPC calls on a dedicated, bounded thread pool rather
+ * than on the gRPC server executor, which is then only used to receive the calls.
+ *
+ * <ul>
+ *   <li>The number of threads bounds the concurrent calls hitting the database, and is
+ *   sized after the connection pool: more threads would only wait for a connection.</li>
+ *   <li>The calls waiting for a thread are queued, up to the queue capacity. Beyond, the
+ *   calls are shed with a RESOURCE_EXHAUSTED status, so the clients can back off or retry
+ *   elsewhere instead of piling up behind a saturated server.</li>
+ *   <li>The calls cancelled by their client, or whose deadline has expired, while they
+ *   were queued are dropped without being run.</li>
+ *   <li>A call failing with an unexpected exception is closed with an INTERNAL status,
+ *   as grpc-java would close it on its own threads, rather than being left open until
+ *   the deadline of the client.</li>
+ * </ul>
+ * The pool is instrumented ({@code executor.*} meters tagged with {@value MessageUtil#GRPC_EXECUTOR_NAME}),
+ * and the shed calls are counted in {@value MessageUtil#GRPC_REJECTED_CALLS_METRIC}.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+@Slf4j
+public class GrpcCallExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor threadPool;
+    private final ExecutorService executor;
+    private final Counter rejectedCalls;
+
+    /**
+     * Creates the thread pool of the gRPC calls.
+     *
+     * @param threads       The number of threads of the pool.
+     * @param queueCapacity The maximum number of calls waiting for a thread.
+     * @param meterRegistry The registry of the pool metrics.
+     */
+    public GrpcCallExecutor(
+	    @Value("${customer.grpc.executor.threads:10}") int threads,
+	    @Value("${customer.grpc.executor.queue-capacity:200}") int queueCapacity,
+	    MeterRegistry meterRegistry) {
+	var threadCount = new AtomicInteger();
+	this.threadPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+		new ArrayBlockingQueue<>(queueCapacity),
+		runnable -> new Thread(runnable, MessageUtil.GRPC_EXECUTOR_NAME + "-" + threadCount.incrementAndGet()),
+		new ThreadPoolExecutor.AbortPolicy());
+	this.executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, MessageUtil.GRPC_EXECUTOR_NAME);
+	this.rejectedCalls = Counter.builder(MessageUtil.GRPC_REJECTED_CALLS_METRIC)
+		.description("gRPC calls shed because the call executor was saturated")
+		.register(meterRegistry);
+    }
+
+    /**
+     * Hands the work of a gRPC call to the thread pool. It must be called by the gRPC
+     * method handler, as it registers the cancellation handler of the call.
+     *
+     * @param operation        The name of the gRPC method, for the logs.
+     * @param responseObserver The observer of the response of the call.
+     * @param call             The work of the call, responding to the observer.
+     */
+    public void execute(String operation, StreamObserver<?> responseObserver, Runnable call) {
+	if (responseObserver instanceof ServerCallStreamObserver<?> serverObserver) {
+	    // Without handler, responding to a cancelled call throws a CANCELLED exception
+	    serverObserver.setOnCancelHandler(() -> log.debug("{} - gRPC request: Cancelled by the client.", operation));
+	}
+	resume(operation, responseObserver, call);
+    }
+
+    /**
+     * Hands further work of a streaming gRPC call to the thread pool, from the handlers
+     * of the call. The method handler must have registered the cancellation handler of
+     * the call, as it can no longer be registered afterwards.
+     *
+     * @param operation        The name of the gRPC method, for the logs.
+     * @param responseObserver The observer of the response of the call.
+     * @param call             The work of the call, responding to the observer.
+     * @return true if the work was handed to the thread pool, false if it was rejected
+     *         and the call closed with RESOURCE_EXHAUSTED.
+     */
+    public boolean resume(String operation, StreamObserver<?> responseObserver, Runnable call) {
+	var context = Context.current();
+	try {
+	    executor.execute(context.wrap(() -> {
+		if (context.isCancelled()) {
+		    log.warn("{} - gRPC request: Dropped, the call was cancelled or timed out while queued.", operation);
+		    return;
+		}
+		try {
+		    call.run();
+		} catch (RuntimeException e) {
+		    // Off the gRPC handler thread, grpc-java no longer closes the call on an exception
+		    log.error("{} - gRPC request: Failed.", operation, e);
+		    responseObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).asRuntimeException());
+		}
+	    }));
+	    return true;
+	} catch (RejectedExecutionException e) {
+	    rejectedCalls.increment();
+	    log.warn("{} - gRPC request: Rejected, {} calls are already queued.", operation, threadPool.getQueue().size());
+	    responseObserver.onError(Status.RESOURCE_EXHAUSTED.withDescription(MessageUtil.GRPC_EXECUTOR_SATURATED)
+		    .asRuntimeException());
+	    return false;
+	}
+    }
+
+    @Override
+    public void destroy() {
+	threadPool.shutdown();
+    }
+
+}
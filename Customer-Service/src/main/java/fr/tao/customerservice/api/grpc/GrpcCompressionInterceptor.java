@@ -0,0 +1,77 @@
+package fr.tao.customerservice.api.grpc;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.unit.DataSize;
+
+import com.google.protobuf.MessageLite;
+
+import fr.tao.customerservice.util.MessageUtil;
+import io.grpc.CompressorRegistry;
+import io.grpc.ForwardingServerCall;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+
+/**
+ * gRPC server interceptor compressing the response messages with the compressor selected 
+ * by the {@code customer.grpc.compression} property (gzip by default, identity to disable it).
+ *
+ * Only the messages of at least {@code customer.grpc.compression-min-message-size} bytes 
+ * (2KB by default) are compressed, as the HTTP responses: the lists, pages and batches of 
+ * customers are, whereas a single customer, unary or streamed, is sent as is, since 
+ * compressing it would cost more CPU time than the few bytes it would save.
+ *
+ * The compression is negotiated: the messages are only compressed for the clients
+ * accepting the encoding in their {@code grpc-accept-encoding} header, and sent as is
+ * to the others. The request messages compressed by the clients are decompressed
+ * whatever this property.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@GrpcGlobalServerInterceptor
+public class GrpcCompressionInterceptor implements ServerInterceptor {
+
+    private final String compression;
+
+    private final long minMessageSize;
+
+    /**
+     * Creates the interceptor, checking that the compressor is registered.
+     *
+     * @param compression The name of the compressor of the response messages.
+     * @param minMessageSize The size from which the response messages are compressed.
+     * @throws IllegalArgumentException if no compressor is registered with this name.
+     */
+    public GrpcCompressionInterceptor(@Value("${customer.grpc.compression:gzip}") String compression, 
+	    @Value("${customer.grpc.compression-min-message-size:2KB}") DataSize minMessageSize) {
+	if (!MessageUtil.GRPC_IDENTITY_COMPRESSION.equals(compression)
+		&& CompressorRegistry.getDefaultInstance().lookupCompressor(compression) == null) {
+	    throw new IllegalArgumentException(MessageUtil.GRPC_UNKNOWN_COMPRESSION + compression);
+	}
+	this.compression = compression;
+	this.minMessageSize = minMessageSize.toBytes();
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+	    ServerCallHandler<ReqT, RespT> next) {
+	if (MessageUtil.GRPC_IDENTITY_COMPRESSION.equals(compression)) {
+	    return next.startCall(call, headers);
+	}
+	call.setCompression(compression);
+	return next.startCall(new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+	    @Override
+	    public void sendMessage(RespT message) {
+		// The serialized size is memoized by the message, and reused to write it
+		setMessageCompression(!(message instanceof MessageLite messageLite) 
+			|| messageLite.getSerializedSize() >= minMessageSize);
+		super.sendMessage(message);
+	    }
+	}, headers);
+    }
+
+}
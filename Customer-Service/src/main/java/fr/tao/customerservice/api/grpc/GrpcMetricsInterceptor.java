@@ -0,0 +1,89 @@
+package fr.tao.customerservice.api.grpc;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import fr.tao.customerservice.metrics.ApiMetrics;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Timer;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+
+/**
+ * gRPC server interceptor timing each call, from its start to its close: the 
+ * streaming calls are thus timed over the whole stream. The operation is the 
+ * name of the gRPC method, and the outcome follows the status of the call.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@GrpcGlobalServerInterceptor
+@RequiredArgsConstructor
+public class GrpcMetricsInterceptor implements ServerInterceptor {
+	
+    /**
+     * The status codes of the calls failing because of the request or of the client.
+     */
+    private static final Set<Status.Code> CLIENT_ERROR_CODES = Set.of(Status.Code.CANCELLED, 
+	    Status.Code.INVALID_ARGUMENT, Status.Code.NOT_FOUND, Status.Code.ALREADY_EXISTS, 
+	    Status.Code.PERMISSION_DENIED, Status.Code.UNAUTHENTICATED, Status.Code.FAILED_PRECONDITION, 
+	    Status.Code.OUT_OF_RANGE);
+	
+    @NonNull private final ApiMetrics apiMetrics;
+	
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers, 
+	    ServerCallHandler<ReqT, RespT> next) {
+	var recorder = new CallRecorder(apiMetrics.start(), call.getMethodDescriptor().getBareMethodName());
+	var timedCall = new ForwardingServerCall.SimpleForwardingServerCall<ReqT, RespT>(call) {
+	    
+	    @Override
+	    public void close(Status status, Metadata trailers) {
+		recorder.record(status.getCode());
+		super.close(status, trailers);
+	    }
+	};
+	return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(next.startCall(timedCall, headers)) {
+	    
+	    @Override
+	    public void onCancel() {
+		// The call is cancelled by the client without being closed
+		recorder.record(Status.Code.CANCELLED);
+		super.onCancel();
+	    }
+	};
+    }
+	
+    /**
+     * Records a call once, at its close or at its cancellation.
+     */
+    @RequiredArgsConstructor
+    private class CallRecorder {
+	
+	private final Timer.Sample sample;
+	private final String operation;
+	private final AtomicBoolean recorded = new AtomicBoolean();
+	
+	void record(Status.Code code) {
+	    if (recorded.compareAndSet(false, true)) {
+		apiMetrics.recordRequest(sample, ApiMetrics.Protocol.GRPC, operation, outcomeOf(code));
+	    }
+	}
+    }
+	
+    private static ApiMetrics.Outcome outcomeOf(Status.Code code) {
+	if (code == Status.Code.OK) {
+	    return ApiMetrics.Outcome.SUCCESS;
+	}
+	return CLIENT_ERROR_CODES.contains(code) ? ApiMetrics.Outcome.CLIENT_ERROR : ApiMetrics.Outcome.SERVER_ERROR;
+    }
+
+}
@@ -1,9 +1,15 @@
 package fr.tao.customerservice.api.rest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,18 +17,34 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import fr.tao.customerservice.dto.CustomerBatchDto;
+import fr.tao.customerservice.dto.CustomerChangeBatchDto;
 import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.dto.CustomerImportResultDto;
+import fr.tao.customerservice.dto.CustomerPageDto;
 import fr.tao.customerservice.exception.CustomerNotFoundException;
+import fr.tao.customerservice.exception.InvalidRequestException;
+import fr.tao.customerservice.grpc.generated.CustomerList;
+import fr.tao.customerservice.grpc.generated.CustomerResponse;
+import fr.tao.customerservice.mapper.CustomerMapper;
 import fr.tao.customerservice.service.CustomerService;
+import fr.tao.customerservice.service.ReactiveCustomerService;
+import fr.tao.customerservice.util.EtagUtil;
 import fr.tao.customerservice.util.MessageUtil;
 import jakarta.persistence.NoResultException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * This class represents a RESTful controller for managing customer data. 
@@ -30,47 +52,228 @@ import lombok.extern.slf4j.Slf4j;
  * It handles various operations related to customers, such as retrieving, creating, 
  * updating, and deleting customers.
  * 
+ * The responses are written in JSON by default, or in the CBOR or Smile binary formats 
+ * when requested by the Accept header; the list of all customers can also be requested 
+ * in NDJSON or in Protobuf.
+ * 
+ * The list of all customers and each customer are tagged with an ETag derived from their 
+ * version and from the negotiated media type (a weak one for the list, which may be compressed): 
+ * a request whose If-None-Match header holds the current tag is answered with 304 Not Modified, 
+ * without reading the customers nor writing them. As the tag depends on the Accept header, 
+ * the responses carrying it, 304 included, vary by this header.
+ * 
  * @author T. Aoufi
  * @version 1.0
  * @since 21/10/2023
  */
 @RestController
 @CrossOrigin("*")
-@RequestMapping(produces = "application/json", value = "/api/customers")
+@RequestMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, MessageUtil.APPLICATION_SMILE }, 
+	value = "/api/customers")
 @RequiredArgsConstructor
 @Slf4j
 public class CustomerRestController {
 	
+    /**
+     * The media types of the representations of a customer and of the list of customers, 
+     * by order of preference, as produced by this controller.
+     */
+    private static final List<MediaType> PRODUCIBLE_MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON, 
+	    MediaType.APPLICATION_CBOR, MediaType.parseMediaType(MessageUtil.APPLICATION_SMILE));
+	
+    private static final MediaType PROTOBUF_MEDIA_TYPE = MediaType.parseMediaType(MessageUtil.APPLICATION_PROTOBUF);
+	
     /**
      * A required constructor-based injection of the CustomerService.
      */
     @NonNull private final CustomerService customerService;
 	
+    /**
+     * A required constructor-based injection of the ReactiveCustomerService.
+     */
+    @NonNull private final ReactiveCustomerService reactiveCustomerService;
+	
+    /**
+     * The ObjectMapper writing the customers of the NDJSON responses.
+     */
+    @NonNull private final ObjectMapper objectMapper;
+	
+    /**
+     * The mapper converting the customers of the Protobuf responses.
+     */
+    @NonNull private final CustomerMapper customerMapper;
+	
     /**
      * Get a list of all customers.
      *
-     * @return ResponseEntity<List<CustomerDto>: A response entity containing a list of customer data in JSON format.
+     * @param accept The media types accepted by the client, if any.
+     * @param ifNoneMatch The ETags of the copies held by the client, if any.
+     * @return ResponseEntity<List<CustomerDto>: A response entity containing a list of customer data in JSON format, 
+     * or a 304 Not Modified response if the client copy is current.
      * @throws Exception if there is an error while processing the request.
      */
     @GetMapping
-    public ResponseEntity<List<CustomerDto>> getCustomers() throws Exception {
+    public ResponseEntity<List<CustomerDto>> getCustomers(
+	    @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+	    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws Exception {
 	log.info("getCustomers - REST request: Getting all customers");
+	var mediaType = negotiate(accept);
+	var eTag = EtagUtil.toWeakEtag(customerService.getCustomersVersion(), mediaType);
+	if (EtagUtil.matches(ifNoneMatch, eTag)) {
+	    return notModified(eTag);
+	}
 	var customers = customerService.getAllCustomer();
-	return ResponseEntity.ok(customers); 	
+	return ok(eTag, mediaType).body(customers); 	
+    }
+	
+    /**
+     * Get all customers as newline-delimited JSON, when requested by the Accept header.
+     * 
+     * The customers are written one per line as they are read from the database, instead of 
+     * being collected in a list and serialized at once, so the time to first byte and the 
+     * memory used do not depend on the number of customers. A database connection is held 
+     * until the last customer has been written.
+     * 
+     * Unlike the '/stream' endpoint, the customers are read in a single transaction, and the 
+     * response is conditional on the ETag of the list, as the other representations of the list.
+     *
+     * @param ifNoneMatch The ETags of the copies held by the client, if any.
+     * @return ResponseEntity<StreamingResponseBody>: A response entity writing the customers in NDJSON format, 
+     * or a 304 Not Modified response if the client copy is current.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getCustomersAsNdjson(
+	    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+	log.info("getCustomersAsNdjson - REST request: Streaming all customers");
+	var eTag = EtagUtil.toWeakEtag(customerService.getCustomersVersion(), MediaType.APPLICATION_NDJSON);
+	if (EtagUtil.matches(ifNoneMatch, eTag)) {
+	    return notModified(eTag);
+	}
+	var customerWriter = objectMapper.writerFor(CustomerDto.class);
+	StreamingResponseBody body = outputStream -> customerService.forEachCustomer(customer -> {
+	    try {
+		outputStream.write(customerWriter.writeValueAsBytes(customer));
+		outputStream.write('\n');
+	    } catch (IOException e) {
+		throw new UncheckedIOException(e);
+	    }
+	});
+	return ok(eTag, MediaType.APPLICATION_NDJSON).body(body);
+    }
+	
+    /**
+     * Get all customers as a Protobuf CustomerList, when requested by the Accept header.
+     * 
+     * The list is built as the gRPC one, from the customers read as projections, and 
+     * is more compact and faster to parse than its JSON counterpart.
+     *
+     * @param ifNoneMatch The ETags of the copies held by the client, if any.
+     * @return ResponseEntity<CustomerList>: A response entity containing the customers in Protobuf format, 
+     * or a 304 Not Modified response if the client copy is current.
+     */
+    @GetMapping(produces = MessageUtil.APPLICATION_PROTOBUF)
+    public ResponseEntity<CustomerList> getCustomersAsProtobuf(
+	    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+	log.info("getCustomersAsProtobuf - REST request: Getting all customers");
+	var eTag = EtagUtil.toWeakEtag(customerService.getCustomersVersion(), PROTOBUF_MEDIA_TYPE);
+	if (EtagUtil.matches(ifNoneMatch, eTag)) {
+	    return notModified(eTag);
+	}
+	var customerList = CustomerList.newBuilder();
+	var customerProto = CustomerResponse.newBuilder();
+	customerService.forEachCustomer(customer -> 
+		customerList.addCustomers(customerMapper.toCustomerProto(customer, customerProto)));
+	return ok(eTag, PROTOBUF_MEDIA_TYPE).body(customerList.build());
+    }
+	
+    /**
+     * Get a page of customers, ordered by ID, using a keyset pagination.
+     *
+     * @param cursor The opaque cursor returned with the previous page, omitted for the first page.
+     * @param size The page size, capped to the maximum page size.
+     * @return ResponseEntity<CustomerPageDto>: A response entity containing the page of customers in JSON format.
+     * @throws InvalidRequestException if the cursor is malformed.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CustomerPageDto> getCustomersPage(
+	    @RequestParam(required = false) String cursor, 
+	    @RequestParam(required = false) Integer size) throws InvalidRequestException {
+	log.info("getCustomersPage - REST request: Getting customers page - cursor: {}, size: {}", cursor, size);
+	var page = customerService.getCustomersPage(cursor, size);
+	return ResponseEntity.ok(page);
+    }
+	
+    /**
+     * Get a batch of changes of the customers from the change log, after a sequence, 
+     * to synchronize a copy of the customers incrementally.
+     *
+     * @param since The sequence of the last change applied (exclusive), omitted to read the log from the start.
+     * @param limit The maximum number of changes, capped to the maximum number of changes.
+     * @return ResponseEntity<CustomerChangeBatchDto>: A response entity containing the changes, ordered by 
+     * sequence, and the sequence to read the next batch after.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<CustomerChangeBatchDto> getCustomerChanges(
+	    @RequestParam(required = false) Long since, 
+	    @RequestParam(required = false) Integer limit) {
+	log.debug("getCustomerChanges - REST request: Getting customer changes - since: {}, limit: {}", since, limit);
+	var changes = customerService.getCustomerChanges(since, limit);
+	return ResponseEntity.ok(changes);
     }
 	
     /**
      * Get a customer by their ID.
      *
      * @param id The ID of the customer to retrieve.
-     * @return ResponseEntity<CustomerDto>: A response entity containing customer data in JSON format.
+     * @param accept The media types accepted by the client, if any.
+     * @param ifNoneMatch The ETags of the copies held by the client, if any.
+     * @return ResponseEntity<CustomerDto>: A response entity containing customer data in JSON format, 
+     * or a 304 Not Modified response if the client copy is current.
      * @throws CustomerNotFoundException if the specified customer is not found.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<CustomerDto> getCustomerById(@PathVariable Long id) throws CustomerNotFoundException {
+    public ResponseEntity<CustomerDto> getCustomerById(@PathVariable Long id, 
+	    @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+	    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws CustomerNotFoundException {
 	log.info("getCustomerById - REST request: Getting customer by ID: {}", id);
-	var customer = customerService.getCustomerById(id);
-	return ResponseEntity.ok(customer);
+	// The customer and its version are read together, so the tag is the one of the customer returned
+	var customer = customerService.getVersionedCustomerById(id);
+	var mediaType = negotiate(accept);
+	var eTag = EtagUtil.toEtag(customer.getVersion(), mediaType);
+	if (EtagUtil.matches(ifNoneMatch, eTag)) {
+	    return notModified(eTag);
+	}
+	return ok(eTag, mediaType).body(customer.getCustomer());
+    }
+	
+    /**
+     * Get a customer by their ID through R2DBC, without holding a thread while the customer is read.
+     * 
+     * Unlike the '/{id}' endpoint, the customer is neither tagged nor cached: it is read 
+     * from the database on each request.
+     *
+     * @param id The ID of the customer to retrieve.
+     * @return Mono<CustomerDto>: The customer, or a 404 Not Found response if the customer is not found.
+     */
+    @GetMapping("/reactive/{id}")
+    public Mono<CustomerDto> getCustomerByIdReactive(@PathVariable Long id) {
+	log.info("getCustomerByIdReactive - REST request: Getting customer by ID: {}", id);
+	return reactiveCustomerService.getCustomerById(id);
+    }
+	
+    /**
+     * Get the customers matching a list of IDs, with a single round trip and a single query.
+     *
+     * @param customerIds The IDs of the customers to retrieve.
+     * @return ResponseEntity<CustomerBatchDto>: A response entity containing the customers found, 
+     * in the order of the requested IDs, and the missing IDs in JSON format.
+     * @throws InvalidRequestException if more IDs than the maximum batch size are requested.
+     */
+    @PostMapping("/batch-get")
+    public ResponseEntity<CustomerBatchDto> getCustomersByIds(@RequestBody List<Long> customerIds) throws InvalidRequestException {
+	log.info("getCustomersByIds - REST request: Getting customers by IDs: {}", customerIds);
+	var batch = customerService.getCustomersByIds(customerIds);
+	return ResponseEntity.ok(batch);
     }
 	
     /**
@@ -87,6 +290,42 @@ public class CustomerRestController {
 	return ResponseEntity.ok().body(customerDtos);
     }
 	
+    /**
+     * Suggest customers by name or email, for autocompletion.
+     *
+     * @param q The query, matched as a prefix of the name, of a word of the name or of the email, 
+     * or as a substring when it has 3 characters or more.
+     * @param limit The maximum number of suggestions, capped to the maximum number of suggestions.
+     * @return ResponseEntity<List<CustomerDto>: A response entity containing the suggested customers, 
+     * best matches first, in JSON format.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<CustomerDto>> suggestCustomers(
+	    @RequestParam String q, 
+	    @RequestParam(required = false) Integer limit) {
+	log.debug("suggestCustomers - REST request: Suggesting customers - query: {}, limit: {}", q, limit);
+	var customerDtos = customerService.suggestCustomers(q, limit);
+	return ResponseEntity.ok(customerDtos);
+    }
+	
+    /**
+     * Stream the customers, ordered by ID, as newline-delimited JSON or server-sent events 
+     * depending on the Accept header.
+     * 
+     * The customers are read through R2DBC and written as they arrive, so neither the 
+     * response nor a thread is held for the whole stream by a slow client.
+     *
+     * @param afterId The ID after which customers are streamed (exclusive), omitted to 
+     * start from the first customer, e.g. the ID of the last customer received to resume 
+     * an interrupted stream.
+     * @return Flux<CustomerDto>: The stream of the customers.
+     */
+    @GetMapping(value = "/stream", produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE })
+    public Flux<CustomerDto> streamCustomers(@RequestParam(required = false) Long afterId) {
+	log.info("streamCustomers - REST request: Streaming customers after ID: {}", afterId);
+	return reactiveCustomerService.streamCustomers(afterId);
+    }
+	
     /**
      * Create a new customer.
      *
@@ -101,6 +340,21 @@ public class CustomerRestController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdCustomer);
     }
 	
+    /**
+     * Import new customers in bulk.
+     *
+     * @param customerDtos The customers to import.
+     * @return ResponseEntity<List<CustomerImportResultDto>>: A response entity containing the result 
+     * of the import of each customer, in the order of the request, in JSON format.
+     * @throws InvalidRequestException if more customers than the maximum import size are given.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<CustomerImportResultDto>> saveCustomers(@RequestBody List<CustomerDto> customerDtos) throws InvalidRequestException {
+	log.info("saveCustomers - REST request: Importing {} customers", customerDtos.size());
+	var results = customerService.saveCustomers(customerDtos);
+	return ResponseEntity.ok(results);
+    }
+	
     /**
      * Update an existing customer.
      *
@@ -132,4 +386,52 @@ public class CustomerRestController {
 	return ResponseEntity.ok().body(MessageUtil.CUSTOMER_SUCCESS_DELETE);
     }
 	
+    /**
+     * Selects the media type of the representation of a customer or of the list of customers, 
+     * among the ones produced by this controller, after the Accept header: the most specific 
+     * and preferred accepted type first, and the producible types in their order of preference.
+     *
+     * @param accept The Accept header, may be null.
+     * @return The selected media type, JSON if any type is accepted.
+     */
+    private static MediaType negotiate(String accept) {
+	if (accept == null || accept.isBlank()) {
+	    return PRODUCIBLE_MEDIA_TYPES.get(0);
+	}
+	var acceptedMediaTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+	MimeTypeUtils.sortBySpecificity(acceptedMediaTypes);
+	for (var acceptedMediaType : acceptedMediaTypes) {
+	    if (acceptedMediaType.getQualityValue() > 0) {
+		for (var producibleMediaType : PRODUCIBLE_MEDIA_TYPES) {
+		    if (acceptedMediaType.isCompatibleWith(producibleMediaType)) {
+			return producibleMediaType;
+		    }
+		}
+	    }
+	}
+	// The mapping already checked that a producible type is accepted
+	return PRODUCIBLE_MEDIA_TYPES.get(0);
+    }
+	
+    /**
+     * Builds the 200 OK response carrying an ETag, written in the media type the ETag was built for.
+     *
+     * @param eTag The ETag of the current version of the resource.
+     * @param mediaType The media type of the representation.
+     * @return ResponseEntity.BodyBuilder: A response builder carrying the ETag, the content type and the Vary header.
+     */
+    private static ResponseEntity.BodyBuilder ok(String eTag, MediaType mediaType) {
+	return ResponseEntity.ok().eTag(eTag).contentType(mediaType).varyBy(HttpHeaders.ACCEPT);
+    }
+	
+    /**
+     * Builds the 304 Not Modified response to a conditional request, without a body.
+     *
+     * @param eTag The ETag of the current version of the resource.
+     * @return ResponseEntity<T>: A response entity carrying the ETag and the Vary header.
+     */
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+	return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+    }
+	
 }
@@ -0,0 +1,61 @@
+package fr.tao.customerservice.api.rest;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import fr.tao.customerservice.metrics.ApiMetrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Interceptor timing the REST requests, from the dispatch to the controller method 
+ * to the completion of the response, asynchronous responses included. The operation 
+ * is the name of the controller method, and the outcome follows the response status.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+@RequiredArgsConstructor
+public class RestMetricsInterceptor implements HandlerInterceptor {
+	
+    private static final String SAMPLE_ATTRIBUTE = RestMetricsInterceptor.class.getName() + ".sample";
+	
+    @NonNull private final ApiMetrics apiMetrics;
+	
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+	// The async dispatch of a request is part of the request timed by the initial dispatch
+	if (handler instanceof HandlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+	    request.setAttribute(SAMPLE_ATTRIBUTE, apiMetrics.start());
+	}
+	return true;
+    }
+	
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+	if (request.getAttribute(SAMPLE_ATTRIBUTE) instanceof Timer.Sample sample && handler instanceof HandlerMethod handlerMethod) {
+	    request.removeAttribute(SAMPLE_ATTRIBUTE);
+	    apiMetrics.recordRequest(sample, ApiMetrics.Protocol.REST, handlerMethod.getMethod().getName(), 
+		    outcomeOf(response.getStatus(), ex));
+	}
+    }
+	
+    /**
+     * Classifies the outcome of a request from its response status, or from the 
+     * exception left unhandled by the exception handlers.
+     */
+    private static ApiMetrics.Outcome outcomeOf(int status, Exception ex) {
+	if (ex != null || status >= 500) {
+	    return ApiMetrics.Outcome.SERVER_ERROR;
+	}
+	return status >= 400 ? ApiMetrics.Outcome.CLIENT_ERROR : ApiMetrics.Outcome.SUCCESS;
+    }
+
+}
@@ -4,7 +4,9 @@ import java.util.List;
 
 import org.springframework.stereotype.Component;
 
+import fr.tao.customerservice.dto.CustomerBatchDto;
 import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.dto.CustomerPageDto;
 import fr.tao.customerservice.service.CustomerService;
 import jakarta.jws.WebMethod;
 import jakarta.jws.WebParam;
@@ -43,6 +45,30 @@ public class CustomerSoapService {
 	return customerService.getAllCustomer();
     }
 	
+    /**
+     * Retrieves the customers matching a list of IDs, with a single query.
+     *
+     * @param customerIds The IDs of the customers to retrieve.
+     * @return A CustomerBatchDto object holding the customers found, in the order of the requested IDs, 
+     * and the missing IDs.
+     */
+    @WebMethod
+    public CustomerBatchDto customersByIds(@WebParam(name = "ids") List<Long> customerIds) {
+	return customerService.getCustomersByIds(customerIds);
+    }
+	
+    /**
+     * Retrieves a page of customers, ordered by ID, using a keyset pagination.
+     *
+     * @param cursor The opaque cursor returned with the previous page, omitted for the first page.
+     * @param size The page size, capped to the maximum page size.
+     * @return A CustomerPageDto object holding the customers and the cursor of the next page.
+     */
+    @WebMethod
+    public CustomerPageDto customersPage(@WebParam(name = "cursor") String cursor, @WebParam(name = "size") Integer size) {
+	return customerService.getCustomersPage(cursor, size);
+    }
+	
     /**
      * Retrieves a customer by their unique identifier.
      *
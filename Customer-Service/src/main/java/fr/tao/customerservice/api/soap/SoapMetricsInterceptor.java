@@ -0,0 +1,93 @@
+package fr.tao.customerservice.api.soap;
+
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+
+import fr.tao.customerservice.metrics.ApiMetrics;
+import fr.tao.customerservice.util.MessageUtil;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * CXF interceptor timing the SOAP requests, from the reception of the request to 
+ * the end of the writing of the response or of the fault. The operation is the 
+ * name of the SOAP operation, and the outcome follows the fault, if any.
+ * 
+ * The same class provides the interceptor of the in chain, starting the timing, 
+ * and the interceptor of the out and out fault chains, recording it.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+public class SoapMetricsInterceptor extends AbstractPhaseInterceptor<Message> {
+	
+    private static final String SAMPLE_KEY = SoapMetricsInterceptor.class.getName() + ".sample";
+	
+    private final ApiMetrics apiMetrics;
+    private final boolean start;
+	
+    private SoapMetricsInterceptor(String phase, ApiMetrics apiMetrics, boolean start) {
+	super(phase);
+	this.apiMetrics = apiMetrics;
+	this.start = start;
+    }
+	
+    /**
+     * Creates the interceptor of the in chain, starting the timing of the requests.
+     *
+     * @param apiMetrics The metrics of the API.
+     * @return A SoapMetricsInterceptor to add to the in interceptors.
+     */
+    public static SoapMetricsInterceptor start(ApiMetrics apiMetrics) {
+	return new SoapMetricsInterceptor(Phase.RECEIVE, apiMetrics, true);
+    }
+	
+    /**
+     * Creates the interceptor of the out and out fault chains, recording the timing of the requests.
+     *
+     * @param apiMetrics The metrics of the API.
+     * @return A SoapMetricsInterceptor to add to the out and out fault interceptors.
+     */
+    public static SoapMetricsInterceptor stop(ApiMetrics apiMetrics) {
+	return new SoapMetricsInterceptor(Phase.SETUP_ENDING, apiMetrics, false);
+    }
+	
+    @Override
+    public void handleMessage(Message message) {
+	var exchange = message.getExchange();
+	if (start) {
+	    exchange.put(SAMPLE_KEY, apiMetrics.start());
+	    return;
+	}
+	if (exchange.remove(SAMPLE_KEY) instanceof Timer.Sample sample) {
+	    var operationInfo = exchange.getBindingOperationInfo();
+	    var operation = operationInfo != null ? operationInfo.getName().getLocalPart() : MessageUtil.UNKNOWN_OPERATION;
+	    var fault = exchange.getOutFaultMessage() != null ? exchange.getOutFaultMessage().getContent(Exception.class) : null;
+	    apiMetrics.recordRequest(sample, ApiMetrics.Protocol.SOAP, operation, outcomeOf(fault));
+	}
+    }
+	
+    /**
+     * Classifies the outcome of a request from its fault: the faults raised by the 
+     * service are classified from their cause, and the faults raised by CXF are 
+     * client errors when their fault code blames the client.
+     */
+    private static ApiMetrics.Outcome outcomeOf(Exception fault) {
+	if (fault == null) {
+	    return ApiMetrics.Outcome.SUCCESS;
+	}
+	if (fault.getCause() != null) {
+	    return ApiMetrics.outcomeOf(fault.getCause());
+	}
+	if (fault instanceof Fault cxfFault && cxfFault.getFaultCode() != null) {
+	    var code = cxfFault.getFaultCode().getLocalPart();
+	    if ("Client".equals(code) || "Sender".equals(code)) {
+		return ApiMetrics.Outcome.CLIENT_ERROR;
+	    }
+	}
+	return ApiMetrics.Outcome.SERVER_ERROR;
+    }
+
+}
@@ -0,0 +1,30 @@
+package fr.tao.customerservice.configuration;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration class for caching. It enables the Spring cache abstraction, 
+ * backed by the Caffeine cache manager auto-configured from the 
+ * {@code spring.cache.*} properties (size and TTL eviction, statistics).
+ * 
+ * The cache interceptor is ordered before the transaction interceptor, so that 
+ * evictions happen once the transaction is committed. The customers are loaded 
+ * synchronously (with a value loader, as with {@code @Cacheable(sync = true)}): Caffeine 
+ * computes the entry of a key atomically, and the eviction of a key waits for its 
+ * computation in progress. A read which loaded the customer before the commit is therefore 
+ * evicted after it, rather than caching the replaced customer data once its eviction is done.
+ * 
+ * A customer is cached with its version (its ETag) in a single entry, so the version 
+ * served is always the one of the customer data served with it.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+}
@@ -0,0 +1,56 @@
+package fr.tao.customerservice.configuration;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Configuration class of the JDBC data source, used by JPA, alongside the R2DBC
+ * connection factory used by the reactive read path ({@code spring.r2dbc.*} properties).
+ *
+ * Spring Boot does not auto-configure a data source once a connection factory is defined,
+ * so it is declared here from the {@code spring.datasource.*} properties. Its transaction
+ * manager is the primary one, so that the {@code @Transactional} methods and the
+ * TransactionTemplate keep running in JPA transactions, and not in R2DBC ones.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    /**
+     * Creates the Hikari data source of the JPA repositories.
+     *
+     * @param properties The {@code spring.datasource.*} properties.
+     * @return The data source, configured by the {@code spring.datasource.hikari.*} properties.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+	return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Creates the JPA transaction manager, primary over the R2DBC one.
+     *
+     * @param entityManagerFactory The JPA entity manager factory.
+     * @return The JPA transaction manager.
+     */
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+	return new JpaTransactionManager(entityManagerFactory);
+    }
+
+}
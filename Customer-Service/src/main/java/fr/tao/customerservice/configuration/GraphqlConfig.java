@@ -0,0 +1,100 @@
+package fr.tao.customerservice.configuration;
+
+import java.util.HashMap;
+import java.util.HashSet;
+
+import org.springframework.boot.autoconfigure.graphql.GraphQlSourceBuilderCustomizer;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.server.webmvc.GraphQlHttpHandler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import fr.tao.customerservice.api.graphql.PersistedQueryHttpHandler;
+import fr.tao.customerservice.api.graphql.PreparsedDocumentCache;
+import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.dto.VersionedCustomerDto;
+import fr.tao.customerservice.service.CustomerService;
+import fr.tao.customerservice.util.MessageUtil;
+import reactor.core.publisher.Mono;
+
+/**
+ * Configuration class for GraphQL. It registers the data loaders used by the 
+ * GraphQL controllers, the cache of the parsed documents, and the HTTP handler 
+ * of the persisted queries.
+ * 
+ * Spring GraphQL creates a new DataLoader for each request, so all the customer-by-ID 
+ * lookups of a request are coalesced into a single batch query, and a customer 
+ * requested several times is only loaded once.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Configuration
+public class GraphqlConfig {
+	
+    /**
+     * Registers a mapped batch loader of customers by ID. The customers held by the cache 
+     * of the customers are read from it, and only the missing ones are looked up, in a single 
+     * batch lookup per chunk of IDs. The IDs without any customer are absent from the loaded 
+     * map, and are thus loaded as null.
+     * 
+     * The customers looked up are not put in the cache: unlike the reads by ID, the batch 
+     * lookups are not serialized with the evictions, and could cache replaced customer data.
+     *
+     * @param registry        The registry of the batch loaders of Spring GraphQL.
+     * @param customerService The CustomerService used to retrieve the customers.
+     * @param cacheManager    The cache manager holding the cache of the customers.
+     */
+    public GraphqlConfig(BatchLoaderRegistry registry, CustomerService customerService, CacheManager cacheManager) {
+	var customerCache = cacheManager.getCache(MessageUtil.CUSTOMER_CACHE_NAME);
+	registry.forTypePair(Long.class, CustomerDto.class)
+		.withOptions(options -> options.setMaxBatchSize(MessageUtil.MAX_BATCH_SIZE))
+		.registerMappedBatchLoader((customerIds, env) -> Mono.fromCallable(() -> {
+		    var customers = new HashMap<Long, CustomerDto>();
+		    var missingIds = new HashSet<Long>();
+		    for (var customerId : customerIds) {
+			var customer = customerCache.get(customerId, VersionedCustomerDto.class);
+			if (customer != null) {
+			    customers.put(customerId, customer.getCustomer());
+			} else {
+			    missingIds.add(customerId);
+			}
+		    }
+		    if (!missingIds.isEmpty()) {
+			customerService.getCustomersByIds(missingIds).getCustomers()
+				.forEach(customer -> customers.put(customer.getId(), customer));
+		    }
+		    return customers;
+		}));
+    }
+	
+    /**
+     * Sets the cache of the parsed and validated documents on the GraphQL engine.
+     *
+     * @param preparsedDocumentCache The cache of the documents.
+     * @return A GraphQlSourceBuilderCustomizer instance.
+     */
+    @Bean
+    GraphQlSourceBuilderCustomizer preparsedDocumentCacheCustomizer(PreparsedDocumentCache preparsedDocumentCache) {
+	return builder -> builder.configureGraphQl(graphQl -> graphQl.preparsedDocumentProvider(preparsedDocumentCache));
+    }
+	
+    /**
+     * Creates the HTTP handler of the GraphQL requests, in place of the one of Spring GraphQL, 
+     * to accept the requests which only hold the hash of a persisted query.
+     *
+     * @param webGraphQlHandler The common handler of the GraphQL requests.
+     * @param objectMapper The JSON mapper of the application.
+     * @return A GraphQlHttpHandler instance.
+     */
+    @Bean
+    GraphQlHttpHandler graphQlHttpHandler(WebGraphQlHandler webGraphQlHandler, ObjectMapper objectMapper) {
+	return new PersistedQueryHttpHandler(webGraphQlHandler, objectMapper);
+    }
+
+}
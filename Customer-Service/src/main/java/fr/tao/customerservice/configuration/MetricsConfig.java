@@ -0,0 +1,31 @@
+package fr.tao.customerservice.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import fr.tao.customerservice.api.rest.RestMetricsInterceptor;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Configuration class for the metrics of the REST API. It registers the interceptor 
+ * timing the REST requests; the SOAP, gRPC and GraphQL requests are timed by the 
+ * interceptors of their own stacks.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+	
+    @NonNull private final RestMetricsInterceptor restMetricsInterceptor;
+	
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+	registry.addInterceptor(restMetricsInterceptor).addPathPatterns("/api/**");
+    }
+
+}
@@ -1,17 +1,24 @@
 package fr.tao.customerservice.configuration;
 
 import org.apache.cxf.Bus;
+import org.apache.cxf.feature.FastInfosetFeature;
 import org.apache.cxf.jaxws.EndpointImpl;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import fr.tao.customerservice.api.soap.CustomerSoapService;
+import fr.tao.customerservice.api.soap.SoapMetricsInterceptor;
+import fr.tao.customerservice.metrics.ApiMetrics;
 import fr.tao.customerservice.util.MessageUtil;
 
 /**
  * Configuration class for SOAP services. It defines a bean to create 
  * and configure a SOAP endpoint for the CustomerSoapService, 
- * which is published at the specified URI.
+ * which is published at the specified URI, with its requests timed.
+ * 
+ * The messages are encoded in Fast Infoset for the clients sending or accepting the 
+ * {@code application/fastinfoset} content type, and the textual XML is compressed by 
+ * the HTTP compression of the server for the clients accepting gzip.
  * 
  * @author T. Aoufi
  * @version 1.0
@@ -25,11 +32,17 @@ public class SoapConfig {
      *
      * @param bus The Spring Bus instance used for managing endpoints.
      * @param customerSoapService The CustomerSoapService instance to be exposed.
+     * @param apiMetrics The metrics recording the latency of the SOAP requests.
      * @return An EndpointImpl instance configured for the CustomerSoapService.
      */
     @Bean
-    EndpointImpl customerSoapEndpoint(Bus bus, CustomerSoapService customerSoapService) {
+    EndpointImpl customerSoapEndpoint(Bus bus, CustomerSoapService customerSoapService, ApiMetrics apiMetrics) {
         EndpointImpl endpoint = new EndpointImpl(bus, customerSoapService);
+        endpoint.getInInterceptors().add(SoapMetricsInterceptor.start(apiMetrics));
+        endpoint.getOutInterceptors().add(SoapMetricsInterceptor.stop(apiMetrics));
+        endpoint.getOutFaultInterceptors().add(SoapMetricsInterceptor.stop(apiMetrics));
+        // Fast Infoset (binary XML) for the clients accepting it, textual XML for the others
+        endpoint.getFeatures().add(new FastInfosetFeature());
         endpoint.publish(MessageUtil.SOAP_SERVICE_URI); 
         return endpoint;
     }
@@ -0,0 +1,79 @@
+package fr.tao.customerservice.configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+
+/**
+ * Configuration class for the virtual-thread execution mode, enabled by the
+ * {@code customer.virtual-threads.enabled} property.
+ *
+ * The Tomcat requests, and thus the REST, GraphQL and SOAP calls (CXF dispatches
+ * the SOAP calls on the servlet thread), the gRPC calls and the Spring MVC async
+ * tasks are each run on a new virtual thread instead of a pooled platform thread.
+ * The number of concurrent calls is then no longer capped by the Tomcat and gRPC
+ * thread pools, and the Hikari connection pool becomes the limiter of the
+ * concurrent database accesses: the calls waiting for a connection park their
+ * virtual thread without holding a platform thread.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Configuration
+@ConditionalOnProperty(name = "customer.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig implements DisposableBean {
+
+    /**
+     * The executor starting a new virtual thread per task, shared by Tomcat, gRPC and Spring MVC.
+     */
+    private final ExecutorService virtualThreadExecutor = Executors.newThreadPerTaskExecutor(
+	    Thread.ofVirtual().name("customer-vt-", 0).factory());
+
+    /**
+     * Runs the Tomcat request processing on virtual threads.
+     *
+     * @return A TomcatProtocolHandlerCustomizer setting the executor of the protocol handler.
+     */
+    @Bean
+    TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+	return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    /**
+     * Runs the gRPC calls on virtual threads.
+     *
+     * @return A GrpcServerConfigurer setting the executor of the gRPC server.
+     */
+    @Bean
+    GrpcServerConfigurer virtualThreadGrpcServerConfigurer() {
+	return serverBuilder -> serverBuilder.executor(virtualThreadExecutor);
+    }
+
+    /**
+     * Runs the Spring MVC async tasks on virtual threads, in place of the
+     * auto-configured thread pool.
+     *
+     * @return An AsyncTaskExecutor backed by the virtual thread executor.
+     */
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    AsyncTaskExecutor applicationTaskExecutor() {
+	return new TaskExecutorAdapter(virtualThreadExecutor);
+    }
+
+    @Override
+    public void destroy() {
+	virtualThreadExecutor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,32 @@
+package fr.tao.customerservice.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.protobuf.ProtobufHttpMessageConverter;
+
+/**
+ * Configuration class of the encodings of the REST responses.
+ *
+ * Besides JSON, the CBOR and Smile converters of Jackson are registered by Spring MVC
+ * as they are on the classpath, and the Protobuf converter is registered here, for the
+ * endpoints returning Proto messages. The encoding is negotiated with the Accept header.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Configuration
+public class WebConfig {
+
+    /**
+     * Creates the converter writing the Proto messages in the {@code application/x-protobuf}
+     * binary format.
+     *
+     * @return A ProtobufHttpMessageConverter instance.
+     */
+    @Bean
+    ProtobufHttpMessageConverter protobufHttpMessageConverter() {
+	return new ProtobufHttpMessageConverter();
+    }
+
+}
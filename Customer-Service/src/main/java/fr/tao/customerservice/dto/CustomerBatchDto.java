@@ -0,0 +1,29 @@
+package fr.tao.customerservice.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A data transfer object (DTO) representing the result of a batch lookup of customers by ID.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Data @NoArgsConstructor @AllArgsConstructor
+public class CustomerBatchDto {
+	
+    /**
+     * The customers found, in the order of the requested IDs.
+     */
+    private List<CustomerDto> customers;
+	
+    /**
+     * The requested IDs for which no customer exists, in the order of the request.
+     */
+    private List<Long> missingIds;
+
+}
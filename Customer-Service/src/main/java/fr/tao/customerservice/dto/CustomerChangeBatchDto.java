@@ -0,0 +1,36 @@
+package fr.tao.customerservice.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A data transfer object (DTO) representing a batch of changes of the customers, 
+ * read from the change log after a sequence.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Data @NoArgsConstructor @AllArgsConstructor
+public class CustomerChangeBatchDto {
+	
+    /**
+     * The changes of the batch, ordered by sequence.
+     */
+    private List<CustomerChangeDto> changes;
+	
+    /**
+     * The sequence to send back to get the next batch: the sequence of the last change 
+     * of the batch, or the requested one when the batch is empty.
+     */
+    private long lastSequence;
+	
+    /**
+     * Whether there are changes after this batch.
+     */
+    private boolean hasMore;
+
+}
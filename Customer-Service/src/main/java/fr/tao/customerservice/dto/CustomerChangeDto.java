@@ -0,0 +1,35 @@
+package fr.tao.customerservice.dto;
+
+import fr.tao.customerservice.event.CustomerChangedEvent.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A data transfer object (DTO) representing a committed change of a customer, 
+ * as delivered to the consumers of the change feed.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Data @NoArgsConstructor @AllArgsConstructor
+public class CustomerChangeDto {
+	
+    /**
+     * The sequence number of the change, incremented by one for each change, 
+     * from which a consumer can resume the feed.
+     */
+    private long sequence;
+	
+    /**
+     * The type of the change.
+     */
+    private ChangeType type;
+	
+    /**
+     * The customer after the change, or before its deletion.
+     */
+    private CustomerDto customer;
+
+}
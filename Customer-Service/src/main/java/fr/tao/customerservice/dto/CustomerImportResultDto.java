@@ -0,0 +1,38 @@
+package fr.tao.customerservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A data transfer object (DTO) representing the outcome of importing one customer 
+ * as part of a bulk import.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Data @NoArgsConstructor @AllArgsConstructor
+public class CustomerImportResultDto {
+	
+    /**
+     * The position of the customer in the imported list.
+     */
+    private int index;
+	
+    /**
+     * Whether the customer has been saved.
+     */
+    private boolean success;
+	
+    /**
+     * The saved customer, with its generated ID, or null if the import failed.
+     */
+    private CustomerDto customer;
+	
+    /**
+     * The reason of the failure, or null if the customer has been saved.
+     */
+    private String error;
+
+}
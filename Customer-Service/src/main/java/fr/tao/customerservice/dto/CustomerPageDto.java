@@ -0,0 +1,35 @@
+package fr.tao.customerservice.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A data transfer object (DTO) representing one page of customers, 
+ * read with a keyset (cursor-based) pagination on the customer ID.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Data @NoArgsConstructor @AllArgsConstructor
+public class CustomerPageDto {
+	
+    /**
+     * The customers of the page, ordered by ID.
+     */
+    private List<CustomerDto> customers;
+	
+    /**
+     * The opaque cursor to send back to get the next page, null when there is no next page.
+     */
+    private String nextCursor;
+	
+    /**
+     * Whether there are customers after this page.
+     */
+    private boolean hasNext;
+
+}
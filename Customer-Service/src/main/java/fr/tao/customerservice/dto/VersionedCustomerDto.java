@@ -0,0 +1,28 @@
+package fr.tao.customerservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A data transfer object (DTO) representing a customer with its version, read together, 
+ * so that the version identifies the customer data it is held with (e.g. as an ETag).
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Data @NoArgsConstructor @AllArgsConstructor
+public class VersionedCustomerDto {
+	
+    /**
+     * The customer.
+     */
+    private CustomerDto customer;
+	
+    /**
+     * The version of the customer, incremented on each of its updates.
+     */
+    private long version;
+
+}
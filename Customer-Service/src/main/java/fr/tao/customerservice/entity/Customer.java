@@ -1,17 +1,26 @@
 package fr.tao.customerservice.entity;
 
 import fr.tao.customerservice.util.MessageUtil;
+import fr.tao.customerservice.util.SearchUtil;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 /**
  * This class represents a Customer entity in the system. 
@@ -26,15 +35,20 @@ import lombok.NoArgsConstructor;
  * @since 21/10/2023
  */
 @Entity
+@Table(indexes = @Index(name = "idx_customer_name_key", columnList = "name_key"))
 @Data
-@Builder
-@NoArgsConstructor @AllArgsConstructor
+@NoArgsConstructor
 public class Customer {
     /**
      * The unique identifier for the customer.
+     * 
+     * Generated from a pooled sequence, so that Hibernate can allocate IDs 
+     * without a round trip per insert and group the inserts in JDBC batches.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = MessageUtil.CUSTOMER_ID_GENERATOR)
+    @SequenceGenerator(name = MessageUtil.CUSTOMER_ID_GENERATOR, sequenceName = MessageUtil.CUSTOMER_ID_SEQUENCE, 
+    	allocationSize = MessageUtil.CUSTOMER_ID_ALLOCATION_SIZE)
     private Long id;
 	
     /**
@@ -60,5 +74,57 @@ public class Customer {
     @Size(max =30, message = MessageUtil.CUSTOMER_EMAIL_NOT_VALID_SIZE)
     @Pattern(regexp = MessageUtil.CUSTOMER_EMAIL_REGEXP, message = MessageUtil.CUSTOMER_EMAIL_NOT_VALID_PATTERN)
     private String email;
+	
+    /**
+     * The normalized name of the customer (lower-cased, without diacritics), 
+     * kept in sync with the name. It is indexed, so that the name search 
+     * compares it directly rather than upper-casing the name of every row.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "name_key", length = 20)
+    private String nameKey;
+	
+    /**
+     * The version of the customer, incremented by Hibernate on each update. 
+     * 
+     * It guards the updates against concurrent changes, and is the entity tag 
+     * of the customer, so clients can revalidate their copy without downloading it.
+     */
+    @Setter(AccessLevel.NONE)
+    @Version
+    private long version;
+	
+    /**
+     * Creates a customer.
+     *
+     * @param id    The unique identifier of the customer.
+     * @param name  The name of the customer.
+     * @param email The email address of the customer.
+     */
+    @Builder
+    public Customer(Long id, String name, String email) {
+	this.id = id;
+	this.email = email;
+	setName(name);
+    }
+	
+    /**
+     * Sets the name of the customer, and its normalized name.
+     *
+     * @param name The name of the customer.
+     */
+    public void setName(String name) {
+	this.name = name;
+	this.nameKey = SearchUtil.normalize(name);
+    }
+	
+    /**
+     * Normalizes the name before it is written, whichever way it has been set.
+     */
+    @PrePersist
+    @PreUpdate
+    void normalizeName() {
+	this.nameKey = SearchUtil.normalize(name);
+    }
 
 }
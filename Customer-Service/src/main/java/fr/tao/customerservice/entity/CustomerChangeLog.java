@@ -0,0 +1,71 @@
+package fr.tao.customerservice.entity;
+
+import java.time.Instant;
+
+import fr.tao.customerservice.event.CustomerChangedEvent.ChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * This class represents an entry of the change log of the customers (outbox): one row 
+ * per committed change of a customer, appended in the transaction of the change.
+ * 
+ * The entries are numbered by a sequence incremented by one for each change, in commit 
+ * order, so a client can synchronize its copy of the customers incrementally by reading 
+ * the entries after the sequence of the last entry it has applied.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Entity
+@Table(name = "customer_change_log")
+@Data
+@NoArgsConstructor @AllArgsConstructor
+public class CustomerChangeLog {
+	
+    /**
+     * The sequence number of the change.
+     */
+    @Id
+    private Long sequence;
+	
+    /**
+     * The type of the change.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 7, nullable = false)
+    private ChangeType type;
+	
+    /**
+     * The ID of the changed customer.
+     */
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+	
+    /**
+     * The name of the customer after the change, or before its deletion.
+     */
+    @Column(length = 20)
+    private String name;
+	
+    /**
+     * The email of the customer after the change, or before its deletion.
+     */
+    @Column(length = 30)
+    private String email;
+	
+    /**
+     * The time of the change.
+     */
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+}
@@ -0,0 +1,43 @@
+package fr.tao.customerservice.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * This class represents the head of the change log of the customers: a single row 
+ * holding the sequence of the last change appended to the log.
+ * 
+ * The sequences of the changes of a transaction are reserved at once, just before its 
+ * commit, by incrementing this row, which locks it until the transaction ends. The changes 
+ * are thus numbered in commit order, and a reader of the log never sees a change while 
+ * a change with a lower sequence is still to be committed, at the cost of serializing 
+ * the commits of the changes of the customers.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Entity
+@Table(name = "customer_change_log_head")
+@Data
+@NoArgsConstructor @AllArgsConstructor
+public class CustomerChangeLogHead {
+	
+    /**
+     * The ID of the single row.
+     */
+    @Id
+    private Integer id;
+	
+    /**
+     * The sequence of the last change appended to the log.
+     */
+    @Column(name = "last_sequence", nullable = false)
+    private long lastSequence;
+
+}
@@ -0,0 +1,61 @@
+package fr.tao.customerservice.entity;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * This class represents an entry of the trigram index of the customer names: 
+ * one row per distinct trigram of the normalized name of each customer.
+ * 
+ * A substring search of a keyword looks up the customers having all the trigrams 
+ * of the keyword through the primary key (trigram, customer ID), instead of scanning 
+ * every name. The customer ID index serves the replacement of the entries of a customer.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Entity
+@Table(name = "customer_name_trigram", indexes = @Index(name = "idx_customer_name_trigram_customer", columnList = "customer_id"))
+@IdClass(CustomerNameTrigram.Key.class)
+@Data
+@NoArgsConstructor @AllArgsConstructor
+public class CustomerNameTrigram {
+	
+    /**
+     * A trigram of the normalized name.
+     */
+    @Id
+    @Column(length = 3)
+    private String trigram;
+	
+    /**
+     * The ID of the customer whose name has the trigram.
+     */
+    @Id
+    @Column(name = "customer_id")
+    private Long customerId;
+	
+    /**
+     * The composite key of a trigram index entry.
+     */
+    @Data
+    @NoArgsConstructor @AllArgsConstructor
+    public static class Key implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private String trigram;
+	private Long customerId;
+    }
+
+}
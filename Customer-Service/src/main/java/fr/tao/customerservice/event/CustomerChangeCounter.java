@@ -0,0 +1,46 @@
+package fr.tao.customerservice.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Counter of the changes of the customers, giving a version to the collection of customers.
+ * 
+ * The counter is incremented once a change is committed, so a version read before the 
+ * customers is never newer than them. As the counter starts over with the application, 
+ * the version is prefixed with the startup time, so that a version issued before a restart 
+ * is never taken for a current one.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+public class CustomerChangeCounter {
+	
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+	
+    private final AtomicLong changes = new AtomicLong();
+	
+    /**
+     * Counts the change of a customer, once the transaction making it is committed.
+     *
+     * @param event The change of the customer.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+	changes.incrementAndGet();
+    }
+	
+    /**
+     * Returns the current version of the collection of customers.
+     *
+     * @return The startup time and the number of changes since then.
+     */
+    public String getVersion() {
+	return epoch + "-" + changes.get();
+    }
+
+}
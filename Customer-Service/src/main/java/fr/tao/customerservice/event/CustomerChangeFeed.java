@@ -0,0 +1,195 @@
+package fr.tao.customerservice.event;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import fr.tao.customerservice.dto.CustomerChangeDto;
+import fr.tao.customerservice.exception.InvalidRequestException;
+import fr.tao.customerservice.mapper.CustomerMapper;
+import fr.tao.customerservice.repository.CustomerChangeLogRepository;
+import fr.tao.customerservice.util.MessageUtil;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * In-process feed of the committed changes of the customers, delivered to the watchers 
+ * as deltas, so they do not have to poll the whole list of customers.
+ * 
+ * The changes are numbered by the sequence of the change log, and emitted in sequence order 
+ * once committed. The last changes are retained ({@code customer.changes.replay-size}), so 
+ * a watcher can resume the feed after the sequence of the last change it received. A watcher 
+ * resuming after a change which is no longer retained (or made before the startup), or 
+ * lagging behind by more changes than retained, receives an error: it catches up by reading 
+ * the change log after its sequence, then resumes the feed after the last change read.
+ * 
+ * A change committed before a change with a lower sequence is held until the latter is 
+ * published. If it is still missing after {@code customer.changes.gap-timeout} (its listener 
+ * did not run, or it was committed by another instance), the gap is filled from the change 
+ * log, and the sequences missing from the log are skipped, so the feed never stalls.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+@Slf4j
+public class CustomerChangeFeed {
+	
+    private final int replaySize;
+	
+    private final Duration gapTimeout;
+	
+    private final CustomerChangeLogRepository customerChangeLogRepository;
+	
+    private final CustomerMapper customerMapper;
+	
+    private final Sinks.Many<CustomerChangeDto> sink;
+	
+    /**
+     * The sequence of the last change made before the startup, from which the feed starts.
+     */
+    private final long startSequence;
+	
+    /**
+     * The sequence of the last change emitted, guarded by this feed, which also serializes 
+     * the emissions to the sink.
+     */
+    private long sequence;
+	
+    /**
+     * The changes committed before a change with a lower sequence, held until it is committed.
+     */
+    private final TreeMap<Long, CustomerChangeDto> pending = new TreeMap<>();
+	
+    /**
+     * The sequence of the missing change whose gap is to be filled, 0 if none.
+     */
+    private long gapSequence;
+	
+    /**
+     * Creates the feed, starting after the last change of the log.
+     *
+     * @param replaySize The number of changes retained for the watchers resuming the feed.
+     * @param gapTimeout The time after which the changes missing before a published change are read from the log.
+     * @param customerChangeLogRepository The repository of the change log.
+     * @param customerMapper The mapper of the entries of the change log.
+     */
+    public CustomerChangeFeed(@Value("${customer.changes.replay-size:1000}") int replaySize, 
+	    @Value("${customer.changes.gap-timeout:5s}") Duration gapTimeout,
+	    CustomerChangeLogRepository customerChangeLogRepository, CustomerMapper customerMapper) {
+	this.replaySize = replaySize;
+	this.gapTimeout = gapTimeout;
+	this.customerChangeLogRepository = customerChangeLogRepository;
+	this.customerMapper = customerMapper;
+	this.sink = Sinks.many().replay().limit(replaySize);
+	this.startSequence = customerChangeLogRepository.findLastSequence();
+	this.sequence = startSequence;
+    }
+	
+    /**
+     * Publishes a change of a customer, once the transaction appending it to the log is committed.
+     * 
+     * The transactions are committed in sequence order, but their listeners may run in 
+     * another order, so a change is held until the changes before it have been emitted, 
+     * or until the gap is filled from the log after the gap timeout.
+     *
+     * @param change The change of the customer, numbered by the change log.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onCustomerChangeLogged(CustomerChangeDto change) {
+	if (change.getSequence() <= sequence) {
+	    return;
+	}
+	pending.put(change.getSequence(), change);
+	emitPending();
+    }
+	
+    /**
+     * Fills the gap before the held changes, if the change of the given sequence is still missing: 
+     * the missing changes are read from the log, and the ones missing from the log are skipped.
+     *
+     * @param missingSequence The sequence of the missing change when the gap was found.
+     */
+    private synchronized void fillGap(long missingSequence) {
+	if (sequence + 1 != missingSequence || pending.isEmpty()) {
+	    return;
+	}
+	var nextSequence = pending.firstKey();
+	List<CustomerChangeDto> logged;
+	try {
+	    logged = customerMapper.toChangeDtoList(customerChangeLogRepository.findBySequenceGreaterThanOrderBySequenceAsc(
+		    sequence, PageRequest.of(0, (int) (nextSequence - 1 - sequence))));
+	} catch (RuntimeException e) {
+	    log.error("Failed to read the changes after sequence {} from the change log", sequence, e);
+	    gapSequence = 0;
+	    emitPending();
+	    return;
+	}
+	logged.stream().filter(change -> change.getSequence() < nextSequence)
+		.forEach(change -> pending.put(change.getSequence(), change));
+	var skipped = nextSequence - 1 - sequence - pending.headMap(nextSequence).size();
+	if (skipped > 0) {
+	    log.warn("{} changes before sequence {} are missing from the change log, skipped", skipped, nextSequence);
+	}
+	while (pending.firstKey() < nextSequence) {
+	    emit(pending.pollFirstEntry().getValue());
+	}
+	emit(pending.pollFirstEntry().getValue());
+	emitPending();
+    }
+	
+    /**
+     * Emits the held changes following the last change emitted, up to the next gap, 
+     * and schedules the filling of this gap, if not already scheduled.
+     */
+    private void emitPending() {
+	while (!pending.isEmpty() && pending.firstKey() == sequence + 1) {
+	    emit(pending.pollFirstEntry().getValue());
+	}
+	if (!pending.isEmpty() && gapSequence != sequence + 1) {
+	    var missingSequence = sequence + 1;
+	    gapSequence = missingSequence;
+	    Schedulers.boundedElastic().schedule(() -> fillGap(missingSequence), gapTimeout.toMillis(), TimeUnit.MILLISECONDS);
+	}
+    }
+	
+    private void emit(CustomerChangeDto change) {
+	sink.emitNext(change, Sinks.EmitFailureHandler.FAIL_FAST);
+	sequence = change.getSequence();
+    }
+	
+    /**
+     * Watches the changes of the customers.
+     *
+     * @param afterSequence The sequence of the last change received (exclusive), to resume 
+     * the feed, or null to watch the changes to come.
+     * @return An endless Flux of the changes, in sequence order, failing with an 
+     * InvalidRequestException if the changes after the given sequence are no longer 
+     * retained, or with an overflow error if the watcher lags behind by more changes 
+     * than retained.
+     */
+    public Flux<CustomerChangeDto> watch(Long afterSequence) {
+	return Flux.defer(() -> {
+	    long fromSequence;
+	    synchronized (this) {
+		fromSequence = afterSequence != null ? afterSequence : sequence;
+		if (fromSequence < Math.max(sequence - replaySize, startSequence) || fromSequence > sequence) {
+		    log.warn("Changes after sequence {} are not retained, last sequence: {}", fromSequence, sequence);
+		    return Flux.error(new InvalidRequestException(MessageUtil.CHANGE_SEQUENCE_NOT_RETAINED + fromSequence));
+		}
+	    }
+	    return sink.asFlux().filter(change -> change.getSequence() > fromSequence);
+	}).onBackpressureBuffer(replaySize, BufferOverflowStrategy.ERROR);
+    }
+
+}
@@ -0,0 +1,131 @@
+package fr.tao.customerservice.event;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import fr.tao.customerservice.dto.CustomerChangeDto;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Appends the changes of the customers to the change log (outbox), within the transaction 
+ * of each change, so the log holds every committed change and none of the rolled back ones.
+ * 
+ * The changes of a transaction are collected, then appended just before its commit: a range 
+ * of sequences is reserved once for all of them from the head of the log, and the entries 
+ * are inserted in a single JDBC batch. The head stays locked from the reservation to the 
+ * commit only, so the changes are still numbered in commit order, without serializing the 
+ * transactions for their whole duration. The numbered changes are then published as 
+ * CustomerChangeDto, for the listeners to act on them once committed.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerChangeLogWriter {
+	
+    private static final String INIT_HEAD = "insert into customer_change_log_head (id, last_sequence) "
+	    + "select 1, coalesce(max(sequence), 0) from customer_change_log "
+	    + "where not exists (select 1 from customer_change_log_head)";
+    private static final String RESERVE_SEQUENCES = "update customer_change_log_head set last_sequence = last_sequence + ? where id = 1";
+    private static final String SELECT_HEAD = "select last_sequence from customer_change_log_head where id = 1";
+    private static final String INSERT_CHANGE = "insert into customer_change_log "
+	    + "(sequence, type, customer_id, name, email, changed_at) values (?, ?, ?, ?, ?, ?)";
+	
+    @NonNull private final JdbcTemplate jdbcTemplate;
+    @NonNull private final ApplicationEventPublisher eventPublisher;
+	
+    /**
+     * Creates the head of the log, if missing, before any customer is changed.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void initHead() {
+	jdbcTemplate.update(INIT_HEAD);
+    }
+	
+    /**
+     * Collects the change of a customer, to append it to the log before the commit of its 
+     * transaction, or appends it right away outside of a transaction.
+     *
+     * @param event The change of the customer.
+     */
+    @EventListener
+    public void onCustomerChanged(CustomerChangedEvent event) {
+	if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+	    append(List.of(event));
+	    return;
+	}
+	var changes = (TransactionChanges) TransactionSynchronizationManager.getResource(this);
+	if (changes == null) {
+	    changes = new TransactionChanges();
+	    TransactionSynchronizationManager.bindResource(this, changes);
+	    TransactionSynchronizationManager.registerSynchronization(changes);
+	}
+	changes.events.add(event);
+    }
+	
+    /**
+     * Appends changes to the log, numbered by a range of sequences reserved at once, 
+     * and publishes them.
+     *
+     * @param events The changes of the customers, in the order they were made.
+     */
+    private void append(List<CustomerChangedEvent> events) {
+	jdbcTemplate.update(RESERVE_SEQUENCES, events.size());
+	var firstSequence = jdbcTemplate.queryForObject(SELECT_HEAD, Long.class) - events.size() + 1;
+	var changedAt = Timestamp.from(Instant.now());
+	var changes = new ArrayList<CustomerChangeDto>(events.size());
+	var rows = new ArrayList<Object[]>(events.size());
+	for (var event : events) {
+	    var change = new CustomerChangeDto(firstSequence + changes.size(), event.type(), event.customer());
+	    var customer = change.getCustomer();
+	    rows.add(new Object[] { change.getSequence(), change.getType().name(), customer.getId(), 
+		    customer.getName(), customer.getEmail(), changedAt });
+	    changes.add(change);
+	}
+	jdbcTemplate.batchUpdate(INSERT_CHANGE, rows);
+	changes.forEach(eventPublisher::publishEvent);
+    }
+	
+    /**
+     * The changes made by a transaction, appended to the log before it is committed, 
+     * and unbound while the transaction is suspended by an inner one.
+     */
+    private final class TransactionChanges implements TransactionSynchronization {
+	
+	private final List<CustomerChangedEvent> events = new ArrayList<>();
+	
+	@Override
+	public void suspend() {
+	    TransactionSynchronizationManager.unbindResource(CustomerChangeLogWriter.this);
+	}
+	
+	@Override
+	public void resume() {
+	    TransactionSynchronizationManager.bindResource(CustomerChangeLogWriter.this, this);
+	}
+	
+	@Override
+	public void beforeCommit(boolean readOnly) {
+	    append(events);
+	}
+	
+	@Override
+	public void afterCompletion(int status) {
+	    TransactionSynchronizationManager.unbindResourceIfPossible(CustomerChangeLogWriter.this);
+	}
+    }
+
+}
@@ -0,0 +1,26 @@
+package fr.tao.customerservice.event;
+
+import fr.tao.customerservice.dto.CustomerDto;
+
+/**
+ * Application event published by the CustomerService when a customer is created, 
+ * updated or deleted, within the transaction making the change, so that the 
+ * listeners keeping derived data (e.g. search indexes) can update it atomically.
+ * 
+ * @param type     The type of the change.
+ * @param customer The customer after the change, or before its deletion.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+public record CustomerChangedEvent(ChangeType type, CustomerDto customer) {
+	
+    /**
+     * The types of changes of a customer.
+     */
+    public enum ChangeType {
+	CREATED, UPDATED, DELETED
+    }
+
+}
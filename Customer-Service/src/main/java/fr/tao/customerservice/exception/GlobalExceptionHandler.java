@@ -37,6 +37,20 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 	
+    /**
+     * Handles the InvalidRequestException and returns a ResponseEntity 
+     * with a BAD REQUEST status and a corresponding error response.
+     *
+     * @param ex The InvalidRequestException to handle.
+     * @return ResponseEntity containing the error response for InvalidRequestException.
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(InvalidRequestException ex) {			
+	var errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+	log.warn("InvalidRequestException handled: " + ex.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+	
     /**
      * Handles the NoResultException and returns a ResponseEntity 
      * with an OK status and a corresponding error response.
@@ -1,5 +1,7 @@
 package fr.tao.customerservice.exception;
 
+import java.util.concurrent.CompletionException;
+
 import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
 import org.springframework.graphql.execution.ErrorType;
 import org.springframework.stereotype.Component;
@@ -23,7 +25,8 @@ public class GraphQLExceptionHandler extends DataFetcherExceptionResolverAdapter
 	
     /**
      * Resolves the provided exception to a GraphQL error, based on its class name, 
-     * and maps it accordingly.
+     * and maps it accordingly. The exceptions raised by asynchronous data fetchers 
+     * are resolved from their cause.
      *
      * @param ex  The exception to be resolved.
      * @param env The DataFetchingEnvironment associated with the GraphQL operation.
@@ -31,6 +34,9 @@ public class GraphQLExceptionHandler extends DataFetcherExceptionResolverAdapter
      */
     @Override
     protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+	if (ex instanceof CompletionException && ex.getCause() != null) {
+	    ex = ex.getCause();
+	}
 	switch (ex.getClass().getSimpleName()) {
 	    case "CustomerNotFoundException" :
 	        log.error("Customer not found: {}", ex.getMessage());
@@ -40,6 +46,14 @@ public class GraphQLExceptionHandler extends DataFetcherExceptionResolverAdapter
 	                .path(env.getExecutionStepInfo().getPath())
 	                .location(env.getField().getSourceLocation())
 	                .build();
+	    case "InvalidRequestException" :
+	        log.warn("Invalid request: {}", ex.getMessage());
+	        return GraphqlErrorBuilder.newError()
+	                .errorType(ErrorType.BAD_REQUEST)
+	                .message(ex.getMessage())
+	                .path(env.getExecutionStepInfo().getPath())
+	                .location(env.getField().getSourceLocation())
+	                .build();
 	    default: 
 	        return null;
 	}
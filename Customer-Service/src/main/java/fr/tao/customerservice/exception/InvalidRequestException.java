@@ -0,0 +1,24 @@
+package fr.tao.customerservice.exception;
+
+/**
+ * A custom runtime exception used to indicate that a request 
+ * contains invalid parameters (e.g. a malformed page cursor).
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+	
+    /**
+     * Constructs a new InvalidRequestException with the provided message.
+     *
+     * @param message The message describing why the request is invalid.
+     */
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+	
+}
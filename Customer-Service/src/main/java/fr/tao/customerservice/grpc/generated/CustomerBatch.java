@@ -0,0 +1,941 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: CustomerService.proto
+
+package fr.tao.customerservice.grpc.generated;
+
+/**
+ * Protobuf type {@code CustomerBatch}
+ */
+public  final class CustomerBatch extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:CustomerBatch)
+    CustomerBatchOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use CustomerBatch.newBuilder() to construct.
+  private CustomerBatch(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private CustomerBatch() {
+    customers_ = java.util.Collections.emptyList();
+    missingIds_ = emptyLongList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new CustomerBatch();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private CustomerBatch(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              customers_ = new java.util.ArrayList<fr.tao.customerservice.grpc.generated.CustomerResponse>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            customers_.add(
+                input.readMessage(fr.tao.customerservice.grpc.generated.CustomerResponse.parser(), extensionRegistry));
+            break;
+          }
+          case 16: {
+            if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+              missingIds_ = newLongList();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            missingIds_.addLong(input.readInt64());
+            break;
+          }
+          case 18: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+              missingIds_ = newLongList();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              missingIds_.addLong(input.readInt64());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        customers_ = java.util.Collections.unmodifiableList(customers_);
+      }
+      if (((mutable_bitField0_ & 0x00000002) != 0)) {
+        missingIds_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerBatch_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerBatch_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            fr.tao.customerservice.grpc.generated.CustomerBatch.class, fr.tao.customerservice.grpc.generated.CustomerBatch.Builder.class);
+  }
+
+  public static final int CUSTOMERS_FIELD_NUMBER = 1;
+  private java.util.List<fr.tao.customerservice.grpc.generated.CustomerResponse> customers_;
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  public java.util.List<fr.tao.customerservice.grpc.generated.CustomerResponse> getCustomersList() {
+    return customers_;
+  }
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  public java.util.List<? extends fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder> 
+      getCustomersOrBuilderList() {
+    return customers_;
+  }
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  public int getCustomersCount() {
+    return customers_.size();
+  }
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  public fr.tao.customerservice.grpc.generated.CustomerResponse getCustomers(int index) {
+    return customers_.get(index);
+  }
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  public fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder getCustomersOrBuilder(
+      int index) {
+    return customers_.get(index);
+  }
+
+  public static final int MISSING_IDS_FIELD_NUMBER = 2;
+  private com.google.protobuf.Internal.LongList missingIds_;
+  /**
+   * <code>repeated int64 missing_ids = 2;</code>
+   * @return A list containing the missingIds.
+   */
+  public java.util.List<java.lang.Long>
+      getMissingIdsList() {
+    return missingIds_;
+  }
+  /**
+   * <code>repeated int64 missing_ids = 2;</code>
+   * @return The count of missingIds.
+   */
+  public int getMissingIdsCount() {
+    return missingIds_.size();
+  }
+  /**
+   * <code>repeated int64 missing_ids = 2;</code>
+   * @param index The index of the element to return.
+   * @return The missingIds at the given index.
+   */
+  public long getMissingIds(int index) {
+    return missingIds_.getLong(index);
+  }
+  private int missingIdsMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    for (int i = 0; i < customers_.size(); i++) {
+      output.writeMessage(1, customers_.get(i));
+    }
+    if (getMissingIdsList().size() > 0) {
+      output.writeUInt32NoTag(18);
+      output.writeUInt32NoTag(missingIdsMemoizedSerializedSize);
+    }
+    for (int i = 0; i < missingIds_.size(); i++) {
+      output.writeInt64NoTag(missingIds_.getLong(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < customers_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, customers_.get(i));
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < missingIds_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeInt64SizeNoTag(missingIds_.getLong(i));
+      }
+      size += dataSize;
+      if (!getMissingIdsList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      missingIdsMemoizedSerializedSize = dataSize;
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof fr.tao.customerservice.grpc.generated.CustomerBatch)) {
+      return super.equals(obj);
+    }
+    fr.tao.customerservice.grpc.generated.CustomerBatch other = (fr.tao.customerservice.grpc.generated.CustomerBatch) obj;
+
+    if (!getCustomersList()
+        .equals(other.getCustomersList())) return false;
+    if (!getMissingIdsList()
+        .equals(other.getMissingIdsList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getCustomersCount() > 0) {
+      hash = (37 * hash) + CUSTOMERS_FIELD_NUMBER;
+      hash = (53 * hash) + getCustomersList().hashCode();
+    }
+    if (getMissingIdsCount() > 0) {
+      hash = (37 * hash) + MISSING_IDS_FIELD_NUMBER;
+      hash = (53 * hash) + getMissingIdsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static fr.tao.customerservice.grpc.generated.CustomerBatch parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerBatch parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerBatch parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerBatch parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerBatch parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerBatch parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerBatch parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerBatch parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerBatch parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerBatch parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerBatch parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerBatch parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(fr.tao.customerservice.grpc.generated.CustomerBatch prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code CustomerBatch}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:CustomerBatch)
+      fr.tao.customerservice.grpc.generated.CustomerBatchOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fr.tao.customerservice.grpc.generated.CustomerBatch.class, fr.tao.customerservice.grpc.generated.CustomerBatch.Builder.class);
+    }
+
+    // Construct using fr.tao.customerservice.grpc.generated.CustomerBatch.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getCustomersFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (customersBuilder_ == null) {
+        customers_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        customersBuilder_.clear();
+      }
+      missingIds_ = emptyLongList();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerBatch_descriptor;
+    }
+
+    @java.lang.Override
+    public fr.tao.customerservice.grpc.generated.CustomerBatch getDefaultInstanceForType() {
+      return fr.tao.customerservice.grpc.generated.CustomerBatch.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public fr.tao.customerservice.grpc.generated.CustomerBatch build() {
+      fr.tao.customerservice.grpc.generated.CustomerBatch result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public fr.tao.customerservice.grpc.generated.CustomerBatch buildPartial() {
+      fr.tao.customerservice.grpc.generated.CustomerBatch result = new fr.tao.customerservice.grpc.generated.CustomerBatch(this);
+      int from_bitField0_ = bitField0_;
+      if (customersBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          customers_ = java.util.Collections.unmodifiableList(customers_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.customers_ = customers_;
+      } else {
+        result.customers_ = customersBuilder_.build();
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        missingIds_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      }
+      result.missingIds_ = missingIds_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof fr.tao.customerservice.grpc.generated.CustomerBatch) {
+        return mergeFrom((fr.tao.customerservice.grpc.generated.CustomerBatch)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(fr.tao.customerservice.grpc.generated.CustomerBatch other) {
+      if (other == fr.tao.customerservice.grpc.generated.CustomerBatch.getDefaultInstance()) return this;
+      if (customersBuilder_ == null) {
+        if (!other.customers_.isEmpty()) {
+          if (customers_.isEmpty()) {
+            customers_ = other.customers_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureCustomersIsMutable();
+            customers_.addAll(other.customers_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.customers_.isEmpty()) {
+          if (customersBuilder_.isEmpty()) {
+            customersBuilder_.dispose();
+            customersBuilder_ = null;
+            customers_ = other.customers_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            customersBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getCustomersFieldBuilder() : null;
+          } else {
+            customersBuilder_.addAllMessages(other.customers_);
+          }
+        }
+      }
+      if (!other.missingIds_.isEmpty()) {
+        if (missingIds_.isEmpty()) {
+          missingIds_ = other.missingIds_;
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          ensureMissingIdsIsMutable();
+          missingIds_.addAll(other.missingIds_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      fr.tao.customerservice.grpc.generated.CustomerBatch parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (fr.tao.customerservice.grpc.generated.CustomerBatch) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<fr.tao.customerservice.grpc.generated.CustomerResponse> customers_ =
+      java.util.Collections.emptyList();
+    private void ensureCustomersIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        customers_ = new java.util.ArrayList<fr.tao.customerservice.grpc.generated.CustomerResponse>(customers_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        fr.tao.customerservice.grpc.generated.CustomerResponse, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder, fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder> customersBuilder_;
+
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public java.util.List<fr.tao.customerservice.grpc.generated.CustomerResponse> getCustomersList() {
+      if (customersBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(customers_);
+      } else {
+        return customersBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public int getCustomersCount() {
+      if (customersBuilder_ == null) {
+        return customers_.size();
+      } else {
+        return customersBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponse getCustomers(int index) {
+      if (customersBuilder_ == null) {
+        return customers_.get(index);
+      } else {
+        return customersBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder setCustomers(
+        int index, fr.tao.customerservice.grpc.generated.CustomerResponse value) {
+      if (customersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureCustomersIsMutable();
+        customers_.set(index, value);
+        onChanged();
+      } else {
+        customersBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder setCustomers(
+        int index, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder builderForValue) {
+      if (customersBuilder_ == null) {
+        ensureCustomersIsMutable();
+        customers_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        customersBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder addCustomers(fr.tao.customerservice.grpc.generated.CustomerResponse value) {
+      if (customersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureCustomersIsMutable();
+        customers_.add(value);
+        onChanged();
+      } else {
+        customersBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder addCustomers(
+        int index, fr.tao.customerservice.grpc.generated.CustomerResponse value) {
+      if (customersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureCustomersIsMutable();
+        customers_.add(index, value);
+        onChanged();
+      } else {
+        customersBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder addCustomers(
+        fr.tao.customerservice.grpc.generated.CustomerResponse.Builder builderForValue) {
+      if (customersBuilder_ == null) {
+        ensureCustomersIsMutable();
+        customers_.add(builderForValue.build());
+        onChanged();
+      } else {
+        customersBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder addCustomers(
+        int index, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder builderForValue) {
+      if (customersBuilder_ == null) {
+        ensureCustomersIsMutable();
+        customers_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        customersBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder addAllCustomers(
+        java.lang.Iterable<? extends fr.tao.customerservice.grpc.generated.CustomerResponse> values) {
+      if (customersBuilder_ == null) {
+        ensureCustomersIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, customers_);
+        onChanged();
+      } else {
+        customersBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder clearCustomers() {
+      if (customersBuilder_ == null) {
+        customers_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        customersBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder removeCustomers(int index) {
+      if (customersBuilder_ == null) {
+        ensureCustomersIsMutable();
+        customers_.remove(index);
+        onChanged();
+      } else {
+        customersBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponse.Builder getCustomersBuilder(
+        int index) {
+      return getCustomersFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder getCustomersOrBuilder(
+        int index) {
+      if (customersBuilder_ == null) {
+        return customers_.get(index);  } else {
+        return customersBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public java.util.List<? extends fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder> 
+         getCustomersOrBuilderList() {
+      if (customersBuilder_ != null) {
+        return customersBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(customers_);
+      }
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponse.Builder addCustomersBuilder() {
+      return getCustomersFieldBuilder().addBuilder(
+          fr.tao.customerservice.grpc.generated.CustomerResponse.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponse.Builder addCustomersBuilder(
+        int index) {
+      return getCustomersFieldBuilder().addBuilder(
+          index, fr.tao.customerservice.grpc.generated.CustomerResponse.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public java.util.List<fr.tao.customerservice.grpc.generated.CustomerResponse.Builder> 
+         getCustomersBuilderList() {
+      return getCustomersFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        fr.tao.customerservice.grpc.generated.CustomerResponse, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder, fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder> 
+        getCustomersFieldBuilder() {
+      if (customersBuilder_ == null) {
+        customersBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            fr.tao.customerservice.grpc.generated.CustomerResponse, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder, fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder>(
+                customers_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        customers_ = null;
+      }
+      return customersBuilder_;
+    }
+
+    private com.google.protobuf.Internal.LongList missingIds_ = emptyLongList();
+    private void ensureMissingIdsIsMutable() {
+      if (!((bitField0_ & 0x00000002) != 0)) {
+        missingIds_ = mutableCopy(missingIds_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     * @return A list containing the missingIds.
+     */
+    public java.util.List<java.lang.Long>
+        getMissingIdsList() {
+      return ((bitField0_ & 0x00000002) != 0) ?
+               java.util.Collections.unmodifiableList(missingIds_) : missingIds_;
+    }
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     * @return The count of missingIds.
+     */
+    public int getMissingIdsCount() {
+      return missingIds_.size();
+    }
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     * @param index The index of the element to return.
+     * @return The missingIds at the given index.
+     */
+    public long getMissingIds(int index) {
+      return missingIds_.getLong(index);
+    }
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     * @param index The index to set the value at.
+     * @param value The missingIds to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMissingIds(
+        int index, long value) {
+      ensureMissingIdsIsMutable();
+      missingIds_.setLong(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     * @param value The missingIds to add.
+     * @return This builder for chaining.
+     */
+    public Builder addMissingIds(long value) {
+      ensureMissingIdsIsMutable();
+      missingIds_.addLong(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     * @param values The missingIds to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllMissingIds(
+        java.lang.Iterable<? extends java.lang.Long> values) {
+      ensureMissingIdsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, missingIds_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated int64 missing_ids = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMissingIds() {
+      missingIds_ = emptyLongList();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:CustomerBatch)
+  }
+
+  // @@protoc_insertion_point(class_scope:CustomerBatch)
+  private static final fr.tao.customerservice.grpc.generated.CustomerBatch DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new fr.tao.customerservice.grpc.generated.CustomerBatch();
+  }
+
+  public static fr.tao.customerservice.grpc.generated.CustomerBatch getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<CustomerBatch>
+      PARSER = new com.google.protobuf.AbstractParser<CustomerBatch>() {
+    @java.lang.Override
+    public CustomerBatch parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new CustomerBatch(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<CustomerBatch> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<CustomerBatch> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public fr.tao.customerservice.grpc.generated.CustomerBatch getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,874 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: CustomerService.proto
+
+package fr.tao.customerservice.grpc.generated;
+
+/**
+ * Protobuf type {@code CustomerChange}
+ */
+public  final class CustomerChange extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:CustomerChange)
+    CustomerChangeOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use CustomerChange.newBuilder() to construct.
+  private CustomerChange(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private CustomerChange() {
+    type_ = 0;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new CustomerChange();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private CustomerChange(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            sequence_ = input.readInt64();
+            break;
+          }
+          case 16: {
+            int rawValue = input.readEnum();
+
+            type_ = rawValue;
+            break;
+          }
+          case 26: {
+            fr.tao.customerservice.grpc.generated.CustomerResponse.Builder subBuilder = null;
+            if (customer_ != null) {
+              subBuilder = customer_.toBuilder();
+            }
+            customer_ = input.readMessage(fr.tao.customerservice.grpc.generated.CustomerResponse.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(customer_);
+              customer_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerChange_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerChange_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            fr.tao.customerservice.grpc.generated.CustomerChange.class, fr.tao.customerservice.grpc.generated.CustomerChange.Builder.class);
+  }
+
+  /**
+   * Protobuf enum {@code CustomerChange.ChangeType}
+   */
+  public enum ChangeType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>CREATED = 0;</code>
+     */
+    CREATED(0),
+    /**
+     * <code>UPDATED = 1;</code>
+     */
+    UPDATED(1),
+    /**
+     * <code>DELETED = 2;</code>
+     */
+    DELETED(2),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>CREATED = 0;</code>
+     */
+    public static final int CREATED_VALUE = 0;
+    /**
+     * <code>UPDATED = 1;</code>
+     */
+    public static final int UPDATED_VALUE = 1;
+    /**
+     * <code>DELETED = 2;</code>
+     */
+    public static final int DELETED_VALUE = 2;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static ChangeType valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static ChangeType forNumber(int value) {
+      switch (value) {
+        case 0: return CREATED;
+        case 1: return UPDATED;
+        case 2: return DELETED;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<ChangeType>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ChangeType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ChangeType>() {
+            public ChangeType findValueByNumber(int number) {
+              return ChangeType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return fr.tao.customerservice.grpc.generated.CustomerChange.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final ChangeType[] VALUES = values();
+
+    public static ChangeType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private ChangeType(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:CustomerChange.ChangeType)
+  }
+
+  public static final int SEQUENCE_FIELD_NUMBER = 1;
+  private long sequence_;
+  /**
+   * <code>int64 sequence = 1;</code>
+   * @return The sequence.
+   */
+  public long getSequence() {
+    return sequence_;
+  }
+
+  public static final int TYPE_FIELD_NUMBER = 2;
+  private int type_;
+  /**
+   * <code>.CustomerChange.ChangeType type = 2;</code>
+   * @return The enum numeric value on the wire for type.
+   */
+  public int getTypeValue() {
+    return type_;
+  }
+  /**
+   * <code>.CustomerChange.ChangeType type = 2;</code>
+   * @return The type.
+   */
+  public fr.tao.customerservice.grpc.generated.CustomerChange.ChangeType getType() {
+    @SuppressWarnings("deprecation")
+    fr.tao.customerservice.grpc.generated.CustomerChange.ChangeType result = fr.tao.customerservice.grpc.generated.CustomerChange.ChangeType.valueOf(type_);
+    return result == null ? fr.tao.customerservice.grpc.generated.CustomerChange.ChangeType.UNRECOGNIZED : result;
+  }
+
+  public static final int CUSTOMER_FIELD_NUMBER = 3;
+  private fr.tao.customerservice.grpc.generated.CustomerResponse customer_;
+  /**
+   * <code>.CustomerResponse customer = 3;</code>
+   * @return Whether the customer field is set.
+   */
+  public boolean hasCustomer() {
+    return customer_ != null;
+  }
+  /**
+   * <code>.CustomerResponse customer = 3;</code>
+   * @return The customer.
+   */
+  public fr.tao.customerservice.grpc.generated.CustomerResponse getCustomer() {
+    return customer_ == null ? fr.tao.customerservice.grpc.generated.CustomerResponse.getDefaultInstance() : customer_;
+  }
+  /**
+   * <code>.CustomerResponse customer = 3;</code>
+   */
+  public fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder getCustomerOrBuilder() {
+    return getCustomer();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (sequence_ != 0L) {
+      output.writeInt64(1, sequence_);
+    }
+    if (type_ != fr.tao.customerservice.grpc.generated.CustomerChange.ChangeType.CREATED.getNumber()) {
+      output.writeEnum(2, type_);
+    }
+    if (customer_ != null) {
+      output.writeMessage(3, getCustomer());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (sequence_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, sequence_);
+    }
+    if (type_ != fr.tao.customerservice.grpc.generated.CustomerChange.ChangeType.CREATED.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(2, type_);
+    }
+    if (customer_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, getCustomer());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof fr.tao.customerservice.grpc.generated.CustomerChange)) {
+      return super.equals(obj);
+    }
+    fr.tao.customerservice.grpc.generated.CustomerChange other = (fr.tao.customerservice.grpc.generated.CustomerChange) obj;
+
+    if (getSequence()
+        != other.getSequence()) return false;
+    if (type_ != other.type_) return false;
+    if (hasCustomer() != other.hasCustomer()) return false;
+    if (hasCustomer()) {
+      if (!getCustomer()
+          .equals(other.getCustomer())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getSequence());
+    hash = (37 * hash) + TYPE_FIELD_NUMBER;
+    hash = (53 * hash) + type_;
+    if (hasCustomer()) {
+      hash = (37 * hash) + CUSTOMER_FIELD_NUMBER;
+      hash = (53 * hash) + getCustomer().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static fr.tao.customerservice.grpc.generated.CustomerChange parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerChange parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerChange parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerChange parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerChange parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerChange parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerChange parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerChange parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerChange parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerChange parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerChange parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerChange parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(fr.tao.customerservice.grpc.generated.CustomerChange prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code CustomerChange}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:CustomerChange)
+      fr.tao.customerservice.grpc.generated.CustomerChangeOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerChange_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerChange_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fr.tao.customerservice.grpc.generated.CustomerChange.class, fr.tao.customerservice.grpc.generated.CustomerChange.Builder.class);
+    }
+
+    // Construct using fr.tao.customerservice.grpc.generated.CustomerChange.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      sequence_ = 0L;
+
+      type_ = 0;
+
+      if (customerBuilder_ == null) {
+        customer_ = null;
+      } else {
+        customer_ = null;
+        customerBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerChange_descriptor;
+    }
+
+    @java.lang.Override
+    public fr.tao.customerservice.grpc.generated.CustomerChange getDefaultInstanceForType() {
+      return fr.tao.customerservice.grpc.generated.CustomerChange.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public fr.tao.customerservice.grpc.generated.CustomerChange build() {
+      fr.tao.customerservice.grpc.generated.CustomerChange result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public fr.tao.customerservice.grpc.generated.CustomerChange buildPartial() {
+      fr.tao.customerservice.grpc.generated.CustomerChange result = new fr.tao.customerservice.grpc.generated.CustomerChange(this);
+      result.sequence_ = sequence_;
+      result.type_ = type_;
+      if (customerBuilder_ == null) {
+        result.customer_ = customer_;
+      } else {
+        result.customer_ = customerBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof fr.tao.customerservice.grpc.generated.CustomerChange) {
+        return mergeFrom((fr.tao.customerservice.grpc.generated.CustomerChange)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(fr.tao.customerservice.grpc.generated.CustomerChange other) {
+      if (other == fr.tao.customerservice.grpc.generated.CustomerChange.getDefaultInstance()) return this;
+      if (other.getSequence() != 0L) {
+        setSequence(other.getSequence());
+      }
+      if (other.type_ != 0) {
+        setTypeValue(other.getTypeValue());
+      }
+      if (other.hasCustomer()) {
+        mergeCustomer(other.getCustomer());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      fr.tao.customerservice.grpc.generated.CustomerChange parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (fr.tao.customerservice.grpc.generated.CustomerChange) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private long sequence_ ;
+    /**
+     * <code>int64 sequence = 1;</code>
+     * @return The sequence.
+     */
+    public long getSequence() {
+      return sequence_;
+    }
+    /**
+     * <code>int64 sequence = 1;</code>
+     * @param value The sequence to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSequence(long value) {
+      
+      sequence_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 sequence = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSequence() {
+      
+      sequence_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private int type_ = 0;
+    /**
+     * <code>.CustomerChange.ChangeType type = 2;</code>
+     * @return The enum numeric value on the wire for type.
+     */
+    public int getTypeValue() {
+      return type_;
+    }
+    /**
+     * <code>.CustomerChange.ChangeType type = 2;</code>
+     * @param value The enum numeric value on the wire for type to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTypeValue(int value) {
+      type_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.CustomerChange.ChangeType type = 2;</code>
+     * @return The type.
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerChange.ChangeType getType() {
+      @SuppressWarnings("deprecation")
+      fr.tao.customerservice.grpc.generated.CustomerChange.ChangeType result = fr.tao.customerservice.grpc.generated.CustomerChange.ChangeType.valueOf(type_);
+      return result == null ? fr.tao.customerservice.grpc.generated.CustomerChange.ChangeType.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.CustomerChange.ChangeType type = 2;</code>
+     * @param value The type to set.
+     * @return This builder for chaining.
+     */
+    public Builder setType(fr.tao.customerservice.grpc.generated.CustomerChange.ChangeType value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      type_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.CustomerChange.ChangeType type = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearType() {
+      
+      type_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private fr.tao.customerservice.grpc.generated.CustomerResponse customer_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        fr.tao.customerservice.grpc.generated.CustomerResponse, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder, fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder> customerBuilder_;
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     * @return Whether the customer field is set.
+     */
+    public boolean hasCustomer() {
+      return customerBuilder_ != null || customer_ != null;
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     * @return The customer.
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponse getCustomer() {
+      if (customerBuilder_ == null) {
+        return customer_ == null ? fr.tao.customerservice.grpc.generated.CustomerResponse.getDefaultInstance() : customer_;
+      } else {
+        return customerBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     */
+    public Builder setCustomer(fr.tao.customerservice.grpc.generated.CustomerResponse value) {
+      if (customerBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        customer_ = value;
+        onChanged();
+      } else {
+        customerBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     */
+    public Builder setCustomer(
+        fr.tao.customerservice.grpc.generated.CustomerResponse.Builder builderForValue) {
+      if (customerBuilder_ == null) {
+        customer_ = builderForValue.build();
+        onChanged();
+      } else {
+        customerBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     */
+    public Builder mergeCustomer(fr.tao.customerservice.grpc.generated.CustomerResponse value) {
+      if (customerBuilder_ == null) {
+        if (customer_ != null) {
+          customer_ =
+            fr.tao.customerservice.grpc.generated.CustomerResponse.newBuilder(customer_).mergeFrom(value).buildPartial();
+        } else {
+          customer_ = value;
+        }
+        onChanged();
+      } else {
+        customerBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     */
+    public Builder clearCustomer() {
+      if (customerBuilder_ == null) {
+        customer_ = null;
+        onChanged();
+      } else {
+        customer_ = null;
+        customerBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponse.Builder getCustomerBuilder() {
+      
+      onChanged();
+      return getCustomerFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder getCustomerOrBuilder() {
+      if (customerBuilder_ != null) {
+        return customerBuilder_.getMessageOrBuilder();
+      } else {
+        return customer_ == null ?
+            fr.tao.customerservice.grpc.generated.CustomerResponse.getDefaultInstance() : customer_;
+      }
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        fr.tao.customerservice.grpc.generated.CustomerResponse, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder, fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder> 
+        getCustomerFieldBuilder() {
+      if (customerBuilder_ == null) {
+        customerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            fr.tao.customerservice.grpc.generated.CustomerResponse, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder, fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder>(
+                getCustomer(),
+                getParentForChildren(),
+                isClean());
+        customer_ = null;
+      }
+      return customerBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:CustomerChange)
+  }
+
+  // @@protoc_insertion_point(class_scope:CustomerChange)
+  private static final fr.tao.customerservice.grpc.generated.CustomerChange DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new fr.tao.customerservice.grpc.generated.CustomerChange();
+  }
+
+  public static fr.tao.customerservice.grpc.generated.CustomerChange getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<CustomerChange>
+      PARSER = new com.google.protobuf.AbstractParser<CustomerChange>() {
+    @java.lang.Override
+    public CustomerChange parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new CustomerChange(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<CustomerChange> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<CustomerChange> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public fr.tao.customerservice.grpc.generated.CustomerChange getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,41 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: CustomerService.proto
+
+package fr.tao.customerservice.grpc.generated;
+
+public interface CustomerChangeOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CustomerChange)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 sequence = 1;</code>
+   * @return The sequence.
+   */
+  long getSequence();
+
+  /**
+   * <code>.CustomerChange.ChangeType type = 2;</code>
+   * @return The enum numeric value on the wire for type.
+   */
+  int getTypeValue();
+  /**
+   * <code>.CustomerChange.ChangeType type = 2;</code>
+   * @return The type.
+   */
+  fr.tao.customerservice.grpc.generated.CustomerChange.ChangeType getType();
+
+  /**
+   * <code>.CustomerResponse customer = 3;</code>
+   * @return Whether the customer field is set.
+   */
+  boolean hasCustomer();
+  /**
+   * <code>.CustomerResponse customer = 3;</code>
+   * @return The customer.
+   */
+  fr.tao.customerservice.grpc.generated.CustomerResponse getCustomer();
+  /**
+   * <code>.CustomerResponse customer = 3;</code>
+   */
+  fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder getCustomerOrBuilder();
+}
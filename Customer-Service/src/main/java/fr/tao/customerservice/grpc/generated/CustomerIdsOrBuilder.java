@@ -0,0 +1,26 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: CustomerService.proto
+
+package fr.tao.customerservice.grpc.generated;
+
+public interface CustomerIdsOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CustomerIds)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated int64 ids = 1;</code>
+   * @return A list containing the ids.
+   */
+  java.util.List<java.lang.Long> getIdsList();
+  /**
+   * <code>repeated int64 ids = 1;</code>
+   * @return The count of ids.
+   */
+  int getIdsCount();
+  /**
+   * <code>repeated int64 ids = 1;</code>
+   * @param index The index of the element to return.
+   * @return The ids at the given index.
+   */
+  long getIds(int index);
+}
@@ -0,0 +1,865 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: CustomerService.proto
+
+package fr.tao.customerservice.grpc.generated;
+
+/**
+ * Protobuf type {@code CustomerImportResult}
+ */
+public  final class CustomerImportResult extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:CustomerImportResult)
+    CustomerImportResultOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use CustomerImportResult.newBuilder() to construct.
+  private CustomerImportResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private CustomerImportResult() {
+    error_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new CustomerImportResult();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private CustomerImportResult(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            index_ = input.readInt32();
+            break;
+          }
+          case 16: {
+
+            success_ = input.readBool();
+            break;
+          }
+          case 26: {
+            fr.tao.customerservice.grpc.generated.CustomerResponse.Builder subBuilder = null;
+            if (customer_ != null) {
+              subBuilder = customer_.toBuilder();
+            }
+            customer_ = input.readMessage(fr.tao.customerservice.grpc.generated.CustomerResponse.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(customer_);
+              customer_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 34: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            error_ = s;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerImportResult_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerImportResult_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            fr.tao.customerservice.grpc.generated.CustomerImportResult.class, fr.tao.customerservice.grpc.generated.CustomerImportResult.Builder.class);
+  }
+
+  public static final int INDEX_FIELD_NUMBER = 1;
+  private int index_;
+  /**
+   * <code>int32 index = 1;</code>
+   * @return The index.
+   */
+  public int getIndex() {
+    return index_;
+  }
+
+  public static final int SUCCESS_FIELD_NUMBER = 2;
+  private boolean success_;
+  /**
+   * <code>bool success = 2;</code>
+   * @return The success.
+   */
+  public boolean getSuccess() {
+    return success_;
+  }
+
+  public static final int CUSTOMER_FIELD_NUMBER = 3;
+  private fr.tao.customerservice.grpc.generated.CustomerResponse customer_;
+  /**
+   * <code>.CustomerResponse customer = 3;</code>
+   * @return Whether the customer field is set.
+   */
+  public boolean hasCustomer() {
+    return customer_ != null;
+  }
+  /**
+   * <code>.CustomerResponse customer = 3;</code>
+   * @return The customer.
+   */
+  public fr.tao.customerservice.grpc.generated.CustomerResponse getCustomer() {
+    return customer_ == null ? fr.tao.customerservice.grpc.generated.CustomerResponse.getDefaultInstance() : customer_;
+  }
+  /**
+   * <code>.CustomerResponse customer = 3;</code>
+   */
+  public fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder getCustomerOrBuilder() {
+    return getCustomer();
+  }
+
+  public static final int ERROR_FIELD_NUMBER = 4;
+  private volatile java.lang.Object error_;
+  /**
+   * <code>string error = 4;</code>
+   * @return The error.
+   */
+  public java.lang.String getError() {
+    java.lang.Object ref = error_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      error_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string error = 4;</code>
+   * @return The bytes for error.
+   */
+  public com.google.protobuf.ByteString
+      getErrorBytes() {
+    java.lang.Object ref = error_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      error_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (index_ != 0) {
+      output.writeInt32(1, index_);
+    }
+    if (success_ != false) {
+      output.writeBool(2, success_);
+    }
+    if (customer_ != null) {
+      output.writeMessage(3, getCustomer());
+    }
+    if (!getErrorBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 4, error_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (index_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt32Size(1, index_);
+    }
+    if (success_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(2, success_);
+    }
+    if (customer_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, getCustomer());
+    }
+    if (!getErrorBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, error_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof fr.tao.customerservice.grpc.generated.CustomerImportResult)) {
+      return super.equals(obj);
+    }
+    fr.tao.customerservice.grpc.generated.CustomerImportResult other = (fr.tao.customerservice.grpc.generated.CustomerImportResult) obj;
+
+    if (getIndex()
+        != other.getIndex()) return false;
+    if (getSuccess()
+        != other.getSuccess()) return false;
+    if (hasCustomer() != other.hasCustomer()) return false;
+    if (hasCustomer()) {
+      if (!getCustomer()
+          .equals(other.getCustomer())) return false;
+    }
+    if (!getError()
+        .equals(other.getError())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + INDEX_FIELD_NUMBER;
+    hash = (53 * hash) + getIndex();
+    hash = (37 * hash) + SUCCESS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getSuccess());
+    if (hasCustomer()) {
+      hash = (37 * hash) + CUSTOMER_FIELD_NUMBER;
+      hash = (53 * hash) + getCustomer().hashCode();
+    }
+    hash = (37 * hash) + ERROR_FIELD_NUMBER;
+    hash = (53 * hash) + getError().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static fr.tao.customerservice.grpc.generated.CustomerImportResult parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportResult parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportResult parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportResult parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportResult parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportResult parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportResult parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportResult parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportResult parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportResult parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportResult parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportResult parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(fr.tao.customerservice.grpc.generated.CustomerImportResult prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code CustomerImportResult}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:CustomerImportResult)
+      fr.tao.customerservice.grpc.generated.CustomerImportResultOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerImportResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerImportResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fr.tao.customerservice.grpc.generated.CustomerImportResult.class, fr.tao.customerservice.grpc.generated.CustomerImportResult.Builder.class);
+    }
+
+    // Construct using fr.tao.customerservice.grpc.generated.CustomerImportResult.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      index_ = 0;
+
+      success_ = false;
+
+      if (customerBuilder_ == null) {
+        customer_ = null;
+      } else {
+        customer_ = null;
+        customerBuilder_ = null;
+      }
+      error_ = "";
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerImportResult_descriptor;
+    }
+
+    @java.lang.Override
+    public fr.tao.customerservice.grpc.generated.CustomerImportResult getDefaultInstanceForType() {
+      return fr.tao.customerservice.grpc.generated.CustomerImportResult.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public fr.tao.customerservice.grpc.generated.CustomerImportResult build() {
+      fr.tao.customerservice.grpc.generated.CustomerImportResult result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public fr.tao.customerservice.grpc.generated.CustomerImportResult buildPartial() {
+      fr.tao.customerservice.grpc.generated.CustomerImportResult result = new fr.tao.customerservice.grpc.generated.CustomerImportResult(this);
+      result.index_ = index_;
+      result.success_ = success_;
+      if (customerBuilder_ == null) {
+        result.customer_ = customer_;
+      } else {
+        result.customer_ = customerBuilder_.build();
+      }
+      result.error_ = error_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof fr.tao.customerservice.grpc.generated.CustomerImportResult) {
+        return mergeFrom((fr.tao.customerservice.grpc.generated.CustomerImportResult)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(fr.tao.customerservice.grpc.generated.CustomerImportResult other) {
+      if (other == fr.tao.customerservice.grpc.generated.CustomerImportResult.getDefaultInstance()) return this;
+      if (other.getIndex() != 0) {
+        setIndex(other.getIndex());
+      }
+      if (other.getSuccess() != false) {
+        setSuccess(other.getSuccess());
+      }
+      if (other.hasCustomer()) {
+        mergeCustomer(other.getCustomer());
+      }
+      if (!other.getError().isEmpty()) {
+        error_ = other.error_;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      fr.tao.customerservice.grpc.generated.CustomerImportResult parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (fr.tao.customerservice.grpc.generated.CustomerImportResult) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private int index_ ;
+    /**
+     * <code>int32 index = 1;</code>
+     * @return The index.
+     */
+    public int getIndex() {
+      return index_;
+    }
+    /**
+     * <code>int32 index = 1;</code>
+     * @param value The index to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIndex(int value) {
+      
+      index_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int32 index = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearIndex() {
+      
+      index_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private boolean success_ ;
+    /**
+     * <code>bool success = 2;</code>
+     * @return The success.
+     */
+    public boolean getSuccess() {
+      return success_;
+    }
+    /**
+     * <code>bool success = 2;</code>
+     * @param value The success to set.
+     * @return This builder for chaining.
+     */
+    public Builder setSuccess(boolean value) {
+      
+      success_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bool success = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearSuccess() {
+      
+      success_ = false;
+      onChanged();
+      return this;
+    }
+
+    private fr.tao.customerservice.grpc.generated.CustomerResponse customer_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        fr.tao.customerservice.grpc.generated.CustomerResponse, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder, fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder> customerBuilder_;
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     * @return Whether the customer field is set.
+     */
+    public boolean hasCustomer() {
+      return customerBuilder_ != null || customer_ != null;
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     * @return The customer.
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponse getCustomer() {
+      if (customerBuilder_ == null) {
+        return customer_ == null ? fr.tao.customerservice.grpc.generated.CustomerResponse.getDefaultInstance() : customer_;
+      } else {
+        return customerBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     */
+    public Builder setCustomer(fr.tao.customerservice.grpc.generated.CustomerResponse value) {
+      if (customerBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        customer_ = value;
+        onChanged();
+      } else {
+        customerBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     */
+    public Builder setCustomer(
+        fr.tao.customerservice.grpc.generated.CustomerResponse.Builder builderForValue) {
+      if (customerBuilder_ == null) {
+        customer_ = builderForValue.build();
+        onChanged();
+      } else {
+        customerBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     */
+    public Builder mergeCustomer(fr.tao.customerservice.grpc.generated.CustomerResponse value) {
+      if (customerBuilder_ == null) {
+        if (customer_ != null) {
+          customer_ =
+            fr.tao.customerservice.grpc.generated.CustomerResponse.newBuilder(customer_).mergeFrom(value).buildPartial();
+        } else {
+          customer_ = value;
+        }
+        onChanged();
+      } else {
+        customerBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     */
+    public Builder clearCustomer() {
+      if (customerBuilder_ == null) {
+        customer_ = null;
+        onChanged();
+      } else {
+        customer_ = null;
+        customerBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponse.Builder getCustomerBuilder() {
+      
+      onChanged();
+      return getCustomerFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder getCustomerOrBuilder() {
+      if (customerBuilder_ != null) {
+        return customerBuilder_.getMessageOrBuilder();
+      } else {
+        return customer_ == null ?
+            fr.tao.customerservice.grpc.generated.CustomerResponse.getDefaultInstance() : customer_;
+      }
+    }
+    /**
+     * <code>.CustomerResponse customer = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        fr.tao.customerservice.grpc.generated.CustomerResponse, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder, fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder> 
+        getCustomerFieldBuilder() {
+      if (customerBuilder_ == null) {
+        customerBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            fr.tao.customerservice.grpc.generated.CustomerResponse, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder, fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder>(
+                getCustomer(),
+                getParentForChildren(),
+                isClean());
+        customer_ = null;
+      }
+      return customerBuilder_;
+    }
+
+    private java.lang.Object error_ = "";
+    /**
+     * <code>string error = 4;</code>
+     * @return The error.
+     */
+    public java.lang.String getError() {
+      java.lang.Object ref = error_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        error_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string error = 4;</code>
+     * @return The bytes for error.
+     */
+    public com.google.protobuf.ByteString
+        getErrorBytes() {
+      java.lang.Object ref = error_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        error_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string error = 4;</code>
+     * @param value The error to set.
+     * @return This builder for chaining.
+     */
+    public Builder setError(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      error_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string error = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearError() {
+      
+      error_ = getDefaultInstance().getError();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string error = 4;</code>
+     * @param value The bytes for error to set.
+     * @return This builder for chaining.
+     */
+    public Builder setErrorBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      error_ = value;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:CustomerImportResult)
+  }
+
+  // @@protoc_insertion_point(class_scope:CustomerImportResult)
+  private static final fr.tao.customerservice.grpc.generated.CustomerImportResult DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new fr.tao.customerservice.grpc.generated.CustomerImportResult();
+  }
+
+  public static fr.tao.customerservice.grpc.generated.CustomerImportResult getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<CustomerImportResult>
+      PARSER = new com.google.protobuf.AbstractParser<CustomerImportResult>() {
+    @java.lang.Override
+    public CustomerImportResult parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new CustomerImportResult(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<CustomerImportResult> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<CustomerImportResult> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public fr.tao.customerservice.grpc.generated.CustomerImportResult getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
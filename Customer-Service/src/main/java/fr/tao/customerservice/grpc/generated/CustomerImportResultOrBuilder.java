@@ -0,0 +1,48 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: CustomerService.proto
+
+package fr.tao.customerservice.grpc.generated;
+
+public interface CustomerImportResultOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CustomerImportResult)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int32 index = 1;</code>
+   * @return The index.
+   */
+  int getIndex();
+
+  /**
+   * <code>bool success = 2;</code>
+   * @return The success.
+   */
+  boolean getSuccess();
+
+  /**
+   * <code>.CustomerResponse customer = 3;</code>
+   * @return Whether the customer field is set.
+   */
+  boolean hasCustomer();
+  /**
+   * <code>.CustomerResponse customer = 3;</code>
+   * @return The customer.
+   */
+  fr.tao.customerservice.grpc.generated.CustomerResponse getCustomer();
+  /**
+   * <code>.CustomerResponse customer = 3;</code>
+   */
+  fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder getCustomerOrBuilder();
+
+  /**
+   * <code>string error = 4;</code>
+   * @return The error.
+   */
+  java.lang.String getError();
+  /**
+   * <code>string error = 4;</code>
+   * @return The bytes for error.
+   */
+  com.google.protobuf.ByteString
+      getErrorBytes();
+}
@@ -0,0 +1,891 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: CustomerService.proto
+
+package fr.tao.customerservice.grpc.generated;
+
+/**
+ * Protobuf type {@code CustomerImportSummary}
+ */
+public  final class CustomerImportSummary extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:CustomerImportSummary)
+    CustomerImportSummaryOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use CustomerImportSummary.newBuilder() to construct.
+  private CustomerImportSummary(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private CustomerImportSummary() {
+    failures_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new CustomerImportSummary();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private CustomerImportSummary(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+
+            importedCount_ = input.readInt64();
+            break;
+          }
+          case 16: {
+
+            failedCount_ = input.readInt64();
+            break;
+          }
+          case 26: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              failures_ = new java.util.ArrayList<fr.tao.customerservice.grpc.generated.CustomerImportResult>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            failures_.add(
+                input.readMessage(fr.tao.customerservice.grpc.generated.CustomerImportResult.parser(), extensionRegistry));
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        failures_ = java.util.Collections.unmodifiableList(failures_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerImportSummary_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerImportSummary_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            fr.tao.customerservice.grpc.generated.CustomerImportSummary.class, fr.tao.customerservice.grpc.generated.CustomerImportSummary.Builder.class);
+  }
+
+  public static final int IMPORTED_COUNT_FIELD_NUMBER = 1;
+  private long importedCount_;
+  /**
+   * <code>int64 imported_count = 1;</code>
+   * @return The importedCount.
+   */
+  public long getImportedCount() {
+    return importedCount_;
+  }
+
+  public static final int FAILED_COUNT_FIELD_NUMBER = 2;
+  private long failedCount_;
+  /**
+   * <code>int64 failed_count = 2;</code>
+   * @return The failedCount.
+   */
+  public long getFailedCount() {
+    return failedCount_;
+  }
+
+  public static final int FAILURES_FIELD_NUMBER = 3;
+  private java.util.List<fr.tao.customerservice.grpc.generated.CustomerImportResult> failures_;
+  /**
+   * <code>repeated .CustomerImportResult failures = 3;</code>
+   */
+  public java.util.List<fr.tao.customerservice.grpc.generated.CustomerImportResult> getFailuresList() {
+    return failures_;
+  }
+  /**
+   * <code>repeated .CustomerImportResult failures = 3;</code>
+   */
+  public java.util.List<? extends fr.tao.customerservice.grpc.generated.CustomerImportResultOrBuilder> 
+      getFailuresOrBuilderList() {
+    return failures_;
+  }
+  /**
+   * <code>repeated .CustomerImportResult failures = 3;</code>
+   */
+  public int getFailuresCount() {
+    return failures_.size();
+  }
+  /**
+   * <code>repeated .CustomerImportResult failures = 3;</code>
+   */
+  public fr.tao.customerservice.grpc.generated.CustomerImportResult getFailures(int index) {
+    return failures_.get(index);
+  }
+  /**
+   * <code>repeated .CustomerImportResult failures = 3;</code>
+   */
+  public fr.tao.customerservice.grpc.generated.CustomerImportResultOrBuilder getFailuresOrBuilder(
+      int index) {
+    return failures_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (importedCount_ != 0L) {
+      output.writeInt64(1, importedCount_);
+    }
+    if (failedCount_ != 0L) {
+      output.writeInt64(2, failedCount_);
+    }
+    for (int i = 0; i < failures_.size(); i++) {
+      output.writeMessage(3, failures_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (importedCount_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(1, importedCount_);
+    }
+    if (failedCount_ != 0L) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeInt64Size(2, failedCount_);
+    }
+    for (int i = 0; i < failures_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, failures_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof fr.tao.customerservice.grpc.generated.CustomerImportSummary)) {
+      return super.equals(obj);
+    }
+    fr.tao.customerservice.grpc.generated.CustomerImportSummary other = (fr.tao.customerservice.grpc.generated.CustomerImportSummary) obj;
+
+    if (getImportedCount()
+        != other.getImportedCount()) return false;
+    if (getFailedCount()
+        != other.getFailedCount()) return false;
+    if (!getFailuresList()
+        .equals(other.getFailuresList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + IMPORTED_COUNT_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getImportedCount());
+    hash = (37 * hash) + FAILED_COUNT_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+        getFailedCount());
+    if (getFailuresCount() > 0) {
+      hash = (37 * hash) + FAILURES_FIELD_NUMBER;
+      hash = (53 * hash) + getFailuresList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static fr.tao.customerservice.grpc.generated.CustomerImportSummary parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportSummary parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportSummary parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportSummary parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportSummary parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportSummary parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportSummary parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportSummary parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportSummary parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportSummary parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportSummary parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerImportSummary parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(fr.tao.customerservice.grpc.generated.CustomerImportSummary prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code CustomerImportSummary}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:CustomerImportSummary)
+      fr.tao.customerservice.grpc.generated.CustomerImportSummaryOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerImportSummary_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerImportSummary_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fr.tao.customerservice.grpc.generated.CustomerImportSummary.class, fr.tao.customerservice.grpc.generated.CustomerImportSummary.Builder.class);
+    }
+
+    // Construct using fr.tao.customerservice.grpc.generated.CustomerImportSummary.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getFailuresFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      importedCount_ = 0L;
+
+      failedCount_ = 0L;
+
+      if (failuresBuilder_ == null) {
+        failures_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        failuresBuilder_.clear();
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerImportSummary_descriptor;
+    }
+
+    @java.lang.Override
+    public fr.tao.customerservice.grpc.generated.CustomerImportSummary getDefaultInstanceForType() {
+      return fr.tao.customerservice.grpc.generated.CustomerImportSummary.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public fr.tao.customerservice.grpc.generated.CustomerImportSummary build() {
+      fr.tao.customerservice.grpc.generated.CustomerImportSummary result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public fr.tao.customerservice.grpc.generated.CustomerImportSummary buildPartial() {
+      fr.tao.customerservice.grpc.generated.CustomerImportSummary result = new fr.tao.customerservice.grpc.generated.CustomerImportSummary(this);
+      int from_bitField0_ = bitField0_;
+      result.importedCount_ = importedCount_;
+      result.failedCount_ = failedCount_;
+      if (failuresBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          failures_ = java.util.Collections.unmodifiableList(failures_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.failures_ = failures_;
+      } else {
+        result.failures_ = failuresBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof fr.tao.customerservice.grpc.generated.CustomerImportSummary) {
+        return mergeFrom((fr.tao.customerservice.grpc.generated.CustomerImportSummary)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(fr.tao.customerservice.grpc.generated.CustomerImportSummary other) {
+      if (other == fr.tao.customerservice.grpc.generated.CustomerImportSummary.getDefaultInstance()) return this;
+      if (other.getImportedCount() != 0L) {
+        setImportedCount(other.getImportedCount());
+      }
+      if (other.getFailedCount() != 0L) {
+        setFailedCount(other.getFailedCount());
+      }
+      if (failuresBuilder_ == null) {
+        if (!other.failures_.isEmpty()) {
+          if (failures_.isEmpty()) {
+            failures_ = other.failures_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureFailuresIsMutable();
+            failures_.addAll(other.failures_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.failures_.isEmpty()) {
+          if (failuresBuilder_.isEmpty()) {
+            failuresBuilder_.dispose();
+            failuresBuilder_ = null;
+            failures_ = other.failures_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            failuresBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getFailuresFieldBuilder() : null;
+          } else {
+            failuresBuilder_.addAllMessages(other.failures_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      fr.tao.customerservice.grpc.generated.CustomerImportSummary parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (fr.tao.customerservice.grpc.generated.CustomerImportSummary) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private long importedCount_ ;
+    /**
+     * <code>int64 imported_count = 1;</code>
+     * @return The importedCount.
+     */
+    public long getImportedCount() {
+      return importedCount_;
+    }
+    /**
+     * <code>int64 imported_count = 1;</code>
+     * @param value The importedCount to set.
+     * @return This builder for chaining.
+     */
+    public Builder setImportedCount(long value) {
+      
+      importedCount_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 imported_count = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearImportedCount() {
+      
+      importedCount_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private long failedCount_ ;
+    /**
+     * <code>int64 failed_count = 2;</code>
+     * @return The failedCount.
+     */
+    public long getFailedCount() {
+      return failedCount_;
+    }
+    /**
+     * <code>int64 failed_count = 2;</code>
+     * @param value The failedCount to set.
+     * @return This builder for chaining.
+     */
+    public Builder setFailedCount(long value) {
+      
+      failedCount_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>int64 failed_count = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearFailedCount() {
+      
+      failedCount_ = 0L;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<fr.tao.customerservice.grpc.generated.CustomerImportResult> failures_ =
+      java.util.Collections.emptyList();
+    private void ensureFailuresIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        failures_ = new java.util.ArrayList<fr.tao.customerservice.grpc.generated.CustomerImportResult>(failures_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        fr.tao.customerservice.grpc.generated.CustomerImportResult, fr.tao.customerservice.grpc.generated.CustomerImportResult.Builder, fr.tao.customerservice.grpc.generated.CustomerImportResultOrBuilder> failuresBuilder_;
+
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public java.util.List<fr.tao.customerservice.grpc.generated.CustomerImportResult> getFailuresList() {
+      if (failuresBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(failures_);
+      } else {
+        return failuresBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public int getFailuresCount() {
+      if (failuresBuilder_ == null) {
+        return failures_.size();
+      } else {
+        return failuresBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerImportResult getFailures(int index) {
+      if (failuresBuilder_ == null) {
+        return failures_.get(index);
+      } else {
+        return failuresBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public Builder setFailures(
+        int index, fr.tao.customerservice.grpc.generated.CustomerImportResult value) {
+      if (failuresBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureFailuresIsMutable();
+        failures_.set(index, value);
+        onChanged();
+      } else {
+        failuresBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public Builder setFailures(
+        int index, fr.tao.customerservice.grpc.generated.CustomerImportResult.Builder builderForValue) {
+      if (failuresBuilder_ == null) {
+        ensureFailuresIsMutable();
+        failures_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        failuresBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public Builder addFailures(fr.tao.customerservice.grpc.generated.CustomerImportResult value) {
+      if (failuresBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureFailuresIsMutable();
+        failures_.add(value);
+        onChanged();
+      } else {
+        failuresBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public Builder addFailures(
+        int index, fr.tao.customerservice.grpc.generated.CustomerImportResult value) {
+      if (failuresBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureFailuresIsMutable();
+        failures_.add(index, value);
+        onChanged();
+      } else {
+        failuresBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public Builder addFailures(
+        fr.tao.customerservice.grpc.generated.CustomerImportResult.Builder builderForValue) {
+      if (failuresBuilder_ == null) {
+        ensureFailuresIsMutable();
+        failures_.add(builderForValue.build());
+        onChanged();
+      } else {
+        failuresBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public Builder addFailures(
+        int index, fr.tao.customerservice.grpc.generated.CustomerImportResult.Builder builderForValue) {
+      if (failuresBuilder_ == null) {
+        ensureFailuresIsMutable();
+        failures_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        failuresBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public Builder addAllFailures(
+        java.lang.Iterable<? extends fr.tao.customerservice.grpc.generated.CustomerImportResult> values) {
+      if (failuresBuilder_ == null) {
+        ensureFailuresIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, failures_);
+        onChanged();
+      } else {
+        failuresBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public Builder clearFailures() {
+      if (failuresBuilder_ == null) {
+        failures_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        failuresBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public Builder removeFailures(int index) {
+      if (failuresBuilder_ == null) {
+        ensureFailuresIsMutable();
+        failures_.remove(index);
+        onChanged();
+      } else {
+        failuresBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerImportResult.Builder getFailuresBuilder(
+        int index) {
+      return getFailuresFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerImportResultOrBuilder getFailuresOrBuilder(
+        int index) {
+      if (failuresBuilder_ == null) {
+        return failures_.get(index);  } else {
+        return failuresBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public java.util.List<? extends fr.tao.customerservice.grpc.generated.CustomerImportResultOrBuilder> 
+         getFailuresOrBuilderList() {
+      if (failuresBuilder_ != null) {
+        return failuresBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(failures_);
+      }
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerImportResult.Builder addFailuresBuilder() {
+      return getFailuresFieldBuilder().addBuilder(
+          fr.tao.customerservice.grpc.generated.CustomerImportResult.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerImportResult.Builder addFailuresBuilder(
+        int index) {
+      return getFailuresFieldBuilder().addBuilder(
+          index, fr.tao.customerservice.grpc.generated.CustomerImportResult.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .CustomerImportResult failures = 3;</code>
+     */
+    public java.util.List<fr.tao.customerservice.grpc.generated.CustomerImportResult.Builder> 
+         getFailuresBuilderList() {
+      return getFailuresFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        fr.tao.customerservice.grpc.generated.CustomerImportResult, fr.tao.customerservice.grpc.generated.CustomerImportResult.Builder, fr.tao.customerservice.grpc.generated.CustomerImportResultOrBuilder> 
+        getFailuresFieldBuilder() {
+      if (failuresBuilder_ == null) {
+        failuresBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            fr.tao.customerservice.grpc.generated.CustomerImportResult, fr.tao.customerservice.grpc.generated.CustomerImportResult.Builder, fr.tao.customerservice.grpc.generated.CustomerImportResultOrBuilder>(
+                failures_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        failures_ = null;
+      }
+      return failuresBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:CustomerImportSummary)
+  }
+
+  // @@protoc_insertion_point(class_scope:CustomerImportSummary)
+  private static final fr.tao.customerservice.grpc.generated.CustomerImportSummary DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new fr.tao.customerservice.grpc.generated.CustomerImportSummary();
+  }
+
+  public static fr.tao.customerservice.grpc.generated.CustomerImportSummary getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<CustomerImportSummary>
+      PARSER = new com.google.protobuf.AbstractParser<CustomerImportSummary>() {
+    @java.lang.Override
+    public CustomerImportSummary parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new CustomerImportSummary(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<CustomerImportSummary> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<CustomerImportSummary> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public fr.tao.customerservice.grpc.generated.CustomerImportSummary getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
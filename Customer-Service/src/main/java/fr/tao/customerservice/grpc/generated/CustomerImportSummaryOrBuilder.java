@@ -0,0 +1,45 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: CustomerService.proto
+
+package fr.tao.customerservice.grpc.generated;
+
+public interface CustomerImportSummaryOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CustomerImportSummary)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>int64 imported_count = 1;</code>
+   * @return The importedCount.
+   */
+  long getImportedCount();
+
+  /**
+   * <code>int64 failed_count = 2;</code>
+   * @return The failedCount.
+   */
+  long getFailedCount();
+
+  /**
+   * <code>repeated .CustomerImportResult failures = 3;</code>
+   */
+  java.util.List<fr.tao.customerservice.grpc.generated.CustomerImportResult> 
+      getFailuresList();
+  /**
+   * <code>repeated .CustomerImportResult failures = 3;</code>
+   */
+  fr.tao.customerservice.grpc.generated.CustomerImportResult getFailures(int index);
+  /**
+   * <code>repeated .CustomerImportResult failures = 3;</code>
+   */
+  int getFailuresCount();
+  /**
+   * <code>repeated .CustomerImportResult failures = 3;</code>
+   */
+  java.util.List<? extends fr.tao.customerservice.grpc.generated.CustomerImportResultOrBuilder> 
+      getFailuresOrBuilderList();
+  /**
+   * <code>repeated .CustomerImportResult failures = 3;</code>
+   */
+  fr.tao.customerservice.grpc.generated.CustomerImportResultOrBuilder getFailuresOrBuilder(
+      int index);
+}
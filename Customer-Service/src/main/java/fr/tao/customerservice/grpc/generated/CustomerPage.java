@@ -0,0 +1,964 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: CustomerService.proto
+
+package fr.tao.customerservice.grpc.generated;
+
+/**
+ * Protobuf type {@code CustomerPage}
+ */
+public  final class CustomerPage extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:CustomerPage)
+    CustomerPageOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use CustomerPage.newBuilder() to construct.
+  private CustomerPage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private CustomerPage() {
+    customers_ = java.util.Collections.emptyList();
+    nextCursor_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new CustomerPage();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private CustomerPage(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              customers_ = new java.util.ArrayList<fr.tao.customerservice.grpc.generated.CustomerResponse>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            customers_.add(
+                input.readMessage(fr.tao.customerservice.grpc.generated.CustomerResponse.parser(), extensionRegistry));
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            nextCursor_ = s;
+            break;
+          }
+          case 24: {
+
+            hasNext_ = input.readBool();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        customers_ = java.util.Collections.unmodifiableList(customers_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerPage_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerPage_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            fr.tao.customerservice.grpc.generated.CustomerPage.class, fr.tao.customerservice.grpc.generated.CustomerPage.Builder.class);
+  }
+
+  public static final int CUSTOMERS_FIELD_NUMBER = 1;
+  private java.util.List<fr.tao.customerservice.grpc.generated.CustomerResponse> customers_;
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  public java.util.List<fr.tao.customerservice.grpc.generated.CustomerResponse> getCustomersList() {
+    return customers_;
+  }
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  public java.util.List<? extends fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder> 
+      getCustomersOrBuilderList() {
+    return customers_;
+  }
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  public int getCustomersCount() {
+    return customers_.size();
+  }
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  public fr.tao.customerservice.grpc.generated.CustomerResponse getCustomers(int index) {
+    return customers_.get(index);
+  }
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  public fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder getCustomersOrBuilder(
+      int index) {
+    return customers_.get(index);
+  }
+
+  public static final int NEXT_CURSOR_FIELD_NUMBER = 2;
+  private volatile java.lang.Object nextCursor_;
+  /**
+   * <code>string next_cursor = 2;</code>
+   * @return The nextCursor.
+   */
+  public java.lang.String getNextCursor() {
+    java.lang.Object ref = nextCursor_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      nextCursor_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string next_cursor = 2;</code>
+   * @return The bytes for nextCursor.
+   */
+  public com.google.protobuf.ByteString
+      getNextCursorBytes() {
+    java.lang.Object ref = nextCursor_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      nextCursor_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int HAS_NEXT_FIELD_NUMBER = 3;
+  private boolean hasNext_;
+  /**
+   * <code>bool has_next = 3;</code>
+   * @return The hasNext.
+   */
+  public boolean getHasNext() {
+    return hasNext_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < customers_.size(); i++) {
+      output.writeMessage(1, customers_.get(i));
+    }
+    if (!getNextCursorBytes().isEmpty()) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, nextCursor_);
+    }
+    if (hasNext_ != false) {
+      output.writeBool(3, hasNext_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    for (int i = 0; i < customers_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, customers_.get(i));
+    }
+    if (!getNextCursorBytes().isEmpty()) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, nextCursor_);
+    }
+    if (hasNext_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(3, hasNext_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof fr.tao.customerservice.grpc.generated.CustomerPage)) {
+      return super.equals(obj);
+    }
+    fr.tao.customerservice.grpc.generated.CustomerPage other = (fr.tao.customerservice.grpc.generated.CustomerPage) obj;
+
+    if (!getCustomersList()
+        .equals(other.getCustomersList())) return false;
+    if (!getNextCursor()
+        .equals(other.getNextCursor())) return false;
+    if (getHasNext()
+        != other.getHasNext()) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getCustomersCount() > 0) {
+      hash = (37 * hash) + CUSTOMERS_FIELD_NUMBER;
+      hash = (53 * hash) + getCustomersList().hashCode();
+    }
+    hash = (37 * hash) + NEXT_CURSOR_FIELD_NUMBER;
+    hash = (53 * hash) + getNextCursor().hashCode();
+    hash = (37 * hash) + HAS_NEXT_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getHasNext());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static fr.tao.customerservice.grpc.generated.CustomerPage parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerPage parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerPage parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerPage parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerPage parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerPage parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerPage parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerPage parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerPage parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerPage parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerPage parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static fr.tao.customerservice.grpc.generated.CustomerPage parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(fr.tao.customerservice.grpc.generated.CustomerPage prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code CustomerPage}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:CustomerPage)
+      fr.tao.customerservice.grpc.generated.CustomerPageOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerPage_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerPage_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fr.tao.customerservice.grpc.generated.CustomerPage.class, fr.tao.customerservice.grpc.generated.CustomerPage.Builder.class);
+    }
+
+    // Construct using fr.tao.customerservice.grpc.generated.CustomerPage.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getCustomersFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (customersBuilder_ == null) {
+        customers_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        customersBuilder_.clear();
+      }
+      nextCursor_ = "";
+
+      hasNext_ = false;
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return fr.tao.customerservice.grpc.generated.CustomerServiceOuterClass.internal_static_CustomerPage_descriptor;
+    }
+
+    @java.lang.Override
+    public fr.tao.customerservice.grpc.generated.CustomerPage getDefaultInstanceForType() {
+      return fr.tao.customerservice.grpc.generated.CustomerPage.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public fr.tao.customerservice.grpc.generated.CustomerPage build() {
+      fr.tao.customerservice.grpc.generated.CustomerPage result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public fr.tao.customerservice.grpc.generated.CustomerPage buildPartial() {
+      fr.tao.customerservice.grpc.generated.CustomerPage result = new fr.tao.customerservice.grpc.generated.CustomerPage(this);
+      int from_bitField0_ = bitField0_;
+      if (customersBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          customers_ = java.util.Collections.unmodifiableList(customers_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.customers_ = customers_;
+      } else {
+        result.customers_ = customersBuilder_.build();
+      }
+      result.nextCursor_ = nextCursor_;
+      result.hasNext_ = hasNext_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof fr.tao.customerservice.grpc.generated.CustomerPage) {
+        return mergeFrom((fr.tao.customerservice.grpc.generated.CustomerPage)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(fr.tao.customerservice.grpc.generated.CustomerPage other) {
+      if (other == fr.tao.customerservice.grpc.generated.CustomerPage.getDefaultInstance()) return this;
+      if (customersBuilder_ == null) {
+        if (!other.customers_.isEmpty()) {
+          if (customers_.isEmpty()) {
+            customers_ = other.customers_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureCustomersIsMutable();
+            customers_.addAll(other.customers_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.customers_.isEmpty()) {
+          if (customersBuilder_.isEmpty()) {
+            customersBuilder_.dispose();
+            customersBuilder_ = null;
+            customers_ = other.customers_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            customersBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getCustomersFieldBuilder() : null;
+          } else {
+            customersBuilder_.addAllMessages(other.customers_);
+          }
+        }
+      }
+      if (!other.getNextCursor().isEmpty()) {
+        nextCursor_ = other.nextCursor_;
+        onChanged();
+      }
+      if (other.getHasNext() != false) {
+        setHasNext(other.getHasNext());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      fr.tao.customerservice.grpc.generated.CustomerPage parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (fr.tao.customerservice.grpc.generated.CustomerPage) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.util.List<fr.tao.customerservice.grpc.generated.CustomerResponse> customers_ =
+      java.util.Collections.emptyList();
+    private void ensureCustomersIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        customers_ = new java.util.ArrayList<fr.tao.customerservice.grpc.generated.CustomerResponse>(customers_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        fr.tao.customerservice.grpc.generated.CustomerResponse, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder, fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder> customersBuilder_;
+
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public java.util.List<fr.tao.customerservice.grpc.generated.CustomerResponse> getCustomersList() {
+      if (customersBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(customers_);
+      } else {
+        return customersBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public int getCustomersCount() {
+      if (customersBuilder_ == null) {
+        return customers_.size();
+      } else {
+        return customersBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponse getCustomers(int index) {
+      if (customersBuilder_ == null) {
+        return customers_.get(index);
+      } else {
+        return customersBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder setCustomers(
+        int index, fr.tao.customerservice.grpc.generated.CustomerResponse value) {
+      if (customersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureCustomersIsMutable();
+        customers_.set(index, value);
+        onChanged();
+      } else {
+        customersBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder setCustomers(
+        int index, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder builderForValue) {
+      if (customersBuilder_ == null) {
+        ensureCustomersIsMutable();
+        customers_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        customersBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder addCustomers(fr.tao.customerservice.grpc.generated.CustomerResponse value) {
+      if (customersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureCustomersIsMutable();
+        customers_.add(value);
+        onChanged();
+      } else {
+        customersBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder addCustomers(
+        int index, fr.tao.customerservice.grpc.generated.CustomerResponse value) {
+      if (customersBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureCustomersIsMutable();
+        customers_.add(index, value);
+        onChanged();
+      } else {
+        customersBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder addCustomers(
+        fr.tao.customerservice.grpc.generated.CustomerResponse.Builder builderForValue) {
+      if (customersBuilder_ == null) {
+        ensureCustomersIsMutable();
+        customers_.add(builderForValue.build());
+        onChanged();
+      } else {
+        customersBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder addCustomers(
+        int index, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder builderForValue) {
+      if (customersBuilder_ == null) {
+        ensureCustomersIsMutable();
+        customers_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        customersBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder addAllCustomers(
+        java.lang.Iterable<? extends fr.tao.customerservice.grpc.generated.CustomerResponse> values) {
+      if (customersBuilder_ == null) {
+        ensureCustomersIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, customers_);
+        onChanged();
+      } else {
+        customersBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder clearCustomers() {
+      if (customersBuilder_ == null) {
+        customers_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        customersBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public Builder removeCustomers(int index) {
+      if (customersBuilder_ == null) {
+        ensureCustomersIsMutable();
+        customers_.remove(index);
+        onChanged();
+      } else {
+        customersBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponse.Builder getCustomersBuilder(
+        int index) {
+      return getCustomersFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder getCustomersOrBuilder(
+        int index) {
+      if (customersBuilder_ == null) {
+        return customers_.get(index);  } else {
+        return customersBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public java.util.List<? extends fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder> 
+         getCustomersOrBuilderList() {
+      if (customersBuilder_ != null) {
+        return customersBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(customers_);
+      }
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponse.Builder addCustomersBuilder() {
+      return getCustomersFieldBuilder().addBuilder(
+          fr.tao.customerservice.grpc.generated.CustomerResponse.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerResponse.Builder addCustomersBuilder(
+        int index) {
+      return getCustomersFieldBuilder().addBuilder(
+          index, fr.tao.customerservice.grpc.generated.CustomerResponse.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .CustomerResponse customers = 1;</code>
+     */
+    public java.util.List<fr.tao.customerservice.grpc.generated.CustomerResponse.Builder> 
+         getCustomersBuilderList() {
+      return getCustomersFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        fr.tao.customerservice.grpc.generated.CustomerResponse, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder, fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder> 
+        getCustomersFieldBuilder() {
+      if (customersBuilder_ == null) {
+        customersBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            fr.tao.customerservice.grpc.generated.CustomerResponse, fr.tao.customerservice.grpc.generated.CustomerResponse.Builder, fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder>(
+                customers_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        customers_ = null;
+      }
+      return customersBuilder_;
+    }
+
+    private java.lang.Object nextCursor_ = "";
+    /**
+     * <code>string next_cursor = 2;</code>
+     * @return The nextCursor.
+     */
+    public java.lang.String getNextCursor() {
+      java.lang.Object ref = nextCursor_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        nextCursor_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string next_cursor = 2;</code>
+     * @return The bytes for nextCursor.
+     */
+    public com.google.protobuf.ByteString
+        getNextCursorBytes() {
+      java.lang.Object ref = nextCursor_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nextCursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string next_cursor = 2;</code>
+     * @param value The nextCursor to set.
+     * @return This builder for chaining.
+     */
+    public Builder setNextCursor(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      nextCursor_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string next_cursor = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearNextCursor() {
+      
+      nextCursor_ = getDefaultInstance().getNextCursor();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string next_cursor = 2;</code>
+     * @param value The bytes for nextCursor to set.
+     * @return This builder for chaining.
+     */
+    public Builder setNextCursorBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      nextCursor_ = value;
+      onChanged();
+      return this;
+    }
+
+    private boolean hasNext_ ;
+    /**
+     * <code>bool has_next = 3;</code>
+     * @return The hasNext.
+     */
+    public boolean getHasNext() {
+      return hasNext_;
+    }
+    /**
+     * <code>bool has_next = 3;</code>
+     * @param value The hasNext to set.
+     * @return This builder for chaining.
+     */
+    public Builder setHasNext(boolean value) {
+      
+      hasNext_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bool has_next = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearHasNext() {
+      
+      hasNext_ = false;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:CustomerPage)
+  }
+
+  // @@protoc_insertion_point(class_scope:CustomerPage)
+  private static final fr.tao.customerservice.grpc.generated.CustomerPage DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new fr.tao.customerservice.grpc.generated.CustomerPage();
+  }
+
+  public static fr.tao.customerservice.grpc.generated.CustomerPage getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<CustomerPage>
+      PARSER = new com.google.protobuf.AbstractParser<CustomerPage>() {
+    @java.lang.Override
+    public CustomerPage parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new CustomerPage(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<CustomerPage> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<CustomerPage> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public fr.tao.customerservice.grpc.generated.CustomerPage getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,51 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: CustomerService.proto
+
+package fr.tao.customerservice.grpc.generated;
+
+public interface CustomerPageOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CustomerPage)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  java.util.List<fr.tao.customerservice.grpc.generated.CustomerResponse> 
+      getCustomersList();
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  fr.tao.customerservice.grpc.generated.CustomerResponse getCustomers(int index);
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  int getCustomersCount();
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  java.util.List<? extends fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder> 
+      getCustomersOrBuilderList();
+  /**
+   * <code>repeated .CustomerResponse customers = 1;</code>
+   */
+  fr.tao.customerservice.grpc.generated.CustomerResponseOrBuilder getCustomersOrBuilder(
+      int index);
+
+  /**
+   * <code>string next_cursor = 2;</code>
+   * @return The nextCursor.
+   */
+  java.lang.String getNextCursor();
+  /**
+   * <code>string next_cursor = 2;</code>
+   * @return The bytes for nextCursor.
+   */
+  com.google.protobuf.ByteString
+      getNextCursorBytes();
+
+  /**
+   * <code>bool has_next = 3;</code>
+   * @return The hasNext.
+   */
+  boolean getHasNext();
+}
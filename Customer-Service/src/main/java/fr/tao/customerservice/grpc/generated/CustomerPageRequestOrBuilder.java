@@ -0,0 +1,27 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: CustomerService.proto
+
+package fr.tao.customerservice.grpc.generated;
+
+public interface CustomerPageRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:CustomerPageRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string cursor = 1;</code>
+   * @return The cursor.
+   */
+  java.lang.String getCursor();
+  /**
+   * <code>string cursor = 1;</code>
+   * @return The bytes for cursor.
+   */
+  com.google.protobuf.ByteString
+      getCursorBytes();
+
+  /**
+   * <code>int32 size = 2;</code>
+   * @return The size.
+   */
+  int getSize();
+}
@@ -108,6 +108,161 @@ public final class CustomerServiceGrpc {
     return getCreateCustomerMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<fr.tao.customerservice.grpc.generated.StreamCustomersRequest,
+      fr.tao.customerservice.grpc.generated.CustomerResponse> getStreamCustomersMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "streamCustomers",
+      requestType = fr.tao.customerservice.grpc.generated.StreamCustomersRequest.class,
+      responseType = fr.tao.customerservice.grpc.generated.CustomerResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<fr.tao.customerservice.grpc.generated.StreamCustomersRequest,
+      fr.tao.customerservice.grpc.generated.CustomerResponse> getStreamCustomersMethod() {
+    io.grpc.MethodDescriptor<fr.tao.customerservice.grpc.generated.StreamCustomersRequest, fr.tao.customerservice.grpc.generated.CustomerResponse> getStreamCustomersMethod;
+    if ((getStreamCustomersMethod = CustomerServiceGrpc.getStreamCustomersMethod) == null) {
+      synchronized (CustomerServiceGrpc.class) {
+        if ((getStreamCustomersMethod = CustomerServiceGrpc.getStreamCustomersMethod) == null) {
+          CustomerServiceGrpc.getStreamCustomersMethod = getStreamCustomersMethod =
+              io.grpc.MethodDescriptor.<fr.tao.customerservice.grpc.generated.StreamCustomersRequest, fr.tao.customerservice.grpc.generated.CustomerResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "streamCustomers"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fr.tao.customerservice.grpc.generated.StreamCustomersRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fr.tao.customerservice.grpc.generated.CustomerResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new CustomerServiceMethodDescriptorSupplier("streamCustomers"))
+              .build();
+        }
+      }
+    }
+    return getStreamCustomersMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<fr.tao.customerservice.grpc.generated.CustomerPageRequest,
+      fr.tao.customerservice.grpc.generated.CustomerPage> getGetCustomersPageMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getCustomersPage",
+      requestType = fr.tao.customerservice.grpc.generated.CustomerPageRequest.class,
+      responseType = fr.tao.customerservice.grpc.generated.CustomerPage.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<fr.tao.customerservice.grpc.generated.CustomerPageRequest,
+      fr.tao.customerservice.grpc.generated.CustomerPage> getGetCustomersPageMethod() {
+    io.grpc.MethodDescriptor<fr.tao.customerservice.grpc.generated.CustomerPageRequest, fr.tao.customerservice.grpc.generated.CustomerPage> getGetCustomersPageMethod;
+    if ((getGetCustomersPageMethod = CustomerServiceGrpc.getGetCustomersPageMethod) == null) {
+      synchronized (CustomerServiceGrpc.class) {
+        if ((getGetCustomersPageMethod = CustomerServiceGrpc.getGetCustomersPageMethod) == null) {
+          CustomerServiceGrpc.getGetCustomersPageMethod = getGetCustomersPageMethod =
+              io.grpc.MethodDescriptor.<fr.tao.customerservice.grpc.generated.CustomerPageRequest, fr.tao.customerservice.grpc.generated.CustomerPage>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getCustomersPage"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fr.tao.customerservice.grpc.generated.CustomerPageRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fr.tao.customerservice.grpc.generated.CustomerPage.getDefaultInstance()))
+              .setSchemaDescriptor(new CustomerServiceMethodDescriptorSupplier("getCustomersPage"))
+              .build();
+        }
+      }
+    }
+    return getGetCustomersPageMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<fr.tao.customerservice.grpc.generated.CustomerIds,
+      fr.tao.customerservice.grpc.generated.CustomerBatch> getGetCustomersByIdsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getCustomersByIds",
+      requestType = fr.tao.customerservice.grpc.generated.CustomerIds.class,
+      responseType = fr.tao.customerservice.grpc.generated.CustomerBatch.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<fr.tao.customerservice.grpc.generated.CustomerIds,
+      fr.tao.customerservice.grpc.generated.CustomerBatch> getGetCustomersByIdsMethod() {
+    io.grpc.MethodDescriptor<fr.tao.customerservice.grpc.generated.CustomerIds, fr.tao.customerservice.grpc.generated.CustomerBatch> getGetCustomersByIdsMethod;
+    if ((getGetCustomersByIdsMethod = CustomerServiceGrpc.getGetCustomersByIdsMethod) == null) {
+      synchronized (CustomerServiceGrpc.class) {
+        if ((getGetCustomersByIdsMethod = CustomerServiceGrpc.getGetCustomersByIdsMethod) == null) {
+          CustomerServiceGrpc.getGetCustomersByIdsMethod = getGetCustomersByIdsMethod =
+              io.grpc.MethodDescriptor.<fr.tao.customerservice.grpc.generated.CustomerIds, fr.tao.customerservice.grpc.generated.CustomerBatch>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getCustomersByIds"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fr.tao.customerservice.grpc.generated.CustomerIds.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fr.tao.customerservice.grpc.generated.CustomerBatch.getDefaultInstance()))
+              .setSchemaDescriptor(new CustomerServiceMethodDescriptorSupplier("getCustomersByIds"))
+              .build();
+        }
+      }
+    }
+    return getGetCustomersByIdsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<fr.tao.customerservice.grpc.generated.CustomerRequest,
+      fr.tao.customerservice.grpc.generated.CustomerImportSummary> getImportCustomersMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "importCustomers",
+      requestType = fr.tao.customerservice.grpc.generated.CustomerRequest.class,
+      responseType = fr.tao.customerservice.grpc.generated.CustomerImportSummary.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+  public static io.grpc.MethodDescriptor<fr.tao.customerservice.grpc.generated.CustomerRequest,
+      fr.tao.customerservice.grpc.generated.CustomerImportSummary> getImportCustomersMethod() {
+    io.grpc.MethodDescriptor<fr.tao.customerservice.grpc.generated.CustomerRequest, fr.tao.customerservice.grpc.generated.CustomerImportSummary> getImportCustomersMethod;
+    if ((getImportCustomersMethod = CustomerServiceGrpc.getImportCustomersMethod) == null) {
+      synchronized (CustomerServiceGrpc.class) {
+        if ((getImportCustomersMethod = CustomerServiceGrpc.getImportCustomersMethod) == null) {
+          CustomerServiceGrpc.getImportCustomersMethod = getImportCustomersMethod =
+              io.grpc.MethodDescriptor.<fr.tao.customerservice.grpc.generated.CustomerRequest, fr.tao.customerservice.grpc.generated.CustomerImportSummary>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "importCustomers"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fr.tao.customerservice.grpc.generated.CustomerRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fr.tao.customerservice.grpc.generated.CustomerImportSummary.getDefaultInstance()))
+              .setSchemaDescriptor(new CustomerServiceMethodDescriptorSupplier("importCustomers"))
+              .build();
+        }
+      }
+    }
+    return getImportCustomersMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<fr.tao.customerservice.grpc.generated.WatchCustomersRequest,
+      fr.tao.customerservice.grpc.generated.CustomerChange> getWatchCustomersMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "watchCustomers",
+      requestType = fr.tao.customerservice.grpc.generated.WatchCustomersRequest.class,
+      responseType = fr.tao.customerservice.grpc.generated.CustomerChange.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<fr.tao.customerservice.grpc.generated.WatchCustomersRequest,
+      fr.tao.customerservice.grpc.generated.CustomerChange> getWatchCustomersMethod() {
+    io.grpc.MethodDescriptor<fr.tao.customerservice.grpc.generated.WatchCustomersRequest, fr.tao.customerservice.grpc.generated.CustomerChange> getWatchCustomersMethod;
+    if ((getWatchCustomersMethod = CustomerServiceGrpc.getWatchCustomersMethod) == null) {
+      synchronized (CustomerServiceGrpc.class) {
+        if ((getWatchCustomersMethod = CustomerServiceGrpc.getWatchCustomersMethod) == null) {
+          CustomerServiceGrpc.getWatchCustomersMethod = getWatchCustomersMethod =
+              io.grpc.MethodDescriptor.<fr.tao.customerservice.grpc.generated.WatchCustomersRequest, fr.tao.customerservice.grpc.generated.CustomerChange>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "watchCustomers"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fr.tao.customerservice.grpc.generated.WatchCustomersRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fr.tao.customerservice.grpc.generated.CustomerChange.getDefaultInstance()))
+              .setSchemaDescriptor(new CustomerServiceMethodDescriptorSupplier("watchCustomers"))
+              .build();
+        }
+      }
+    }
+    return getWatchCustomersMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -176,6 +331,41 @@ public final class CustomerServiceGrpc {
         io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerResponse> responseObserver) {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCreateCustomerMethod(), responseObserver);
     }
+
+    /**
+     */
+    default void streamCustomers(fr.tao.customerservice.grpc.generated.StreamCustomersRequest request,
+        io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getStreamCustomersMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void getCustomersPage(fr.tao.customerservice.grpc.generated.CustomerPageRequest request,
+        io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerPage> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetCustomersPageMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void getCustomersByIds(fr.tao.customerservice.grpc.generated.CustomerIds request,
+        io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerBatch> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetCustomersByIdsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerRequest> importCustomers(
+        io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerImportSummary> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getImportCustomersMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void watchCustomers(fr.tao.customerservice.grpc.generated.WatchCustomersRequest request,
+        io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerChange> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getWatchCustomersMethod(), responseObserver);
+    }
   }
 
   /**
@@ -228,6 +418,46 @@ public final class CustomerServiceGrpc {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getCreateCustomerMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     */
+    public void streamCustomers(fr.tao.customerservice.grpc.generated.StreamCustomersRequest request,
+        io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getStreamCustomersMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getCustomersPage(fr.tao.customerservice.grpc.generated.CustomerPageRequest request,
+        io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerPage> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetCustomersPageMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getCustomersByIds(fr.tao.customerservice.grpc.generated.CustomerIds request,
+        io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerBatch> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetCustomersByIdsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerRequest> importCustomers(
+        io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerImportSummary> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncClientStreamingCall(
+          getChannel().newCall(getImportCustomersMethod(), getCallOptions()), responseObserver);
+    }
+
+    /**
+     */
+    public void watchCustomers(fr.tao.customerservice.grpc.generated.WatchCustomersRequest request,
+        io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerChange> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getWatchCustomersMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -266,6 +496,36 @@ public final class CustomerServiceGrpc {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getCreateCustomerMethod(), getCallOptions(), request);
     }
+
+    /**
+     */
+    public java.util.Iterator<fr.tao.customerservice.grpc.generated.CustomerResponse> streamCustomers(
+        fr.tao.customerservice.grpc.generated.StreamCustomersRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getStreamCustomersMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerPage getCustomersPage(fr.tao.customerservice.grpc.generated.CustomerPageRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetCustomersPageMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public fr.tao.customerservice.grpc.generated.CustomerBatch getCustomersByIds(fr.tao.customerservice.grpc.generated.CustomerIds request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetCustomersByIdsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<fr.tao.customerservice.grpc.generated.CustomerChange> watchCustomers(
+        fr.tao.customerservice.grpc.generated.WatchCustomersRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getWatchCustomersMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -307,11 +567,32 @@ public final class CustomerServiceGrpc {
       return io.grpc.stub.ClientCalls.futureUnaryCall(
           getChannel().newCall(getCreateCustomerMethod(), getCallOptions()), request);
     }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<fr.tao.customerservice.grpc.generated.CustomerPage> getCustomersPage(
+        fr.tao.customerservice.grpc.generated.CustomerPageRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetCustomersPageMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<fr.tao.customerservice.grpc.generated.CustomerBatch> getCustomersByIds(
+        fr.tao.customerservice.grpc.generated.CustomerIds request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetCustomersByIdsMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_GET_ALL_CUSTOMERS = 0;
   private static final int METHODID_GET_CUSTOMER_BY_ID = 1;
   private static final int METHODID_CREATE_CUSTOMER = 2;
+  private static final int METHODID_STREAM_CUSTOMERS = 3;
+  private static final int METHODID_GET_CUSTOMERS_PAGE = 4;
+  private static final int METHODID_GET_CUSTOMERS_BY_IDS = 5;
+  private static final int METHODID_WATCH_CUSTOMERS = 6;
+  private static final int METHODID_IMPORT_CUSTOMERS = 7;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -342,15 +623,35 @@ public final class CustomerServiceGrpc {
           serviceImpl.createCustomer((fr.tao.customerservice.grpc.generated.CustomerRequest) request,
               (io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerResponse>) responseObserver);
           break;
+        case METHODID_STREAM_CUSTOMERS:
+          serviceImpl.streamCustomers((fr.tao.customerservice.grpc.generated.StreamCustomersRequest) request,
+              (io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerResponse>) responseObserver);
+          break;
+        case METHODID_GET_CUSTOMERS_PAGE:
+          serviceImpl.getCustomersPage((fr.tao.customerservice.grpc.generated.CustomerPageRequest) request,
+              (io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerPage>) responseObserver);
+          break;
+        case METHODID_GET_CUSTOMERS_BY_IDS:
+          serviceImpl.getCustomersByIds((fr.tao.customerservice.grpc.generated.CustomerIds) request,
+              (io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerBatch>) responseObserver);
+          break;
+        case METHODID_WATCH_CUSTOMERS:
+          serviceImpl.watchCustomers((fr.tao.customerservice.grpc.generated.WatchCustomersRequest) request,
+              (io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerChange>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
     }
 
     @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_IMPORT_CUSTOMERS:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.importCustomers(
+              (io.grpc.stub.StreamObserver<fr.tao.customerservice.grpc.generated.CustomerImportSummary>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -380,6 +681,41 @@ public final class CustomerServiceGrpc {
               fr.tao.customerservice.grpc.generated.CustomerRequest,
               fr.tao.customerservice.grpc.generated.CustomerResponse>(
                 service, METHODID_CREATE_CUSTOMER)))
+        .addMethod(
+          getStreamCustomersMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              fr.tao.customerservice.grpc.generated.StreamCustomersRequest,
+              fr.tao.customerservice.grpc.generated.CustomerResponse>(
+                service, METHODID_STREAM_CUSTOMERS)))
+        .addMethod(
+          getGetCustomersPageMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              fr.tao.customerservice.grpc.generated.CustomerPageRequest,
+              fr.tao.customerservice.grpc.generated.CustomerPage>(
+                service, METHODID_GET_CUSTOMERS_PAGE)))
+        .addMethod(
+          getGetCustomersByIdsMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              fr.tao.customerservice.grpc.generated.CustomerIds,
+              fr.tao.customerservice.grpc.generated.CustomerBatch>(
+                service, METHODID_GET_CUSTOMERS_BY_IDS)))
+        .addMethod(
+          getImportCustomersMethod(),
+          io.grpc.stub.ServerCalls.asyncClientStreamingCall(
+            new MethodHandlers<
+              fr.tao.customerservice.grpc.generated.CustomerRequest,
+              fr.tao.customerservice.grpc.generated.CustomerImportSummary>(
+                service, METHODID_IMPORT_CUSTOMERS)))
+        .addMethod(
+          getWatchCustomersMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              fr.tao.customerservice.grpc.generated.WatchCustomersRequest,
+              fr.tao.customerservice.grpc.generated.CustomerChange>(
+                service, METHODID_WATCH_CUSTOMERS)))
         .build();
   }
 
@@ -431,6 +767,11 @@ public final class CustomerServiceGrpc {
               .addMethod(getGetAllCustomersMethod())
               .addMethod(getGetCustomerByIdMethod())
               .addMethod(getCreateCustomerMethod())
+              .addMethod(getStreamCustomersMethod())
+              .addMethod(getGetCustomersPageMethod())
+              .addMethod(getGetCustomersByIdsMethod())
+              .addMethod(getImportCustomersMethod())
+              .addMethod(getWatchCustomersMethod())
               .build();
         }
       }
@@ -24,6 +24,21 @@ public final class CustomerServiceOuterClass {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_CustomerId_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CustomerIds_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CustomerIds_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_StreamCustomersRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_StreamCustomersRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CustomerPageRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CustomerPageRequest_fieldAccessorTable;
   static final com.google.protobuf.Descriptors.Descriptor
     internal_static_CustomerRequest_descriptor;
   static final 
@@ -39,6 +54,36 @@ public final class CustomerServiceOuterClass {
   static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_CustomerList_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CustomerBatch_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CustomerBatch_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CustomerImportResult_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CustomerImportResult_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CustomerImportSummary_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CustomerImportSummary_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CustomerPage_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CustomerPage_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_WatchCustomersRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_WatchCustomersRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CustomerChange_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CustomerChange_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -49,16 +94,42 @@ public final class CustomerServiceOuterClass {
   static {
     java.lang.String[] descriptorData = {
       "\n\025CustomerService.proto\"\007\n\005Empty\"\030\n\nCust" +
-      "omerId\022\n\n\002id\030\001 \001(\003\".\n\017CustomerRequest\022\014\n" +
-      "\004name\030\001 \001(\t\022\r\n\005email\030\002 \001(\t\";\n\020CustomerRe" +
-      "sponse\022\n\n\002id\030\001 \001(\003\022\014\n\004name\030\002 \001(\t\022\r\n\005emai" +
-      "l\030\003 \001(\t\"4\n\014CustomerList\022$\n\tcustomers\030\001 \003" +
-      "(\0132\021.CustomerResponse2\245\001\n\017CustomerServic" +
-      "e\022(\n\017getAllCustomers\022\006.Empty\032\r.CustomerL" +
-      "ist\0221\n\017GetCustomerById\022\013.CustomerId\032\021.Cu" +
-      "stomerResponse\0225\n\016createCustomer\022\020.Custo" +
-      "merRequest\032\021.CustomerResponseB)\n%fr.tao." +
-      "customerservice.grpc.generatedP\001b\006proto3"
+      "omerId\022\n\n\002id\030\001 \001(\003\"\032\n\013CustomerIds\022\013\n\003ids" +
+      "\030\001 \003(\003\",\n\026StreamCustomersRequest\022\022\n\nchun" +
+      "k_size\030\001 \001(\005\"3\n\023CustomerPageRequest\022\016\n\006c" +
+      "ursor\030\001 \001(\t\022\014\n\004size\030\002 \001(\005\".\n\017CustomerReq" +
+      "uest\022\014\n\004name\030\001 \001(\t\022\r\n\005email\030\002 \001(\t\";\n\020Cus" +
+      "tomerResponse\022\n\n\002id\030\001 \001(\003\022\014\n\004name\030\002 \001(\t\022" +
+      "\r\n\005email\030\003 \001(\t\"4\n\014CustomerList\022$\n\tcustom" +
+      "ers\030\001 \003(\0132\021.CustomerResponse\"J\n\rCustomer" +
+      "Batch\022$\n\tcustomers\030\001 \003(\0132\021.CustomerRespo" +
+      "nse\022\023\n\013missing_ids\030\002 \003(\003\"j\n\024CustomerImpo" +
+      "rtResult\022\r\n\005index\030\001 \001(\005\022\017\n\007success\030\002 \001(\010" +
+      "\022#\n\010customer\030\003 \001(\0132\021.CustomerResponse\022\r\n" +
+      "\005error\030\004 \001(\t\"n\n\025CustomerImportSummary\022\026\n" +
+      "\016imported_count\030\001 \001(\003\022\024\n\014failed_count\030\002 " +
+      "\001(\003\022\'\n\010failures\030\003 \003(\0132\025.CustomerImportRe" +
+      "sult\"[\n\014CustomerPage\022$\n\tcustomers\030\001 \003(\0132" +
+      "\021.CustomerResponse\022\023\n\013next_cursor\030\002 \001(\t\022" +
+      "\020\n\010has_next\030\003 \001(\010\"/\n\025WatchCustomersReque" +
+      "st\022\026\n\016after_sequence\030\001 \001(\003\"\246\001\n\016CustomerC" +
+      "hange\022\020\n\010sequence\030\001 \001(\003\022(\n\004type\030\002 \001(\0162\032." +
+      "CustomerChange.ChangeType\022#\n\010customer\030\003 " +
+      "\001(\0132\021.CustomerResponse\"3\n\nChangeType\022\013\n\007" +
+      "CREATED\020\000\022\013\n\007UPDATED\020\001\022\013\n\007DELETED\020\0022\316\003\n\017" +
+      "CustomerService\022(\n\017getAllCustomers\022\006.Emp" +
+      "ty\032\r.CustomerList\0221\n\017GetCustomerById\022\013.C" +
+      "ustomerId\032\021.CustomerResponse\0225\n\016createCu" +
+      "stomer\022\020.CustomerRequest\032\021.CustomerRespo" +
+      "nse\022?\n\017streamCustomers\022\027.StreamCustomers" +
+      "Request\032\021.CustomerResponse0\001\0227\n\020getCusto" +
+      "mersPage\022\024.CustomerPageRequest\032\r.Custome" +
+      "rPage\0221\n\021getCustomersByIds\022\014.CustomerIds" +
+      "\032\016.CustomerBatch\022=\n\017importCustomers\022\020.Cu" +
+      "stomerRequest\032\026.CustomerImportSummary(\001\022" +
+      ";\n\016watchCustomers\022\026.WatchCustomersReques" +
+      "t\032\017.CustomerChange0\001B)\n%fr.tao.customers" +
+      "ervice.grpc.generatedP\001b\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -76,24 +147,78 @@ public final class CustomerServiceOuterClass {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_CustomerId_descriptor,
         new java.lang.String[] { "Id", });
-    internal_static_CustomerRequest_descriptor =
+    internal_static_CustomerIds_descriptor =
       getDescriptor().getMessageTypes().get(2);
+    internal_static_CustomerIds_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CustomerIds_descriptor,
+        new java.lang.String[] { "Ids", });
+    internal_static_StreamCustomersRequest_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_StreamCustomersRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_StreamCustomersRequest_descriptor,
+        new java.lang.String[] { "ChunkSize", });
+    internal_static_CustomerPageRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_CustomerPageRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CustomerPageRequest_descriptor,
+        new java.lang.String[] { "Cursor", "Size", });
+    internal_static_CustomerRequest_descriptor =
+      getDescriptor().getMessageTypes().get(5);
     internal_static_CustomerRequest_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_CustomerRequest_descriptor,
         new java.lang.String[] { "Name", "Email", });
     internal_static_CustomerResponse_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(6);
     internal_static_CustomerResponse_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_CustomerResponse_descriptor,
         new java.lang.String[] { "Id", "Name", "Email", });
     internal_static_CustomerList_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_CustomerList_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_CustomerList_descriptor,
         new java.lang.String[] { "Customers", });
+    internal_static_CustomerBatch_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_CustomerBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CustomerBatch_descriptor,
+        new java.lang.String[] { "Customers", "MissingIds", });
+    internal_static_CustomerImportResult_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_CustomerImportResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CustomerImportResult_descriptor,
+        new java.lang.String[] { "Index", "Success", "Customer", "Error", });
+    internal_static_CustomerImportSummary_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_CustomerImportSummary_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CustomerImportSummary_descriptor,
+        new java.lang.String[] { "ImportedCount", "FailedCount", "Failures", });
+    internal_static_CustomerPage_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_CustomerPage_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CustomerPage_descriptor,
+        new java.lang.String[] { "Customers", "NextCursor", "HasNext", });
+    internal_static_WatchCustomersRequest_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_WatchCustomersRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_WatchCustomersRequest_descriptor,
+        new java.lang.String[] { "AfterSequence", });
+    internal_static_CustomerChange_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_CustomerChange_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CustomerChange_descriptor,
+        new java.lang.String[] { "Sequence", "Type", "Customer", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -4,13 +4,17 @@ import java.util.List;
 
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.ReportingPolicy;
 import org.mapstruct.factory.Mappers;
 
+import fr.tao.customerservice.dto.CustomerChangeDto;
 import fr.tao.customerservice.dto.CustomerDto;
 import fr.tao.customerservice.entity.Customer;
+import fr.tao.customerservice.entity.CustomerChangeLog;
+import fr.tao.customerservice.grpc.generated.CustomerChange;
 import fr.tao.customerservice.grpc.generated.CustomerRequest;
 import fr.tao.customerservice.grpc.generated.CustomerResponse;
 
@@ -79,6 +83,64 @@ public interface CustomerMapper {
      */
     CustomerResponse toCustomerProto(CustomerDto customerDto);
     
+    /**
+     * Converts a CustomerDto to a CustomerResponse protocol buffer message, reusing 
+     * the given builder rather than allocating one per message.
+     * 
+     * It is meant for the conversion of many customers in a row, e.g. written straight 
+     * into a CustomerList builder as they are read from the database.
+     *
+     * @param customerDto The CustomerDto to be converted to a CustomerResponse.
+     * @param builder     The builder to reuse, cleared before being filled.
+     * @return The corresponding CustomerResponse message.
+     */
+    default CustomerResponse toCustomerProto(CustomerDto customerDto, CustomerResponse.Builder builder) {
+	builder.clear();
+	if (customerDto.getId() != null) {
+	    builder.setId(customerDto.getId());
+	}
+	if (customerDto.getName() != null) {
+	    builder.setName(customerDto.getName());
+	}
+	if (customerDto.getEmail() != null) {
+	    builder.setEmail(customerDto.getEmail());
+	}
+	return builder.build();
+    }
+    
+    /**
+     * Converts an entry of the change log to a CustomerChangeDto.
+     *
+     * @param change The CustomerChangeLog entry to be converted.
+     * @return The corresponding CustomerChangeDto.
+     */
+    @Mapping(target = "customer.id", source = "customerId")
+    @Mapping(target = "customer.name", source = "name")
+    @Mapping(target = "customer.email", source = "email")
+    CustomerChangeDto toChangeDto(CustomerChangeLog change);
+    
+    /**
+     * Converts a list of entries of the change log to a list of CustomerChangeDto objects.
+     *
+     * @param changes The list of CustomerChangeLog entries to be converted.
+     * @return The corresponding list of CustomerChangeDto objects.
+     */
+    List<CustomerChangeDto> toChangeDtoList(List<CustomerChangeLog> changes);
+    
+    /**
+     * Converts a CustomerChangeDto to a CustomerChange protocol buffer message.
+     *
+     * @param change The CustomerChangeDto to be converted to a CustomerChange.
+     * @return The corresponding CustomerChange message.
+     */
+    default CustomerChange toCustomerChangeProto(CustomerChangeDto change) {
+	return CustomerChange.newBuilder()
+		.setSequence(change.getSequence())
+		.setType(CustomerChange.ChangeType.valueOf(change.getType().name()))
+		.setCustomer(toCustomerProto(change.getCustomer(), CustomerResponse.newBuilder()))
+		.build();
+    }
+    
     /**
      * Converts a CustomerRequest to a CustomerDto.
      *
@@ -0,0 +1,122 @@
+package fr.tao.customerservice.metrics;
+
+import java.util.Locale;
+
+import org.springframework.stereotype.Component;
+
+import fr.tao.customerservice.exception.CustomerNotFoundException;
+import fr.tao.customerservice.exception.InvalidRequestException;
+import fr.tao.customerservice.util.MessageUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.NoResultException;
+import jakarta.validation.ConstraintViolationException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records the latency of the API requests and of the service calls, with the same tags
+ * for every protocol so that the protocols can be compared with each other:
+ * <ul>
+ *   <li>{@code protocol}: rest, soap, grpc or graphql (API requests only),</li>
+ *   <li>{@code operation}: the name of the called operation,</li>
+ *   <li>{@code outcome}: success, client_error or server_error.</li>
+ * </ul>
+ * The timers publish a percentile histogram, so that the latency percentiles can be
+ * aggregated over the instances.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiMetrics {
+
+    /**
+     * The protocols of the API.
+     */
+    public enum Protocol {
+	REST, SOAP, GRPC, GRAPHQL;
+
+	public String tagValue() {
+	    return name().toLowerCase(Locale.ROOT);
+	}
+    }
+
+    /**
+     * The outcomes of a request or of a call.
+     */
+    public enum Outcome {
+	SUCCESS, CLIENT_ERROR, SERVER_ERROR;
+
+	public String tagValue() {
+	    return name().toLowerCase(Locale.ROOT);
+	}
+    }
+
+    @NonNull private final MeterRegistry meterRegistry;
+
+    /**
+     * Starts timing a request or a call.
+     *
+     * @return The sample to stop once the request or the call is completed.
+     */
+    public Timer.Sample start() {
+	return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Records the latency of an API request.
+     *
+     * @param sample    The sample started at the reception of the request.
+     * @param protocol  The protocol of the request.
+     * @param operation The name of the requested operation.
+     * @param outcome   The outcome of the request.
+     */
+    public void recordRequest(Timer.Sample sample, Protocol protocol, String operation, Outcome outcome) {
+	sample.stop(Timer.builder(MessageUtil.API_REQUESTS_METRIC)
+		.description("Latency of the API requests")
+		.tag(MessageUtil.PROTOCOL_TAG, protocol.tagValue())
+		.tag(MessageUtil.OPERATION_TAG, operation)
+		.tag(MessageUtil.OUTCOME_TAG, outcome.tagValue())
+		.publishPercentileHistogram()
+		.register(meterRegistry));
+    }
+
+    /**
+     * Records the latency of a CustomerService call.
+     *
+     * @param sample    The sample started before the call.
+     * @param operation The name of the called method.
+     * @param outcome   The outcome of the call.
+     */
+    public void recordServiceCall(Timer.Sample sample, String operation, Outcome outcome) {
+	sample.stop(Timer.builder(MessageUtil.SERVICE_CALLS_METRIC)
+		.description("Latency of the CustomerService calls")
+		.tag(MessageUtil.OPERATION_TAG, operation)
+		.tag(MessageUtil.OUTCOME_TAG, outcome.tagValue())
+		.publishPercentileHistogram()
+		.register(meterRegistry));
+    }
+
+    /**
+     * Classifies the outcome of a call from the exception it raised, if any: the exceptions
+     * caused by the request are client errors, the others are server errors.
+     *
+     * @param error The exception raised by the call, or null if the call succeeded.
+     * @return The outcome of the call.
+     */
+    public static Outcome outcomeOf(Throwable error) {
+	if (error == null) {
+	    return Outcome.SUCCESS;
+	}
+	if (error instanceof CustomerNotFoundException || error instanceof InvalidRequestException
+		|| error instanceof NoResultException || error instanceof ConstraintViolationException
+		|| error instanceof IllegalArgumentException) {
+	    return Outcome.CLIENT_ERROR;
+	}
+	return Outcome.SERVER_ERROR;
+    }
+
+}
@@ -0,0 +1,54 @@
+package fr.tao.customerservice.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Aspect timing the calls to the CustomerService, whichever protocol they come from, 
+ * so that the time spent in the service can be told apart from the time spent in 
+ * each protocol adapter.
+ * 
+ * The aspect is ordered before the cache and transaction interceptors, so that the 
+ * calls served from the cache are timed too, and the commits are part of the timing.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+	
+    @NonNull private final ApiMetrics apiMetrics;
+	
+    /**
+     * Times a CustomerService call and records it with its outcome.
+     *
+     * @param joinPoint The intercepted call.
+     * @return The result of the call.
+     * @throws Throwable the exception raised by the call.
+     */
+    @Around("execution(* fr.tao.customerservice.service.CustomerService.*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+	var sample = apiMetrics.start();
+	var operation = joinPoint.getSignature().getName();
+	try {
+	    var result = joinPoint.proceed();
+	    apiMetrics.recordServiceCall(sample, operation, ApiMetrics.Outcome.SUCCESS);
+	    return result;
+	} catch (Throwable e) {
+	    apiMetrics.recordServiceCall(sample, operation, ApiMetrics.outcomeOf(e));
+	    throw e;
+	}
+    }
+
+}
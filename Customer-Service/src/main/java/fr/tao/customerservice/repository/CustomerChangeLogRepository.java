@@ -0,0 +1,41 @@
+package fr.tao.customerservice.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+import fr.tao.customerservice.entity.CustomerChangeLog;
+
+/**
+ * This interface represents a read-only repository of the change log of the customers. 
+ * The entries are appended by the CustomerChangeLogWriter, within the transactions of the changes.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@RepositoryRestResource(exported = false)
+public interface CustomerChangeLogRepository extends JpaRepository<CustomerChangeLog, Long> {
+	
+    /**
+     * Find the changes whose sequence is strictly greater than the specified one, 
+     * ordered by sequence, limited to the size of the given page.
+     *
+     * @param sequence The sequence after which the changes are retrieved (exclusive).
+     * @param pageable The page request holding the maximum number of changes to retrieve.
+     * @return A list of at most {@code pageable.getPageSize()} changes.
+     */
+    List<CustomerChangeLog> findBySequenceGreaterThanOrderBySequenceAsc(long sequence, Pageable pageable);
+	
+    /**
+     * Find the sequence of the last change of the log.
+     *
+     * @return The sequence of the last change, 0 if the log is empty.
+     */
+    @Query("select coalesce(max(c.sequence), 0) from CustomerChangeLog c")
+    long findLastSequence();
+
+}
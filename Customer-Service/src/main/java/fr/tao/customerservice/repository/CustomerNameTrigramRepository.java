@@ -0,0 +1,36 @@
+package fr.tao.customerservice.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+import fr.tao.customerservice.entity.CustomerNameTrigram;
+
+/**
+ * This interface represents a repository for querying the trigram index of the 
+ * customer names. It is not exported by Spring Data REST.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@RepositoryRestResource(exported = false)
+public interface CustomerNameTrigramRepository extends JpaRepository<CustomerNameTrigram, CustomerNameTrigram.Key> {
+	
+    /**
+     * Find the IDs of the customers whose names have all the given trigrams. 
+     * The names having them all are the candidates of a substring search, 
+     * which must still be checked against the keyword.
+     *
+     * @param trigrams The distinct trigrams of the keyword.
+     * @param count The number of trigrams.
+     * @return The IDs of the customers having all the trigrams.
+     */
+    @Query("select t.customerId from CustomerNameTrigram t where t.trigram in :trigrams "
+	    + "group by t.customerId having count(t.trigram) = :count")
+    List<Long> findCustomerIdsHavingAllTrigrams(@Param("trigrams") Collection<String> trigrams, @Param("count") long count);
+}
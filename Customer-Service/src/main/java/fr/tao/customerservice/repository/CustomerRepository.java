@@ -1,23 +1,36 @@
 package fr.tao.customerservice.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
+import fr.tao.customerservice.dto.CustomerDto;
 import fr.tao.customerservice.entity.Customer;
+import fr.tao.customerservice.util.MessageUtil;
+import jakarta.persistence.QueryHint;
 
 /**
  * This interface represents a repository for managing Customer entities. 
  * 
  * It extends the JpaRepository interface for basic CRUD operations and also defines 
- * a custom query method for finding customers by a case-insensitive partial match on their names.
+ * custom query methods for finding customers by a case-insensitive partial match on their names.
+ * 
+ * It is not exported by Spring Data REST: the customers are only written through the CustomerService, 
+ * which publishes the changes keeping the search indexes, the caches and the change log up to date.
  * 
  * @author T. Aoufi
  * @version 1.0
  * @since 21/10/2023
  */
-@RepositoryRestResource
+@RepositoryRestResource(exported = false)
 public interface CustomerRepository extends JpaRepository<Customer, Long>{
 	
     /**
@@ -28,4 +41,54 @@ public interface CustomerRepository extends JpaRepository<Customer, Long>{
      * @return A list of customers matching the search criteria.
      */
     List<Customer> findByNameContainsIgnoreCase(String keyword);
+    
+    /**
+     * Find the customers whose normalized names match the specified LIKE pattern, ordered by ID. 
+     * 
+     * A pattern without a leading wildcard is an index range scan of the normalized names, 
+     * a pattern with a leading wildcard scans every name.
+     * 
+     * This is a JPQL query rather than a derived query, so that its plan is cached by 
+     * Hibernate instead of being rebuilt from a criteria query on every call.
+     *
+     * @param pattern The LIKE pattern, built by {@link fr.tao.customerservice.util.SearchUtil}.
+     * @return A list of customers matching the search criteria.
+     */
+    @Query("select c from Customer c where c.nameKey like :pattern escape '\\' order by c.id")
+    List<Customer> findByNameKeyMatching(@Param("pattern") String pattern);
+    
+    /**
+     * Find the customers having the specified IDs, ordered by ID.
+     *
+     * @param ids The IDs of the customers.
+     * @return A list of the customers found.
+     */
+    @Query("select c from Customer c where c.id in :ids order by c.id")
+    List<Customer> findByIdInOrderById(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Find the customers whose ID is strictly greater than the specified one, 
+     * ordered by ID, limited to the size of the given page.
+     * 
+     * This keyset query walks the primary key index, so reading the next chunk 
+     * costs the same no matter how far into the table we are.
+     *
+     * @param id The ID after which customers are retrieved (exclusive).
+     * @param pageable The page request holding the maximum number of customers to retrieve.
+     * @return A list of at most {@code pageable.getPageSize()} customers.
+     */
+    List<Customer> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    
+    /**
+     * Streams all the customers, ordered by ID, as CustomerDto projections. 
+     * 
+     * The rows are fetched from the result set as the stream is consumed, and the projections 
+     * are not managed by the persistence context, so the memory used does not grow with the 
+     * number of customers. The stream must be consumed within a transaction, and closed.
+     *
+     * @return A stream of all the customers.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = MessageUtil.CUSTOMER_STREAM_FETCH_SIZE))
+    @Query("select new fr.tao.customerservice.dto.CustomerDto(c.id, c.name, c.email) from Customer c order by c.id")
+    Stream<CustomerDto> streamAllOrderById();
 }
@@ -0,0 +1,73 @@
+package fr.tao.customerservice.repository;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import fr.tao.customerservice.entity.Customer;
+import io.r2dbc.spi.Readable;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * This class represents a reactive, read-only repository of the Customer entities,
+ * querying the customer table through R2DBC.
+ *
+ * The JPA mapping of the Customer entity is not understood by Spring Data R2DBC, so the
+ * queries are written with the DatabaseClient, and the rows mapped to customers by hand.
+ * The customers are emitted as the rows are read, on demand of the subscriber.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveCustomerRepository {
+
+    private static final String SELECT_CUSTOMERS_AFTER_ID =
+	    "select id, name, email from customer where id > :afterId order by id";
+    private static final String SELECT_CUSTOMER_BY_ID =
+	    "select id, name, email from customer where id = :id";
+
+    /**
+     * A required constructor-based injection of the DatabaseClient.
+     */
+    @NonNull private final DatabaseClient databaseClient;
+
+    /**
+     * Find the customers whose ID is strictly greater than the specified one, ordered by ID.
+     *
+     * @param afterId The ID after which customers are retrieved (exclusive).
+     * @return A Flux of the customers, completed after the last one.
+     */
+    public Flux<Customer> findByIdGreaterThanOrderByIdAsc(Long afterId) {
+	return databaseClient.sql(SELECT_CUSTOMERS_AFTER_ID)
+		.bind("afterId", afterId)
+		.map(ReactiveCustomerRepository::toCustomer)
+		.all();
+    }
+
+    /**
+     * Find a customer by their ID.
+     *
+     * @param id The ID of the customer.
+     * @return A Mono of the customer, empty if there is no customer with this ID.
+     */
+    public Mono<Customer> findById(Long id) {
+	return databaseClient.sql(SELECT_CUSTOMER_BY_ID)
+		.bind("id", id)
+		.map(ReactiveCustomerRepository::toCustomer)
+		.one();
+    }
+
+    private static Customer toCustomer(Readable row) {
+	return Customer.builder()
+		.id(row.get("id", Long.class))
+		.name(row.get("name", String.class))
+		.email(row.get("email", String.class))
+		.build();
+    }
+
+}
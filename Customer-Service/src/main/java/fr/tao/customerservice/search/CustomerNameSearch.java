@@ -0,0 +1,32 @@
+package fr.tao.customerservice.search;
+
+import java.util.List;
+
+import fr.tao.customerservice.entity.Customer;
+
+/**
+ * Strategy of the customer name search, selected by the {@code customer.search.strategy} 
+ * property:
+ * <ul>
+ *   <li>{@code like}: case-insensitive substring search, scanning every name,</li>
+ *   <li>{@code prefix}: search of the names starting with the keyword, through the index 
+ *   of the normalized names,</li>
+ *   <li>{@code trigram} (default): substring search through the trigram index of the 
+ *   normalized names.</li>
+ * </ul>
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+public interface CustomerNameSearch {
+	
+    /**
+     * Find the customers whose names match the specified keyword, ordered by ID.
+     *
+     * @param keyword The keyword to search for in customer names.
+     * @return A list of customers matching the keyword.
+     */
+    List<Customer> findByName(String keyword);
+
+}
@@ -0,0 +1,197 @@
+package fr.tao.customerservice.search;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import fr.tao.customerservice.entity.Customer;
+import fr.tao.customerservice.event.CustomerChangedEvent;
+import fr.tao.customerservice.repository.CustomerRepository;
+import fr.tao.customerservice.util.MessageUtil;
+import fr.tao.customerservice.util.SearchUtil;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains the trigram index of the customer names, when the trigram search is selected.
+ * 
+ * The index entries of a customer are replaced on each change of the customer, within 
+ * the transaction of the change. The changes of a transaction are collected, then the 
+ * entries of all its changed customers are replaced just before its commit, with one JDBC 
+ * batch of deletes and one of inserts: as their ID is assigned, Hibernate would select 
+ * each of them before inserting it.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+@ConditionalOnProperty(name = MessageUtil.SEARCH_STRATEGY_PROPERTY, havingValue = MessageUtil.SEARCH_STRATEGY_TRIGRAM, 
+	matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerNameTrigramIndexer {
+	
+    private static final String INSERT_TRIGRAM = "insert into customer_name_trigram (trigram, customer_id) values (?, ?)";
+    private static final String DELETE_CUSTOMER_TRIGRAMS = "delete from customer_name_trigram where customer_id = ?";
+    private static final String DELETE_ALL_TRIGRAMS = "delete from customer_name_trigram";
+    private static final String COUNT_TRIGRAMS = "select count(*) from customer_name_trigram";
+	
+    @NonNull private final JdbcTemplate jdbcTemplate;
+    @NonNull private final CustomerRepository customerRepository;
+    @NonNull private final TransactionTemplate transactionTemplate;
+	
+    /**
+     * Collects the change of a customer, to update its index entries before the commit 
+     * of its transaction, or updates them right away outside of a transaction.
+     *
+     * @param event The change of the customer.
+     */
+    @EventListener
+    public void onCustomerChanged(CustomerChangedEvent event) {
+	if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+	    var changes = new TransactionChanges();
+	    changes.add(event);
+	    index(changes);
+	    return;
+	}
+	var changes = (TransactionChanges) TransactionSynchronizationManager.getResource(this);
+	if (changes == null) {
+	    changes = new TransactionChanges();
+	    TransactionSynchronizationManager.bindResource(this, changes);
+	    TransactionSynchronizationManager.registerSynchronization(changes);
+	}
+	changes.add(event);
+    }
+	
+    /**
+     * Replaces the index entries of the changed customers, deleting the entries of the 
+     * updated and deleted ones, then inserting the entries of the last names of the 
+     * created and updated ones.
+     *
+     * @param changes The changes of the customers.
+     */
+    private void index(TransactionChanges changes) {
+	if (!changes.replaced.isEmpty()) {
+	    jdbcTemplate.batchUpdate(DELETE_CUSTOMER_TRIGRAMS, changes.replaced.stream()
+		    .map(customerId -> new Object[] { customerId })
+		    .toList());
+	}
+	var rows = new ArrayList<Object[]>();
+	changes.names.forEach((customerId, name) -> {
+	    if (name != null) {
+		rows.addAll(trigramRows(customerId, SearchUtil.normalize(name)));
+	    }
+	});
+	if (!rows.isEmpty()) {
+	    jdbcTemplate.batchUpdate(INSERT_TRIGRAM, rows);
+	}
+    }
+	
+    /**
+     * Builds the index on startup when it is empty while there are customers, e.g. 
+     * when the trigram search has just been selected.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+	if (jdbcTemplate.queryForObject(COUNT_TRIGRAMS, Long.class) == 0 && customerRepository.count() > 0) {
+	    rebuild();
+	}
+    }
+	
+    /**
+     * Rebuilds the whole index from the customers, read by chunks in ID order.
+     */
+    public void rebuild() {
+	log.info(" #### Rebuilding the trigram index of the customer names #### ");
+	jdbcTemplate.update(DELETE_ALL_TRIGRAMS);
+	var lastId = 0L;
+	var indexed = 0;
+	List<Customer> customers;
+	do {
+	    var after = lastId;
+	    customers = transactionTemplate.execute(status -> {
+		var chunk = customerRepository.findByIdGreaterThanOrderByIdAsc(after, 
+			PageRequest.of(0, MessageUtil.TRIGRAM_INDEX_CHUNK_SIZE));
+		jdbcTemplate.batchUpdate(INSERT_TRIGRAM, chunk.stream()
+			.flatMap(customer -> trigramRows(customer.getId(), customer.getNameKey()).stream())
+			.toList());
+		return chunk;
+	    });
+	    if (!customers.isEmpty()) {
+		lastId = customers.get(customers.size() - 1).getId();
+	    }
+	    indexed += customers.size();
+	} while (customers.size() == MessageUtil.TRIGRAM_INDEX_CHUNK_SIZE);
+	log.info("Rebuilt the trigram index of {} customers", indexed);
+    }
+	
+    /**
+     * The changes of the customers made by a transaction, indexed before it is committed, 
+     * and unbound while the transaction is suspended by an inner one.
+     */
+    private final class TransactionChanges implements TransactionSynchronization {
+	
+	/**
+	 * The IDs of the customers whose previous entries must be deleted.
+	 */
+	private final Set<Long> replaced = new HashSet<>();
+	
+	/**
+	 * The last name of each changed customer, null once deleted.
+	 */
+	private final Map<Long, String> names = new LinkedHashMap<>();
+	
+	private void add(CustomerChangedEvent event) {
+	    var customerId = event.customer().getId();
+	    if (event.type() != CustomerChangedEvent.ChangeType.CREATED) {
+		replaced.add(customerId);
+	    }
+	    names.put(customerId, event.type() != CustomerChangedEvent.ChangeType.DELETED ? event.customer().getName() : null);
+	}
+	
+	@Override
+	public void suspend() {
+	    TransactionSynchronizationManager.unbindResource(CustomerNameTrigramIndexer.this);
+	}
+	
+	@Override
+	public void resume() {
+	    TransactionSynchronizationManager.bindResource(CustomerNameTrigramIndexer.this, this);
+	}
+	
+	@Override
+	public void beforeCommit(boolean readOnly) {
+	    index(this);
+	}
+	
+	@Override
+	public void afterCompletion(int status) {
+	    TransactionSynchronizationManager.unbindResourceIfPossible(CustomerNameTrigramIndexer.this);
+	}
+    }
+	
+    /**
+     * Builds the index rows of the trigrams of a normalized name.
+     */
+    private static List<Object[]> trigramRows(Long customerId, String nameKey) {
+	return SearchUtil.trigrams(nameKey).stream()
+		.map(trigram -> new Object[] { trigram, customerId })
+		.toList();
+    }
+
+}
@@ -0,0 +1,406 @@
+package fr.tao.customerservice.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.event.CustomerChangedEvent;
+import fr.tao.customerservice.mapper.CustomerMapper;
+import fr.tao.customerservice.repository.CustomerRepository;
+import fr.tao.customerservice.util.MessageUtil;
+import fr.tao.customerservice.util.SearchUtil;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory inverted index of the customer names and emails, serving the autocomplete
+ * suggestions without a database round trip.
+ *
+ * The normalized names and emails are indexed twice:
+ * <ul>
+ *   <li>by term (the name, each word of the name and the email) in a sorted map,
+ *   for the prefix lookups,</li>
+ *   <li>by trigram in posting lists, for the substring lookups.</li>
+ * </ul>
+ * The customers are loaded from the repository when the application is ready, then
+ * the index follows the changes of the customers once they are committed. The queries
+ * shorter than a trigram are only matched as prefixes.
+ *
+ * The matches are ranked: exact name, name prefix, name word prefix, email prefix,
+ * then substring of the name or of the email, the shorter names first, and only the
+ * top ones are kept.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CustomerSuggestIndex {
+
+    private static final int EXACT_NAME_SCORE = 5;
+    private static final int NAME_PREFIX_SCORE = 4;
+    private static final int NAME_WORD_PREFIX_SCORE = 3;
+    private static final int EMAIL_PREFIX_SCORE = 2;
+    private static final int SUBSTRING_SCORE = 1;
+
+    private static final String WORD_SEPARATOR = "[^\\p{L}\\p{N}]+";
+
+    @NonNull private final CustomerRepository customerRepository;
+    @NonNull private final CustomerMapper customerMapper;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * The indexed customers, by document number. The numbers of the removed customers are reused.
+     */
+    private final List<Document> documents = new ArrayList<>();
+    private final ArrayDeque<Integer> freeDocuments = new ArrayDeque<>();
+    private final Map<Long, Integer> documentsByCustomerId = new HashMap<>();
+
+    private final NavigableMap<String, Postings> termPostings = new TreeMap<>();
+    private final Map<String, Postings> trigramPostings = new HashMap<>();
+
+    /**
+     * The IDs of the customers deleted while the index is loaded, which must not be
+     * added back from a chunk read before their deletion.
+     */
+    private Set<Long> deletedWhileLoading;
+
+    /**
+     * An indexed customer, with its normalized name and email.
+     */
+    private record Document(CustomerDto customer, String nameKey, String emailKey, Set<String> nameWords) {
+    }
+
+    /**
+     * A matching customer and its score.
+     */
+    private record Match(Document document, int score) {
+    }
+
+    /**
+     * The order of the matches: best score first, then shortest name, then lowest ID.
+     */
+    private static final Comparator<Match> RANKING = Comparator.comparingInt(Match::score).reversed()
+	    .thenComparingInt(match -> match.document().nameKey().length())
+	    .thenComparing(match -> match.document().customer().getId());
+
+    /**
+     * Loads the customers, read by chunks in ID order, when the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+	log.info(" #### Loading the customer suggestion index #### ");
+	lock.writeLock().lock();
+	try {
+	    deletedWhileLoading = new HashSet<>();
+	} finally {
+	    lock.writeLock().unlock();
+	}
+	var lastId = 0L;
+	var loaded = 0;
+	List<CustomerDto> customers;
+	do {
+	    customers = customerMapper.toCustomerDtoList(customerRepository.findByIdGreaterThanOrderByIdAsc(lastId,
+		    PageRequest.of(0, MessageUtil.SUGGEST_INDEX_CHUNK_SIZE)));
+	    lock.writeLock().lock();
+	    try {
+		for (var customer : customers) {
+		    // A customer changed since the chunk was read is already up to date, or deleted
+		    if (!documentsByCustomerId.containsKey(customer.getId()) && !deletedWhileLoading.contains(customer.getId())) {
+			add(customer);
+		    }
+		}
+	    } finally {
+		lock.writeLock().unlock();
+	    }
+	    if (!customers.isEmpty()) {
+		lastId = customers.get(customers.size() - 1).getId();
+	    }
+	    loaded += customers.size();
+	} while (customers.size() == MessageUtil.SUGGEST_INDEX_CHUNK_SIZE);
+	lock.writeLock().lock();
+	try {
+	    deletedWhileLoading = null;
+	} finally {
+	    lock.writeLock().unlock();
+	}
+	log.info("Loaded {} customers in the suggestion index", loaded);
+    }
+
+    /**
+     * Applies the change of a customer, once the transaction making it is committed.
+     *
+     * @param event The change of the customer.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCustomerChanged(CustomerChangedEvent event) {
+	var customer = event.customer();
+	lock.writeLock().lock();
+	try {
+	    remove(customer.getId());
+	    if (event.type() == CustomerChangedEvent.ChangeType.DELETED) {
+		if (deletedWhileLoading != null) {
+		    deletedWhileLoading.add(customer.getId());
+		}
+	    } else {
+		add(customer);
+	    }
+	} finally {
+	    lock.writeLock().unlock();
+	}
+    }
+
+    /**
+     * Suggests the customers whose name or email matches a query, best matches first.
+     *
+     * @param query The query, matched as a prefix of the name, of a word of the name or of
+     * the email, or as a substring of the name or of the email when it has 3 characters or more.
+     * @param limit The maximum number of customers to suggest.
+     * @return The best matching customers, at most {@code limit}.
+     */
+    public List<CustomerDto> suggest(String query, int limit) {
+	var normalizedQuery = SearchUtil.normalize(query == null ? "" : query.strip());
+	if (normalizedQuery.isEmpty() || limit <= 0) {
+	    return List.of();
+	}
+	var topMatches = new PriorityQueue<Match>(limit + 1, RANKING.reversed());
+	lock.readLock().lock();
+	try {
+	    var trigrams = SearchUtil.trigrams(normalizedQuery);
+	    if (trigrams.isEmpty()) {
+		// A customer can be found by several of its terms, but is only scored once
+		var seen = new HashSet<Integer>();
+		for (var postings : termPostings.subMap(normalizedQuery, true, normalizedQuery + Character.MAX_VALUE, true).values()) {
+		    for (int i = 0; i < postings.size; i++) {
+			if (seen.add(postings.docs[i])) {
+			    offer(topMatches, documents.get(postings.docs[i]), normalizedQuery, limit);
+			}
+		    }
+		}
+	    } else {
+		var candidates = intersect(trigrams);
+		for (int i = 0; candidates != null && i < candidates.size; i++) {
+		    offer(topMatches, documents.get(candidates.docs[i]), normalizedQuery, limit);
+		}
+	    }
+	} finally {
+	    lock.readLock().unlock();
+	}
+	return topMatches.stream()
+		.sorted(RANKING)
+		.map(match -> match.document().customer())
+		.toList();
+    }
+
+    /**
+     * Returns the number of indexed customers.
+     *
+     * @return The number of indexed customers.
+     */
+    public int size() {
+	lock.readLock().lock();
+	try {
+	    return documentsByCustomerId.size();
+	} finally {
+	    lock.readLock().unlock();
+	}
+    }
+
+    /**
+     * Scores a candidate, and keeps it if it is one of the top matches.
+     */
+    private static void offer(PriorityQueue<Match> topMatches, Document document, String query, int limit) {
+	var score = score(document, query);
+	if (score == 0) {
+	    return;
+	}
+	topMatches.add(new Match(document, score));
+	if (topMatches.size() > limit) {
+	    topMatches.poll();
+	}
+    }
+
+    /**
+     * Scores a customer against a normalized query, 0 if it does not match.
+     */
+    private static int score(Document document, String query) {
+	if (document.nameKey().equals(query)) {
+	    return EXACT_NAME_SCORE;
+	}
+	if (document.nameKey().startsWith(query)) {
+	    return NAME_PREFIX_SCORE;
+	}
+	for (var word : document.nameWords()) {
+	    if (word.startsWith(query)) {
+		return NAME_WORD_PREFIX_SCORE;
+	    }
+	}
+	if (document.emailKey().startsWith(query)) {
+	    return EMAIL_PREFIX_SCORE;
+	}
+	if (query.length() >= SearchUtil.TRIGRAM_LENGTH
+		&& (document.nameKey().contains(query) || document.emailKey().contains(query))) {
+	    return SUBSTRING_SCORE;
+	}
+	return 0;
+    }
+
+    /**
+     * Intersects the posting lists of trigrams, starting with the shortest one.
+     *
+     * @return The documents having all the trigrams, or null if a trigram is not indexed.
+     */
+    private Postings intersect(Set<String> trigrams) {
+	var postingLists = new ArrayList<Postings>(trigrams.size());
+	for (var trigram : trigrams) {
+	    var postings = trigramPostings.get(trigram);
+	    if (postings == null) {
+		return null;
+	    }
+	    postingLists.add(postings);
+	}
+	postingLists.sort(Comparator.comparingInt(postings -> postings.size));
+	var result = new Postings();
+	var shortest = postingLists.get(0);
+	for (int i = 0; i < shortest.size; i++) {
+	    var doc = shortest.docs[i];
+	    var inAll = true;
+	    for (int j = 1; inAll && j < postingLists.size(); j++) {
+		inAll = postingLists.get(j).contains(doc);
+	    }
+	    if (inAll) {
+		result.add(doc);
+	    }
+	}
+	return result;
+    }
+
+    /**
+     * Indexes a customer. The caller holds the write lock.
+     */
+    private void add(CustomerDto customer) {
+	var nameKey = SearchUtil.normalize(customer.getName() == null ? "" : customer.getName());
+	var emailKey = SearchUtil.normalize(customer.getEmail() == null ? "" : customer.getEmail());
+	var nameWords = new LinkedHashSet<>(Arrays.asList(nameKey.split(WORD_SEPARATOR)));
+	nameWords.remove("");
+	var document = new Document(customer, nameKey, emailKey, nameWords);
+
+	int doc;
+	if (freeDocuments.isEmpty()) {
+	    doc = documents.size();
+	    documents.add(document);
+	} else {
+	    doc = freeDocuments.poll();
+	    documents.set(doc, document);
+	}
+	documentsByCustomerId.put(customer.getId(), doc);
+
+	for (var term : terms(document)) {
+	    termPostings.computeIfAbsent(term, key -> new Postings()).add(doc);
+	}
+	for (var trigram : trigrams(document)) {
+	    trigramPostings.computeIfAbsent(trigram, key -> new Postings()).add(doc);
+	}
+    }
+
+    /**
+     * Removes a customer from the index, if it is indexed. The caller holds the write lock.
+     */
+    private void remove(Long customerId) {
+	var doc = documentsByCustomerId.remove(customerId);
+	if (doc == null) {
+	    return;
+	}
+	var document = documents.get(doc);
+	for (var term : terms(document)) {
+	    removePosting(termPostings, term, doc);
+	}
+	for (var trigram : trigrams(document)) {
+	    removePosting(trigramPostings, trigram, doc);
+	}
+	documents.set(doc, null);
+	freeDocuments.add(doc);
+    }
+
+    private static void removePosting(Map<String, Postings> index, String key, int doc) {
+	var postings = index.get(key);
+	if (postings != null && postings.remove(doc) && postings.size == 0) {
+	    index.remove(key);
+	}
+    }
+
+    private static Set<String> terms(Document document) {
+	var terms = new LinkedHashSet<String>(document.nameWords());
+	terms.add(document.nameKey());
+	terms.add(document.emailKey());
+	terms.remove("");
+	return terms;
+    }
+
+    private static Set<String> trigrams(Document document) {
+	var trigrams = SearchUtil.trigrams(document.nameKey());
+	trigrams.addAll(SearchUtil.trigrams(document.emailKey()));
+	return trigrams;
+    }
+
+    /**
+     * A sorted set of document numbers, stored in a growable int array rather than
+     * boxed in a hash set, so that the index of many customers stays compact.
+     */
+    private static final class Postings {
+
+	private int[] docs = new int[4];
+	private int size;
+
+	private void add(int doc) {
+	    var index = Arrays.binarySearch(docs, 0, size, doc);
+	    if (index >= 0) {
+		return;
+	    }
+	    index = -index - 1;
+	    if (size == docs.length) {
+		docs = Arrays.copyOf(docs, size * 2);
+	    }
+	    System.arraycopy(docs, index, docs, index + 1, size - index);
+	    docs[index] = doc;
+	    size++;
+	}
+
+	private boolean remove(int doc) {
+	    var index = Arrays.binarySearch(docs, 0, size, doc);
+	    if (index < 0) {
+		return false;
+	    }
+	    System.arraycopy(docs, index + 1, docs, index, size - index - 1);
+	    size--;
+	    return true;
+	}
+
+	private boolean contains(int doc) {
+	    return Arrays.binarySearch(docs, 0, size, doc) >= 0;
+	}
+    }
+
+}
@@ -0,0 +1,34 @@
+package fr.tao.customerservice.search;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import fr.tao.customerservice.entity.Customer;
+import fr.tao.customerservice.repository.CustomerRepository;
+import fr.tao.customerservice.util.MessageUtil;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Name search comparing the upper-cased keyword to the upper-cased name of every 
+ * customer. It cannot use any index, and is kept as the baseline of the other strategies.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+@ConditionalOnProperty(name = MessageUtil.SEARCH_STRATEGY_PROPERTY, havingValue = MessageUtil.SEARCH_STRATEGY_LIKE)
+@RequiredArgsConstructor
+public class LikeCustomerNameSearch implements CustomerNameSearch {
+	
+    @NonNull private final CustomerRepository customerRepository;
+	
+    @Override
+    public List<Customer> findByName(String keyword) {
+	return customerRepository.findByNameContainsIgnoreCase(keyword);
+    }
+
+}
@@ -0,0 +1,35 @@
+package fr.tao.customerservice.search;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import fr.tao.customerservice.entity.Customer;
+import fr.tao.customerservice.repository.CustomerRepository;
+import fr.tao.customerservice.util.MessageUtil;
+import fr.tao.customerservice.util.SearchUtil;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Name search of the customers whose names start with the keyword, as a range 
+ * scan of the index of the normalized names.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+@ConditionalOnProperty(name = MessageUtil.SEARCH_STRATEGY_PROPERTY, havingValue = MessageUtil.SEARCH_STRATEGY_PREFIX)
+@RequiredArgsConstructor
+public class PrefixCustomerNameSearch implements CustomerNameSearch {
+	
+    @NonNull private final CustomerRepository customerRepository;
+	
+    @Override
+    public List<Customer> findByName(String keyword) {
+	return customerRepository.findByNameKeyMatching(SearchUtil.prefixPattern(SearchUtil.normalize(keyword)));
+    }
+
+}
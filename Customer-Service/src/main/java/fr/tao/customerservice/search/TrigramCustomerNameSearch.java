@@ -0,0 +1,54 @@
+package fr.tao.customerservice.search;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import fr.tao.customerservice.entity.Customer;
+import fr.tao.customerservice.repository.CustomerNameTrigramRepository;
+import fr.tao.customerservice.repository.CustomerRepository;
+import fr.tao.customerservice.util.MessageUtil;
+import fr.tao.customerservice.util.SearchUtil;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Substring name search through the trigram index of the normalized names: the 
+ * customers having all the trigrams of the keyword are looked up in the index, 
+ * then loaded by ID and checked against the keyword, since having all the trigrams 
+ * of a keyword does not imply containing it.
+ * 
+ * The keywords shorter than a trigram have no trigram to look up, and fall back 
+ * to a scan of the normalized names.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Component
+@ConditionalOnProperty(name = MessageUtil.SEARCH_STRATEGY_PROPERTY, havingValue = MessageUtil.SEARCH_STRATEGY_TRIGRAM, 
+	matchIfMissing = true)
+@RequiredArgsConstructor
+public class TrigramCustomerNameSearch implements CustomerNameSearch {
+	
+    @NonNull private final CustomerRepository customerRepository;
+    @NonNull private final CustomerNameTrigramRepository customerNameTrigramRepository;
+	
+    @Override
+    public List<Customer> findByName(String keyword) {
+	var normalizedKeyword = SearchUtil.normalize(keyword);
+	var trigrams = SearchUtil.trigrams(normalizedKeyword);
+	if (trigrams.isEmpty()) {
+	    return customerRepository.findByNameKeyMatching(SearchUtil.containsPattern(normalizedKeyword));
+	}
+	var candidateIds = customerNameTrigramRepository.findCustomerIdsHavingAllTrigrams(trigrams, trigrams.size());
+	if (candidateIds.isEmpty()) {
+	    return List.of();
+	}
+	return customerRepository.findByIdInOrderById(candidateIds).stream()
+		.filter(customer -> customer.getNameKey() != null && customer.getNameKey().contains(normalizedKeyword))
+		.toList();
+    }
+
+}
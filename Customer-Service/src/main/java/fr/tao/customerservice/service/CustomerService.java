@@ -1,9 +1,17 @@
 package fr.tao.customerservice.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
+import fr.tao.customerservice.dto.CustomerBatchDto;
+import fr.tao.customerservice.dto.CustomerChangeBatchDto;
 import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.dto.CustomerImportResultDto;
+import fr.tao.customerservice.dto.CustomerPageDto;
+import fr.tao.customerservice.dto.VersionedCustomerDto;
 import fr.tao.customerservice.exception.CustomerNotFoundException;
+import fr.tao.customerservice.exception.InvalidRequestException;
 import jakarta.persistence.NoResultException;
 
 /**
@@ -23,6 +31,17 @@ public interface CustomerService {
      */
     public List<CustomerDto> getAllCustomer() throws Exception;
 	
+    /**
+     * Passes all the customers, ordered by ID, to the specified consumer, one at a time.
+     * 
+     * The customers are read from the database as they are consumed, so neither the memory 
+     * used nor the delay before the first customer depends on the number of customers.
+     *
+     * @param consumer The consumer of the customers, e.g. writing them to a response.
+     * @return The number of customers consumed.
+     */
+    public long forEachCustomer(Consumer<CustomerDto> consumer);
+	
     /**
      * Retrieves a customer by their unique identifier.
      *
@@ -32,8 +51,82 @@ public interface CustomerService {
      */
     public CustomerDto getCustomerById(Long customerId) throws CustomerNotFoundException;
 	
+    /**
+     * Retrieves a customer by their unique identifier, with its version, incremented on 
+     * each of its updates. The customer and its version are read together, so the version 
+     * is the one of the customer returned.
+     *
+     * @param customerId The unique identifier of the customer.
+     * @return A VersionedCustomerDto object representing the customer and its version.
+     * @throws CustomerNotFoundException if the customer with the specified ID is not found.
+     */
+    public VersionedCustomerDto getVersionedCustomerById(Long customerId) throws CustomerNotFoundException;
+	
+    /**
+     * Retrieves the version of the collection of customers, changed by the creation, 
+     * the update or the deletion of any customer.
+     *
+     * @return An opaque version of the collection of customers.
+     */
+    public String getCustomersVersion();
+	
+    /**
+     * Retrieves a batch of changes of the customers from the change log, after a sequence.
+     * 
+     * A client synchronizes its copy of the customers incrementally by applying the changes 
+     * of each batch, then asking for the changes after the last sequence of the batch, 
+     * instead of reading all the customers again.
+     *
+     * @param since The sequence of the last change applied (exclusive), null or 0 to read the log from the start.
+     * @param limit The maximum number of changes, defaulted when null or not positive and capped 
+     * to the maximum number of changes.
+     * @return A CustomerChangeBatchDto holding the changes, ordered by sequence, and the sequence 
+     * to read the next batch after.
+     */
+    public CustomerChangeBatchDto getCustomerChanges(Long since, Integer limit);
+	
+    /**
+     * Retrieves the customers matching the specified IDs with a single query.
+     * 
+     * The customers are returned in the order of the requested IDs (duplicates removed), 
+     * and the IDs that do not match any customer are reported instead of raising an error.
+     *
+     * @param customerIds The unique identifiers of the customers, at most the maximum batch size.
+     * @return A CustomerBatchDto holding the customers found and the missing IDs.
+     * @throws InvalidRequestException if more IDs than the maximum batch size are requested.
+     */
+    public CustomerBatchDto getCustomersByIds(Collection<Long> customerIds) throws InvalidRequestException;
+	
+    /**
+     * Retrieves a chunk of customers whose ID is greater than the specified one, ordered by ID.
+     * 
+     * It allows the whole customer table to be read chunk by chunk, 
+     * without loading all the customers in memory at once.
+     *
+     * @param afterId The ID after which customers are retrieved (exclusive), 0 to start from the first customer.
+     * @param limit The maximum number of customers to retrieve.
+     * @return A list of CustomerDto objects, empty when there is no customer left.
+     */
+    public List<CustomerDto> getCustomersAfterId(Long afterId, int limit);
+	
+    /**
+     * Retrieves a page of customers, ordered by ID, using a keyset pagination.
+     * 
+     * Unlike an offset pagination, the cost of a page does not depend on its position, 
+     * so clients can walk through any number of customers with a constant latency.
+     *
+     * @param cursor The opaque cursor returned with the previous page, null or blank for the first page.
+     * @param size The page size, defaulted when null or not positive and capped to the maximum page size.
+     * @return A CustomerPageDto holding the customers and the cursor of the next page.
+     * @throws InvalidRequestException if the cursor is malformed.
+     */
+    public CustomerPageDto getCustomersPage(String cursor, Integer size) throws InvalidRequestException;
+	
     /**
      * Saves customer information.
+     * 
+     * A customer holding the ID of an existing customer updates it, any other customer 
+     * is created with a generated ID.
      *
      * @param customerDto The CustomerDto object containing customer information to be saved.
      * @return The saved CustomerDto object.
@@ -42,7 +135,21 @@ public interface CustomerService {
     public CustomerDto saveCustomer(CustomerDto customerDto) throws Exception;	
 	
     /**
-     * Retrieves a list of customers whose names contain the specified keyword.
+     * Imports new customers in bulk.
+     * 
+     * Each customer is validated on its own, and the valid ones are inserted in JDBC batches, 
+     * one transaction per chunk, so an invalid customer or a failed chunk does not prevent 
+     * the others from being saved. The IDs of the imported customers are always generated.
+     *
+     * @param customerDtos The customers to import, at most the maximum import size.
+     * @return The result of the import of each customer, in the order of the given list.
+     * @throws InvalidRequestException if more customers than the maximum import size are given.
+     */
+    public List<CustomerImportResultDto> saveCustomers(List<CustomerDto> customerDtos) throws InvalidRequestException;
+	
+    /**
+     * Retrieves a list of customers whose names contain the specified keyword, 
+     * or start with it when the prefix search strategy is selected.
      *
      * @param name The keyword to search for in customer names.
      * @return A list of CustomerDto objects representing matching customers.
@@ -50,6 +157,22 @@ public interface CustomerService {
      */
     public List<CustomerDto> getCustomersByNameContains(String name) throws NoResultException;
 	
+    /**
+     * Suggests the customers whose name or email matches a query, for autocompletion. 
+     * 
+     * The suggestions are served from an in-memory index kept up to date with the 
+     * customers, without querying the database. The best matches come first: exact name, 
+     * name prefix, name word prefix, email prefix, then substring of the name or email.
+     *
+     * @param query The query, matched as a substring when it has 3 characters or more, 
+     * and as a prefix otherwise.
+     * @param limit The maximum number of suggestions, defaulted when null or not positive 
+     * and capped to the maximum number of suggestions.
+     * @return A list of CustomerDto objects representing the suggested customers, 
+     * empty when the query is blank or matches no customer.
+     */
+    public List<CustomerDto> suggestCustomers(String query, Integer limit);
+	
     /**
      * Updates customer information by their unique identifier.
      *
@@ -1,17 +1,48 @@
 package fr.tao.customerservice.service;
 
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import fr.tao.customerservice.dto.CustomerBatchDto;
+import fr.tao.customerservice.dto.CustomerChangeBatchDto;
 import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.dto.CustomerImportResultDto;
+import fr.tao.customerservice.dto.CustomerPageDto;
+import fr.tao.customerservice.dto.VersionedCustomerDto;
+import fr.tao.customerservice.entity.Customer;
+import fr.tao.customerservice.event.CustomerChangeCounter;
+import fr.tao.customerservice.event.CustomerChangedEvent;
+import fr.tao.customerservice.event.CustomerChangedEvent.ChangeType;
 import fr.tao.customerservice.exception.CustomerNotFoundException;
+import fr.tao.customerservice.exception.InvalidRequestException;
 import fr.tao.customerservice.mapper.CustomerMapper;
+import fr.tao.customerservice.repository.CustomerChangeLogRepository;
 import fr.tao.customerservice.repository.CustomerRepository;
+import fr.tao.customerservice.search.CustomerNameSearch;
+import fr.tao.customerservice.search.CustomerSuggestIndex;
+import fr.tao.customerservice.util.CursorUtil;
 import fr.tao.customerservice.util.MessageUtil;
 import jakarta.persistence.NoResultException;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
 import lombok.NonNull;
@@ -36,6 +67,26 @@ public class CustomerServiceImpl implements CustomerService {
     @NonNull private final CustomerMapper customerMapper;
     
     @NonNull private final Validator validator;
+    
+    @NonNull private final TransactionTemplate transactionTemplate;
+    
+    @NonNull private final CustomerNameSearch customerNameSearch;
+    
+    @NonNull private final CustomerSuggestIndex customerSuggestIndex;
+    
+    @NonNull private final ApplicationEventPublisher eventPublisher;
+    
+    @NonNull private final CustomerChangeCounter customerChangeCounter;
+    
+    @NonNull private final CustomerChangeLogRepository customerChangeLogRepository;
+    
+    @NonNull private final CacheManager cacheManager;
+    
+    /**
+     * The number of customers inserted per transaction by a bulk import.
+     */
+    @Value("${customer.import.chunk-size:1000}")
+    private int importChunkSize;
 	
     /**
      * {@inheritDoc}
@@ -56,7 +107,52 @@ public class CustomerServiceImpl implements CustomerService {
      * {@inheritDoc}
      */
     @Override
+    @Transactional(readOnly = true)
+    public long forEachCustomer(Consumer<CustomerDto> consumer) {
+	log.info(" #### Streaming all customers #### ");
+	long count = 0;
+	try (var customers = customerRepository.streamAllOrderById()) {
+	    for (var iterator = customers.iterator(); iterator.hasNext(); count++) {
+		consumer.accept(iterator.next());
+	    }
+	}
+	log.info("Streamed {} customers", count);
+	return count;
+    }
+	
+    /**
+     * {@inheritDoc}
+     * 
+     * The customer is read from the cache of the customers, with its version.
+     */
+    @Override
     public CustomerDto getCustomerById(Long customerId) throws CustomerNotFoundException {
+	return getVersionedCustomerById(customerId).getCustomer();
+    }
+	
+    /**
+     * {@inheritDoc}
+     * 
+     * The result is cached by customer ID, so hot customers are served without hitting the database. 
+     * The customer and its version are cached as a single entry, loaded atomically per key (as with 
+     * {@code @Cacheable(sync = true)}) from a single read, and evicted on each change of the customer.
+     */
+    @Override
+    public VersionedCustomerDto getVersionedCustomerById(Long customerId) throws CustomerNotFoundException {
+	try {
+	    return cacheManager.getCache(MessageUtil.CUSTOMER_CACHE_NAME).get(customerId, () -> loadCustomer(customerId));
+	} catch (Cache.ValueRetrievalException e) {
+	    if (e.getCause() instanceof CustomerNotFoundException customerNotFoundException) {
+		throw customerNotFoundException;
+	    }
+	    throw e;
+	}
+    }
+	
+    /**
+     * Loads a customer with its version from the database.
+     */
+    private VersionedCustomerDto loadCustomer(Long customerId) throws CustomerNotFoundException {
 	log.info(" #### Getting customer by ID: {} #### ", customerId);
 	var customer = customerRepository.findById(customerId)
 		.orElseThrow(() -> { 
@@ -64,13 +160,110 @@ public class CustomerServiceImpl implements CustomerService {
 		    return new CustomerNotFoundException(customerId);				
 		});
 	log.info("Retrieved customer: {}", customer);
-	return customerMapper.toDto(customer);
+	return new VersionedCustomerDto(customerMapper.toDto(customer), customer.getVersion());
+    }
+	
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCustomersVersion() {
+	return customerChangeCounter.getVersion();
+    }
+	
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CustomerChangeBatchDto getCustomerChanges(Long since, Integer limit) {
+	var afterSequence = since == null ? 0L : since;
+	log.debug(" #### Getting customer changes after sequence: {}, limit: {} #### ", afterSequence, limit);
+	var batchSize = (limit == null || limit <= 0) 
+		? MessageUtil.DEFAULT_CHANGES_LIMIT 
+		: Math.min(limit, MessageUtil.MAX_CHANGES_LIMIT);
+	// Fetch one more change than requested to know whether there are more changes
+	var changes = customerChangeLogRepository.findBySequenceGreaterThanOrderBySequenceAsc(afterSequence, 
+		PageRequest.ofSize(batchSize + 1));
+	var hasMore = changes.size() > batchSize;
+	if (hasMore) {
+	    changes = changes.subList(0, batchSize);
+	}
+	var lastSequence = changes.isEmpty() ? afterSequence : changes.get(changes.size() - 1).getSequence();
+	log.debug("Retrieved {} customer changes - has more: {}", changes.size(), hasMore);
+	return new CustomerChangeBatchDto(customerMapper.toChangeDtoList(changes), lastSequence, hasMore);
+    }
+	
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CustomerBatchDto getCustomersByIds(Collection<Long> customerIds) throws InvalidRequestException {
+	log.info(" #### Getting customers by IDs: {} #### ", customerIds);
+	var ids = new LinkedHashSet<Long>();
+	if (customerIds != null) {
+	    customerIds.stream().filter(Objects::nonNull).forEach(ids::add);
+	}
+	if (ids.size() > MessageUtil.MAX_BATCH_SIZE) {
+	    log.warn("Too many customer IDs requested: {}", ids.size());
+	    throw new InvalidRequestException(MessageUtil.BATCH_SIZE_EXCEEDED + MessageUtil.MAX_BATCH_SIZE);
+	}
+	if (ids.isEmpty()) {
+	    return new CustomerBatchDto(List.of(), List.of());
+	}
+	var customersById = customerRepository.findAllById(ids).stream()
+		.collect(Collectors.toMap(Customer::getId, Function.identity()));
+	var customers = new ArrayList<CustomerDto>(customersById.size());
+	var missingIds = new ArrayList<Long>();
+	for (var id : ids) {
+	    var customer = customersById.get(id);
+	    if (customer != null) {
+		customers.add(customerMapper.toDto(customer));
+	    } else {
+		missingIds.add(id);
+	    }
+	}
+	log.info("Retrieved {} customers - missing IDs: {}", customers.size(), missingIds);
+	return new CustomerBatchDto(customers, missingIds);
+    }
+	
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<CustomerDto> getCustomersAfterId(Long afterId, int limit) {
+	log.debug(" #### Getting at most {} customers after ID: {} #### ", limit, afterId);
+	var customers = customerRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.ofSize(limit));
+	log.debug("Retrieved {} customers after ID: {}", customers.size(), afterId);
+	return customerMapper.toCustomerDtoList(customers);
+    }
+	
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CustomerPageDto getCustomersPage(String cursor, Integer size) {
+	log.info(" #### Getting customers page - cursor: {}, size: {} #### ", cursor, size);
+	var afterId = CursorUtil.decode(cursor);
+	var pageSize = (size == null || size <= 0) 
+		? MessageUtil.DEFAULT_PAGE_SIZE 
+		: Math.min(size, MessageUtil.MAX_PAGE_SIZE);
+	// Fetch one more customer than requested to know whether there is a next page
+	var customers = customerRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.ofSize(pageSize + 1));
+	var hasNext = customers.size() > pageSize;
+	if (hasNext) {
+	    customers = customers.subList(0, pageSize);
+	}
+	var nextCursor = hasNext ? CursorUtil.encode(customers.get(pageSize - 1).getId()) : null;
+	log.info("Retrieved {} customers - has next page: {}", customers.size(), hasNext);
+	return new CustomerPageDto(customerMapper.toCustomerDtoList(customers), nextCursor, hasNext);
     }
 	
     /**
      * {@inheritDoc}
      */
     @Transactional
+    @CacheEvict(cacheNames = MessageUtil.CUSTOMER_CACHE_NAME, key = "#customerDto.id", 
+    	condition = "#customerDto.id != null")
     @Override
     public CustomerDto saveCustomer(CustomerDto customerDto) throws Exception {
 	log.info(" #### Saving new customer: {} #### ", customerDto);
@@ -79,10 +272,91 @@ public class CustomerServiceImpl implements CustomerService {
 	    log.warn("Validation failed for customer: {}", customerDto);
             throw new ConstraintViolationException(violations);
         }
-	var customer = customerMapper.toEntity(customerDto);
+	// A customer with the ID of an existing one replaces it, any other customer is a new one
+	var existingCustomer = customerDto.getId() == null 
+		? Optional.<Customer>empty() 
+		: customerRepository.findById(customerDto.getId());
+	var changeType = existingCustomer.isPresent() ? ChangeType.UPDATED : ChangeType.CREATED;
+	var customer = existingCustomer.orElseGet(Customer::new);
+	customerMapper.updateCustomerFromDto(customerDto, customer);
+	if (changeType == ChangeType.CREATED) {
+	    customer.setId(null);
+	}
 	customer = customerRepository.save(customer);
-	log.info("Saved customer: {}", customer);
-	return customerMapper.toDto(customer);
+	log.info("Saved customer: {} - change: {}", customer, changeType);
+	var savedCustomerDto = customerMapper.toDto(customer);
+	eventPublisher.publishEvent(new CustomerChangedEvent(changeType, savedCustomerDto));
+	return savedCustomerDto;
+    }
+	
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<CustomerImportResultDto> saveCustomers(List<CustomerDto> customerDtos) throws InvalidRequestException {
+	if (customerDtos == null || customerDtos.isEmpty()) {
+	    return List.of();
+	}
+	log.info(" #### Importing {} customers #### ", customerDtos.size());
+	if (customerDtos.size() > MessageUtil.MAX_IMPORT_SIZE) {
+	    log.warn("Too many customers to import: {}", customerDtos.size());
+	    throw new InvalidRequestException(MessageUtil.IMPORT_SIZE_EXCEEDED + MessageUtil.MAX_IMPORT_SIZE);
+	}
+	var results = Arrays.asList(new CustomerImportResultDto[customerDtos.size()]);
+	var chunkIndexes = new ArrayList<Integer>(importChunkSize);
+	var chunk = new ArrayList<Customer>(importChunkSize);
+	for (int index = 0; index < customerDtos.size(); index++) {
+	    var customerDto = customerDtos.get(index);
+	    var customer = customerDto != null ? customerMapper.toEntity(customerDto) : new Customer();
+	    // An imported customer is always a new one
+	    customer.setId(null);
+	    var violations = validator.validate(customer);
+	    if (!violations.isEmpty()) {
+		results.set(index, new CustomerImportResultDto(index, false, null, violations.stream()
+			.map(ConstraintViolation::getMessage)
+			.sorted()
+			.collect(Collectors.joining(" "))));
+		continue;
+	    }
+	    chunkIndexes.add(index);
+	    chunk.add(customer);
+	    if (chunk.size() == importChunkSize) {
+		importChunk(chunkIndexes, chunk, results);
+		chunkIndexes.clear();
+		chunk.clear();
+	    }
+	}
+	if (!chunk.isEmpty()) {
+	    importChunk(chunkIndexes, chunk, results);
+	}
+	var imported = results.stream().filter(CustomerImportResultDto::isSuccess).count();
+	log.info("Imported {} customers - failed: {}", imported, results.size() - imported);
+	return results;
+    }
+	
+    /**
+     * Inserts a chunk of valid customers in a single transaction, 
+     * and records the result of each of them.
+     *
+     * @param indexes   The positions of the customers in the imported list.
+     * @param customers The customers to insert.
+     * @param results   The results of the import, updated at the given positions.
+     */
+    private void importChunk(List<Integer> indexes, List<Customer> customers, List<CustomerImportResultDto> results) {
+	try {
+	    var saved = transactionTemplate.execute(status -> {
+		var savedCustomers = customerRepository.saveAll(customers);
+		savedCustomers.forEach(customer -> eventPublisher.publishEvent(
+			new CustomerChangedEvent(ChangeType.CREATED, customerMapper.toDto(customer))));
+		return savedCustomers;
+	    });
+	    for (int i = 0; i < indexes.size(); i++) {
+		results.set(indexes.get(i), new CustomerImportResultDto(indexes.get(i), true, customerMapper.toDto(saved.get(i)), null));
+	    }
+	} catch (RuntimeException e) {
+	    log.error("Failed to import a chunk of {} customers", customers.size(), e);
+	    indexes.forEach(index -> results.set(index, new CustomerImportResultDto(index, false, null, e.getMessage())));
+	}
     }
 	
     /**
@@ -91,7 +365,7 @@ public class CustomerServiceImpl implements CustomerService {
     @Override
     public List<CustomerDto> getCustomersByNameContains(String name) throws NoResultException {
 	log.info(" #### Getting customers by name contains: {} #### ", name);
-	var customers = customerRepository.findByNameContainsIgnoreCase(name);
+	var customers = customerNameSearch.findByName(name);
 	if (customers.isEmpty()) {
 	    log.warn("No customers found with name containing: {}", name);
 	    throw new NoResultException(MessageUtil.CUSTOMERS_BY_NAME_NOT_FOUND + name);
@@ -104,6 +378,22 @@ public class CustomerServiceImpl implements CustomerService {
      * {@inheritDoc}
      */
     @Override
+    public List<CustomerDto> suggestCustomers(String query, Integer limit) {
+	log.debug(" #### Suggesting customers - query: {}, limit: {} #### ", query, limit);
+	var suggestLimit = (limit == null || limit <= 0) 
+		? MessageUtil.DEFAULT_SUGGEST_LIMIT 
+		: Math.min(limit, MessageUtil.MAX_SUGGEST_LIMIT);
+	var customers = customerSuggestIndex.suggest(query, suggestLimit);
+	log.debug("Suggested {} customers for: {}", customers.size(), query);
+	return customers;
+    }
+	
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional
+    @CacheEvict(cacheNames = MessageUtil.CUSTOMER_CACHE_NAME, key = "#customerId")
+    @Override
     public CustomerDto updateCustomer(Long customerId, CustomerDto customerDto) throws Exception {
 	log.info(" #### Updating customer with ID: {} - New data: {} #### ", customerId, customerDto);
 	var customer = customerRepository.findById(customerId)
@@ -119,13 +409,16 @@ public class CustomerServiceImpl implements CustomerService {
         }
         customer = customerRepository.save(customer);
         log.info("Updated customer: {}", customer);
-        return customerMapper.toDto(customer);
+        var updatedCustomerDto = customerMapper.toDto(customer);
+        eventPublisher.publishEvent(new CustomerChangedEvent(ChangeType.UPDATED, updatedCustomerDto));
+        return updatedCustomerDto;
     }
 	
     /**
      * {@inheritDoc}
      */
     @Transactional
+    @CacheEvict(cacheNames = MessageUtil.CUSTOMER_CACHE_NAME, key = "#customerId")
     @Override
     public void deleteCustomer(Long customerId) throws CustomerNotFoundException  {
 	log.info(" #### Deleting customer with ID: {} #### ", customerId);
@@ -135,6 +428,7 @@ public class CustomerServiceImpl implements CustomerService {
                     return new CustomerNotFoundException(customerId);
                 });
 	customerRepository.delete(customer);	
+	eventPublisher.publishEvent(new CustomerChangedEvent(ChangeType.DELETED, customerMapper.toDto(customer)));
 	log.info("Deleted customer: {}", customer);
     }
 
@@ -0,0 +1,56 @@
+package fr.tao.customerservice.service;
+
+import fr.tao.customerservice.dto.CustomerChangeDto;
+import fr.tao.customerservice.dto.CustomerDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * This interface defines the contract of the reactive read path of the customers, 
+ * alongside the blocking CustomerService.
+ * 
+ * The customers are streamed from the database as they are read, without blocking 
+ * a thread per request, nor loading all of them in memory.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+public interface ReactiveCustomerService {
+	
+    /**
+     * Retrieves a customer by their ID.
+     *
+     * @param id The ID of the customer to retrieve.
+     * @return A Mono of the CustomerDto, failing with a CustomerNotFoundException 
+     * if there is no customer with this ID.
+     */
+    public Mono<CustomerDto> getCustomerById(Long id);
+	
+    /**
+     * Streams the customers whose ID is greater than the specified one, ordered by ID.
+     * 
+     * A client whose stream is interrupted can resume it from the ID of the last 
+     * customer received.
+     *
+     * @param afterId The ID after which customers are streamed (exclusive), null or 0 
+     * to start from the first customer.
+     * @return A Flux of CustomerDto objects, completed after the last customer.
+     */
+    public Flux<CustomerDto> streamCustomers(Long afterId);
+	
+    /**
+     * Watches the committed changes of the customers (creations, updates and deletions), 
+     * in sequence order, so consumers receive deltas instead of reading all the customers again.
+     * 
+     * A consumer whose watch is interrupted can resume it after the sequence of the last 
+     * change received, as long as the following changes are still retained.
+     *
+     * @param afterSequence The sequence of the last change received (exclusive), 
+     * or null to watch the changes to come.
+     * @return An endless Flux of CustomerChangeDto objects, failing with an InvalidRequestException 
+     * if the changes after the given sequence are no longer retained.
+     */
+    public Flux<CustomerChangeDto> watchCustomers(Long afterSequence);
+	
+}
@@ -0,0 +1,69 @@
+package fr.tao.customerservice.service;
+
+import org.springframework.stereotype.Service;
+
+import fr.tao.customerservice.dto.CustomerChangeDto;
+import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.event.CustomerChangeFeed;
+import fr.tao.customerservice.exception.CustomerNotFoundException;
+import fr.tao.customerservice.mapper.CustomerMapper;
+import fr.tao.customerservice.repository.ReactiveCustomerRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * This class is an implementation of the ReactiveCustomerService interface, 
+ * backed by R2DBC and by the in-process feed of the customer changes.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveCustomerServiceImpl implements ReactiveCustomerService {
+	
+    @NonNull private final ReactiveCustomerRepository reactiveCustomerRepository;
+    
+    @NonNull private final CustomerMapper customerMapper;
+    
+    @NonNull private final CustomerChangeFeed customerChangeFeed;
+	
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<CustomerDto> getCustomerById(Long id) {
+	return reactiveCustomerRepository.findById(id)
+		.map(customerMapper::toDto)
+		.switchIfEmpty(Mono.error(() -> new CustomerNotFoundException(id)))
+		.doOnSubscribe(subscription -> log.info(" #### Getting customer by ID: {} #### ", id));
+    }
+	
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<CustomerDto> streamCustomers(Long afterId) {
+	var fromId = afterId == null ? 0L : afterId;
+	return reactiveCustomerRepository.findByIdGreaterThanOrderByIdAsc(fromId)
+		.map(customerMapper::toDto)
+		.doOnSubscribe(subscription -> log.info(" #### Streaming customers after ID: {} #### ", fromId))
+		.doOnComplete(() -> log.info("Streamed customers after ID: {}", fromId));
+    }
+	
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Flux<CustomerChangeDto> watchCustomers(Long afterSequence) {
+	return customerChangeFeed.watch(afterSequence)
+		.doOnSubscribe(subscription -> log.info(" #### Watching customer changes after sequence: {} #### ", afterSequence))
+		.doFinally(signal -> log.info("Stopped watching customer changes after sequence: {} - {}", afterSequence, signal));
+    }
+	
+}
@@ -0,0 +1,61 @@
+package fr.tao.customerservice.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import fr.tao.customerservice.exception.InvalidRequestException;
+
+/**
+ * This is a utility class for encoding and decoding the opaque cursors 
+ * used by the keyset pagination of customers.
+ * 
+ * A cursor holds the ID of the last customer of a page. It is Base64 (URL-safe) encoded 
+ * so clients treat it as an opaque token and never build it themselves.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+public final class CursorUtil {
+	
+    private static final String CURSOR_PREFIX = "id:";
+	
+    /**
+     * Encodes the ID of the last customer of a page into an opaque cursor.
+     *
+     * @param lastId The ID of the last customer of the page.
+     * @return The opaque cursor.
+     */
+    public static String encode(Long lastId) {
+	var value = CURSOR_PREFIX + lastId;
+	return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+	
+    /**
+     * Decodes an opaque cursor into the ID of the last customer of the previous page.
+     *
+     * @param cursor The opaque cursor, null or blank to start from the first customer.
+     * @return The ID after which the next page starts, 0 for the first page.
+     * @throws InvalidRequestException if the cursor is malformed.
+     */
+    public static long decode(String cursor) throws InvalidRequestException {
+	if (cursor == null || cursor.isBlank()) {
+	    return 0L;
+	}
+	try {
+	    var value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+	    if (!value.startsWith(CURSOR_PREFIX)) {
+		throw new InvalidRequestException(MessageUtil.INVALID_PAGE_CURSOR + cursor);
+	    }
+	    return Long.parseLong(value.substring(CURSOR_PREFIX.length()));
+	} catch (IllegalArgumentException e) {
+	    throw new InvalidRequestException(MessageUtil.INVALID_PAGE_CURSOR + cursor);
+	}
+    }
+	
+    // Private constructor to prevent instantiation
+    private CursorUtil() {
+        throw new AssertionError("Utility class - do not instantiate");
+    }
+
+}
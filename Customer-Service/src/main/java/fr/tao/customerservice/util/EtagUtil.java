@@ -0,0 +1,80 @@
+package fr.tao.customerservice.util;
+
+import org.springframework.http.MediaType;
+
+/**
+ * This is a utility class for building the entity tags of the REST responses, 
+ * and for evaluating the If-None-Match header of the conditional requests.
+ * 
+ * The tags are derived from the version of the resource, so a client revalidating its 
+ * copy can be answered without reading nor serializing the resource, and from the media type 
+ * of the representation (JSON, CBOR, ...), as the representations of a same version differ: 
+ * a response carrying a tag thus varies by the Accept header. They are strong tags, 
+ * except for the large responses: Tomcat does not compress a response with a strong tag, 
+ * and a weak tag is also the right one for a body sent either as is or gzip compressed.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+public final class EtagUtil {
+	
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+	
+    /**
+     * Builds the strong entity tag of a representation of a resource from its version 
+     * and its media type.
+     *
+     * @param version The version of the resource.
+     * @param mediaType The media type of the representation.
+     * @return The quoted entity tag.
+     */
+    public static String toEtag(Object version, MediaType mediaType) {
+	return "\"" + version + "-" + mediaType.getSubtype() + "\"";
+    }
+	
+    /**
+     * Builds the weak entity tag of a representation of a resource from its version 
+     * and its media type, for the responses which may be compressed.
+     *
+     * @param version The version of the resource.
+     * @param mediaType The media type of the representation.
+     * @return The quoted entity tag, with its weak prefix.
+     */
+    public static String toWeakEtag(Object version, MediaType mediaType) {
+	return WEAK_PREFIX + toEtag(version, mediaType);
+    }
+	
+    /**
+     * Checks whether an If-None-Match header matches an entity tag, using the weak comparison 
+     * required for this header: the tags are compared regardless of their weak prefix.
+     *
+     * @param ifNoneMatch The If-None-Match header, a list of entity tags or *, may be null.
+     * @param etag The entity tag of the current version of the resource.
+     * @return true if the client copy is current, i.e. the response can be 304 Not Modified.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+	if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+	    return false;
+	}
+	var opaqueTag = stripWeakPrefix(etag);
+	for (var tag : ifNoneMatch.split(",")) {
+	    tag = stripWeakPrefix(tag.trim());
+	    if (tag.equals(ANY) || tag.equals(opaqueTag)) {
+		return true;
+	    }
+	}
+	return false;
+    }
+	
+    private static String stripWeakPrefix(String etag) {
+	return etag.startsWith(WEAK_PREFIX) ? etag.substring(WEAK_PREFIX.length()) : etag;
+    }
+	
+    // Private constructor to prevent instantiation
+    private EtagUtil() {
+        throw new AssertionError("Utility class - do not instantiate");
+    }
+
+}
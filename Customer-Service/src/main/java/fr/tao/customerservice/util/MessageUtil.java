@@ -19,9 +19,20 @@ public final class MessageUtil {
 
     public static final String GET_CUSTOMER_BY_ID_GQL_QUERY = "{ \"query\": \"{ customerById(id: %s) { id name email } }\" }";
 	
+    public static final String GET_CUSTOMER_BY_ID_WITH_VARIABLE_GQL_QUERY = "query customerById($id: Int) { customerById(id: $id) { id name email } }";
+	
     public static final String GET_CUSTOMER_BY_NAME_GQL_QUERY = "{ customerByName(name: \"%s\") { id name email } }";
 	
+    public static final String GET_CUSTOMERS_BY_ID_ALIASES_GQL_QUERY = "{ first: customerById(id: %s) { id name } second: customerById(id: %s) { id name } again: customerById(id: %s) { id name } missing: customerById(id: %s) { id name } }";
+    
+    public static final String SUGGEST_CUSTOMERS_GQL_QUERY = "{ suggestCustomers(query: \"%s\", limit: %s) { id name email } }";
+    
+    public static final String GET_CUSTOMERS_PAGE_GQL_QUERY = "{ customersPage(size: %s) { customers { id name email } nextCursor hasNext } }";
+	
     public static final String SAVE_CUSTOMER_GQL_MUTATION = "mutation { saveCustomer(customer: { name: \"%s\", email: \"%s\" }) { id name email } }";
+    public static final String SAVE_CUSTOMERS_GQL_MUTATION = "mutation { saveCustomers(customers: [%s]) { index success customer { id name email } error } }";
+	
+    public static final String CUSTOMER_CHANGED_GQL_SUBSCRIPTION = "subscription { customerChanged(afterSequence: %s) { sequence type customer { id name email } } }";
 	
     // Messages for model validator 
     public static final String CUSTOMER_NAME_NOT_NULL_EMPTY = "Name cannot be null or empty.";
@@ -39,6 +50,9 @@ public final class MessageUtil {
     public static final String CUSTOMERS_NOT_FOUND = "No customers found.";
     public static final String CUSTOMERS_BY_NAME_NOT_FOUND = "No customers found with the given name: ";
     public static final String INVALID_REQUEST = "Invalid request.";
+    public static final String INVALID_PAGE_CURSOR = "Invalid page cursor: ";
+    public static final String BATCH_SIZE_EXCEEDED = "Too many customer IDs requested, the maximum is: ";
+    public static final String IMPORT_SIZE_EXCEEDED = "Too many customers to import, the maximum is: ";
     public static final String INTERNAL_SERVER_ERROR = "An error has occurred.";
     
     // API messages
@@ -47,6 +61,78 @@ public final class MessageUtil {
     
     // Endpoint  
     public static final String SOAP_SERVICE_URI = "/CustomerSoapService";
+    
+    // Cache names
+    public static final String CUSTOMER_CACHE_NAME = "customers";
+    
+    // gRPC streaming
+    public static final int GRPC_STREAM_DEFAULT_CHUNK_SIZE = 100;
+    public static final int GRPC_STREAM_MAX_CHUNK_SIZE = 1000;
+    
+    // gRPC call executor
+    public static final String GRPC_EXECUTOR_NAME = "customer-grpc";
+    public static final String GRPC_REJECTED_CALLS_METRIC = "customer.grpc.calls.rejected";
+    public static final String GRPC_EXECUTOR_SATURATED = "The server is saturated, retry later.";
+    
+    // gRPC compression
+    public static final String GRPC_IDENTITY_COMPRESSION = "identity";
+    public static final String GRPC_UNKNOWN_COMPRESSION = "No gRPC compressor registered with the name: ";
+    
+    // Binary encodings of the REST responses
+    public static final String APPLICATION_PROTOBUF = "application/x-protobuf";
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    
+    // Change feed
+    public static final String CHANGE_SEQUENCE_NOT_RETAINED = "The changes are no longer retained after sequence, read them from the change log: ";
+    public static final String CHANGE_WATCHER_TOO_SLOW = "The watcher is lagging behind, read the change log after the last sequence received.";
+    
+    // Change log
+    public static final int DEFAULT_CHANGES_LIMIT = 500;
+    public static final int MAX_CHANGES_LIMIT = 5000;
+    
+    // GraphQL documents
+    public static final String GRAPHQL_QUERY_KEY = "query";
+    public static final String GRAPHQL_EXTENSIONS_KEY = "extensions";
+    public static final String PERSISTED_QUERY_EXTENSION = "persistedQuery";
+    public static final String PERSISTED_QUERY_HASH_ALGORITHM = "SHA-256";
+    
+    // Keyset pagination
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    
+    // Batch lookup
+    public static final int MAX_BATCH_SIZE = 500;
+    
+    // Bulk import
+    public static final String CUSTOMER_ID_GENERATOR = "customer_id_generator";
+    public static final String CUSTOMER_ID_SEQUENCE = "customer_seq";
+    public static final int CUSTOMER_ID_ALLOCATION_SIZE = 50;
+    public static final int MAX_IMPORT_SIZE = 10000;
+    public static final int GRPC_IMPORT_CHUNK_SIZE = 1000;
+    public static final int GRPC_IMPORT_MAX_REPORTED_FAILURES = 1000;
+    
+    // Name search
+    public static final String SEARCH_STRATEGY_PROPERTY = "customer.search.strategy";
+    public static final String SEARCH_STRATEGY_LIKE = "like";
+    public static final String SEARCH_STRATEGY_PREFIX = "prefix";
+    public static final String SEARCH_STRATEGY_TRIGRAM = "trigram";
+    public static final int TRIGRAM_INDEX_CHUNK_SIZE = 1000;
+    
+    // Suggestions
+    public static final int SUGGEST_INDEX_CHUNK_SIZE = 1000;
+    public static final int DEFAULT_SUGGEST_LIMIT = 10;
+    public static final int MAX_SUGGEST_LIMIT = 50;
+    
+    // Streaming
+    public static final String CUSTOMER_STREAM_FETCH_SIZE = "500";
+    
+    // Metrics
+    public static final String API_REQUESTS_METRIC = "customer.api.requests";
+    public static final String SERVICE_CALLS_METRIC = "customer.service.calls";
+    public static final String PROTOCOL_TAG = "protocol";
+    public static final String OPERATION_TAG = "operation";
+    public static final String OUTCOME_TAG = "outcome";
+    public static final String UNKNOWN_OPERATION = "unknown";
 	
 	
     // Private constructor to prevent instantiation
@@ -0,0 +1,86 @@
+package fr.tao.customerservice.util;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * This is a utility class for the name search: it normalizes the names and the 
+ * keywords the same way, and splits them into the trigrams indexed for the 
+ * substring search.
+ * 
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+public final class SearchUtil {
+	
+    /**
+     * The length of the n-grams indexed for the substring search.
+     */
+    public static final int TRIGRAM_LENGTH = 3;
+	
+    /**
+     * Normalizes a name or a keyword for the search: lower-cased, without diacritics.
+     *
+     * @param value The name or keyword to normalize.
+     * @return The normalized value, or null if the value is null.
+     */
+    public static String normalize(String value) {
+	if (value == null) {
+	    return null;
+	}
+	return Normalizer.normalize(value, Normalizer.Form.NFKD)
+		.replaceAll("\\p{M}", "")
+		.toLowerCase(Locale.ROOT);
+    }
+	
+    /**
+     * Builds the LIKE pattern matching the values starting with a normalized keyword.
+     *
+     * @param normalized The normalized keyword.
+     * @return The LIKE pattern, escaped with a backslash.
+     */
+    public static String prefixPattern(String normalized) {
+	return escapeLike(normalized) + "%";
+    }
+	
+    /**
+     * Builds the LIKE pattern matching the values containing a normalized keyword.
+     *
+     * @param normalized The normalized keyword.
+     * @return The LIKE pattern, escaped with a backslash.
+     */
+    public static String containsPattern(String normalized) {
+	return "%" + escapeLike(normalized) + "%";
+    }
+	
+    /**
+     * Escapes the wildcards of a LIKE pattern, so that they match literally.
+     */
+    private static String escapeLike(String value) {
+	return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+	
+    /**
+     * Splits a normalized value into its distinct trigrams, in order of appearance.
+     * A value shorter than a trigram has none.
+     *
+     * @param normalized The normalized value.
+     * @return The distinct trigrams of the value.
+     */
+    public static Set<String> trigrams(String normalized) {
+	var trigrams = new LinkedHashSet<String>();
+	for (int i = 0; normalized != null && i + TRIGRAM_LENGTH <= normalized.length(); i++) {
+	    trigrams.add(normalized.substring(i, i + TRIGRAM_LENGTH));
+	}
+	return trigrams;
+    }
+	
+    // Private constructor to prevent instantiation
+    private SearchUtil() {
+        throw new AssertionError("Utility class - do not instantiate");
+    }
+
+}
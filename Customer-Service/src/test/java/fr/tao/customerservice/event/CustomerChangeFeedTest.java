@@ -0,0 +1,100 @@
+package fr.tao.customerservice.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import fr.tao.customerservice.dto.CustomerChangeDto;
+import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.entity.CustomerChangeLog;
+import fr.tao.customerservice.event.CustomerChangedEvent.ChangeType;
+import fr.tao.customerservice.mapper.CustomerMapperImpl;
+import fr.tao.customerservice.repository.CustomerChangeLogRepository;
+
+/**
+ * Unit tests for the CustomerChangeFeed, on a mocked change log, to verify that the changes
+ * are emitted in sequence order, and that a gap before a change is filled from the log
+ * (or skipped) once the gap timeout has elapsed.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+class CustomerChangeFeedTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+
+    private CustomerChangeLogRepository customerChangeLogRepository;
+
+    private CustomerChangeFeed customerChangeFeed;
+
+    @BeforeEach
+    void setUp() {
+	customerChangeLogRepository = mock(CustomerChangeLogRepository.class);
+	when(customerChangeLogRepository.findLastSequence()).thenReturn(0L);
+	customerChangeFeed = new CustomerChangeFeed(100, Duration.ofMillis(50), customerChangeLogRepository, new CustomerMapperImpl());
+    }
+
+    /**
+     * Test case for changes published out of sequence order within the gap timeout,
+     * expecting them to be emitted in sequence order, without reading the log.
+     */
+    @Test
+    void changesEmittedInSequenceOrder() {
+	customerChangeFeed.onCustomerChangeLogged(change(2));
+	customerChangeFeed.onCustomerChangeLogged(change(1));
+
+	assertEquals(List.of(1L, 2L), watchSequences(2));
+	verify(customerChangeLogRepository, never()).findBySequenceGreaterThanOrderBySequenceAsc(anyLong(), any());
+    }
+
+    /**
+     * Test case for a change whose previous change is never published, expecting the missing
+     * change to be read from the log after the gap timeout, and both to be emitted.
+     */
+    @Test
+    void gapFilledFromChangeLog() {
+	when(customerChangeLogRepository.findBySequenceGreaterThanOrderBySequenceAsc(anyLong(), any()))
+		.thenReturn(List.of(new CustomerChangeLog(1L, ChangeType.CREATED, 1L, "momo", "momo@gmail.com", Instant.now())));
+
+	customerChangeFeed.onCustomerChangeLogged(change(2));
+
+	assertEquals(List.of(1L, 2L), watchSequences(2));
+    }
+
+    /**
+     * Test case for a change whose previous change is missing from the log too, expecting
+     * the missing change to be skipped after the gap timeout, and the next changes to follow.
+     */
+    @Test
+    void gapSkippedWhenMissingFromChangeLog() {
+	when(customerChangeLogRepository.findBySequenceGreaterThanOrderBySequenceAsc(anyLong(), any()))
+		.thenReturn(List.of());
+
+	customerChangeFeed.onCustomerChangeLogged(change(2));
+	assertEquals(List.of(2L), watchSequences(1));
+
+	customerChangeFeed.onCustomerChangeLogged(change(3));
+	assertEquals(List.of(2L, 3L), watchSequences(2));
+    }
+
+    private List<Long> watchSequences(int count) {
+	return customerChangeFeed.watch(0L).take(count).map(CustomerChangeDto::getSequence).collectList().block(TIMEOUT);
+    }
+
+    private static CustomerChangeDto change(long sequence) {
+	return new CustomerChangeDto(sequence, ChangeType.UPDATED, new CustomerDto(sequence, "momo", "momo@gmail.com"));
+    }
+
+}
@@ -1,20 +1,38 @@
 package fr.tao.customerservice.graphql;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.graphql.test.tester.WebSocketGraphQlTester;
 import org.springframework.http.MediaType;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
 
+import fr.tao.customerservice.api.graphql.PersistedQueryStore;
 import fr.tao.customerservice.common.CommonTestSetup;
+import fr.tao.customerservice.dto.CustomerChangeDto;
+import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.dto.VersionedCustomerDto;
+import fr.tao.customerservice.event.CustomerChangedEvent.ChangeType;
+import fr.tao.customerservice.repository.CustomerChangeLogRepository;
 import fr.tao.customerservice.service.CustomerService;
 import fr.tao.customerservice.util.MessageUtil;
 
@@ -32,11 +50,21 @@ import fr.tao.customerservice.util.MessageUtil;
  */
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
 @AutoConfigureWebTestClient
+@AutoConfigureObservability(tracing = false)
 class CustomerGraphqlControllerTest extends CommonTestSetup {
 	
     @Mock
     protected CustomerService customerService;
 	
+    @LocalServerPort
+    private int port;
+	
+    @Autowired
+    private CustomerChangeLogRepository customerChangeLogRepository;
+	
+    @Autowired
+    private CacheManager cacheManager;
+	
     @BeforeEach
     public void setUp() { 
     	// Create test data before each test
@@ -82,6 +110,212 @@ class CustomerGraphqlControllerTest extends CommonTestSetup {
                 .jsonPath("$.data.customerById.email").isEqualTo(customer3.getEmail());
     }
 	
+    /**
+     * Test case for querying customers by their ID with the same document and a variable, 
+     * expecting each execution of the cached document to use its own variable.
+     * 
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getCustomerByIdWithVariableSuccess() throws Exception {
+	for (var customer : List.of(customer1, customer3)) {
+	    var requestBody = objectMapper.writeValueAsString(Map.of(
+		    "query", MessageUtil.GET_CUSTOMER_BY_ID_WITH_VARIABLE_GQL_QUERY, 
+		    "variables", Map.of("id", customer.getId())));
+	    
+	    webTestClient.post()
+	            .uri(GQL_ENDPOINT)
+	            .contentType(MediaType.APPLICATION_JSON)
+	            .bodyValue(requestBody)
+	            .exchange()
+	            .expectStatus().isOk()
+	            .expectBody()
+	            .jsonPath("$.data.customerById.name").isEqualTo(customer.getName());
+	}
+    }
+	
+    /**
+     * Test case for querying a customer by their ID with a persisted query, sending only 
+     * the SHA-256 hash of the persisted document, expecting the customer.
+     * 
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getCustomerByPersistedQuerySuccess() throws Exception {
+	var document = new ClassPathResource("graphql/persisted/customerById.graphql")
+		.getContentAsString(StandardCharsets.UTF_8);
+	var requestBody = objectMapper.writeValueAsString(Map.of(
+		"variables", Map.of("id", customer2.getId()),
+		"extensions", Map.of("persistedQuery", 
+			Map.of("version", 1, "sha256Hash", PersistedQueryStore.sha256Hex(document)))));
+	
+        webTestClient.post()
+                .uri(GQL_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.customerById.email").isEqualTo(customer2.getEmail());
+    }
+	
+    /**
+     * Test case for querying with the hash of a document which is not persisted, 
+     * expecting a 'PersistedQueryNotFound' error.
+     * 
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getCustomerByUnknownPersistedQuery() throws Exception {
+	var requestBody = objectMapper.writeValueAsString(Map.of(
+		"extensions", Map.of("persistedQuery", 
+			Map.of("version", 1, "sha256Hash", PersistedQueryStore.sha256Hex("{ unknown }")))));
+	
+        webTestClient.post()
+                .uri(GQL_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data").doesNotExist()
+                .jsonPath("$.errors[0].message").isEqualTo("PersistedQueryNotFound");
+    }
+	
+    /**
+     * Test case for the automatic persisted queries: the hash of a document which is not registered 
+     * is not found, the hash sent with the document registers it, then the hash alone is enough.
+     * 
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getCustomerByAutomaticPersistedQuerySuccess() throws Exception {
+	var persistedQuery = Map.of("version", 1, 
+		"sha256Hash", PersistedQueryStore.sha256Hex(MessageUtil.GET_CUSTOMER_BY_ID_WITH_VARIABLE_GQL_QUERY));
+	var hashOnlyRequestBody = objectMapper.writeValueAsString(Map.of(
+		"variables", Map.of("id", customer1.getId()),
+		"extensions", Map.of("persistedQuery", persistedQuery)));
+	var registerRequestBody = objectMapper.writeValueAsString(Map.of(
+		"query", MessageUtil.GET_CUSTOMER_BY_ID_WITH_VARIABLE_GQL_QUERY,
+		"variables", Map.of("id", customer1.getId()),
+		"extensions", Map.of("persistedQuery", persistedQuery)));
+	
+        webTestClient.post()
+                .uri(GQL_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(hashOnlyRequestBody)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.errors[0].message").isEqualTo("PersistedQueryNotFound");
+        
+        webTestClient.post()
+                .uri(GQL_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(registerRequestBody)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.customerById.name").isEqualTo(customer1.getName());
+        
+        webTestClient.post()
+                .uri(GQL_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(hashOnlyRequestBody)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.errors").doesNotExist()
+                .jsonPath("$.data.customerById.name").isEqualTo(customer1.getName());
+    }
+	
+    /**
+     * Test case for registering a document under a hash which is not its own, 
+     * expecting a 'PersistedQueryIdInvalid' error.
+     * 
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void registerPersistedQueryWithInvalidHash() throws Exception {
+	var requestBody = objectMapper.writeValueAsString(Map.of(
+		"query", MessageUtil.GET_CUSTOMER_BY_ID_WITH_VARIABLE_GQL_QUERY,
+		"variables", Map.of("id", customer1.getId()),
+		"extensions", Map.of("persistedQuery", 
+			Map.of("version", 1, "sha256Hash", PersistedQueryStore.sha256Hex("{ allCustomer { id } }")))));
+	
+        webTestClient.post()
+                .uri(GQL_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data").doesNotExist()
+                .jsonPath("$.errors[0].message").isEqualTo("PersistedQueryIdInvalid");
+    }
+	
+    /**
+     * Test case for querying several customers by their ID, with aliases, in a single 
+     * GraphQL document, expecting each alias to be resolved through the batch loader.
+     * 
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getCustomersByIdAliasesSuccess() throws Exception {
+	// Create the GraphQL query with a repeated ID and an unknown one
+	var graphqlQuery = String.format(MessageUtil.GET_CUSTOMERS_BY_ID_ALIASES_GQL_QUERY, 
+		customer1.getId(), customer2.getId(), customer1.getId(), 999999);
+		
+        // Serialise the GraphQL query in JSON
+        var requestBody = objectMapper.writeValueAsString(Map.of("query", graphqlQuery));
+		
+        webTestClient.post()
+                .uri(GQL_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.first.name").isEqualTo(customer1.getName())
+                .jsonPath("$.data.second.name").isEqualTo(customer2.getName())
+                .jsonPath("$.data.again.name").isEqualTo(customer1.getName())
+                .jsonPath("$.data.missing").doesNotExist()
+                .jsonPath("$.errors[0].extensions.classification").isEqualTo("NOT_FOUND")
+                .jsonPath("$.errors[0].path[0]").isEqualTo("missing");
+    }
+	
+    /**
+     * Test case for querying several customers by their ID, one of them held by the cache 
+     * of the customers, expecting the cached customer to be read from the cache and the 
+     * other one to be looked up.
+     * 
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getCustomersByIdFromCacheSuccess() throws Exception {
+	// Cache a customer which is not in the database, so it can only be read from the cache
+	var customerCache = cacheManager.getCache(MessageUtil.CUSTOMER_CACHE_NAME);
+	customerCache.put(888888L, new VersionedCustomerDto(new CustomerDto(888888L, "Cached", "cached@gmail.com"), 0));
+	try {
+	    var graphqlQuery = String.format(MessageUtil.GET_CUSTOMERS_BY_ID_ALIASES_GQL_QUERY, 
+		    888888, customer2.getId(), 888888, 999999);
+	    
+	    webTestClient.post()
+	            .uri(GQL_ENDPOINT)
+	            .contentType(MediaType.APPLICATION_JSON)
+	            .bodyValue(objectMapper.writeValueAsString(Map.of("query", graphqlQuery)))
+	            .exchange()
+	            .expectStatus().isOk()
+	            .expectBody()
+	            .jsonPath("$.data.first.name").isEqualTo("Cached")
+	            .jsonPath("$.data.second.name").isEqualTo(customer2.getName())
+	            .jsonPath("$.data.again.name").isEqualTo("Cached")
+	            .jsonPath("$.data.missing").doesNotExist();
+	} finally {
+	    customerCache.evict(888888L);
+	}
+    }
+	
     /**
      * Test case for querying customers by their name via GraphQL.
      * 
@@ -111,6 +345,120 @@ class CustomerGraphqlControllerTest extends CommonTestSetup {
                 .jsonPath("$.data.customerByName[0].name").isEqualTo(customer1.getName());
     }
 	
+    /**
+     * Test case for querying customers by a part of their name via GraphQL, 
+     * expecting a case-insensitive match through the trigram index.
+     * 
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getCustomerByNameSubstringSuccess() throws Exception {
+	var graphqlQuery = String.format(MessageUtil.GET_CUSTOMER_BY_NAME_GQL_QUERY, "AKI");
+        var requestBody = objectMapper.writeValueAsString(Map.of("query", graphqlQuery));
+		
+        webTestClient.post()
+                .uri(GQL_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.customerByName.length()").isEqualTo(1)
+                .jsonPath("$.data.customerByName[0].name").isEqualTo(customer3.getName());
+    }
+	
+    /**
+     * Test case for querying customers by a keyword shorter than a trigram via GraphQL, 
+     * expecting the search to fall back to a scan of the normalized names.
+     * 
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getCustomerByShortNameSuccess() throws Exception {
+	var graphqlQuery = String.format(MessageUtil.GET_CUSTOMER_BY_NAME_GQL_QUERY, "Ak");
+        var requestBody = objectMapper.writeValueAsString(Map.of("query", graphqlQuery));
+		
+        webTestClient.post()
+                .uri(GQL_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.customerByName[0].name").isEqualTo(customer3.getName());
+    }
+	
+    /**
+     * Test case for suggesting customers by a name prefix via GraphQL, expecting 
+     * the customers whose names start with it, ordered by ID for names of the same length.
+     * 
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void suggestCustomersByPrefixSuccess() throws Exception {
+	var graphqlQuery = String.format(MessageUtil.SUGGEST_CUSTOMERS_GQL_QUERY, "Mo", 10);
+        var requestBody = objectMapper.writeValueAsString(Map.of("query", graphqlQuery));
+		
+        webTestClient.post()
+                .uri(GQL_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.suggestCustomers.length()").isEqualTo(2)
+                .jsonPath("$.data.suggestCustomers[0].name").isEqualTo(customer1.getName())
+                .jsonPath("$.data.suggestCustomers[1].name").isEqualTo(customer2.getName());
+    }
+	
+    /**
+     * Test case for suggesting customers by an email substring via GraphQL, expecting 
+     * only the top suggestions, the shortest names first.
+     * 
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void suggestCustomersTopRankedSuccess() throws Exception {
+	var graphqlQuery = String.format(MessageUtil.SUGGEST_CUSTOMERS_GQL_QUERY, "GMAIL", 2);
+        var requestBody = objectMapper.writeValueAsString(Map.of("query", graphqlQuery));
+		
+        webTestClient.post()
+                .uri(GQL_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.suggestCustomers.length()").isEqualTo(2)
+                .jsonPath("$.data.suggestCustomers[0].name").isEqualTo("ali")
+                .jsonPath("$.data.suggestCustomers[1].name").isEqualTo(customer1.getName());
+    }
+	
+    /**
+     * Test case for querying the first page of customers via GraphQL.
+     * 
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getCustomersPageSuccess() throws Exception {
+	// Create the GraphQL query for a page smaller than the number of customers
+	var graphqlQuery = String.format(MessageUtil.GET_CUSTOMERS_PAGE_GQL_QUERY, 2);
+		
+        // Serialise the GraphQL query in JSON
+        var requestBody = objectMapper.writeValueAsString(Map.of("query", graphqlQuery));
+		
+        webTestClient.post()
+                .uri(GQL_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data.customersPage.customers.length()").isEqualTo(2)
+                .jsonPath("$.data.customersPage.hasNext").isEqualTo(true)
+                .jsonPath("$.data.customersPage.nextCursor").isNotEmpty();
+    }
+	
     /**
      * Test case for saving a new customer via GraphQL.
      * 
@@ -139,5 +487,64 @@ class CustomerGraphqlControllerTest extends CommonTestSetup {
                 .expectBody()
                 .jsonPath("$.data.saveCustomer.name").isEqualTo(newCustomer.getName());
     }
+	
+    /**
+     * Test case for subscribing to the customer changes over WebSocket, expecting the 
+     * creation of a customer saved through a mutation to be received.
+     * 
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void customerChangedSubscriptionSuccess() throws Exception {
+	// Make two changes, so the subscription can resume after the first one
+	var lastSequence = customerChangeLogRepository.findLastSequence();
+	for (var name : new String[] { "Subscriber", "Subscribed" }) {
+	    var mutation = String.format(MessageUtil.SAVE_CUSTOMER_GQL_MUTATION, name, name.toLowerCase() + "@gmail.com");
+	    webTestClient.post()
+		    .uri(GQL_ENDPOINT)
+		    .contentType(MediaType.APPLICATION_JSON)
+		    .bodyValue(objectMapper.writeValueAsString(Map.of("query", mutation)))
+		    .exchange()
+		    .expectStatus().isOk();
+	}
+	
+	var graphQlTester = WebSocketGraphQlTester.builder("ws://localhost:" + port + GQL_ENDPOINT, 
+		new ReactorNettyWebSocketClient()).build();
+	var change = graphQlTester.document(String.format(MessageUtil.CUSTOMER_CHANGED_GQL_SUBSCRIPTION, lastSequence + 1))
+		.executeSubscription()
+		.toFlux("customerChanged", CustomerChangeDto.class)
+		.filter(customerChange -> "Subscribed".equals(customerChange.getCustomer().getName()))
+		.blockFirst(Duration.ofSeconds(10));
+	
+	assertEquals(ChangeType.CREATED, change.getType());
+	assertTrue(change.getSequence() > lastSequence + 1);
+	graphQlTester.stop().block(Duration.ofSeconds(5));
+    }
+	
+    /**
+     * Test case for the metrics of the GraphQL requests, expecting the latency of a 
+     * query to be exposed in the Prometheus format with its protocol, operation and outcome.
+     */
+    @Test
+    void graphqlRequestsAreExposedToPrometheus() {
+        webTestClient.post()
+                .uri(GQL_ENDPOINT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(MessageUtil.GET_ALL_CUSTOMER_GQL_QUERY)
+                .exchange()
+                .expectStatus().isOk();
+        
+        // The scrape holds the histograms of all the requests made so far
+        webTestClient.mutate()
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(4 * 1024 * 1024))
+                .build()
+                .get()
+                .uri("/actuator/prometheus")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .value(body -> assertTrue(body.contains(
+                        "customer_api_requests_seconds_count{operation=\"allCustomer\",outcome=\"success\",protocol=\"graphql\",}")));
+    }
 
 }
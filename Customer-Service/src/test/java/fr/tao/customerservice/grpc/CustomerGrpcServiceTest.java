@@ -2,20 +2,44 @@ package fr.tao.customerservice.grpc;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import fr.tao.customerservice.grpc.generated.CustomerChange;
+import fr.tao.customerservice.grpc.generated.CustomerIds;
+import fr.tao.customerservice.grpc.generated.CustomerImportSummary;
+import fr.tao.customerservice.grpc.generated.CustomerPageRequest;
 import fr.tao.customerservice.grpc.generated.CustomerRequest;
 import fr.tao.customerservice.grpc.generated.CustomerServiceGrpc;
 import fr.tao.customerservice.grpc.generated.Empty;
+import fr.tao.customerservice.grpc.generated.StreamCustomersRequest;
+import fr.tao.customerservice.grpc.generated.WatchCustomersRequest;
+import fr.tao.customerservice.util.MessageUtil;
+import io.grpc.Context;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * This class contains test methods for the Customer gRPC service. 
@@ -28,10 +52,16 @@ import io.grpc.ManagedChannelBuilder;
  * @since 21/10/2023
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@AutoConfigureObservability(tracing = false)
 class CustomerGrpcServiceTest {
 		
     private static ManagedChannel channel;
     private static CustomerServiceGrpc.CustomerServiceBlockingStub blockingStub;
+    private static CustomerServiceGrpc.CustomerServiceStub asyncStub;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
     
     /**
      * Set up the test environment by creating a gRPC channel and blocking stub 
@@ -45,6 +75,7 @@ class CustomerGrpcServiceTest {
                 .usePlaintext()
                 .build();
         blockingStub = CustomerServiceGrpc.newBlockingStub(channel);
+        asyncStub = CustomerServiceGrpc.newStub(channel);
     }
     
     /**
@@ -92,5 +123,268 @@ class CustomerGrpcServiceTest {
         assertEquals(request.getName(), response.getName());
         assertEquals(request.getEmail(), response.getEmail());
     }
+    
+    /**
+     * Test the functionality of importing a stream of customers, 
+     * expecting the valid ones to be imported and the invalid one to be reported.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void importCustomersSuccess() throws Exception {
+        var summary = new CompletableFuture<CustomerImportSummary>();
+        var requestObserver = asyncStub.importCustomers(new StreamObserver<>() {
+            @Override
+            public void onNext(CustomerImportSummary value) {
+                summary.complete(value);
+            }
+            @Override
+            public void onError(Throwable t) {
+                summary.completeExceptionally(t);
+            }
+            @Override
+            public void onCompleted() {
+            }
+        });
+        
+        // Stream two valid customers around an invalid one
+        requestObserver.onNext(CustomerRequest.newBuilder().setName("Riri").setEmail("riri@gmail.com").build());
+        requestObserver.onNext(CustomerRequest.newBuilder().setName("F1fi").setEmail("fifi@gmail.com").build());
+        requestObserver.onNext(CustomerRequest.newBuilder().setName("Loulou").setEmail("loulou@gmail.com").build());
+        requestObserver.onCompleted();
+        
+        var response = summary.get(10, TimeUnit.SECONDS);
+        assertEquals(2, response.getImportedCount());
+        assertEquals(1, response.getFailedCount());
+        assertEquals(1, response.getFailures(0).getIndex());
+        assertTrue(response.getFailures(0).getError().length() > 0);
+    }
+    
+    /**
+     * Test the functionality of importing more customers than a chunk, which the server 
+     * requests from the client one chunk at a time.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void importCustomersSeveralChunksSuccess() throws Exception {
+        var summary = new CompletableFuture<CustomerImportSummary>();
+        var requestObserver = asyncStub.importCustomers(new StreamObserver<>() {
+            @Override
+            public void onNext(CustomerImportSummary value) {
+                summary.complete(value);
+            }
+            @Override
+            public void onError(Throwable t) {
+                summary.completeExceptionally(t);
+            }
+            @Override
+            public void onCompleted() {
+            }
+        });
+        
+        var count = MessageUtil.GRPC_IMPORT_CHUNK_SIZE * 2 + 1;
+        for (int i = 0; i < count; i++) {
+            requestObserver.onNext(CustomerRequest.newBuilder().setName("Bulk").setEmail("bulk" + i + "@example.com").build());
+        }
+        requestObserver.onCompleted();
+        
+        var response = summary.get(30, TimeUnit.SECONDS);
+        assertEquals(count, response.getImportedCount());
+        assertEquals(0, response.getFailedCount());
+    }
+    
+    /**
+     * Test the functionality of walking through all customers page by page, 
+     * following the cursor returned with each page.
+     */
+    @Test
+    void getCustomersPageSuccess() {
+        var ids = new ArrayList<Long>();
+        var cursor = "";
+        var hasNext = true;
+        while (hasNext) {
+            var page = blockingStub.getCustomersPage(CustomerPageRequest.newBuilder()
+                    .setCursor(cursor)
+                    .setSize(3)
+                    .build());
+            assertTrue(page.getCustomersCount() <= 3);
+            page.getCustomersList().forEach(customer -> ids.add(customer.getId()));
+            cursor = page.getNextCursor();
+            hasNext = page.getHasNext();
+        }
+        
+        // Assert that every customer has been retrieved once, ordered by ID
+        assertTrue(ids.size() >= 4);
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i) > ids.get(i - 1));
+        }
+        assertTrue(cursor.isEmpty());
+    }
+    
+    /**
+     * Test the functionality of retrieving several customers by ID in a single call, 
+     * expecting the request order to be kept and the unknown IDs to be reported.
+     */
+    @Test
+    void getCustomersByIdsSuccess() {
+        var request = CustomerIds.newBuilder()
+                .addAllIds(List.of(2L, 1L, 2L, 999999L))
+                .build();
+        var response = blockingStub.getCustomersByIds(request);
+        
+        // Assert that the duplicate ID is ignored and the unknown ID is reported as missing
+        assertEquals(2, response.getCustomersCount());
+        assertEquals(2L, response.getCustomers(0).getId());
+        assertEquals(1L, response.getCustomers(1).getId());
+        assertEquals(List.of(999999L), response.getMissingIdsList());
+    }
+    
+    /**
+     * Test that a malformed cursor is rejected with an INVALID_ARGUMENT status.
+     */
+    @Test
+    void getCustomersPageInvalidCursor() {
+        var request = CustomerPageRequest.newBuilder().setCursor("not-a-cursor").build();
+        var exception = assertThrows(StatusRuntimeException.class, () -> blockingStub.getCustomersPage(request));
+        assertEquals(Status.Code.INVALID_ARGUMENT, exception.getStatus().getCode());
+    }
+    
+    /**
+     * Test the functionality of streaming all customers from the CustomerService, 
+     * using a chunk size smaller than the number of customers.
+     */
+    @Test
+    void streamCustomersSuccess() {
+        var request = StreamCustomersRequest.newBuilder()
+                .setChunkSize(2)
+                .build();
+        
+        // Collect the IDs of the streamed customers
+        var ids = new ArrayList<Long>();
+        blockingStub.streamCustomers(request).forEachRemaining(customer -> ids.add(customer.getId()));
+        
+        // Assert that every customer has been streamed once, ordered by ID
+        assertTrue(ids.size() >= 4);
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i) > ids.get(i - 1));
+        }
+    }
+
+    /**
+     * Test the functionality of watching the customer changes, expecting the creation of 
+     * a customer to be received, and again when the watch is resumed before it.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void watchCustomersSuccess() throws Exception {
+        // Make sure at least two changes have been made, so the watch can resume after the first one
+        blockingStub.createCustomer(CustomerRequest.newBuilder().setName("Watcher").setEmail("watcher@gmail.com").build());
+        var created = blockingStub.createCustomer(CustomerRequest.newBuilder().setName("Watched").setEmail("watched@gmail.com").build());
+        
+        var change = watchUntil(1, created.getId());
+        assertEquals(CustomerChange.ChangeType.CREATED, change.getType());
+        assertEquals("Watched", change.getCustomer().getName());
+        
+        // Resume the watch right before the change, expecting it first
+        var resumed = watchUntil(change.getSequence() - 1, created.getId());
+        assertEquals(change, resumed);
+    }
+    
+    /**
+     * Test that a watch resuming after a sequence which is not retained is rejected 
+     * with an OUT_OF_RANGE status.
+     */
+    @Test
+    void watchCustomersSequenceNotRetained() {
+        var request = WatchCustomersRequest.newBuilder().setAfterSequence(Long.MAX_VALUE).build();
+        var exception = assertThrows(StatusRuntimeException.class, () -> blockingStub.watchCustomers(request).next());
+        assertEquals(Status.Code.OUT_OF_RANGE, exception.getStatus().getCode());
+    }
+    
+    /**
+     * Watches the customer changes after a sequence until the change of a customer 
+     * is received, then cancels the watch.
+     *
+     * @param afterSequence The sequence to resume the watch after.
+     * @param customerId The ID of the customer whose change is awaited.
+     * @return The change of the customer.
+     * @throws InterruptedException if interrupted while waiting for the change.
+     */
+    private CustomerChange watchUntil(long afterSequence, long customerId) throws InterruptedException {
+        BlockingQueue<CustomerChange> changes = new LinkedBlockingQueue<>();
+        var context = Context.current().withCancellation();
+        try {
+            context.run(() -> asyncStub.watchCustomers(
+        	    WatchCustomersRequest.newBuilder().setAfterSequence(afterSequence).build(), 
+        	    new StreamObserver<>() {
+                        @Override
+                        public void onNext(CustomerChange value) {
+                            changes.add(value);
+                        }
+                        @Override
+                        public void onError(Throwable t) {
+                        }
+                        @Override
+                        public void onCompleted() {
+                        }
+                    }));
+            var previousSequence = afterSequence;
+            while (true) {
+                var change = changes.poll(10, TimeUnit.SECONDS);
+                assertNotNull(change);
+                assertTrue(change.getSequence() > previousSequence);
+                previousSequence = change.getSequence();
+                if (change.getCustomer().getId() == customerId) {
+                    return change;
+                }
+            }
+        } finally {
+            context.cancel(null);
+        }
+    }
+    
+    /**
+     * Test that the response messages are compressed with gzip, as the client accepts it.
+     */
+    @Test
+    void getAllCustomersCompressed() {
+        var headers = new AtomicReference<Metadata>();
+        var trailers = new AtomicReference<Metadata>();
+        blockingStub.withInterceptors(MetadataUtils.newCaptureMetadataInterceptor(headers, trailers))
+                .getAllCustomers(Empty.newBuilder().build());
+        
+        assertEquals("gzip", headers.get().get(Metadata.Key.of("grpc-encoding", Metadata.ASCII_STRING_MARSHALLER)));
+    }
+    
+    /**
+     * Test that the gRPC calls are timed with their protocol, operation and outcome tags, 
+     * along with the CustomerService calls they make.
+     */
+    @Test
+    void grpcCallsAreTimed() {
+        blockingStub.getAllCustomers(Empty.newBuilder().build());
+        var request = CustomerPageRequest.newBuilder().setCursor("not-a-cursor").build();
+        assertThrows(StatusRuntimeException.class, () -> blockingStub.getCustomersPage(request));
+        
+        var successTimer = meterRegistry.find(MessageUtil.API_REQUESTS_METRIC)
+                .tags(MessageUtil.PROTOCOL_TAG, "grpc", MessageUtil.OPERATION_TAG, "getAllCustomers", 
+                        MessageUtil.OUTCOME_TAG, "success")
+                .timer();
+        var clientErrorTimer = meterRegistry.find(MessageUtil.API_REQUESTS_METRIC)
+                .tags(MessageUtil.PROTOCOL_TAG, "grpc", MessageUtil.OPERATION_TAG, "getCustomersPage", 
+                        MessageUtil.OUTCOME_TAG, "client_error")
+                .timer();
+        var serviceTimer = meterRegistry.find(MessageUtil.SERVICE_CALLS_METRIC)
+                .tags(MessageUtil.OPERATION_TAG, "forEachCustomer", MessageUtil.OUTCOME_TAG, "success")
+                .timer();
+        assertNotNull(successTimer);
+        assertNotNull(clientErrorTimer);
+        assertNotNull(serviceTimer);
+        assertTrue(successTimer.count() >= 1);
+        assertTrue(clientErrorTimer.count() >= 1);
+        assertTrue(serviceTimer.count() >= 1);
+    }
 
 }
@@ -0,0 +1,141 @@
+package fr.tao.customerservice.grpc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import fr.tao.customerservice.api.grpc.GrpcCallExecutor;
+import fr.tao.customerservice.util.MessageUtil;
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the GrpcCallExecutor, with a pool of a single thread and a queue
+ * of two calls, to verify the load shedding, the cancellation and the failure of the calls.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+class GrpcCallExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GrpcCallExecutor grpcCallExecutor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    public void setUp() {
+	meterRegistry = new SimpleMeterRegistry();
+	grpcCallExecutor = new GrpcCallExecutor(1, 2, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+	release.countDown();
+	grpcCallExecutor.destroy();
+    }
+
+    /**
+     * Test case for the rejection of a call with RESOURCE_EXHAUSTED, when the thread
+     * is busy and the queue is full.
+     *
+     * @throws Exception if an exception occurs during the test
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void executeSaturatedRejected() throws Exception {
+	var started = new CountDownLatch(1);
+	grpcCallExecutor.execute("busy", mock(StreamObserver.class), () -> {
+	    started.countDown();
+	    awaitRelease();
+	});
+	assertTrue(started.await(5, TimeUnit.SECONDS));
+	grpcCallExecutor.execute("queued", mock(StreamObserver.class), () -> { });
+	grpcCallExecutor.execute("queued", mock(StreamObserver.class), () -> { });
+
+	var rejected = new AtomicBoolean();
+	StreamObserver<Object> responseObserver = mock(StreamObserver.class);
+	grpcCallExecutor.execute("rejected", responseObserver, () -> rejected.set(true));
+
+	var error = ArgumentCaptor.forClass(Throwable.class);
+	verify(responseObserver).onError(error.capture());
+	assertEquals(Status.Code.RESOURCE_EXHAUSTED, ((StatusRuntimeException) error.getValue()).getStatus().getCode());
+	assertEquals(MessageUtil.GRPC_EXECUTOR_SATURATED, ((StatusRuntimeException) error.getValue()).getStatus().getDescription());
+	assertEquals(1.0, meterRegistry.get(MessageUtil.GRPC_REJECTED_CALLS_METRIC).counter().count());
+	assertFalse(rejected.get());
+    }
+
+    /**
+     * Test case for the drop of a call cancelled while it was queued.
+     *
+     * @throws Exception if an exception occurs during the test
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void executeCancelledWhileQueuedDropped() throws Exception {
+	var started = new CountDownLatch(1);
+	grpcCallExecutor.execute("busy", mock(StreamObserver.class), () -> {
+	    started.countDown();
+	    awaitRelease();
+	});
+	assertTrue(started.await(5, TimeUnit.SECONDS));
+
+	var ran = new AtomicBoolean();
+	StreamObserver<Object> responseObserver = mock(StreamObserver.class);
+	var cancellableContext = Context.ROOT.withCancellation();
+	cancellableContext.run(() -> grpcCallExecutor.execute("cancelled", responseObserver, () -> ran.set(true)));
+	cancellableContext.cancel(null);
+
+	// The call queued after the cancelled one runs once the latter has been dropped
+	var done = new CountDownLatch(1);
+	grpcCallExecutor.execute("next", mock(StreamObserver.class), done::countDown);
+	release.countDown();
+	assertTrue(done.await(5, TimeUnit.SECONDS));
+	assertFalse(ran.get());
+	verify(responseObserver, never()).onError(any());
+    }
+
+    /**
+     * Test case for a call failing with an unexpected exception, expecting the call
+     * to be closed with INTERNAL.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void executeFailingClosedWithInternal() {
+	StreamObserver<Object> responseObserver = mock(StreamObserver.class);
+	grpcCallExecutor.execute("failing", responseObserver, () -> {
+	    throw new IllegalStateException("boom");
+	});
+
+	var error = ArgumentCaptor.forClass(Throwable.class);
+	verify(responseObserver, timeout(5000)).onError(error.capture());
+	assertEquals(Status.Code.INTERNAL, ((StatusRuntimeException) error.getValue()).getStatus().getCode());
+	assertEquals("boom", ((StatusRuntimeException) error.getValue()).getStatus().getDescription());
+    }
+
+    private void awaitRelease() {
+	try {
+	    release.await(5, TimeUnit.SECONDS);
+	} catch (InterruptedException e) {
+	    Thread.currentThread().interrupt();
+	}
+    }
+
+}
@@ -0,0 +1,81 @@
+package fr.tao.customerservice.grpc;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import fr.tao.customerservice.api.grpc.GrpcCompressionInterceptor;
+import fr.tao.customerservice.grpc.generated.CustomerList;
+import fr.tao.customerservice.grpc.generated.CustomerResponse;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+
+/**
+ * Unit tests for the GrpcCompressionInterceptor, on a mocked call, to verify which
+ * response messages are compressed.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+class GrpcCompressionInterceptorTest {
+
+    private final CustomerResponse customer = CustomerResponse.newBuilder()
+	    .setId(1).setName("momo").setEmail("momo@gmail.com").build();
+
+    /**
+     * Test case for a call sending a single customer, then a list of customers over the
+     * minimum message size, expecting only the list to be compressed.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void compressMessagesFromMinSize() {
+	var customers = CustomerList.newBuilder();
+	for (int i = 0; i < 100; i++) {
+	    customers.addCustomers(customer);
+	}
+	var customerList = customers.build();
+	ServerCall<Object, Object> call = mock(ServerCall.class);
+	ServerCallHandler<Object, Object> handler = (serverCall, headers) -> {
+	    serverCall.sendMessage(customer);
+	    serverCall.sendMessage(customerList);
+	    return null;
+	};
+
+	new GrpcCompressionInterceptor("gzip", DataSize.ofKilobytes(1)).interceptCall(call, new Metadata(), handler);
+
+	var inOrder = inOrder(call);
+	inOrder.verify(call).setCompression("gzip");
+	inOrder.verify(call).setMessageCompression(false);
+	inOrder.verify(call).sendMessage(customer);
+	inOrder.verify(call).setMessageCompression(true);
+	inOrder.verify(call).sendMessage(customerList);
+    }
+
+    /**
+     * Test case for the identity compressor, expecting the messages not to be compressed.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void identityCompressionDisabled() {
+	ServerCall<Object, Object> call = mock(ServerCall.class);
+	ServerCallHandler<Object, Object> handler = (serverCall, headers) -> {
+	    serverCall.sendMessage(customer);
+	    return null;
+	};
+
+	new GrpcCompressionInterceptor("identity", DataSize.ofKilobytes(1)).interceptCall(call, new Metadata(), handler);
+
+	verify(call, never()).setCompression(anyString());
+	verify(call, never()).setMessageCompression(anyBoolean());
+	verify(call).sendMessage(customer);
+    }
+
+}
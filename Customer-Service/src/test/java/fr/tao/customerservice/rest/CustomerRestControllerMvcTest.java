@@ -0,0 +1,177 @@
+package fr.tao.customerservice.rest;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import fr.tao.customerservice.api.rest.CustomerRestController;
+import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.dto.VersionedCustomerDto;
+import fr.tao.customerservice.mapper.CustomerMapperImpl;
+import fr.tao.customerservice.metrics.ApiMetrics;
+import fr.tao.customerservice.service.CustomerService;
+import fr.tao.customerservice.service.ReactiveCustomerService;
+
+/**
+ * Unit tests for the CustomerRestController class, for the responses written asynchronously
+ * by Spring MVC (StreamingResponseBody) and for the binary formats, using MockMvc.
+ *
+ * The body of such a response is only written once the request is dispatched again,
+ * after the asynchronous processing, which the WebFlux test client cannot do; the CBOR
+ * and Smile representations are written by the converters of Spring MVC only.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@WebMvcTest(CustomerRestController.class)
+@Import(CustomerMapperImpl.class)
+class CustomerRestControllerMvcTest {
+
+    private static final String REST_ENDPOINT = "/api/customers";
+
+    private static final String REST_ENDPOINT_ID = REST_ENDPOINT + "/{id}";
+
+    private final List<CustomerDto> customers = List.of(
+	    new CustomerDto(1L, "momo", "momo@gmail.com"),
+	    new CustomerDto(2L, "moha", "moha@gmail.com"));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CustomerService customerService;
+
+    @MockBean
+    private ReactiveCustomerService reactiveCustomerService;
+
+    /**
+     * The metrics recorded by the interceptor of the REST requests, which are not tested here.
+     */
+    @MockBean
+    private ApiMetrics apiMetrics;
+
+    /**
+     * Test the GET request handler for retrieving all customers as newline-delimited JSON,
+     * expecting one customer per line, written after the asynchronous dispatch.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllCustomerAsNdjsonSuccess() throws Exception {
+    	// Mock service calls to return the version and pass the customers to the consumer
+    	when(customerService.getCustomersVersion()).thenReturn("v-2");
+    	doAnswer(invocation -> {
+    	    customers.forEach(invocation.getArgument(0, Consumer.class));
+    	    return (long) customers.size();
+    	}).when(customerService).forEachCustomer(any());
+
+    	var result = mockMvc.perform(get(REST_ENDPOINT).accept(MediaType.APPLICATION_NDJSON))
+    		.andExpect(request().asyncStarted())
+    		.andReturn();
+
+    	mockMvc.perform(asyncDispatch(result))
+    		.andExpect(status().isOk())
+    		.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+    		.andExpect(header().string(HttpHeaders.ETAG, "W/\"v-2-x-ndjson\""))
+    		.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+    		.andExpect(content().string("""
+    			{"id":1,"name":"momo","email":"momo@gmail.com"}
+    			{"id":2,"name":"moha","email":"moha@gmail.com"}
+    			"""));
+    }
+
+    /**
+     * Test the GET request handler for retrieving all customers as newline-delimited JSON
+     * with the ETag of the current customers, expecting a 304 Not Modified response,
+     * without streaming the customers.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    void getAllCustomerAsNdjsonNotModified() throws Exception {
+    	// Mock service call to return the version of the client copy
+    	when(customerService.getCustomersVersion()).thenReturn("v-2");
+
+    	mockMvc.perform(get(REST_ENDPOINT)
+    		.accept(MediaType.APPLICATION_NDJSON)
+    		.header(HttpHeaders.IF_NONE_MATCH, "W/\"v-2-x-ndjson\""))
+    		.andExpect(request().asyncNotStarted())
+    		.andExpect(status().isNotModified())
+    		.andExpect(header().string(HttpHeaders.ETAG, "W/\"v-2-x-ndjson\""))
+    		.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+
+    	verify(customerService, never()).forEachCustomer(any());
+    }
+
+    /**
+     * Test the GET request handler for retrieving all customers in CBOR with the ETag of their
+     * JSON representation, expecting the customers in CBOR with their own ETag.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    void getAllCustomerAsCborWithJsonEtag() throws Exception {
+    	when(customerService.getCustomersVersion()).thenReturn("v-2");
+    	when(customerService.getAllCustomer()).thenReturn(customers);
+
+    	mockMvc.perform(get(REST_ENDPOINT)
+    		.accept(MediaType.APPLICATION_CBOR)
+    		.header(HttpHeaders.IF_NONE_MATCH, "W/\"v-2-json\""))
+    		.andExpect(status().isOk())
+    		.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+    		.andExpect(header().string(HttpHeaders.ETAG, "W/\"v-2-cbor\""))
+    		.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+    /**
+     * Test the GET request handler for retrieving a customer by their ID, in JSON then in CBOR
+     * with the ETag of the JSON representation, expecting each representation with its own
+     * ETag, and a 304 Not Modified response to the JSON one only.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    void getCustomerByIdEtagPerMediaType() throws Exception {
+    	var customer = customers.get(0);
+    	when(customerService.getVersionedCustomerById(customer.getId())).thenReturn(new VersionedCustomerDto(customer, 2L));
+
+    	mockMvc.perform(get(REST_ENDPOINT_ID, customer.getId())
+    		.accept(MediaType.APPLICATION_JSON)
+    		.header(HttpHeaders.IF_NONE_MATCH, "\"2-json\""))
+    		.andExpect(status().isNotModified())
+    		.andExpect(header().string(HttpHeaders.ETAG, "\"2-json\""))
+    		.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+
+    	mockMvc.perform(get(REST_ENDPOINT_ID, customer.getId())
+    		.accept(MediaType.APPLICATION_CBOR)
+    		.header(HttpHeaders.IF_NONE_MATCH, "\"2-json\""))
+    		.andExpect(status().isOk())
+    		.andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+    		.andExpect(header().string(HttpHeaders.ETAG, "\"2-cbor\""))
+    		.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+    }
+
+}
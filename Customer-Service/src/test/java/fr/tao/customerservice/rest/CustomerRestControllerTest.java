@@ -1,21 +1,43 @@
 package fr.tao.customerservice.rest;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 import fr.tao.customerservice.api.rest.CustomerRestController;
 import fr.tao.customerservice.common.CommonTestSetup;
+import fr.tao.customerservice.dto.CustomerBatchDto;
+import fr.tao.customerservice.dto.CustomerChangeBatchDto;
+import fr.tao.customerservice.dto.CustomerChangeDto;
 import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.dto.CustomerImportResultDto;
+import fr.tao.customerservice.dto.CustomerPageDto;
+import fr.tao.customerservice.dto.VersionedCustomerDto;
+import fr.tao.customerservice.event.CustomerChangedEvent.ChangeType;
 import fr.tao.customerservice.exception.CustomerNotFoundException;
+import fr.tao.customerservice.exception.InvalidRequestException;
+import fr.tao.customerservice.grpc.generated.CustomerList;
+import fr.tao.customerservice.mapper.CustomerMapperImpl;
 import fr.tao.customerservice.service.CustomerService;
+import fr.tao.customerservice.service.ReactiveCustomerService;
+import fr.tao.customerservice.util.MessageUtil;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 
 /**
@@ -30,10 +52,14 @@ import fr.tao.customerservice.service.CustomerService;
  * @since 21/10/2023
  */
 @WebFluxTest(CustomerRestController.class)
+@Import(CustomerMapperImpl.class)
 class CustomerRestControllerTest extends CommonTestSetup {
     
     @MockBean
     private CustomerService customerService;
+    
+    @MockBean
+    private ReactiveCustomerService reactiveCustomerService;
           
     @BeforeEach
     public void setUp() { 	
@@ -50,6 +76,7 @@ class CustomerRestControllerTest extends CommonTestSetup {
     @Test
     void getAllCustomerSuccess() throws Exception {
     	// Mock service call to return a list of customers
+    	when(customerService.getCustomersVersion()).thenReturn("v-3");
     	when(customerService.getAllCustomer()).thenReturn(customers); 
     	
 	webTestClient
@@ -57,9 +84,198 @@ class CustomerRestControllerTest extends CommonTestSetup {
 	    .accept(MediaType.APPLICATION_JSON)
 	    .exchange()
 	    .expectStatus().isOk()
+	    .expectHeader().valueEquals(HttpHeaders.ETAG, "W/\"v-3-json\"")
+	    .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
 	    .expectBodyList(CustomerDto.class).isEqualTo(customers);
     }
     
+    /**
+     * Test the GET request handler for retrieving all customers with the current ETag, 
+     * expecting a "Not Modified" response without reading the customers.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    void getAllCustomerNotModified() throws Exception {
+    	when(customerService.getCustomersVersion()).thenReturn("v-3");
+    	
+	webTestClient
+	    .get().uri(REST_ENDPOINT)
+	    .accept(MediaType.APPLICATION_JSON)
+	    .header(HttpHeaders.IF_NONE_MATCH, "\"v-2-json\", \"v-3-json\"")
+	    .exchange()
+	    .expectStatus().isNotModified()
+	    .expectHeader().valueEquals(HttpHeaders.ETAG, "W/\"v-3-json\"")
+	    .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+	    .expectBody().isEmpty();
+	
+	verify(customerService, never()).getAllCustomer();
+    }
+    
+    /**
+     * Test the GET request handler for retrieving a page of customers, expecting a successful response.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    void getCustomersPageSuccess() throws Exception {
+    	var page = new CustomerPageDto(customers, "aWQ6Mw", true);
+    	
+    	// Mock service call to return a page of customers
+    	when(customerService.getCustomersPage(null, 3)).thenReturn(page);
+    	
+    	webTestClient.get()
+    	    .uri(REST_ENDPOINT + "/page?size={size}", 3)
+    	    .accept(MediaType.APPLICATION_JSON)
+    	    .exchange()
+            .expectStatus().isOk()
+            .expectBody(CustomerPageDto.class)
+            .isEqualTo(page);
+    }
+    
+    /**
+     * Test the GET request handler for retrieving a page of customers with a malformed cursor, 
+     * expecting a "Bad Request" response.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    void getCustomersPageInvalidCursor() throws Exception {
+    	// Mock the service to throw an InvalidRequestException (400 BAD_REQUEST)
+    	when(customerService.getCustomersPage("bad", null))
+    	    .thenThrow(new InvalidRequestException("Invalid page cursor: bad"));
+    	
+    	webTestClient.get()
+    	    .uri(REST_ENDPOINT + "/page?cursor={cursor}", "bad")
+    	    .accept(MediaType.APPLICATION_JSON)
+    	    .exchange()
+            .expectStatus().isBadRequest();
+    }
+    
+    /**
+     * Test the POST request handler for retrieving several customers by their IDs, 
+     * expecting the customers found and the missing IDs in a successful response.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    void getCustomersByIdsSuccess() throws Exception {
+    	var ids = List.of(customer3.getId(), 999L);
+    	var batch = new CustomerBatchDto(List.of(customer3), List.of(999L));
+    	
+    	// Mock service call to return the customer found and the missing ID
+    	when(customerService.getCustomersByIds(ids)).thenReturn(batch);
+    	
+    	webTestClient.post()
+    	    .uri(REST_ENDPOINT + "/batch-get")
+    	    .contentType(MediaType.APPLICATION_JSON)
+    	    .bodyValue(ids)
+    	    .exchange()
+            .expectStatus().isOk()
+            .expectBody(CustomerBatchDto.class)
+            .isEqualTo(batch);
+    }
+    
+    /**
+     * Test the GET request handler for suggesting customers, expecting the suggestions 
+     * in a successful response.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    void suggestCustomersSuccess() throws Exception {
+    	var suggestions = List.of(customer1, customer2);
+    	
+    	// Mock service call to return the suggested customers
+    	when(customerService.suggestCustomers("mo", 5)).thenReturn(suggestions);
+    	
+    	webTestClient.get()
+    	    .uri(REST_ENDPOINT + "/suggest?q={q}&limit={limit}", "mo", 5)
+    	    .accept(MediaType.APPLICATION_JSON)
+    	    .exchange()
+            .expectStatus().isOk()
+            .expectBodyList(CustomerDto.class)
+            .isEqualTo(suggestions);
+    }
+    
+    /**
+     * Test the GET request handler for reading the change log after a sequence, 
+     * expecting a batch of changes and the sequence to read the next batch after.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    void getCustomerChangesSuccess() throws Exception {
+    	var changes = List.of(
+    		new CustomerChangeDto(11, ChangeType.CREATED, customer3), 
+    		new CustomerChangeDto(12, ChangeType.DELETED, customer1));
+    	var batch = new CustomerChangeBatchDto(changes, 12, true);
+    	
+    	// Mock service call to return the changes after the given sequence
+    	when(customerService.getCustomerChanges(10L, 2)).thenReturn(batch);
+    	
+    	webTestClient.get()
+    	    .uri(REST_ENDPOINT + "/changes?since={since}&limit={limit}", 10, 2)
+    	    .accept(MediaType.APPLICATION_JSON)
+    	    .exchange()
+            .expectStatus().isOk()
+            .expectBody(CustomerChangeBatchDto.class)
+            .isEqualTo(batch);
+    }
+    
+    /**
+     * Test the GET request handler for streaming the customers as newline-delimited JSON, 
+     * expecting the customers after the given ID in a successful response.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    void streamCustomersSuccess() throws Exception {
+    	// Mock service call to stream the customers after the first one
+    	when(reactiveCustomerService.streamCustomers(customer1.getId()))
+    	    .thenReturn(Flux.just(customer2, customer3));
+    	
+    	webTestClient.get()
+    	    .uri(REST_ENDPOINT + "/stream?afterId={afterId}", customer1.getId())
+    	    .accept(MediaType.APPLICATION_NDJSON)
+    	    .exchange()
+            .expectStatus().isOk()
+            .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .expectBodyList(CustomerDto.class)
+            .isEqualTo(List.of(customer2, customer3));
+    }
+    
+    /**
+     * Test the GET request handler for retrieving all customers in Protobuf, expecting 
+     * a CustomerList in a successful response.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAllCustomerAsProtobufSuccess() throws Exception {
+    	// Mock service call to pass the customers to the consumer
+    	doAnswer(invocation -> {
+    	    customers.forEach(invocation.getArgument(0, Consumer.class));
+    	    return (long) customers.size();
+    	}).when(customerService).forEachCustomer(any());
+    	when(customerService.getCustomersVersion()).thenReturn("v-3");
+    	
+    	var body = webTestClient.get()
+    	    .uri(REST_ENDPOINT)
+    	    .accept(MediaType.parseMediaType(MessageUtil.APPLICATION_PROTOBUF))
+    	    .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, "W/\"v-3-x-protobuf\"")
+            .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+            .expectBody(byte[].class)
+            .returnResult().getResponseBody();
+    	
+    	var customerList = CustomerList.parseFrom(body);
+    	assertEquals(customers.size(), customerList.getCustomersCount());
+    	assertEquals(customer2.getName(), customerList.getCustomers(1).getName());
+    }
+    
     /**
      * Test the GET request handler for retrieving a customer by their ID, expecting a successful response.
      *
@@ -68,17 +284,43 @@ class CustomerRestControllerTest extends CommonTestSetup {
     @Test
     void getCustomerByIdSuccess() throws Exception {
     	// Mock service call to return a specific customer
-    	when(customerService.getCustomerById(customer3.getId())).thenReturn(customer3);
+    	when(customerService.getVersionedCustomerById(customer3.getId()))
+    	    .thenReturn(new VersionedCustomerDto(customer3, 2L));
     	
     	webTestClient.get()
     	    .uri(REST_ENDPOINT_ID, customer3.getId())
     	    .accept(MediaType.APPLICATION_JSON)
+    	    .header(HttpHeaders.IF_NONE_MATCH, "\"1-json\"")
     	    .exchange()
             .expectStatus().isOk()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, "\"2-json\"")
+            .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
             .expectBody(CustomerDto.class)
             .isEqualTo(customer3);
     }
     
+    /**
+     * Test the GET request handler for retrieving a customer by their ID with the current ETag, 
+     * expecting a "Not Modified" response without a body.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    void getCustomerByIdNotModified() throws Exception {
+    	when(customerService.getVersionedCustomerById(customer3.getId()))
+    	    .thenReturn(new VersionedCustomerDto(customer3, 2L));
+    	
+    	webTestClient.get()
+    	    .uri(REST_ENDPOINT_ID, customer3.getId())
+    	    .accept(MediaType.APPLICATION_JSON)
+    	    .header(HttpHeaders.IF_NONE_MATCH, "W/\"2-json\"")
+    	    .exchange()
+            .expectStatus().isNotModified()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, "\"2-json\"")
+            .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+            .expectBody().isEmpty();
+    }
+    
     /**
      * Test the GET request handler for retrieving a customer by their ID, expecting a "Not Found" response.
      *
@@ -89,7 +331,7 @@ class CustomerRestControllerTest extends CommonTestSetup {
         Long nonExistentCustomerId = 99L;
         
         // Mock the service to throw a CustomerNotFoundException (404 NOT_FOUND)
-        when(customerService.getCustomerById(nonExistentCustomerId))
+        when(customerService.getVersionedCustomerById(nonExistentCustomerId))
             .thenThrow(new CustomerNotFoundException(nonExistentCustomerId));
 
         webTestClient.get()
@@ -99,6 +341,46 @@ class CustomerRestControllerTest extends CommonTestSetup {
             .expectStatus().isNotFound();
     }
     
+    /**
+     * Test the GET request handler for retrieving a customer by their ID through R2DBC, 
+     * expecting a successful response.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    void getCustomerByIdReactiveSuccess() throws Exception {
+    	when(reactiveCustomerService.getCustomerById(customer3.getId()))
+    	    .thenReturn(Mono.just(customer3));
+    	
+    	webTestClient.get()
+    	    .uri(REST_ENDPOINT + "/reactive/{id}", customer3.getId())
+    	    .accept(MediaType.APPLICATION_JSON)
+    	    .exchange()
+            .expectStatus().isOk()
+            .expectBody(CustomerDto.class)
+            .isEqualTo(customer3);
+    }
+    
+    /**
+     * Test the GET request handler for retrieving a customer by their ID through R2DBC, 
+     * expecting a "Not Found" response.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    void getCustomerByIdReactiveNotFound() throws Exception {
+        Long nonExistentCustomerId = 99L;
+        
+        when(reactiveCustomerService.getCustomerById(nonExistentCustomerId))
+            .thenReturn(Mono.error(new CustomerNotFoundException(nonExistentCustomerId)));
+
+        webTestClient.get()
+            .uri(REST_ENDPOINT + "/reactive/{id}", nonExistentCustomerId)
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+    
     
     // ================ POST request handler ================ 
     /**
@@ -121,6 +403,33 @@ class CustomerRestControllerTest extends CommonTestSetup {
 	    .isEqualTo(newCustomer);
     }
  	
+    /**
+     * Test the POST request handler for importing customers in bulk, 
+     * expecting the result of each customer in a successful response.
+     *
+     * @throws Exception if an error occurs during testing
+     */
+    @Test
+    void saveCustomersSuccess() throws Exception {
+    	var invalidCustomer = new CustomerDto(null, "x", "not-an-email");
+    	var customerDtos = List.of(newCustomer, invalidCustomer);
+    	var results = List.of(
+    		new CustomerImportResultDto(0, true, newCustomer, null),
+    		new CustomerImportResultDto(1, false, null, "Email should be a valid email address"));
+    	
+    	// Mock service call to return a result per customer
+    	when(customerService.saveCustomers(customerDtos)).thenReturn(results);
+    	
+    	webTestClient.post()
+    	    .uri(REST_ENDPOINT + "/bulk")
+    	    .contentType(MediaType.APPLICATION_JSON)
+    	    .bodyValue(customerDtos)
+    	    .exchange()
+            .expectStatus().isOk()
+            .expectBodyList(CustomerImportResultDto.class)
+            .isEqualTo(results);
+    }
+    
     // ================ PUT request handler ================  	
     /**
      * Test the PUT request handler for updating a customer, expecting a successful response.
@@ -0,0 +1,158 @@
+package fr.tao.customerservice.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.MediaType;
+
+import fr.tao.customerservice.common.CommonTestSetup;
+import fr.tao.customerservice.dto.CustomerChangeDto;
+import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.event.CustomerChangedEvent.ChangeType;
+import fr.tao.customerservice.repository.CustomerChangeLogRepository;
+import fr.tao.customerservice.repository.CustomerRepository;
+import jakarta.persistence.NoResultException;
+
+/**
+ * This class contains test methods for the CustomerService, through the running service,
+ * covering the upkeep of the data derived from the customers (cache, search index, change log)
+ * when the customers are written.
+ *
+ * @author T. Aoufi
+ * @version 1.0
+ * @since 21/10/2023
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@AutoConfigureObservability(tracing = false)
+class CustomerServiceTest extends CommonTestSetup {
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private CustomerChangeLogRepository customerChangeLogRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    /**
+     * Test case for posting a customer with the ID of an existing customer, expecting the customer
+     * to be updated: found by its new name only, and logged as an update in the change log.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void saveCustomerWithExistingIdUpdatesIt() throws Exception {
+	var lastSequence = customerChangeLogRepository.findLastSequence();
+	var customer = customerService.saveCustomer(new CustomerDto(null, "Tristan", "tristan@gmail.com"));
+
+	// The first update shares trigrams with the name, the second one does not
+	for (var name : List.of("Tristana", "Quentin")) {
+	    var updatedCustomer = new CustomerDto(customer.getId(), name, "tristan@gmail.com");
+	    webTestClient.post()
+	            .uri(REST_ENDPOINT)
+	            .contentType(MediaType.APPLICATION_JSON)
+	            .bodyValue(objectMapper.writeValueAsString(updatedCustomer))
+	            .exchange()
+	            .expectStatus().isCreated()
+	            .expectBody()
+	            .jsonPath("$.id").isEqualTo(customer.getId())
+	            .jsonPath("$.name").isEqualTo(name);
+	}
+
+	assertEquals(List.of(new CustomerDto(customer.getId(), "Quentin", "tristan@gmail.com")),
+		customerService.getCustomersByNameContains("quent"));
+	assertThrows(NoResultException.class, () -> customerService.getCustomersByNameContains("tristan"));
+	var changes = customerService.getCustomerChanges(lastSequence, null).getChanges().stream()
+		.filter(change -> change.getCustomer().getId().equals(customer.getId()))
+		.map(CustomerChangeDto::getType)
+		.toList();
+	assertEquals(List.of(ChangeType.CREATED, ChangeType.UPDATED, ChangeType.UPDATED), changes);
+    }
+
+    /**
+     * Test case for reading a cached customer after saving it with its ID, 
+     * expecting the saved customer and its new version.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getCustomerByIdAfterSaveSuccess() throws Exception {
+	var customer = customerService.saveCustomer(new CustomerDto(null, "Bastien", "bastien@gmail.com"));
+	assertEquals(customer, customerService.getCustomerById(customer.getId()));
+	var version = customerService.getVersionedCustomerById(customer.getId()).getVersion();
+
+	var savedCustomer = customerService.saveCustomer(new CustomerDto(customer.getId(), "Sebastien", "bastien@gmail.com"));
+
+	assertEquals(savedCustomer, customerService.getCustomerById(customer.getId()));
+	assertEquals("Sebastien", savedCustomer.getName());
+	assertEquals(version + 1, customerService.getVersionedCustomerById(customer.getId()).getVersion());
+    }
+
+    /**
+     * Test case for the consistency of the cached customer with the database, while readers 
+     * keep reading the customer as it is updated, expecting each update to be read once done.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    void getCustomerByIdConsistentWithConcurrentUpdates() throws Exception {
+	var customer = customerService.saveCustomer(new CustomerDto(null, "Lucas", "lucas@gmail.com"));
+	var done = new AtomicBoolean();
+	ExecutorService readers = Executors.newFixedThreadPool(2);
+	try {
+	    var reads = new ArrayList<CompletableFuture<Void>>();
+	    for (int i = 0; i < 2; i++) {
+		reads.add(CompletableFuture.runAsync(() -> {
+		    while (!done.get()) {
+			try {
+			    customerService.getVersionedCustomerById(customer.getId());
+			} catch (Exception e) {
+			    throw new IllegalStateException(e);
+			}
+		    }
+		}, readers));
+	    }
+	    for (int i = 0; i < 50; i++) {
+		var name = "Lucas" + (char) ('a' + i % 26);
+		customerService.updateCustomer(customer.getId(), new CustomerDto(null, name, null));
+		var stored = customerRepository.findById(customer.getId()).orElseThrow();
+		var versionedCustomer = customerService.getVersionedCustomerById(customer.getId());
+		assertEquals(name, versionedCustomer.getCustomer().getName());
+		assertEquals(stored.getVersion(), versionedCustomer.getVersion());
+	    }
+	    done.set(true);
+	    CompletableFuture.allOf(reads.toArray(CompletableFuture[]::new)).join();
+	} finally {
+	    done.set(true);
+	    readers.shutdownNow();
+	}
+    }
+
+    /**
+     * Test case for the customers resource of Spring Data REST, expecting it not to be exported,
+     * as its writes would bypass the CustomerService.
+     */
+    @Test
+    void customersRepositoryNotExported() {
+	webTestClient.get()
+	        .uri("/customers")
+	        .exchange()
+	        .expectStatus().isNotFound();
+    }
+
+}
@@ -3,6 +3,8 @@ package fr.tao.customerservice.soap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -12,7 +14,9 @@ import org.mockito.MockitoAnnotations;
 
 import fr.tao.customerservice.api.soap.CustomerSoapService;
 import fr.tao.customerservice.common.CommonTestSetup;
+import fr.tao.customerservice.dto.CustomerBatchDto;
 import fr.tao.customerservice.dto.CustomerDto;
+import fr.tao.customerservice.dto.CustomerPageDto;
 import fr.tao.customerservice.service.CustomerService;
 
 /**
@@ -86,6 +90,43 @@ class CustomerSoapServiceTest extends CommonTestSetup {
         assertEquals(customer3, result);
     }
     
+    /**
+     * Test case for testing the successful retrieval of a page of customers via the SOAP service.
+     */
+    @Test
+    void customersPageSuccess() {
+    	// Mock the behavior of customerService to return the last page of customers
+    	var page = new CustomerPageDto(customers, null, false);
+        Mockito.when(customerService.getCustomersPage("aWQ6MA", 3)).thenReturn(page);
+
+        // Perform the SOAP service method call to get a page of customers
+        var result = customerSoapService.customersPage("aWQ6MA", 3);
+
+        // Verify the result
+        assertNotNull(result);
+        assertEquals(3, result.getCustomers().size());
+        assertEquals(false, result.isHasNext());
+    }
+    
+    /**
+     * Test case for testing the successful retrieval of several customers by ID via the SOAP service.
+     */
+    @Test
+    void customersByIdsSuccess() {
+    	// Mock the behavior of customerService to return the customer found and the missing ID
+    	var ids = List.of(customer3.getId(), 999L);
+    	var batch = new CustomerBatchDto(List.of(customer3), List.of(999L));
+        Mockito.when(customerService.getCustomersByIds(ids)).thenReturn(batch);
+
+        // Perform the SOAP service method call to get the customers by ID
+        var result = customerSoapService.customersByIds(ids);
+
+        // Verify the result
+        assertNotNull(result);
+        assertEquals(List.of(customer3), result.getCustomers());
+        assertEquals(List.of(999L), result.getMissingIds());
+    }
+    
     /**
      * Test case for testing the successful creation of a new customer via the SOAP service.
      *